@@ -0,0 +1,33 @@
+package com.snow.popin.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH 벤치마크 실행기 (jmh 프로파일의 verify 단계에서 실행)
+ * - args[0]: 실행할 벤치마크 정규식 (기본 전체)
+ * - args[1]: 결과 JSON 경로 (기본 target/jmh-result.json)
+ *
+ * 반복/포크 설정은 각 벤치마크 클래스의 어노테이션을 따른다.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ".*";
+        String result = args.length > 1 ? args[1] : "target/jmh-result.json";
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result)
+                .shouldFailOnError(true)
+                .build();
+        new Runner(options).run();
+    }
+}
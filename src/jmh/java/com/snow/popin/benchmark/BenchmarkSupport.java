@@ -0,0 +1,22 @@
+package com.snow.popin.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 벤치마크 공통 설정
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * 서비스의 INFO 로그가 측정값을 가리지 않도록 루트 로그 레벨을 WARN으로 낮춘다.
+     * (벤치마크 포크 JVM에는 스프링 로깅 설정이 적용되지 않아 기본값이 DEBUG)
+     */
+    public static void quietLogging() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+    }
+}
@@ -0,0 +1,81 @@
+package com.snow.popin.domain.popup.dto.response;
+
+import com.snow.popin.domain.category.entity.Category;
+import com.snow.popin.domain.map.entity.Venue;
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.entity.PopupImage;
+import com.snow.popin.domain.popup.entity.PopupStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 팝업 목록 응답 변환 (PopupSummaryResponseDto.from)
+ * 목록 한 페이지(20개), 팝업당 이미지 3장 기준
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PopupSummaryMappingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int IMAGES_PER_POPUP = 3;
+
+    private List<Popup> popups;
+
+    @Setup
+    public void setUp() {
+        Category category = Category.of("패션", "fashion");
+        ReflectionTestUtils.setField(category, "id", 1L);
+
+        popups = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Venue venue = Venue.createForTestWithLocation("성동구", 37.544, 127.055);
+            Popup popup = Popup.createForTest("벤치마크 팝업 " + i, PopupStatus.ONGOING, venue);
+            ReflectionTestUtils.setField(popup, "id", (long) i + 1);
+            ReflectionTestUtils.setField(popup, "brandId", 100L);
+            popup.setCategory(category);
+
+            Set<PopupImage> images = popup.getImages();
+            for (int j = 0; j < IMAGES_PER_POPUP; j++) {
+                PopupImage image = BeanUtils.instantiateClass(PopupImage.class);
+                ReflectionTestUtils.setField(image, "id", (long) i * IMAGES_PER_POPUP + j);
+                ReflectionTestUtils.setField(image, "popup", popup);
+                ReflectionTestUtils.setField(image, "imageUrl", "/uploads/images/ab/cd/" + i + "-" + j + ".jpg");
+                ReflectionTestUtils.setField(image, "sortOrder", j);
+                images.add(image);
+            }
+            popups.add(popup);
+        }
+    }
+
+    @Benchmark
+    public PopupSummaryResponseDto single() {
+        return PopupSummaryResponseDto.from(popups.get(0));
+    }
+
+    @Benchmark
+    public List<PopupSummaryResponseDto> page() {
+        return popups.stream()
+                .map(PopupSummaryResponseDto::from)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,63 @@
+package com.snow.popin.domain.popup.repository;
+
+import com.snow.popin.domain.map.entity.Venue;
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.entity.PopupStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PopupQueryDslRepository.findPopupsWithinRadius의 메모리 단계 (하버사인 거리 필터 + 거리순 정렬)
+ * 후보는 서울시청 기준 경계 박스 안에 고르게 흩뿌린 팝업으로, 쿼리가 돌려주는 후보 집합을 흉내 낸다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RadiusFilterBenchmark {
+
+    private static final double CENTER_LAT = 37.5665;
+    private static final double CENTER_LNG = 126.9780;
+    private static final double RADIUS_KM = 3.0;
+
+    @Param({"100", "1000", "10000"})
+    private int candidateCount;
+
+    private List<Popup> candidates;
+
+    @Setup
+    public void setUp() {
+        double latDelta = RADIUS_KM / 111.0;
+        double lngDelta = RADIUS_KM / (111.0 * Math.cos(Math.toRadians(CENTER_LAT)));
+        SplittableRandom random = new SplittableRandom(42);
+
+        candidates = new ArrayList<>(candidateCount);
+        for (int i = 0; i < candidateCount; i++) {
+            double lat = CENTER_LAT + (random.nextDouble() * 2 - 1) * latDelta;
+            double lng = CENTER_LNG + (random.nextDouble() * 2 - 1) * lngDelta;
+            Venue venue = Venue.createForTestWithLocation("중구", lat, lng);
+            candidates.add(Popup.createForTest("팝업 " + i, PopupStatus.ONGOING, venue));
+        }
+    }
+
+    @Benchmark
+    public List<Popup> filterAndSortByDistance() {
+        return PopupQueryDslRepository.filterAndSortByDistance(candidates, CENTER_LAT, CENTER_LNG, RADIUS_KM);
+    }
+}
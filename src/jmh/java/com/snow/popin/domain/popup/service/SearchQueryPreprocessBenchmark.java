@@ -0,0 +1,46 @@
+package com.snow.popin.domain.popup.service;
+
+import com.snow.popin.domain.popup.repository.PopupSearchQueryDslRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 검색/자동완성 검색어 전처리 (PopupSearchService.preprocessQuery)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SearchQueryPreprocessBenchmark {
+
+    @Param({"성수", "  성수   팝업  스토어 ", "  산리오\t캐릭터   굿즈   한정판    팝업스토어   성수동   2차  "})
+    private String query;
+
+    private PopupSearchService service;
+
+    @Setup
+    public void setUp() {
+        service = new PopupSearchService(mock(PopupSearchQueryDslRepository.class, withSettings().stubOnly()));
+    }
+
+    @Benchmark
+    public String preprocessQuery() {
+        return service.preprocessQuery(query);
+    }
+}
@@ -0,0 +1,127 @@
+package com.snow.popin.domain.popupReservation.service;
+
+import com.snow.popin.benchmark.BenchmarkSupport;
+import com.snow.popin.domain.mypage.host.dto.PopupHourResponseDto;
+import com.snow.popin.domain.mypage.host.dto.PopupRegisterRequestDto;
+import com.snow.popin.domain.mypage.host.repository.BrandRepository;
+import com.snow.popin.domain.mypage.host.repository.HostRepository;
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.entity.PopupHours;
+import com.snow.popin.domain.popup.repository.PopupRepository;
+import com.snow.popin.domain.popup.service.PopupScheduleCache;
+import com.snow.popin.domain.popup.service.PopupWeeklySchedule;
+import com.snow.popin.domain.popupReservation.dto.AvailableSlotDto;
+import com.snow.popin.domain.popupReservation.dto.TimeSlotDto;
+import com.snow.popin.domain.popupReservation.entity.PopupReservationSettings;
+import com.snow.popin.domain.popupReservation.repository.ReservationQueryDslRepository;
+import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
+import com.snow.popin.global.outbox.OutboxService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * ReservationService 시간 슬롯 생성
+ * 저장소는 호출 기록을 남기지 않는 stub 전용 mock으로 대체하여 슬롯 계산 루프 비용을 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SlotGenerationBenchmark {
+
+    private static final Long POPUP_ID = 1L;
+
+    @Param({"15", "30", "60"})
+    private int intervalMinutes;
+
+    private ReservationService reservationService;
+    private LocalDate date;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+
+        PopupRegisterRequestDto dto = new PopupRegisterRequestDto();
+        dto.setTitle("벤치마크 팝업");
+        dto.setReservationAvailable(true);
+        Popup popup = Popup.create(1L, dto);
+        ReflectionTestUtils.setField(popup, "id", POPUP_ID);
+
+        List<PopupHours> hours = IntStream.range(0, 7)
+                .mapToObj(day -> {
+                    PopupHourResponseDto hourDto = new PopupHourResponseDto();
+                    hourDto.setDayOfWeek(day);
+                    hourDto.setOpenTime("10:00");
+                    hourDto.setCloseTime("22:00");
+                    return PopupHours.create(popup, hourDto);
+                })
+                .collect(Collectors.toList());
+
+        PopupReservationSettings settings = PopupReservationSettings.builder()
+                .popup(popup)
+                .maxCapacityPerSlot(10)
+                .timeSlotInterval(intervalMinutes)
+                .maxPartySize(6)
+                .allowSameDayBooking(true)
+                .advanceBookingDays(30)
+                .cancellationDeadlineHours(24)
+                .build();
+
+        PopupRepository popupRepository = stub(PopupRepository.class);
+        ReservationQueryDslRepository reservationQueryDslRepository = stub(ReservationQueryDslRepository.class);
+        PopupScheduleCache popupScheduleCache = stub(PopupScheduleCache.class);
+        PopupReservationSettingsService settingsService = stub(PopupReservationSettingsService.class);
+
+        when(popupRepository.findById(POPUP_ID)).thenReturn(Optional.of(popup));
+        when(settingsService.getSettings(POPUP_ID)).thenReturn(settings);
+        when(popupScheduleCache.get(POPUP_ID)).thenReturn(PopupWeeklySchedule.compile(hours));
+        when(reservationQueryDslRepository.sumPartySizeByPopupAndReservationDateBetween(
+                any(Popup.class), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(3L);
+
+        reservationService = new ReservationService(
+                stub(ReservationRepository.class), reservationQueryDslRepository, popupRepository,
+                stub(HostRepository.class), stub(BrandRepository.class), popupScheduleCache,
+                settingsService, stub(OutboxService.class), stub(ApplicationEventPublisher.class));
+        date = LocalDate.now().plusDays(1);
+    }
+
+    @Benchmark
+    public List<TimeSlotDto> availableTimeSlots() {
+        return reservationService.getAvailableTimeSlots(POPUP_ID, date);
+    }
+
+    @Benchmark
+    public List<AvailableSlotDto> availableSlotsWithRemaining() {
+        return reservationService.getAvailableSlots(POPUP_ID, date);
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}
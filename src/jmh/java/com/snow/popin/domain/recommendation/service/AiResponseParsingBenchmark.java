@@ -0,0 +1,82 @@
+package com.snow.popin.domain.recommendation.service;
+
+import com.snow.popin.benchmark.BenchmarkSupport;
+import com.snow.popin.domain.map.entity.Venue;
+import com.snow.popin.domain.mypage.host.repository.BrandRepository;
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.entity.PopupStatus;
+import com.snow.popin.domain.popup.repository.PopupRepository;
+import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
+import com.snow.popin.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * AI 응답에서 추천 팝업 ID 추출 (AiRecommendationService.extractPopupIdsEnhanced)
+ * 실제 Gemini 응답처럼 추천 이유 문장 뒤에 ID 배열이 붙은 텍스트를 파싱한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AiResponseParsingBenchmark {
+
+    @Param({"50", "500"})
+    private int availableCount;
+
+    private AiRecommendationService service;
+    private List<Popup> availablePopups;
+    private String aiResponse;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        service = new AiRecommendationService(
+                mock(GeminiAiService.class, withSettings().stubOnly()),
+                mock(PopupRepository.class, withSettings().stubOnly()),
+                mock(ReservationRepository.class, withSettings().stubOnly()),
+                mock(UserRepository.class, withSettings().stubOnly()),
+                mock(BrandRepository.class, withSettings().stubOnly()));
+
+        availablePopups = new ArrayList<>(availableCount);
+        for (int i = 1; i <= availableCount; i++) {
+            Popup popup = Popup.createForTest("팝업 " + i, PopupStatus.ONGOING, Venue.createForTest("강남구"));
+            ReflectionTestUtils.setField(popup, "id", (long) i);
+            availablePopups.add(popup);
+        }
+
+        StringBuilder response = new StringBuilder()
+                .append("사용자는 최근 패션과 캐릭터/IP 카테고리 팝업을 여러 번 예약했고, 주로 성수동과 강남 지역을 방문했습니다. ")
+                .append("선호 카테고리와 방문 지역, 최근 예약 이력을 종합하여 다음 팝업을 추천합니다.\n\n")
+                .append("추천 이유: 사용자의 예약 패턴상 주말 오후 방문이 많아 주말 운영 팝업을 우선했습니다.\n\n")
+                .append("추천 팝업 ID: [");
+        for (int i = 0; i < 10; i++) {
+            response.append(i == 0 ? "" : ", ").append(1 + (i * 7) % availableCount);
+        }
+        aiResponse = response.append("]").toString();
+    }
+
+    @Benchmark
+    public List<Long> extractPopupIds() {
+        return service.extractPopupIdsEnhanced(aiResponse, availablePopups);
+    }
+}
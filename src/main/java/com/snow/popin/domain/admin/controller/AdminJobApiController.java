@@ -0,0 +1,44 @@
+package com.snow.popin.domain.admin.controller;
+
+import com.snow.popin.global.scheduler.job.JobStatusResponse;
+import com.snow.popin.global.scheduler.job.ManagedJobScheduler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/jobs")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminJobApiController {
+
+    private final ManagedJobScheduler managedJobScheduler;
+
+    /**
+     * 예약 작업 목록과 최근 실행 상태
+     */
+    @GetMapping
+    public List<JobStatusResponse> list() {
+        return managedJobScheduler.getJobs();
+    }
+
+    @GetMapping("/{name}")
+    public JobStatusResponse detail(@PathVariable String name) {
+        return managedJobScheduler.getJob(name);
+    }
+
+    /**
+     * 작업 즉시 실행 (이전 실행이 진행 중이면 409)
+     * 실행권을 다른 노드가 가진 경우 해당 노드의 실행이 끝날 때까지 건너뛴다.
+     */
+    @PostMapping("/{name}/run")
+    public ResponseEntity<JobStatusResponse> run(@PathVariable String name) {
+        boolean started = managedJobScheduler.trigger(name);
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+                .body(managedJobScheduler.getJob(name));
+    }
+}
@@ -1,6 +1,7 @@
 package com.snow.popin.domain.admin.controller;
 
 import com.snow.popin.domain.admin.service.AdminMissionSetService;
+import com.snow.popin.domain.admin.service.QrCodeService;
 import com.snow.popin.domain.mission.constant.MissionSetStatus;
 import com.snow.popin.domain.mission.dto.request.MissionSetCreateRequestDto;
 import com.snow.popin.domain.mission.dto.request.MissionSetUpdateRequestDto;
@@ -8,11 +9,16 @@ import com.snow.popin.domain.mission.dto.response.MissionSetAdminDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequiredArgsConstructor
@@ -39,6 +45,43 @@ public class AdminMissionSetApiController {
         return adminMissionSetService.getMissionSetDetail(id);
     }
 
+    /**
+     * 미션셋 QR 이미지 (메모리 렌더링 후 바로 스트리밍)
+     * @param id
+     * @param size
+     * @return
+     */
+    @GetMapping(value = "/{id}/qr", produces = MediaType.IMAGE_PNG_VALUE)
+    public ResponseEntity<byte[]> qr(@PathVariable UUID id,
+                                     @RequestParam(defaultValue = "" + QrCodeService.DEFAULT_SIZE) int size) {
+        byte[] png = adminMissionSetService.getMissionSetQr(id, size);
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePrivate())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                        .filename("missionset-" + id + ".png").build().toString())
+                .body(png);
+    }
+
+    /**
+     * 팝업의 미션셋 QR 인쇄용 시트 (한 장에 QrCodeService.MAX_SHEET_COUNT개씩, page로 나눠 요청)
+     * @param popupId
+     * @param page
+     * @param size
+     * @return
+     */
+    @GetMapping(value = "/qr-sheet", produces = MediaType.IMAGE_PNG_VALUE)
+    public ResponseEntity<byte[]> qrSheet(@RequestParam Long popupId,
+                                          @RequestParam(defaultValue = "0") int page,
+                                          @RequestParam(defaultValue = "" + QrCodeService.DEFAULT_SIZE) int size) {
+        byte[] png = adminMissionSetService.getQrSheet(popupId, page, size);
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("popup-" + popupId + "-qr-sheet-" + (page + 1) + ".png").build().toString())
+                .body(png);
+    }
+
     /**
      * 미션셋 생성
      * @param request
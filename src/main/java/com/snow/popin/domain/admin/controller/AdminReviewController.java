@@ -0,0 +1,52 @@
+package com.snow.popin.domain.admin.controller;
+
+import com.snow.popin.domain.review.service.ReviewService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 관리자용 리뷰 관리 컨트롤러
+ * 차단/해제 시 팝업 리뷰 집계(평균 평점, 리뷰 수)도 함께 갱신된다.
+ */
+@RestController
+@RequestMapping("/api/admin/reviews")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Slf4j
+public class AdminReviewController {
+
+    private final ReviewService reviewService;
+
+    /**
+     * 리뷰 차단 (관리자용)
+     */
+    @PutMapping("/{reviewId}/block")
+    public ResponseEntity<Map<String, Object>> blockReview(@PathVariable Long reviewId) {
+        log.info("관리자 리뷰 차단 요청 - 리뷰ID: {}", reviewId);
+        reviewService.blockReview(reviewId);
+        return ResponseEntity.ok(result("리뷰가 차단되었습니다."));
+    }
+
+    /**
+     * 리뷰 차단 해제 (관리자용)
+     */
+    @PutMapping("/{reviewId}/unblock")
+    public ResponseEntity<Map<String, Object>> unblockReview(@PathVariable Long reviewId) {
+        log.info("관리자 리뷰 차단 해제 요청 - 리뷰ID: {}", reviewId);
+        reviewService.unblockReview(reviewId);
+        return ResponseEntity.ok(result("리뷰 차단이 해제되었습니다."));
+    }
+
+    private static Map<String, Object> result(String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", message);
+        return response;
+    }
+}
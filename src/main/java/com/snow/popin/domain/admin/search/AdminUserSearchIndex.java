@@ -0,0 +1,334 @@
+package com.snow.popin.domain.admin.search;
+
+import com.snow.popin.domain.admin.search.UserSearchDocument.SearchField;
+import com.snow.popin.domain.user.constant.Role;
+import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.domain.user.event.UserChangedEvent;
+import com.snow.popin.domain.user.repository.UserRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 회원 검색 인덱스 (메모리)
+ * - 이름/이메일/닉네임/연락처 필드별로 2·3글자 n-gram 역색인 보관
+ *   검색어가 3글자 이상이면 trigram, 2글자면 bigram 교집합으로 후보를 좁히고 부분 문자열로 확정
+ *   1글자 검색은 정규화된 값을 직접 비교
+ * - 이메일 전체, 연락처 전체(10자리 이상)는 정확히 일치하는 회원을 맨 앞에 두고, 나머지 부분 일치 회원을 이어 붙인다.
+ * - 결과 건수를 함께 돌려주므로 페이지 조회에 별도 count 쿼리가 없다.
+ *
+ * 기동 시 전체 회원으로 구성하고, 가입/프로필/역할 변경 커밋 후 해당 회원만 갱신한다.
+ * 변경 이벤트는 발행한 노드에서만 반영되므로, 다른 노드의 변경은 주기적인 재구성(rebuild)으로 DB와 맞춘다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class AdminUserSearchIndex {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final int FULL_PHONE_DIGITS = 10;
+
+    private final UserRepository userRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, UserSearchDocument> documents = new HashMap<>();
+    private final Map<SearchField, Map<String, Set<Long>>> postings = new EnumMap<>(SearchField.class);
+    private final Map<String, Long> byEmail = new HashMap<>();
+    private final Map<String, Set<Long>> byPhone = new HashMap<>();
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    // 재구성 중 이벤트로 갱신된 회원 (재구성이 먼저 읽은 이전 상태로 덮어쓰거나 지우지 않도록)
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean ready;
+
+    {
+        for (SearchField field : SearchField.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("[AdminUserSearch] 이미 재구성 중 - 건너뜀");
+            return;
+        }
+        try {
+            Set<Long> seen = new HashSet<>();
+            long afterId = 0L;
+            while (true) {
+                List<User> users = userRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                if (users.isEmpty()) {
+                    break;
+                }
+                for (User user : users) {
+                    seen.add(user.getId());
+                    if (!changedDuringRebuild.contains(user.getId())) {
+                        upsert(UserSearchDocument.from(user));
+                    }
+                }
+                afterId = users.get(users.size() - 1).getId();
+            }
+            int removed = removeUnseen(seen);
+            ready = true;
+            log.info("[AdminUserSearch] 회원 검색 인덱스 구성 완료 - {}명, 제거 {}명", seen.size(), removed);
+        } catch (RuntimeException e) {
+            log.error("[AdminUserSearch] 회원 검색 인덱스 구성 실패 (SQL 검색 사용)", e);
+        } finally {
+            rebuilding.set(false);
+            changedDuringRebuild.clear();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        markChanged(event.getUserId());
+        try {
+            userRepository.findById(event.getUserId()).ifPresentOrElse(
+                    user -> upsert(UserSearchDocument.from(user)),
+                    () -> remove(event.getUserId()));
+        } catch (RuntimeException e) {
+            log.warn("[AdminUserSearch] 인덱스 갱신 실패 - userId={}, error={}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    private void markChanged(Long userId) {
+        if (rebuilding.get()) {
+            changedDuringRebuild.add(userId);
+        }
+    }
+
+    // 재구성에서 보이지 않은 회원(다른 노드에서 삭제됨)을 제거
+    private int removeUnseen(Set<Long> seen) {
+        lock.writeLock().lock();
+        try {
+            List<Long> stale = documents.keySet().stream()
+                    .filter(id -> !seen.contains(id) && !changedDuringRebuild.contains(id))
+                    .collect(Collectors.toList());
+            stale.forEach(this::removeInternal);
+            return stale.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(UserSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.getUserId());
+            documents.put(document.getUserId(), document);
+            for (SearchField field : SearchField.values()) {
+                Map<String, Set<Long>> fieldPostings = postings.get(field);
+                for (String gram : indexGrams(document.fieldOf(field))) {
+                    fieldPostings.computeIfAbsent(gram, k -> new HashSet<>()).add(document.getUserId());
+                }
+            }
+            if (!document.getEmail().isEmpty()) {
+                byEmail.put(document.getEmail(), document.getUserId());
+            }
+            if (!document.getPhone().isEmpty()) {
+                byPhone.computeIfAbsent(document.getPhone(), k -> new HashSet<>()).add(document.getUserId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long userId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param field   검색 필드
+     * @param keyword 검색어 (없으면 역할 조건만 적용)
+     * @param role    역할 필터 (선택)
+     * @param oldestFirst true면 가입 오래된 순, false면 최신 가입순
+     * @param offset  결과 시작 위치
+     * @param limit   최대 결과 수
+     */
+    public Result search(SearchField field, String keyword, Role role, boolean oldestFirst, int offset, int limit) {
+        String key = UserSearchDocument.normalize(field, keyword);
+        boolean hasKeyword = keyword != null && !keyword.trim().isEmpty();
+
+        lock.readLock().lock();
+        try {
+            Comparator<UserSearchDocument> order = Comparator
+                    .comparing(UserSearchDocument::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(UserSearchDocument::getUserId);
+            if (!oldestFirst) {
+                order = order.reversed();
+            }
+
+            List<UserSearchDocument> matches;
+            if (hasKeyword && key.isEmpty()) {
+                // 연락처 검색에 숫자가 하나도 없는 경우
+                matches = new ArrayList<>();
+            } else if (!hasKeyword) {
+                matches = filter(documents.keySet(), null, null, role);
+                matches.sort(order);
+            } else {
+                // 정확히 일치하는 회원을 맨 앞에, 이어서 나머지 부분 일치 회원
+                Set<Long> exact = exactMatch(field, key);
+                matches = filter(exact, null, null, role);
+                matches.sort(order);
+                List<UserSearchDocument> partial = filter(candidates(field, key), field, key, role);
+                partial.removeIf(doc -> exact.contains(doc.getUserId()));
+                partial.sort(order);
+                matches.addAll(partial);
+            }
+
+            List<Long> ids = matches.stream()
+                    .skip(Math.max(offset, 0))
+                    .limit(Math.max(limit, 0))
+                    .map(UserSearchDocument::getUserId)
+                    .collect(Collectors.toList());
+            return new Result(ids, matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 이메일 전체 또는 연락처 전체가 정확히 일치하는 회원 (없으면 빈 집합)
+    private Set<Long> exactMatch(SearchField field, String key) {
+        if (field == SearchField.EMAIL && key.indexOf('@') > 0) {
+            Long id = byEmail.get(key);
+            return id != null ? Set.of(id) : Set.of();
+        }
+        if (field == SearchField.PHONE && key.length() >= FULL_PHONE_DIGITS) {
+            return byPhone.getOrDefault(key, Set.of());
+        }
+        return Set.of();
+    }
+
+    private Collection<Long> candidates(SearchField field, String key) {
+        if (key.length() < 2) {
+            return documents.keySet();
+        }
+        Map<String, Set<Long>> fieldPostings = postings.get(field);
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : queryGrams(key)) {
+            Set<Long> ids = fieldPostings.get(gram);
+            if (ids == null) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        List<Long> result = new ArrayList<>();
+        outer:
+        for (Long id : lists.get(0)) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).contains(id)) {
+                    continue outer;
+                }
+            }
+            result.add(id);
+        }
+        return result;
+    }
+
+    private List<UserSearchDocument> filter(Collection<Long> ids, SearchField field, String key, Role role) {
+        List<UserSearchDocument> result = new ArrayList<>();
+        for (Long id : ids) {
+            UserSearchDocument doc = documents.get(id);
+            if (doc == null
+                    || (role != null && doc.getRole() != role)
+                    || (field != null && !doc.fieldOf(field).contains(key))) {
+                continue;
+            }
+            result.add(doc);
+        }
+        return result;
+    }
+
+    private void removeInternal(Long userId) {
+        UserSearchDocument previous = documents.remove(userId);
+        if (previous == null) {
+            return;
+        }
+        for (SearchField field : SearchField.values()) {
+            Map<String, Set<Long>> fieldPostings = postings.get(field);
+            for (String gram : indexGrams(previous.fieldOf(field))) {
+                Set<Long> ids = fieldPostings.get(gram);
+                if (ids != null && ids.remove(userId) && ids.isEmpty()) {
+                    fieldPostings.remove(gram);
+                }
+            }
+        }
+        byEmail.remove(previous.getEmail(), userId);
+        Set<Long> samePhone = byPhone.get(previous.getPhone());
+        if (samePhone != null && samePhone.remove(userId) && samePhone.isEmpty()) {
+            byPhone.remove(previous.getPhone());
+        }
+    }
+
+    // 색인: 2글자 + 3글자
+    static Set<String> indexGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int n = 2; n <= 3; n++) {
+            for (int i = 0; i + n <= text.length(); i++) {
+                grams.add(text.substring(i, i + n));
+            }
+        }
+        return grams;
+    }
+
+    // 검색: 3글자 이상이면 3글자 단위, 2글자면 그대로
+    static Set<String> queryGrams(String key) {
+        if (key.length() <= 2) {
+            return Set.of(key);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= key.length(); i++) {
+            grams.add(key.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+        private final List<Long> userIds;
+        private final int total;
+    }
+}
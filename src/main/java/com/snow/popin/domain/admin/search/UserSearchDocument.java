@@ -0,0 +1,95 @@
+package com.snow.popin.domain.admin.search;
+
+import com.snow.popin.domain.user.constant.Role;
+import com.snow.popin.domain.user.entity.User;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * 관리자 회원 검색 인덱스에 담는 정규화된 회원 정보
+ * - 이름/닉네임: NFC 정규화(분리된 한글 자모 결합) + 공백 제거 + 소문자
+ * - 이메일: 공백 제거 + 소문자
+ * - 연락처: 숫자만
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class UserSearchDocument {
+
+    private final Long userId;
+    private final String name;
+    private final String email;
+    private final String nickname;
+    private final String phone;
+    private final Role role;
+    private final LocalDateTime createdAt;
+
+    public static UserSearchDocument from(User user) {
+        return new UserSearchDocument(user.getId(),
+                normalizeText(user.getName()),
+                normalizeText(user.getEmail()),
+                normalizeText(user.getNickname()),
+                normalizePhone(user.getPhone()),
+                user.getRole(),
+                user.getCreatedAt());
+    }
+
+    public String fieldOf(SearchField field) {
+        switch (field) {
+            case EMAIL:
+                return email;
+            case NICKNAME:
+                return nickname;
+            case PHONE:
+                return phone;
+            case NAME:
+            default:
+                return name;
+        }
+    }
+
+    public static String normalize(SearchField field, String keyword) {
+        return field == SearchField.PHONE ? normalizePhone(keyword) : normalizeText(keyword);
+    }
+
+    static String normalizeText(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .replaceAll("\\s+", "")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    static String normalizePhone(String phone) {
+        if (phone == null) {
+            return "";
+        }
+        return phone.replaceAll("[^0-9]", "");
+    }
+
+    public enum SearchField {
+        NAME, EMAIL, NICKNAME, PHONE;
+
+        // 관리자 검색 화면의 searchType 값 (없거나 알 수 없으면 이름)
+        public static SearchField of(String searchType) {
+            if (searchType == null) {
+                return NAME;
+            }
+            switch (searchType.toLowerCase(Locale.ROOT)) {
+                case "email":
+                    return EMAIL;
+                case "nickname":
+                    return NICKNAME;
+                case "phone":
+                    return PHONE;
+                default:
+                    return NAME;
+            }
+        }
+    }
+}
@@ -7,13 +7,19 @@ import com.snow.popin.domain.mission.entity.MissionSet;
 import com.snow.popin.domain.mission.constant.MissionSetStatus;
 import com.snow.popin.domain.mission.repository.MissionRepository;
 import com.snow.popin.domain.mission.repository.MissionSetRepository;
+import com.snow.popin.domain.mission.repository.UserMissionSetProgressRepository;
+import com.snow.popin.domain.mission.service.MissionLeaderboardService;
+import com.snow.popin.domain.mission.service.UserMissionProgressService;
+import com.snow.popin.global.exception.MissionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -24,6 +30,9 @@ public class AdminMissionSetService {
     private final MissionSetRepository missionSetRepository;
     private final MissionRepository missionRepository;
     private final QrCodeService qrCodeService;
+    private final UserMissionSetProgressRepository userMissionSetProgressRepository;
+    private final UserMissionProgressService userMissionProgressService;
+    private final MissionLeaderboardService missionLeaderboardService;
 
     /**
      * 목록 조회
@@ -55,6 +64,40 @@ public class AdminMissionSetService {
         return MissionSetAdminDto.from(set);
     }
 
+    /**
+     * 미션셋 QR PNG
+     * @param id
+     * @param size
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public byte[] getMissionSetQr(UUID id, int size) {
+        if (!missionSetRepository.existsById(id)) {
+            throw new IllegalArgumentException("MissionSet not found");
+        }
+        return qrCodeService.renderMissionSetQr(id, size);
+    }
+
+    /**
+     * 팝업의 미션셋 QR을 한 장에 모은 인쇄용 시트 (한 장에 QrCodeService.MAX_SHEET_COUNT개씩)
+     * @param popupId
+     * @param page 0부터 시작하는 시트 번호
+     * @param size
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public byte[] getQrSheet(Long popupId, int page, int size) {
+        if (page < 0) {
+            throw new MissionException.InvalidQrSheetPage();
+        }
+        List<UUID> ids = missionSetRepository.findIdsByPopupId(popupId,
+                PageRequest.of(page, QrCodeService.MAX_SHEET_COUNT));
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("해당 팝업의 미션셋이 없습니다.");
+        }
+        return qrCodeService.renderBatchSheet(ids, size);
+    }
+
     /**
      * 미션셋 생성
      * @param req
@@ -87,8 +130,11 @@ public class AdminMissionSetService {
      * 미션 셋 삭제
      * @param id
      */
+    @Transactional
     public void deleteMissionSet(UUID id) {
+        userMissionSetProgressRepository.deleteByMissionSetId(id);
         missionSetRepository.deleteById(id);
+        missionLeaderboardService.evict(id);
     }
 
 
@@ -103,8 +149,9 @@ public class AdminMissionSetService {
         MissionSet set = missionSetRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("MissionSet not found: " + id));
 
-        if (request.getRequiredCount() != null) {
+        if (request.getRequiredCount() != null && !request.getRequiredCount().equals(set.getRequiredCount())) {
             set.setRequiredCount(request.getRequiredCount());
+            userMissionProgressService.refreshCleared(set);
         }
         if (request.getStatus() != null) {
             set.setStatus(request.getStatus());
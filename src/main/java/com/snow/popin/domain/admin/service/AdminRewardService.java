@@ -5,6 +5,7 @@ import com.snow.popin.domain.mission.repository.MissionSetRepository;
 import com.snow.popin.domain.reward.dto.request.RewardOptionDto;
 import com.snow.popin.domain.reward.entity.RewardOption;
 import com.snow.popin.domain.reward.repository.RewardOptionRepository;
+import com.snow.popin.domain.reward.service.RewardStockService;
 import com.snow.popin.global.exception.MissionException;
 import com.snow.popin.global.exception.RewardException;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ public class AdminRewardService {
 
     private final RewardOptionRepository rewardOptionRepository;
     private final MissionSetRepository missionSetRepository;
+    private final RewardStockService rewardStockService;
 
     @Transactional(readOnly = true)
     public List<RewardOptionDto> list(UUID missionSetId) {
@@ -41,6 +43,7 @@ public class AdminRewardService {
                 .build();
 
         rewardOptionRepository.save(option);
+        rewardStockService.initialize(option);
         return RewardOptionDto.from(option);
     }
 
@@ -50,6 +53,7 @@ public class AdminRewardService {
                 .orElseThrow(RewardException.OptionNotFound::new);
 
         option.update(dto.getName(), dto.getTotal());
+        rewardStockService.resize(option, dto.getTotal());
         return RewardOptionDto.from(option);
     }
 
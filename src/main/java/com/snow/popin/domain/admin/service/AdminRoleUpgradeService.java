@@ -16,11 +16,13 @@ import com.snow.popin.domain.roleupgrade.entity.RoleUpgrade;
 import com.snow.popin.domain.roleupgrade.repository.RoleUpgradeRepository;
 import com.snow.popin.domain.user.constant.Role;
 import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.domain.user.event.UserChangedEvent;
 import com.snow.popin.domain.user.repository.UserRepository;
 import com.snow.popin.global.constant.ErrorCode;
 import com.snow.popin.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -41,6 +43,7 @@ public class AdminRoleUpgradeService {
     private final HostRepository hostRepository;
     private final ProviderProfileRepository providerProfileRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 관리자용: 모든 역할 승격 요청 페이징 조회
     public Page<RoleUpgradeResponse> getAllRoleUpgradeRequests(Pageable pageable){
@@ -89,6 +92,7 @@ public class AdminRoleUpgradeService {
                     .orElseThrow(() -> new GeneralException(ErrorCode.USER_NOT_FOUND));
 
             user.updateRole(roleUpgrade.getRequestedRole());
+            eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
 
             // 역할별 추가 데이터 생성
             createRoleSpecificData(user, roleUpgrade);
@@ -4,12 +4,14 @@ import com.snow.popin.domain.space.dto.AdminSpaceListResponseDto;
 import com.snow.popin.domain.space.dto.SpaceListResponseDto;
 import com.snow.popin.domain.space.dto.SpaceResponseDto;
 import com.snow.popin.domain.space.entity.Space;
+import com.snow.popin.domain.space.event.SpaceChangedEvent;
 import com.snow.popin.domain.space.repository.SpaceRepository;
 import com.snow.popin.domain.user.entity.User;
 import com.snow.popin.global.constant.ErrorCode;
 import com.snow.popin.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -34,6 +36,7 @@ import javax.persistence.criteria.Predicate;
 public class AdminSpaceService {
 
     private final SpaceRepository spaceRepo;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 장소 통계 조회
@@ -143,5 +146,6 @@ public class AdminSpaceService {
             space.hide();
             log.info("장소 비활성화 완료 - spaceId: {}, title: {}", spaceId, space.getTitle());
         }
+        eventPublisher.publishEvent(new SpaceChangedEvent(spaceId));
     }
 }
\ No newline at end of file
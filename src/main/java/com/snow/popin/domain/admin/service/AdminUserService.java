@@ -1,5 +1,7 @@
 package com.snow.popin.domain.admin.service;
 
+import com.snow.popin.domain.admin.search.AdminUserSearchIndex;
+import com.snow.popin.domain.admin.search.UserSearchDocument;
 import com.snow.popin.domain.user.constant.Role;
 import com.snow.popin.domain.user.constant.UserStatus;
 import com.snow.popin.domain.user.dto.UserDetailResponse;
@@ -11,9 +13,12 @@ import com.snow.popin.global.constant.ErrorCode;
 import com.snow.popin.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -22,6 +27,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.persistence.criteria.Predicate;
 
 @Service
@@ -31,12 +39,35 @@ import javax.persistence.criteria.Predicate;
 public class AdminUserService {
 
     private final UserRepository userRepo;
+    private final AdminUserSearchIndex userSearchIndex;
+
+    // index: 메모리 검색 인덱스 사용 (구성 전이거나 지원하지 않는 정렬이면 SQL), sql: 항상 SQL LIKE 검색
+    @Value("${admin.user-search.mode:index}")
+    private String searchMode;
 
     /**
      * 회원 검색
+     * 인덱스에서 조건에 맞는 회원 ID와 전체 건수를 구한 뒤 해당 페이지의 회원만 조회한다.
+     * (가입일 이외의 정렬은 SQL 검색 사용)
      */
     public Page<UserSearchResponse> searchUser(
             String searchType, String keyword, Role role, Pageable pageable) {
+        Boolean oldestFirst = indexSortOrder(pageable.getSort());
+        if (!"sql".equalsIgnoreCase(searchMode) && userSearchIndex.isReady() && oldestFirst != null) {
+            AdminUserSearchIndex.Result hits = userSearchIndex.search(
+                    UserSearchDocument.SearchField.of(searchType), keyword, role, oldestFirst,
+                    (int) pageable.getOffset(), pageable.getPageSize());
+
+            Map<Long, User> loaded = userRepo.findAllById(hits.getUserIds()).stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity()));
+            List<UserSearchResponse> content = hits.getUserIds().stream()
+                    .map(loaded::get)
+                    .filter(Objects::nonNull)
+                    .map(UserSearchResponse::from)
+                    .collect(Collectors.toList());
+            return new PageImpl<>(content, pageable, hits.getTotal());
+        }
+
         Specification<User> spec = createSearchSpecification(searchType, keyword, role);
         Page<User> users = userRepo.findAll(spec, pageable);
 
@@ -108,6 +139,19 @@ public class AdminUserService {
         return roleState;
     }
 
+    // 인덱스가 처리할 수 있는 정렬이면 오래된 순 여부, 아니면 null
+    private static Boolean indexSortOrder(Sort sort) {
+        if (sort.isUnsorted()) {
+            return false;
+        }
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1) {
+            return null;
+        }
+        Sort.Order order = orders.get(0);
+        return "createdAt".equals(order.getProperty()) ? order.isAscending() : null;
+    }
+
     private Specification<User> createSearchSpecification(String searchType, String keyword, Role role) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -1,72 +1,159 @@
 package com.snow.popin.domain.admin.service;
 
 import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
 import com.google.zxing.MultiFormatWriter;
+import com.google.zxing.WriterException;
 import com.google.zxing.client.j2se.MatrixToImageWriter;
 import com.google.zxing.common.BitMatrix;
+import com.snow.popin.global.exception.MissionException;
 import com.snow.popin.global.exception.QrCodeException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+/**
+ * 미션셋 QR 코드 렌더링
+ * - 파일로 저장하지 않고 메모리에서 PNG 바이트로 렌더링
+ * - (미션셋 ID, 크기) 기준 LRU 캐시로 반복 요청 시 재인코딩하지 않음
+ * - 팝업의 미션셋을 한 장에 최대 MAX_SHEET_COUNT개씩 배치한 인쇄용 시트 생성 (요청당 렌더링 양 제한)
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class QrCodeService {
 
-    @Value("${uploadPath}")
-    private String uploadPath;
+    public static final int DEFAULT_SIZE = 300;
+    public static final int MIN_SIZE = 100;
+    public static final int MAX_SIZE = 1000;
+    public static final int MAX_SHEET_COUNT = 24;
+
+    private static final int SHEET_COLUMNS = 3;
+    private static final int SHEET_PADDING = 40;
+    private static final int SHEET_LABEL_HEIGHT = 30;
 
     @Value("${app.host-url}")
     private String hostUrl; // application.properties 에서 읽어옴
 
+    private final Map<String, byte[]> cache;
+
+    public QrCodeService(@Value("${qr.cache.max-entries:256}") int maxEntries) {
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * 미션셋 QR 이미지 URL
+     * 이미지는 요청 시 렌더링되어 스트리밍되므로 파일 I/O가 없다.
+     */
     public String generateMissionSetQr(UUID missionSetId) {
-        log.info("[QR] generateMissionSetQr 시작 - missionSetId={}", missionSetId);
-        log.info("[QR] hostUrl={}, uploadPath={}", hostUrl, uploadPath);
+        return "/api/admin/mission-sets/" + missionSetId + "/qr";
+    }
+
+    /**
+     * 미션셋 QR PNG 렌더링 (캐시)
+     *
+     * @param size 한 변 픽셀 수 (MIN_SIZE ~ MAX_SIZE로 보정)
+     */
+    public byte[] renderMissionSetQr(UUID missionSetId, int size) {
+        int clamped = clampSize(size);
+        String key = missionSetId + ":" + clamped;
+
+        byte[] cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            MatrixToImageWriter.writeToStream(encode(missionSetId, clamped), "PNG", out);
+            byte[] png = out.toByteArray();
+            cache.put(key, png);
+            log.debug("[QR] 렌더링 - missionSetId={}, size={}, bytes={}", missionSetId, clamped, png.length);
+            return png;
+        } catch (WriterException | IOException e) {
+            log.error("[QR] QR 코드 생성 실패 - missionSetId={}", missionSetId, e);
+            throw new QrCodeException("QR 코드 생성 실패: " + e.getMessage(), e);
+        }
+    }
 
+    /**
+     * 여러 미션셋 QR을 격자로 배치한 인쇄용 PNG 시트
+     * 각 QR 아래에 미션셋 ID 앞 8자리를 표시한다.
+     */
+    public byte[] renderBatchSheet(List<UUID> missionSetIds, int size) {
+        if (missionSetIds.isEmpty()) {
+            throw new QrCodeException("QR 시트를 만들 미션셋이 없습니다.");
+        }
+        if (missionSetIds.size() > MAX_SHEET_COUNT) {
+            throw new MissionException.QrSheetTooLarge(MAX_SHEET_COUNT);
+        }
+
+        int cell = clampSize(size);
+        int columns = Math.min(SHEET_COLUMNS, missionSetIds.size());
+        int rows = (missionSetIds.size() + columns - 1) / columns;
+        int cellHeight = cell + SHEET_LABEL_HEIGHT;
+        int width = SHEET_PADDING + columns * (cell + SHEET_PADDING);
+        int height = SHEET_PADDING + rows * (cellHeight + SHEET_PADDING);
+
+        BufferedImage sheet = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = sheet.createGraphics();
         try {
-            // QR 코드에 담을 URL
-            String qrContent = hostUrl + "/missions/" + missionSetId;
-            log.info("[QR] QR content={}", qrContent);
-
-            // 저장할 디렉토리 (/uploads/QrCodes)
-            Path qrDir = Paths.get(uploadPath, "QrCodes");
-            if (!Files.exists(qrDir)) {
-                Files.createDirectories(qrDir);
-                log.info("[QR] Created directory: {}", qrDir.toAbsolutePath());
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.setColor(Color.BLACK);
+            g.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 16));
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+            for (int i = 0; i < missionSetIds.size(); i++) {
+                UUID id = missionSetIds.get(i);
+                int x = SHEET_PADDING + (i % columns) * (cell + SHEET_PADDING);
+                int y = SHEET_PADDING + (i / columns) * (cellHeight + SHEET_PADDING);
+
+                g.drawImage(MatrixToImageWriter.toBufferedImage(encode(id, cell)), x, y, null);
+
+                String label = id.toString().substring(0, 8);
+                int labelWidth = g.getFontMetrics().stringWidth(label);
+                g.drawString(label, x + (cell - labelWidth) / 2, y + cell + SHEET_LABEL_HEIGHT - 8);
             }
+        } catch (WriterException e) {
+            throw new QrCodeException("QR 시트 생성 실패: " + e.getMessage(), e);
+        } finally {
+            g.dispose();
+        }
 
-            // 파일명
-            String filename = missionSetId.toString() + ".png";
-            Path qrPath = qrDir.resolve(filename);
-            log.info("[QR] QR path={}", qrPath);
-
-            // QR 코드 생성
-            int size = 300;
-            BitMatrix matrix = new MultiFormatWriter().encode(
-                    qrContent,
-                    BarcodeFormat.QR_CODE,
-                    size,
-                    size
-            );
-
-            MatrixToImageWriter.writeToPath(matrix, "PNG", qrPath);
-            log.info("[QR] QR code 생성 완료: {}", qrPath);
-
-            // 반환 URL (WebMvcConfig 매핑 기준)
-            String returnUrl = "/uploads/QrCodes/" + filename;
-            log.info("[QR] returnUrl={}", returnUrl);
-            return returnUrl;
-
-        } catch (Exception e) {
-            log.error("[QR] QR 코드 생성 실패", e);
-            throw new QrCodeException("QR 코드 생성 실패: " + e.getMessage(), e);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(sheet, "PNG", out);
+            log.info("[QR] 시트 생성 완료 - count={}, bytes={}", missionSetIds.size(), out.size());
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new QrCodeException("QR 시트 생성 실패: " + e.getMessage(), e);
         }
     }
+
+    public static int clampSize(int size) {
+        return Math.max(MIN_SIZE, Math.min(MAX_SIZE, size));
+    }
+
+    private BitMatrix encode(UUID missionSetId, int size) throws WriterException {
+        // QR 코드에 담을 URL
+        String qrContent = hostUrl + "/missions/" + missionSetId;
+        return new MultiFormatWriter().encode(qrContent, BarcodeFormat.QR_CODE, size, size,
+                Map.of(EncodeHintType.MARGIN, 1));
+    }
 }
@@ -9,6 +9,7 @@ import com.snow.popin.domain.user.constant.Role;
 import com.snow.popin.domain.category.entity.UserInterest;
 import com.snow.popin.domain.user.constant.UserStatus;
 import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.domain.user.event.UserChangedEvent;
 import com.snow.popin.domain.user.repository.UserRepository;
 import com.snow.popin.global.constant.ErrorCode;
 import com.snow.popin.global.exception.GeneralException;
@@ -16,6 +17,7 @@ import com.snow.popin.global.jwt.JwtTokenResolver;
 import com.snow.popin.global.jwt.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -47,6 +49,7 @@ public class AuthService implements UserDetailsService {
     private final JwtUtil jwtUtil;
     private final JwtTokenResolver jwtTokenResolver;
     private final UserInterestRepository userInterestRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 회원가입 처리
@@ -62,6 +65,7 @@ public class AuthService implements UserDetailsService {
         User savedUser = userRepository.save(user);
 
         processUserInterests(savedUser, request.getInterests());
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId()));
 
         log.info("회원가입 완료: userId={}, email={}", savedUser.getId(), savedUser.getEmail());
         return SignupResponse.success(savedUser.getEmail(), savedUser.getName(), savedUser.getNickname());
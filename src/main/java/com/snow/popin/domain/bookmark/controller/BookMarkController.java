@@ -3,7 +3,10 @@ package com.snow.popin.domain.bookmark.controller;
 import com.snow.popin.domain.bookmark.dto.BookMarkListResponseDto;
 import com.snow.popin.domain.bookmark.dto.BookMarkRequestDto;
 import com.snow.popin.domain.bookmark.dto.BookMarkResponseDto;
+import com.snow.popin.domain.bookmark.dto.BookMarkStateDto;
 import com.snow.popin.domain.bookmark.service.BookMarkService;
+import com.snow.popin.global.constant.ErrorCode;
+import com.snow.popin.global.exception.GeneralException;
 import com.snow.popin.global.util.UserUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -19,6 +22,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class BookMarkController {
 
+    private static final int MAX_STATES_BATCH = 100;
+
     private final BookMarkService bookMarkService;
     private final UserUtil userUtil;
 
@@ -94,4 +99,14 @@ public class BookMarkController {
         List<Long> popupIds = bookMarkService.getUserBookmarkedPopupIds(userId);
         return ResponseEntity.ok(popupIds);
     }
+
+    // 목록 카드용 북마크 여부/수 일괄 조회
+    @GetMapping("/states")
+    public ResponseEntity<List<BookMarkStateDto>> getBookmarkStates(@RequestParam List<Long> popupIds) {
+        if (popupIds.size() > MAX_STATES_BATCH) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST, "한 번에 조회할 수 있는 팝업은 최대 " + MAX_STATES_BATCH + "개입니다.");
+        }
+        Long userId = userUtil.getCurrentUserId();
+        return ResponseEntity.ok(bookMarkService.getBookmarkStates(userId, popupIds));
+    }
 }
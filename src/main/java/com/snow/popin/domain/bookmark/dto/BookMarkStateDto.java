@@ -0,0 +1,21 @@
+package com.snow.popin.domain.bookmark.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 목록 카드용 북마크 상태 (북마크 여부 + 북마크 수)
+@Getter
+@Builder
+public class BookMarkStateDto {
+    private final Long popupId;
+    private final boolean bookmarked;
+    private final long bookmarkCount;
+
+    public static BookMarkStateDto of(Long popupId, boolean bookmarked, Long bookmarkCount) {
+        return BookMarkStateDto.builder()
+                .popupId(popupId)
+                .bookmarked(bookmarked)
+                .bookmarkCount(bookmarkCount != null ? bookmarkCount : 0L)
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.snow.popin.domain.bookmark.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 북마크가 추가/삭제되었음을 알림 (커밋 이후 처리)
+ * 사용자별 북마크 인덱스가 구독한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BookmarkChangedEvent {
+    private final Long userId;
+    private final Long popupId;
+    private final boolean added;
+}
@@ -27,5 +27,16 @@ public interface BookMarkRepository extends JpaRepository<BookMark, Long> {
     // 사용자의 특정 팝업 북마크 삭제
     @Modifying
     @Query("DELETE FROM BookMark b WHERE b.userId = :userId AND b.popupId = :popupId")
-    void deleteByUserIdAndPopupId(@Param("userId") Long userId, @Param("popupId") Long popupId);
-}
\ No newline at end of file
+    int deleteByUserIdAndPopupId(@Param("userId") Long userId, @Param("popupId") Long popupId);
+
+    // 유사 팝업 모델 구성용 - (사용자, 팝업) 쌍 (id 기준 키셋 페이지네이션)
+    @Query("SELECT b.id AS id, b.userId AS userId, b.popupId AS popupId FROM BookMark b " +
+            "WHERE b.id > :afterId ORDER BY b.id")
+    List<UserPopupRow> findUserPopupPairsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    interface UserPopupRow {
+        Long getId();
+        Long getUserId();
+        Long getPopupId();
+    }
+}
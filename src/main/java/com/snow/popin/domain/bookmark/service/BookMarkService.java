@@ -2,14 +2,18 @@ package com.snow.popin.domain.bookmark.service;
 
 import com.snow.popin.domain.bookmark.dto.BookMarkListResponseDto;
 import com.snow.popin.domain.bookmark.dto.BookMarkResponseDto;
+import com.snow.popin.domain.bookmark.dto.BookMarkStateDto;
 import com.snow.popin.domain.bookmark.entity.BookMark;
+import com.snow.popin.domain.bookmark.event.BookmarkChangedEvent;
 import com.snow.popin.domain.bookmark.repository.BookMarkQueryDslRepository;
 import com.snow.popin.domain.bookmark.repository.BookMarkRepository;
 import com.snow.popin.domain.popup.entity.Popup;
 import com.snow.popin.domain.popup.repository.PopupRepository;
+import com.snow.popin.domain.popup.repository.PopupRepository.BookmarkCount;
 import com.snow.popin.global.exception.PopupNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -17,7 +21,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -29,6 +36,8 @@ public class BookMarkService {
     private final BookMarkRepository bookMarkRepository;
     private final BookMarkQueryDslRepository bookMarkQueryDslRepository;
     private final PopupRepository popupRepository;
+    private final BookmarkIndex bookmarkIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 북마크 추가
     @Transactional
@@ -43,6 +52,8 @@ public class BookMarkService {
         try {
             BookMark bookmark = BookMark.ofWithPopup(userId, popup);
             BookMark savedBookmark = bookMarkRepository.save(bookmark);
+            popupRepository.addBookmarkCount(popupId, 1);
+            eventPublisher.publishEvent(new BookmarkChangedEvent(userId, popupId, true));
 
             log.info("북마크 추가 완료 - userId: {}, popupId: {}", userId, popupId);
             return BookMarkResponseDto.from(savedBookmark);
@@ -66,7 +77,11 @@ public class BookMarkService {
             throw new IllegalArgumentException("북마크가 존재하지 않습니다.");
         }
 
-        bookMarkRepository.deleteByUserIdAndPopupId(userId, popupId);
+        int deleted = bookMarkRepository.deleteByUserIdAndPopupId(userId, popupId);
+        if (deleted > 0) {
+            popupRepository.addBookmarkCount(popupId, -deleted);
+            eventPublisher.publishEvent(new BookmarkChangedEvent(userId, popupId, false));
+        }
         log.info("북마크 삭제 완료 - userId: {}, popupId: {}", userId, popupId);
     }
 
@@ -104,9 +119,9 @@ public class BookMarkService {
         return BookMarkListResponseDto.of(bookmarkPage, bookmarkDtos);
     }
 
-    // 북마크 여부 확인
+    // 북마크 여부 확인 (사용자별 북마크 인덱스)
     public boolean isBookmarked(Long userId, Long popupId) {
-        return bookMarkRepository.existsByUserIdAndPopupId(userId, popupId);
+        return bookmarkIndex.isBookmarked(userId, popupId);
     }
 
     // 사용자별 북마크 수 조회
@@ -114,14 +129,54 @@ public class BookMarkService {
         return bookMarkRepository.countByUserId(userId);
     }
 
-    // 팝업별 북마크 수 조회
+    // 팝업별 북마크 수 조회 (팝업의 북마크 수 컬럼)
     public long getPopupBookmarkCount(Long popupId) {
-        return bookMarkRepository.countByPopupId(popupId);
+        return popupRepository.findBookmarkCountsByIds(List.of(popupId)).stream()
+                .findFirst()
+                .map(BookmarkCount::getBookmarkCount)
+                .orElse(0L);
     }
 
     // 사용자가 북마크한 팝업 ID 목록 조회
     public List<Long> getUserBookmarkedPopupIds(Long userId) {
-        return bookMarkQueryDslRepository.findPopupIdsByUserId(userId);
+        return bookmarkIndex.get(userId).toList();
+    }
+
+    /**
+     * 목록 카드의 북마크 여부/수 일괄 조회
+     * 북마크 여부는 사용자 비트셋 하나로, 북마크 수는 팝업 ID 목록 조회 한 번으로 판별한다.
+     *
+     * @param userId 비로그인이면 null (모두 미북마크)
+     */
+    public List<BookMarkStateDto> getBookmarkStates(Long userId, Collection<Long> popupIds) {
+        if (popupIds.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> bookmarked = userId != null ? bookmarkIndex.bookmarkedAmong(userId, popupIds) : Set.of();
+        Map<Long, Long> counts = popupRepository.findBookmarkCountsByIds(popupIds).stream()
+                .collect(Collectors.toMap(BookmarkCount::getId, BookmarkCount::getBookmarkCount));
+
+        return popupIds.stream()
+                .distinct()
+                .map(popupId -> BookMarkStateDto.of(popupId, bookmarked.contains(popupId), counts.get(popupId)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 북마크 수가 한 번도 집계되지 않은 팝업이 있는지 (bookmark_count 컬럼 추가 직후)
+     */
+    public boolean hasUncountedBookmarks() {
+        return !popupRepository.findIdsWithUncountedBookmarks(PageRequest.of(0, 1)).isEmpty();
+    }
+
+    /**
+     * 팝업 북마크 수를 bookmarks 테이블 기준으로 재계산
+     */
+    @Transactional
+    public int resyncBookmarkCounts() {
+        int updated = popupRepository.resyncBookmarkCounts();
+        log.info("팝업 북마크 수 재계산 완료 - 보정 {}건", updated);
+        return updated;
     }
 
     private Pageable createPageable(int page, int size) {
@@ -0,0 +1,121 @@
+package com.snow.popin.domain.bookmark.service;
+
+import com.snow.popin.domain.bookmark.event.BookmarkChangedEvent;
+import com.snow.popin.domain.bookmark.repository.BookMarkQueryDslRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자별 북마크 팝업 ID 인덱스
+ * - 사용자마다 북마크한 팝업 ID를 압축 비트셋으로 보관 (최근 사용 기준 최대 N명, LRU)
+ * - 북마크 추가/삭제 커밋 후 캐시된 비트셋에 반영
+ * - 목록 페이지는 비트셋 하나로 카드 전체의 북마크 여부를 메모리에서 판별
+ *
+ * 캐시에 없으면 DB에서 읽어 채우며, 읽는 도중 같은 사용자 구간에 변경이 있었으면 캐시에 넣지 않는다.
+ * 변경 이벤트는 커밋한 노드에만 전달되므로, 다른 노드에서 바뀐 북마크는 캐시 항목이 만료(TTL)된 뒤 다시 읽을 때 반영된다.
+ * (여러 노드에서 북마크 표시가 어긋날 수 있는 시간 = bookmark.index.ttl-seconds)
+ */
+@Component
+@Slf4j
+public class BookmarkIndex {
+
+    private static final int STRIPES = 64;
+
+    private final BookMarkQueryDslRepository bookMarkQueryDslRepository;
+    private final Map<Long, Entry> cache;
+    private final long ttlNanos;
+    // 사용자 구간별 변경 횟수 (로딩 중 변경 감지용)
+    private final AtomicLongArray versions = new AtomicLongArray(STRIPES);
+
+    @Autowired
+    public BookmarkIndex(BookMarkQueryDslRepository bookMarkQueryDslRepository,
+                         @Value("${bookmark.index.max-users:10000}") int maxUsers,
+                         @Value("${bookmark.index.ttl-seconds:60}") long ttlSeconds) {
+        this(bookMarkQueryDslRepository, maxUsers, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public BookmarkIndex(BookMarkQueryDslRepository bookMarkQueryDslRepository, int maxUsers, Duration ttl) {
+        this.bookMarkQueryDslRepository = bookMarkQueryDslRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxUsers;
+            }
+        });
+    }
+
+    public PopupIdBitSet get(Long userId) {
+        long now = System.nanoTime();
+        Entry cached = cache.get(userId);
+        if (cached != null && now - cached.loadedAt < ttlNanos) {
+            return cached.bookmarks;
+        }
+
+        int stripe = stripeOf(userId);
+        long version = versions.get(stripe);
+        PopupIdBitSet loaded = PopupIdBitSet.of(bookMarkQueryDslRepository.findPopupIdsByUserId(userId));
+        if (versions.get(stripe) == version) {
+            cache.put(userId, new Entry(loaded, now));
+        }
+        return loaded;
+    }
+
+    public boolean isBookmarked(Long userId, Long popupId) {
+        return popupId != null && get(userId).contains(popupId);
+    }
+
+    /**
+     * 주어진 팝업 중 사용자가 북마크한 팝업
+     */
+    public Set<Long> bookmarkedAmong(Long userId, Collection<Long> popupIds) {
+        PopupIdBitSet bookmarks = get(userId);
+        Set<Long> result = new LinkedHashSet<>();
+        for (Long popupId : popupIds) {
+            if (popupId != null && bookmarks.contains(popupId)) {
+                result.add(popupId);
+            }
+        }
+        return result;
+    }
+
+    public void evict(Long userId) {
+        versions.incrementAndGet(stripeOf(userId));
+        cache.remove(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(BookmarkChangedEvent event) {
+        versions.incrementAndGet(stripeOf(event.getUserId()));
+        // 읽은 시각은 그대로 두어 다른 노드의 변경이 TTL 안에 반영되도록 함
+        cache.computeIfPresent(event.getUserId(), (userId, entry) -> new Entry(event.isAdded()
+                ? entry.bookmarks.with(event.getPopupId())
+                : entry.bookmarks.without(event.getPopupId()), entry.loadedAt));
+    }
+
+    private static int stripeOf(Long userId) {
+        return (int) Math.floorMod(userId, (long) STRIPES);
+    }
+
+    private static final class Entry {
+        private final PopupIdBitSet bookmarks;
+        private final long loadedAt;
+
+        private Entry(PopupIdBitSet bookmarks, long loadedAt) {
+            this.bookmarks = bookmarks;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
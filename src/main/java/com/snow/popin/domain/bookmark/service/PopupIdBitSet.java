@@ -0,0 +1,119 @@
+package com.snow.popin.domain.bookmark.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 팝업 ID 집합을 담는 불변 압축 비트셋
+ * ID를 64개 단위 블록으로 나누어 비어 있지 않은 블록만 (블록 번호, 64비트 워드) 쌍으로 정렬 저장한다.
+ * - contains: 블록 번호 이진 탐색 후 비트 검사
+ * - with/without: 변경된 사본 반환 (읽는 쪽은 잠금 없이 사용)
+ */
+public final class PopupIdBitSet {
+
+    public static final PopupIdBitSet EMPTY = new PopupIdBitSet(new long[0], new long[0]);
+
+    private final long[] blocks;
+    private final long[] words;
+
+    private PopupIdBitSet(long[] blocks, long[] words) {
+        this.blocks = blocks;
+        this.words = words;
+    }
+
+    public static PopupIdBitSet of(Collection<Long> ids) {
+        long[] sorted = ids.stream().filter(id -> id != null && id >= 0).mapToLong(Long::longValue).sorted().toArray();
+        long[] blocks = new long[sorted.length];
+        long[] words = new long[sorted.length];
+        int n = 0;
+        for (long id : sorted) {
+            long block = id >>> 6;
+            if (n == 0 || blocks[n - 1] != block) {
+                blocks[n++] = block;
+            }
+            words[n - 1] |= 1L << (id & 63);
+        }
+        return n == 0 ? EMPTY : new PopupIdBitSet(Arrays.copyOf(blocks, n), Arrays.copyOf(words, n));
+    }
+
+    public boolean contains(long id) {
+        if (id < 0) {
+            return false;
+        }
+        int i = Arrays.binarySearch(blocks, id >>> 6);
+        return i >= 0 && (words[i] & (1L << (id & 63))) != 0;
+    }
+
+    public PopupIdBitSet with(long id) {
+        if (id < 0 || contains(id)) {
+            return this;
+        }
+        long block = id >>> 6;
+        long bit = 1L << (id & 63);
+        int i = Arrays.binarySearch(blocks, block);
+        if (i >= 0) {
+            long[] newWords = words.clone();
+            newWords[i] |= bit;
+            return new PopupIdBitSet(blocks, newWords);
+        }
+
+        int at = -i - 1;
+        long[] newBlocks = new long[blocks.length + 1];
+        long[] newWords = new long[words.length + 1];
+        System.arraycopy(blocks, 0, newBlocks, 0, at);
+        System.arraycopy(words, 0, newWords, 0, at);
+        newBlocks[at] = block;
+        newWords[at] = bit;
+        System.arraycopy(blocks, at, newBlocks, at + 1, blocks.length - at);
+        System.arraycopy(words, at, newWords, at + 1, words.length - at);
+        return new PopupIdBitSet(newBlocks, newWords);
+    }
+
+    public PopupIdBitSet without(long id) {
+        if (!contains(id)) {
+            return this;
+        }
+        int i = Arrays.binarySearch(blocks, id >>> 6);
+        long word = words[i] & ~(1L << (id & 63));
+        if (word != 0) {
+            long[] newWords = words.clone();
+            newWords[i] = word;
+            return new PopupIdBitSet(blocks, newWords);
+        }
+
+        // 블록이 비면 제거
+        long[] newBlocks = new long[blocks.length - 1];
+        long[] newWords = new long[words.length - 1];
+        System.arraycopy(blocks, 0, newBlocks, 0, i);
+        System.arraycopy(words, 0, newWords, 0, i);
+        System.arraycopy(blocks, i + 1, newBlocks, i, blocks.length - i - 1);
+        System.arraycopy(words, i + 1, newWords, i, words.length - i - 1);
+        return newBlocks.length == 0 ? EMPTY : new PopupIdBitSet(newBlocks, newWords);
+    }
+
+    public int size() {
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /**
+     * 오름차순 ID 목록
+     */
+    public List<Long> toList() {
+        List<Long> ids = new ArrayList<>(size());
+        for (int i = 0; i < blocks.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                ids.add((blocks[i] << 6) | bit);
+                word &= word - 1;
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,6 @@
+package com.snow.popin.domain.mission.constant;
+
+public enum LeaderboardType {
+    FIRST_CLEAR, // 먼저 달성한 순
+    SPEED        // 첫 참여부터 달성까지 걸린 시간이 짧은 순
+}
@@ -1,6 +1,9 @@
 package com.snow.popin.domain.mission.controller;
 
+import com.snow.popin.domain.mission.constant.LeaderboardType;
+import com.snow.popin.domain.mission.dto.response.LeaderboardPageDto;
 import com.snow.popin.domain.mission.dto.response.MissionSetViewDto;
+import com.snow.popin.domain.mission.service.MissionLeaderboardService;
 import com.snow.popin.domain.mission.service.MissionSetService;
 import com.snow.popin.global.exception.MissionException;
 import com.snow.popin.global.util.UserUtil;
@@ -15,6 +18,7 @@ import java.util.UUID;
 public class MissionSetApiController {
 
     private final MissionSetService missionSetService;
+    private final MissionLeaderboardService missionLeaderboardService;
     private final UserUtil userUtil;
 
     @GetMapping("/{missionSetId}")
@@ -30,4 +34,15 @@ public class MissionSetApiController {
 
         return missionSetService.getOne(missionSetId, userId);
     }
+
+    /**
+     * 미션셋 리더보드 (실시간 갱신은 /topic/mission-sets/{missionSetId}/leaderboard 구독)
+     */
+    @GetMapping("/{missionSetId}/leaderboard")
+    public LeaderboardPageDto leaderboard(@PathVariable UUID missionSetId,
+                                          @RequestParam(defaultValue = "FIRST_CLEAR") LeaderboardType type,
+                                          @RequestParam(defaultValue = "0") int page,
+                                          @RequestParam(defaultValue = "20") int size) {
+        return missionLeaderboardService.getPage(missionSetId, type, page, size);
+    }
 }
@@ -0,0 +1,27 @@
+package com.snow.popin.domain.mission.dto.response;
+
+import com.snow.popin.domain.mission.service.MissionLeaderboard;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class LeaderboardEntryDto {
+    private int rank;
+    private Long userId;
+    private String nickname;
+    private LocalDateTime clearedAt;
+    private Long durationSeconds;
+
+    public static LeaderboardEntryDto from(int rank, MissionLeaderboard.Entry entry) {
+        return LeaderboardEntryDto.builder()
+                .rank(rank)
+                .userId(entry.getUserId())
+                .nickname(entry.getNickname())
+                .clearedAt(entry.getClearedAt())
+                .durationSeconds(entry.getDurationMillis() != null ? entry.getDurationMillis() / 1000 : null)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.snow.popin.domain.mission.dto.response;
+
+import com.snow.popin.domain.mission.constant.LeaderboardType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+public class LeaderboardPageDto {
+    private UUID missionSetId;
+    private LeaderboardType type;
+    private int page;
+    private int size;
+    private int total;
+    private List<LeaderboardEntryDto> entries;
+}
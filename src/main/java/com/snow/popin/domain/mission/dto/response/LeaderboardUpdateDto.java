@@ -0,0 +1,19 @@
+package com.snow.popin.domain.mission.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 리더보드 실시간 갱신 메시지 (/topic/mission-sets/{missionSetId}/leaderboard)
+ */
+@Getter
+@Builder
+public class LeaderboardUpdateDto {
+    private UUID missionSetId;
+    private LeaderboardEntryDto entry;
+    private int firstClearRank;
+    private int speedRank;   // 속도 기록이 없으면 0
+    private int total;
+}
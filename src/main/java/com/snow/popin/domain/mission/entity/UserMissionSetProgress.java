@@ -0,0 +1,85 @@
+package com.snow.popin.domain.mission.entity;
+
+import com.snow.popin.global.common.BaseTimeEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 유저별 미션셋 진행 집계 (유저 × 미션셋 한 행)
+ * 미션 완료 시 같은 트랜잭션에서 행 락을 잡고 갱신하므로,
+ * 제출 결과/리워드 발급 조건/내 미션 목록을 user_mission 재집계 없이 한 행으로 읽는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_mission_set_progress",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_mission_set_progress",
+                columnNames = {"user_id", "mission_set_id"}))
+public class UserMissionSetProgress extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "mission_set_id", nullable = false)
+    private MissionSet missionSet;
+
+    @Column(name = "success_count", nullable = false)
+    private int successCount;
+
+    @Column(name = "cleared", nullable = false)
+    private boolean cleared;
+
+    @Column(name = "cleared_at")
+    private LocalDateTime clearedAt;
+
+    // 미션셋 첫 참여 시각 (완료 속도 = cleared_at - started_at)
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    /**
+     * @param successCount    지금까지 완료한 미션 수 (기존 기록 이관 시)
+     * @param lastCompletedAt 마지막 완료 시각 (달성 시각으로 사용)
+     * @param startedAt       미션셋 첫 참여 시각
+     */
+    public static UserMissionSetProgress start(Long userId, MissionSet missionSet, int successCount,
+                                               LocalDateTime lastCompletedAt, LocalDateTime startedAt) {
+        UserMissionSetProgress progress = new UserMissionSetProgress();
+        progress.userId = userId;
+        progress.missionSet = missionSet;
+        progress.successCount = successCount;
+        progress.startedAt = startedAt;
+        progress.refreshCleared(missionSet.getRequiredCount(), lastCompletedAt);
+        return progress;
+    }
+
+    public void recordSuccess(Integer requiredCount) {
+        this.successCount++;
+        refreshCleared(requiredCount, LocalDateTime.now());
+    }
+
+    /**
+     * 필요 완료 수 대비 달성 여부 갱신 (최초 달성 시각은 유지)
+     */
+    public void refreshCleared(Integer requiredCount, LocalDateTime now) {
+        boolean reached = isCleared(requiredCount);
+        if (reached && !this.cleared) {
+            this.clearedAt = now;
+        } else if (!reached) {
+            this.clearedAt = null;
+        }
+        this.cleared = reached;
+    }
+
+    public boolean isCleared(Integer requiredCount) {
+        return successCount >= (requiredCount != null ? requiredCount : 0);
+    }
+}
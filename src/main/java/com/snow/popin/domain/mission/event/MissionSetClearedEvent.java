@@ -0,0 +1,20 @@
+package com.snow.popin.domain.mission.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 유저가 미션셋을 달성했음을 알림 (완료 반영 트랜잭션 커밋 이후 처리)
+ * 미션셋 리더보드가 구독한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MissionSetClearedEvent {
+    private final UUID missionSetId;
+    private final Long userId;
+    private final LocalDateTime clearedAt;
+    private final LocalDateTime startedAt;
+}
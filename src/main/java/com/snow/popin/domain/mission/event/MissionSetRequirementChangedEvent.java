@@ -0,0 +1,16 @@
+package com.snow.popin.domain.mission.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 미션셋 필요 완료 수가 바뀌어 달성 여부가 일괄 재계산되었음을 알림
+ * 미션셋 리더보드가 DB 기준으로 다시 만든다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MissionSetRequirementChangedEvent {
+    private final UUID missionSetId;
+}
@@ -1,10 +1,16 @@
 package com.snow.popin.domain.mission.repository;
 
 import com.snow.popin.domain.mission.entity.Mission;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface MissionRepository extends JpaRepository<Mission, UUID> {
     List<Mission> findByMissionSet_Id(UUID missionSetId);
+
+    // 정답 제출 시 미션셋까지 한 번에 조회
+    @EntityGraph(attributePaths = "missionSet")
+    Optional<Mission> findWithMissionSetById(UUID id);
 }
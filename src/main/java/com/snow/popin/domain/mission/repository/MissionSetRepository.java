@@ -19,6 +19,10 @@ public interface MissionSetRepository extends JpaRepository<MissionSet, UUID> {
     Page<MissionSet> findByPopupId(Long popupId, Pageable pageable);
     Page<MissionSet> findByStatus(MissionSetStatus status, Pageable pageable);
 
+    // QR 일괄 시트용: 팝업의 미션셋 ID만 생성순으로 페이지 단위 조회
+    @Query("select ms.id from MissionSet ms where ms.popupId = :popupId order by ms.createdAt asc, ms.id asc")
+    List<UUID> findIdsByPopupId(@Param("popupId") Long popupId, Pageable pageable);
+
     @Query("select um from UserMission um " +
             "join fetch um.mission m " +
             "join fetch m.missionSet ms " +
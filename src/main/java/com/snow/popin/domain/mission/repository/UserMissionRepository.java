@@ -2,7 +2,9 @@ package com.snow.popin.domain.mission.repository;
 
 import com.snow.popin.domain.mission.entity.UserMission;
 import com.snow.popin.domain.mission.constant.UserMissionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,6 +14,19 @@ import java.util.Optional;
 import java.util.UUID;
 
 public interface UserMissionRepository extends JpaRepository<UserMission, Long> {
+
+    interface CompletedCount {
+        Long getUserId();
+
+        UUID getMissionSetId();
+
+        Long getSuccessCount();
+
+        LocalDateTime getLastCompletedAt();
+
+        LocalDateTime getFirstStartedAt();
+    }
+
     Optional<UserMission> findByUser_IdAndMission_Id(Long userId, UUID missionId);
     long countByUser_IdAndMission_MissionSet_IdAndStatus(Long userId, UUID missionSetId, UserMissionStatus status);
     List<UserMission> findByUser_IdAndMission_MissionSet_Id(Long userId, UUID missionSetId);
@@ -31,4 +46,40 @@ public interface UserMissionRepository extends JpaRepository<UserMission, Long>
             @Param("end") LocalDateTime end
     );
 
+    /**
+     * 미완료 상태일 때만 완료 처리 (영향 행 수 1 = 이번 요청이 완료시킴)
+     * 같은 미션의 동시 정답 제출 중 한 요청만 진행 집계를 올리도록 조건부 UPDATE로 전이한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserMission um SET um.status = com.snow.popin.domain.mission.constant.UserMissionStatus.COMPLETED, " +
+            "um.completedAt = :now " +
+            "WHERE um.id = :id AND um.status <> com.snow.popin.domain.mission.constant.UserMissionStatus.COMPLETED")
+    int markCompletedIfNot(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 유저 × 미션셋별 완료 수 (진행 집계 이관용, 완료한 미션이 없는 참여도 포함)
+     */
+    @Query("SELECT um.user.id AS userId, m.missionSet.id AS missionSetId, " +
+            "SUM(CASE WHEN um.status = com.snow.popin.domain.mission.constant.UserMissionStatus.COMPLETED " +
+            "THEN 1 ELSE 0 END) AS successCount, " +
+            "MAX(CASE WHEN um.status = com.snow.popin.domain.mission.constant.UserMissionStatus.COMPLETED " +
+            "THEN um.completedAt END) AS lastCompletedAt, " +
+            "MIN(um.createdAt) AS firstStartedAt " +
+            "FROM UserMission um JOIN um.mission m " +
+            "GROUP BY um.user.id, m.missionSet.id " +
+            "ORDER BY um.user.id, m.missionSet.id")
+    List<CompletedCount> findProgressCounts(Pageable pageable);
+
+    /**
+     * 진행 집계 행이 없는 유저 미션 (이관 필요 여부 확인용, 1건만 조회)
+     */
+    @Query("SELECT um.id FROM UserMission um WHERE NOT EXISTS (" +
+            "SELECT p.id FROM UserMissionSetProgress p " +
+            "WHERE p.userId = um.user.id AND p.missionSet = um.mission.missionSet)")
+    List<Long> findIdsWithoutProgress(Pageable pageable);
+
+    // 미션셋 첫 참여 시각
+    @Query("SELECT MIN(um.createdAt) FROM UserMission um " +
+            "WHERE um.user.id = :userId AND um.mission.missionSet.id = :missionSetId")
+    LocalDateTime findFirstStartedAt(@Param("userId") Long userId, @Param("missionSetId") UUID missionSetId);
 }
@@ -0,0 +1,83 @@
+package com.snow.popin.domain.mission.repository;
+
+import com.snow.popin.domain.mission.entity.UserMissionSetProgress;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface UserMissionSetProgressRepository extends JpaRepository<UserMissionSetProgress, Long> {
+
+    interface ClearedRow {
+        Long getId();
+
+        Long getUserId();
+
+        UUID getMissionSetId();
+
+        String getNickname();
+
+        LocalDateTime getClearedAt();
+
+        LocalDateTime getStartedAt();
+    }
+
+    Optional<UserMissionSetProgress> findByUserIdAndMissionSet_Id(Long userId, UUID missionSetId);
+
+    boolean existsByUserIdAndMissionSet_Id(Long userId, UUID missionSetId);
+
+    // 완료 반영 시 행 잠금 (같은 유저의 동시 제출 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM UserMissionSetProgress p WHERE p.userId = :userId AND p.missionSet.id = :missionSetId")
+    Optional<UserMissionSetProgress> lockByUserIdAndMissionSetId(@Param("userId") Long userId,
+                                                                 @Param("missionSetId") UUID missionSetId);
+
+    // 내 미션 목록 (미션셋/팝업 함께 조회)
+    @Query("SELECT p FROM UserMissionSetProgress p " +
+            "JOIN FETCH p.missionSet s " +
+            "LEFT JOIN FETCH s.popup " +
+            "WHERE p.userId = :userId " +
+            "ORDER BY p.updatedAt DESC")
+    List<UserMissionSetProgress> findAllWithMissionSetByUserId(@Param("userId") Long userId);
+
+    // 필요 완료 수 변경 시 달성 여부 재계산
+    // 관리자 수정 트랜잭션의 미션셋 엔티티가 분리되지 않도록 영속성 컨텍스트는 비우지 않음
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserMissionSetProgress p SET p.cleared = true, p.clearedAt = :now " +
+            "WHERE p.missionSet.id = :missionSetId AND p.cleared = false AND p.successCount >= :required")
+    int markCleared(@Param("missionSetId") UUID missionSetId,
+                    @Param("required") int required,
+                    @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserMissionSetProgress p SET p.cleared = false, p.clearedAt = null " +
+            "WHERE p.missionSet.id = :missionSetId AND p.cleared = true AND p.successCount < :required")
+    int markUncleared(@Param("missionSetId") UUID missionSetId, @Param("required") int required);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM UserMissionSetProgress p WHERE p.missionSet.id = :missionSetId")
+    int deleteByMissionSetId(@Param("missionSetId") UUID missionSetId);
+
+    // 리더보드 재구성용 달성 기록 (id 기준 키셋 페이지)
+    @Query("SELECT p.id AS id, p.userId AS userId, p.missionSet.id AS missionSetId, u.nickname AS nickname, " +
+            "p.clearedAt AS clearedAt, p.startedAt AS startedAt " +
+            "FROM UserMissionSetProgress p, User u " +
+            "WHERE u.id = p.userId AND p.cleared = true AND p.clearedAt IS NOT NULL AND p.id > :afterId " +
+            "ORDER BY p.id")
+    List<ClearedRow> findClearedAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT p.id AS id, p.userId AS userId, p.missionSet.id AS missionSetId, u.nickname AS nickname, " +
+            "p.clearedAt AS clearedAt, p.startedAt AS startedAt " +
+            "FROM UserMissionSetProgress p, User u " +
+            "WHERE u.id = p.userId AND p.cleared = true AND p.clearedAt IS NOT NULL " +
+            "AND p.missionSet.id = :missionSetId")
+    List<ClearedRow> findClearedByMissionSetId(@Param("missionSetId") UUID missionSetId);
+}
@@ -0,0 +1,117 @@
+package com.snow.popin.domain.mission.service;
+
+import com.snow.popin.domain.mission.constant.LeaderboardType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 미션셋 하나의 메모리 리더보드
+ * - 달성 순/속도 순 두 개의 스킵 리스트로 정렬 상태를 유지
+ * - 읽기는 잠금 없이 스킵 리스트를 순회하고, 쓰기(유저별 교체)만 직렬화
+ * - 순위 계산과 페이지 이동은 앞선 원소 수만큼 순회한다 (상위 페이지 조회 위주 가정)
+ */
+public class MissionLeaderboard {
+
+    private static final Comparator<Entry> BY_CLEARED_AT = Comparator
+            .comparing(Entry::getClearedAt)
+            .thenComparing(Entry::getUserId);
+
+    private static final Comparator<Entry> BY_DURATION = Comparator
+            .comparing(Entry::getDurationMillis)
+            .thenComparing(Entry::getClearedAt)
+            .thenComparing(Entry::getUserId);
+
+    private final NavigableSet<Entry> byClearedAt = new ConcurrentSkipListSet<>(BY_CLEARED_AT);
+    private final NavigableSet<Entry> byDuration = new ConcurrentSkipListSet<>(BY_DURATION);
+    private final Map<Long, Entry> byUser = new ConcurrentHashMap<>();
+
+    /**
+     * 달성 기록 추가 (같은 유저 기록은 교체)
+     */
+    public synchronized void put(Entry entry) {
+        Entry previous = byUser.put(entry.getUserId(), entry);
+        if (previous != null) {
+            byClearedAt.remove(previous);
+            byDuration.remove(previous);
+        }
+        byClearedAt.add(entry);
+        if (entry.getDurationMillis() != null) {
+            byDuration.add(entry);
+        }
+    }
+
+    public synchronized void remove(Long userId) {
+        Entry previous = byUser.remove(userId);
+        if (previous != null) {
+            byClearedAt.remove(previous);
+            byDuration.remove(previous);
+        }
+    }
+
+    /**
+     * @param offset 0부터 시작하는 순위 오프셋
+     */
+    public List<Entry> page(LeaderboardType type, int offset, int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        Iterator<Entry> it = ordered(type).iterator();
+        for (int i = 0; i < offset && it.hasNext(); i++) {
+            it.next();
+        }
+        List<Entry> result = new ArrayList<>(limit);
+        while (result.size() < limit && it.hasNext()) {
+            result.add(it.next());
+        }
+        return result;
+    }
+
+    /**
+     * 1부터 시작하는 순위 (기록이 없으면 0)
+     */
+    public int rankOf(LeaderboardType type, Long userId) {
+        Entry entry = byUser.get(userId);
+        NavigableSet<Entry> set = ordered(type);
+        if (entry == null || !set.contains(entry)) {
+            return 0;
+        }
+        return set.headSet(entry, false).size() + 1;
+    }
+
+    public int size(LeaderboardType type) {
+        return ordered(type).size();
+    }
+
+    private NavigableSet<Entry> ordered(LeaderboardType type) {
+        return type == LeaderboardType.SPEED ? byDuration : byClearedAt;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+        private final Long userId;
+        private final String nickname;
+        private final LocalDateTime clearedAt;
+        // 첫 참여 시각을 모르는 기존 기록은 null (속도 순위에서 제외)
+        private final Long durationMillis;
+
+        public static Entry of(Long userId, String nickname, LocalDateTime clearedAt, LocalDateTime startedAt) {
+            Long duration = startedAt != null && !startedAt.isAfter(clearedAt)
+                    ? Duration.between(startedAt, clearedAt).toMillis()
+                    : null;
+            return new Entry(userId, nickname, clearedAt, duration);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.snow.popin.domain.mission.service;
+
+import com.snow.popin.domain.mission.constant.LeaderboardType;
+import com.snow.popin.domain.mission.dto.response.LeaderboardEntryDto;
+import com.snow.popin.domain.mission.dto.response.LeaderboardPageDto;
+import com.snow.popin.domain.mission.dto.response.LeaderboardUpdateDto;
+import com.snow.popin.domain.mission.event.MissionSetClearedEvent;
+import com.snow.popin.domain.mission.event.MissionSetRequirementChangedEvent;
+import com.snow.popin.domain.mission.repository.UserMissionSetProgressRepository;
+import com.snow.popin.domain.mission.repository.UserMissionSetProgressRepository.ClearedRow;
+import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 미션셋별 실시간 리더보드
+ * - 기동 시 진행 집계(user_mission_set_progress)의 달성 기록으로 메모리 리더보드를 구성
+ * - 미션셋 달성 이벤트 커밋 후 리더보드에 반영하고 /topic/mission-sets/{id}/leaderboard 로 전송
+ * - 필요 완료 수가 바뀌면 해당 미션셋만 DB 기준으로 다시 구성
+ *
+ * 리더보드는 노드 메모리에만 있으므로 다른 노드에서 달성한 기록은 해당 노드 재기동/재구성 시 반영된다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class MissionLeaderboardService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final UserMissionSetProgressRepository progressRepository;
+    private final UserRepository userRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final Map<UUID, MissionLeaderboard> boards = new ConcurrentHashMap<>();
+
+    public static String topicOf(UUID missionSetId) {
+        return "/topic/mission-sets/" + missionSetId + "/leaderboard";
+    }
+
+    /**
+     * 기동 시 전체 리더보드 구성 (진행 집계 이관 이후 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(UserMissionProgressService.BACKFILL_ORDER + 1)
+    public void rebuildAll() {
+        try {
+            int loaded = 0;
+            long afterId = 0L;
+            while (true) {
+                List<ClearedRow> rows = progressRepository.findClearedAfter(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                // 구성 중 들어온 달성 이벤트와 섞여도 되도록 유저 단위로 덮어씀
+                for (ClearedRow row : rows) {
+                    boardOf(row.getMissionSetId()).put(toEntry(row));
+                }
+                loaded += rows.size();
+                afterId = rows.get(rows.size() - 1).getId();
+            }
+            log.info("[Leaderboard] 리더보드 구성 완료 - missionSets={}, entries={}", boards.size(), loaded);
+        } catch (RuntimeException e) {
+            log.error("[Leaderboard] 리더보드 구성 실패", e);
+        }
+    }
+
+    /**
+     * 미션셋 하나를 DB 기준으로 다시 구성
+     */
+    public void rebuild(UUID missionSetId) {
+        MissionLeaderboard board = new MissionLeaderboard();
+        for (ClearedRow row : progressRepository.findClearedByMissionSetId(missionSetId)) {
+            board.put(toEntry(row));
+        }
+        boards.put(missionSetId, board);
+        log.info("[Leaderboard] 리더보드 재구성 - missionSetId={}, entries={}",
+                missionSetId, board.size(LeaderboardType.FIRST_CLEAR));
+    }
+
+    public void evict(UUID missionSetId) {
+        boards.remove(missionSetId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCleared(MissionSetClearedEvent event) {
+        try {
+            String nickname = userRepository.findById(event.getUserId()).map(User::getNickname).orElse(null);
+            MissionLeaderboard.Entry entry = MissionLeaderboard.Entry.of(
+                    event.getUserId(), nickname, event.getClearedAt(), event.getStartedAt());
+            MissionLeaderboard board = boardOf(event.getMissionSetId());
+            board.put(entry);
+
+            int rank = board.rankOf(LeaderboardType.FIRST_CLEAR, event.getUserId());
+            messagingTemplate.convertAndSend(topicOf(event.getMissionSetId()), LeaderboardUpdateDto.builder()
+                    .missionSetId(event.getMissionSetId())
+                    .entry(LeaderboardEntryDto.from(rank, entry))
+                    .firstClearRank(rank)
+                    .speedRank(board.rankOf(LeaderboardType.SPEED, event.getUserId()))
+                    .total(board.size(LeaderboardType.FIRST_CLEAR))
+                    .build());
+        } catch (RuntimeException e) {
+            // 리더보드 반영 실패가 미션 제출 결과에 영향을 주지 않도록 기록만 남김
+            log.warn("[Leaderboard] 달성 반영 실패 - missionSetId={}, userId={}, error={}",
+                    event.getMissionSetId(), event.getUserId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRequirementChanged(MissionSetRequirementChangedEvent event) {
+        rebuild(event.getMissionSetId());
+    }
+
+    /**
+     * 순위 페이지 조회
+     *
+     * @param page 0부터 시작
+     */
+    public LeaderboardPageDto getPage(UUID missionSetId, LeaderboardType type, int page, int size) {
+        int safePage = Math.max(page, 0);
+        int safeSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int offset = safePage * safeSize;
+
+        MissionLeaderboard board = boards.get(missionSetId);
+        List<LeaderboardEntryDto> entries = new ArrayList<>();
+        int total = 0;
+        if (board != null) {
+            List<MissionLeaderboard.Entry> slice = board.page(type, offset, safeSize);
+            for (int i = 0; i < slice.size(); i++) {
+                entries.add(LeaderboardEntryDto.from(offset + i + 1, slice.get(i)));
+            }
+            total = board.size(type);
+        }
+
+        return LeaderboardPageDto.builder()
+                .missionSetId(missionSetId)
+                .type(type)
+                .page(safePage)
+                .size(safeSize)
+                .total(total)
+                .entries(entries)
+                .build();
+    }
+
+    private MissionLeaderboard boardOf(UUID missionSetId) {
+        return boards.computeIfAbsent(missionSetId, id -> new MissionLeaderboard());
+    }
+
+    private static MissionLeaderboard.Entry toEntry(ClearedRow row) {
+        return MissionLeaderboard.Entry.of(row.getUserId(), row.getNickname(), row.getClearedAt(), row.getStartedAt());
+    }
+}
@@ -0,0 +1,201 @@
+package com.snow.popin.domain.mission.service;
+
+import com.snow.popin.domain.mission.constant.UserMissionStatus;
+import com.snow.popin.domain.mission.entity.MissionSet;
+import com.snow.popin.domain.mission.entity.UserMissionSetProgress;
+import com.snow.popin.domain.mission.event.MissionSetClearedEvent;
+import com.snow.popin.domain.mission.event.MissionSetRequirementChangedEvent;
+import com.snow.popin.domain.mission.repository.MissionSetRepository;
+import com.snow.popin.domain.mission.repository.UserMissionRepository;
+import com.snow.popin.domain.mission.repository.UserMissionRepository.CompletedCount;
+import com.snow.popin.domain.mission.repository.UserMissionSetProgressRepository;
+import com.snow.popin.global.scheduler.job.JobLeaseService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 유저별 미션셋 진행 집계 관리
+ * - 미션셋 첫 참여 시 완료 수 0인 진행 행을 만들어 진행 중인 미션셋도 목록에 보이게 한다.
+ * - 미션 완료 시 진행 행을 잠그고 완료 수/달성 여부를 갱신 (호출 트랜잭션에 포함)
+ * - 진행 행이 없으면 기존 완료 기록으로 초기화한 행을 별도 트랜잭션에서 만든다.
+ * - 기동 시 진행 행이 없는 user_mission 기록이 있으면 (유저, 미션셋) 단위로 한 번 이관한다.
+ * - 달성 상태가 바뀌면 리더보드용 이벤트를 발행한다.
+ */
+@Service
+@Slf4j
+public class UserMissionProgressService {
+
+    static final String BACKFILL_JOB = "user-mission-progress-backfill";
+    // 리더보드 재구성보다 먼저 이관되도록 기동 리스너 순서 지정
+    public static final int BACKFILL_ORDER = 0;
+    private static final int BACKFILL_PAGE_SIZE = 1000;
+
+    private final UserMissionSetProgressRepository progressRepository;
+    private final UserMissionRepository userMissionRepository;
+    private final MissionSetRepository missionSetRepository;
+    private final JobLeaseService jobLeaseService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate requiresNew;
+
+    public UserMissionProgressService(UserMissionSetProgressRepository progressRepository,
+                                      UserMissionRepository userMissionRepository,
+                                      MissionSetRepository missionSetRepository,
+                                      JobLeaseService jobLeaseService,
+                                      ApplicationEventPublisher eventPublisher,
+                                      PlatformTransactionManager transactionManager) {
+        this.progressRepository = progressRepository;
+        this.userMissionRepository = userMissionRepository;
+        this.missionSetRepository = missionSetRepository;
+        this.jobLeaseService = jobLeaseService;
+        this.eventPublisher = eventPublisher;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 미션셋 참여 시작 (진행 행이 없으면 완료 수 0으로 생성)
+     */
+    @Transactional
+    public void ensureStarted(Long userId, UUID missionSetId) {
+        // 없는 행을 잠그면 갭 락이 걸려 별도 트랜잭션의 생성과 교착되므로 존재 확인(잠금 없는 읽기)을 먼저 한다
+        if (!progressRepository.existsByUserIdAndMissionSet_Id(userId, missionSetId)) {
+            createIfAbsent(userId, missionSetId);
+        }
+    }
+
+    /**
+     * 미션 완료 반영 (완료 수 +1, 필요 수 도달 시 달성 처리)
+     * 호출자는 미션이 이번 요청에서 완료로 바뀐 경우에만 호출해야 한다. (UserMissionRepository.markCompletedIfNot)
+     */
+    @Transactional
+    public UserMissionSetProgress recordCompletion(Long userId, MissionSet missionSet) {
+        ensureStarted(userId, missionSet.getId());
+        UserMissionSetProgress progress = progressRepository.lockByUserIdAndMissionSetId(userId, missionSet.getId())
+                .orElseThrow(() -> new IllegalStateException("미션 진행 집계를 만들 수 없습니다."));
+
+        boolean wasCleared = progress.isCleared();
+        progress.recordSuccess(missionSet.getRequiredCount());
+        if (progress.isCleared() && !wasCleared) {
+            eventPublisher.publishEvent(new MissionSetClearedEvent(missionSet.getId(), userId,
+                    progress.getClearedAt(), progress.getStartedAt()));
+        }
+        return progress;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<UserMissionSetProgress> find(Long userId, UUID missionSetId) {
+        return progressRepository.findByUserIdAndMissionSet_Id(userId, missionSetId);
+    }
+
+    /**
+     * 완료한 미션 수 (진행 행이 없으면 0)
+     */
+    @Transactional(readOnly = true)
+    public int getSuccessCount(Long userId, UUID missionSetId) {
+        return find(userId, missionSetId).map(UserMissionSetProgress::getSuccessCount).orElse(0);
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserMissionSetProgress> findAllByUser(Long userId) {
+        return progressRepository.findAllWithMissionSetByUserId(userId);
+    }
+
+    /**
+     * 미션셋의 필요 완료 수가 바뀌었을 때 달성 여부 일괄 재계산
+     */
+    @Transactional
+    public void refreshCleared(MissionSet missionSet) {
+        int required = missionSet.getRequiredCount() != null ? missionSet.getRequiredCount() : 0;
+        int cleared = progressRepository.markCleared(missionSet.getId(), required, LocalDateTime.now());
+        int uncleared = progressRepository.markUncleared(missionSet.getId(), required);
+        log.info("[MissionProgress] 달성 여부 재계산 - missionSetId={}, required={}, cleared={}, uncleared={}",
+                missionSet.getId(), required, cleared, uncleared);
+        if (cleared > 0 || uncleared > 0) {
+            eventPublisher.publishEvent(new MissionSetRequirementChangedEvent(missionSet.getId()));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(BACKFILL_ORDER)
+    public void backfillIfMissing() {
+        // 첫 참여 시 진행 행을 만들기 전의 기록(완료 없는 참여 포함)이 남아 있을 때만 이관
+        if (userMissionRepository.findIdsWithoutProgress(PageRequest.of(0, 1)).isEmpty()) {
+            return;
+        }
+        if (!jobLeaseService.tryAcquire(BACKFILL_JOB, Duration.ofHours(1))) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            int created = backfill();
+            log.info("[MissionProgress] 기존 미션 기록 이관 완료 - {}건", created);
+        } catch (RuntimeException e) {
+            log.error("[MissionProgress] 기존 미션 기록 이관 실패", e);
+        } finally {
+            jobLeaseService.release(BACKFILL_JOB, startedAt, Duration.ZERO);
+        }
+    }
+
+    /**
+     * user_mission 기록을 집계해 진행 행이 없는 (유저, 미션셋)에 생성 (완료 수 0인 참여 포함)
+     */
+    int backfill() {
+        int created = 0;
+        for (int page = 0; ; page++) {
+            List<CompletedCount> counts = userMissionRepository.findProgressCounts(PageRequest.of(page, BACKFILL_PAGE_SIZE));
+            if (counts.isEmpty()) {
+                return created;
+            }
+            Integer saved = requiresNew.execute(status -> {
+                int n = 0;
+                for (CompletedCount count : counts) {
+                    if (progressRepository.existsByUserIdAndMissionSet_Id(count.getUserId(), count.getMissionSetId())) {
+                        continue;
+                    }
+                    MissionSet set = missionSetRepository.getReferenceById(count.getMissionSetId());
+                    progressRepository.save(UserMissionSetProgress.start(count.getUserId(), set,
+                            count.getSuccessCount().intValue(), count.getLastCompletedAt(), count.getFirstStartedAt()));
+                    n++;
+                }
+                return n;
+            });
+            created += saved != null ? saved : 0;
+        }
+    }
+
+    private void createIfAbsent(Long userId, UUID missionSetId) {
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                if (progressRepository.existsByUserIdAndMissionSet_Id(userId, missionSetId)) {
+                    return;
+                }
+                // 이관 전 기록이 있으면 그 수부터 시작 (호출 트랜잭션의 미커밋 완료는 포함되지 않음)
+                long completed = userMissionRepository.countByUser_IdAndMission_MissionSet_IdAndStatus(
+                        userId, missionSetId, UserMissionStatus.COMPLETED);
+                LocalDateTime startedAt = userMissionRepository.findFirstStartedAt(userId, missionSetId);
+                MissionSet set = missionSetRepository.getReferenceById(missionSetId);
+                progressRepository.saveAndFlush(UserMissionSetProgress.start(userId, set, (int) completed, null,
+                        startedAt != null ? startedAt : LocalDateTime.now()));
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 유저의 동시 제출로 다른 요청이 먼저 생성
+            log.debug("[MissionProgress] 진행 행 동시 생성 - userId={}, missionSetId={}", userId, missionSetId);
+        }
+    }
+}
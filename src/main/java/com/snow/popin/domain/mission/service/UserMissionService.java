@@ -5,6 +5,7 @@ import com.snow.popin.domain.mission.dto.response.SubmitAnswerResponseDto;
 import com.snow.popin.domain.mission.entity.Mission;
 import com.snow.popin.domain.mission.entity.MissionSet;
 import com.snow.popin.domain.mission.entity.UserMission;
+import com.snow.popin.domain.mission.entity.UserMissionSetProgress;
 import com.snow.popin.domain.mission.constant.UserMissionStatus;
 import com.snow.popin.domain.mission.repository.MissionRepository;
 import com.snow.popin.domain.mission.repository.UserMissionRepository;
@@ -15,6 +16,7 @@ import com.snow.popin.global.exception.UserException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -24,13 +26,16 @@ public class UserMissionService {
     private final UserMissionRepository userMissionRepository;
     private final MissionRepository missionRepository;
     private final UserRepository userRepository;
+    private final UserMissionProgressService userMissionProgressService;
 
     public UserMissionService(UserMissionRepository userMissionRepository,
                               MissionRepository missionRepository,
-                              UserRepository userRepository) {
+                              UserRepository userRepository,
+                              UserMissionProgressService userMissionProgressService) {
         this.userMissionRepository = userMissionRepository;
         this.missionRepository = missionRepository;
         this.userRepository = userRepository;
+        this.userMissionProgressService = userMissionProgressService;
     }
 
     /**
@@ -43,7 +48,9 @@ public class UserMissionService {
         Mission mission = missionRepository.findById(missionId)
                 .orElseThrow(MissionException.MissionNotFound::new);
 
-        return userMissionRepository.save(new UserMission(user, mission));
+        UserMission userMission = userMissionRepository.save(new UserMission(user, mission));
+        userMissionProgressService.ensureStarted(userId, mission.getMissionSet().getId());
+        return userMission;
     }
 
     /**
@@ -56,45 +63,53 @@ public class UserMissionService {
 
     /**
      * 정답 제출
+     * 완료 수는 user_mission을 다시 세지 않고 진행 집계(user_mission_set_progress) 한 행에서 읽는다.
+     * 완료 전이는 조건부 UPDATE로 하여 같은 미션의 동시 정답 제출은 한 번만 완료 수에 반영된다.
      */
     @Transactional
     public SubmitAnswerResponseDto submitAnswer(UUID missionId, Long userId, String answer) {
-        Mission mission = missionRepository.findById(missionId)
+        Mission mission = missionRepository.findWithMissionSetById(missionId)
                 .orElseThrow(MissionException.MissionNotFound::new);
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserException.UserNotFound(userId));
+        MissionSet missionSet = mission.getMissionSet();
 
         UserMission userMission = userMissionRepository.findByUser_IdAndMission_Id(userId, missionId)
-                .orElseGet(() -> userMissionRepository.save(new UserMission(user, mission)));
+                .orElseGet(() -> {
+                    // 진행 행은 정답이 반영될 때(recordCompletion) 만든다.
+                    // 오답이면 이 저장은 롤백되므로 여기서 별도 트랜잭션으로 진행 행을 만들면 시작하지 않은 미션셋이 남는다.
+                    User user = userRepository.findById(userId)
+                            .orElseThrow(() -> new UserException.UserNotFound(userId));
+                    return userMissionRepository.save(new UserMission(user, mission));
+                });
 
         boolean pass;
+        Optional<UserMissionSetProgress> progress;
         if (userMission.getStatus() == UserMissionStatus.COMPLETED) {
             pass = true; // 이미 완료된 경우
+            progress = userMissionProgressService.find(userId, missionSet.getId());
         } else {
             pass = isCorrect(mission.getAnswer(), answer);
-            if (pass) {
-                userMission.markCompleted();
-            } else {
+            if (!pass) {
                 userMission.markFail();
                 throw new MissionException.InvalidAnswer();
             }
-            userMissionRepository.save(userMission);
+            // 다른 요청이 먼저 완료시켰으면(영향 행 0) 완료 수를 다시 올리지 않는다
+            if (userMissionRepository.markCompletedIfNot(userMission.getId(), LocalDateTime.now()) == 1) {
+                progress = Optional.of(userMissionProgressService.recordCompletion(userId, missionSet));
+            } else {
+                progress = userMissionProgressService.find(userId, missionSet.getId());
+            }
         }
 
-        long successCnt = userMissionRepository
-                .countByUser_IdAndMission_MissionSet_IdAndStatus(
-                        userId, mission.getMissionSet().getId(), UserMissionStatus.COMPLETED);
-
-        boolean cleared = mission.getMissionSet().isCleared(successCnt);
+        long successCnt = progress.map(UserMissionSetProgress::getSuccessCount).orElse(0);
+        boolean cleared = missionSet.isCleared(successCnt);
 
 
         return SubmitAnswerResponseDto.builder()
                 .pass(pass)
-                .status(userMission.getStatus())
-                .missionSetId(mission.getMissionSet().getId())
+                .status(UserMissionStatus.COMPLETED)
+                .missionSetId(missionSet.getId())
                 .successCount(successCnt)
-                .requiredCount(mission.getMissionSet().getRequiredCount())
+                .requiredCount(missionSet.getRequiredCount())
                 .cleared(cleared)
                 .build();
     }
@@ -109,38 +124,15 @@ public class UserMissionService {
     }
 
     /**
-     * 진행 중/완료 상태인 미션셋 조회
+     * 진행 중/완료 상태인 미션셋 조회 (진행 집계 행을 미션셋/팝업과 함께 한 번에 조회)
      */
     @Transactional(readOnly = true)
     public List<ActiveMissionSetResponseDto> getMyMissionPopups(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserException.UserNotFound(userId));
-
-        List<UserMission> userMissions = userMissionRepository.findByUser_Id(user.getId());
-
-        // 미션셋 단위로 그룹핑
-        Map<MissionSet, List<UserMission>> grouped = userMissions.stream()
-                .collect(Collectors.groupingBy(m -> m.getMission().getMissionSet()));
-
-        List<ActiveMissionSetResponseDto> result = new ArrayList<>();
-
-        for (Map.Entry<MissionSet, List<UserMission>> entry : grouped.entrySet()) {
-            MissionSet set = entry.getKey();
-            List<UserMission> missions = entry.getValue();
-
-            // 완료된 미션 개수
-            int successCount = (int) missions.stream()
-                    .filter(UserMission::isCompleted)
-                    .count();
-
-            // cleared 여부 계산
-            boolean cleared = successCount >=
-                    (set.getRequiredCount() != null ? set.getRequiredCount() : 0);
-
-            // DTO 변환
-            result.add(ActiveMissionSetResponseDto.from(set, cleared));
+        if (!userRepository.existsById(userId)) {
+            throw new UserException.UserNotFound(userId);
         }
-
-        return result;
+        return userMissionProgressService.findAllByUser(userId).stream()
+                .map(progress -> ActiveMissionSetResponseDto.from(progress.getMissionSet(), progress.isCleared()))
+                .collect(Collectors.toList());
     }
 }
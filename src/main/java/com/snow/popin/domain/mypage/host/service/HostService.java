@@ -12,15 +12,21 @@ import com.snow.popin.domain.mypage.host.entity.Host;
 import com.snow.popin.domain.mypage.host.repository.HostRepository;
 import com.snow.popin.domain.popup.entity.Popup;
 import com.snow.popin.domain.popup.entity.PopupHours;
+import com.snow.popin.domain.popup.entity.PopupImage;
 import com.snow.popin.domain.popup.entity.Tag;
+import com.snow.popin.domain.popup.event.PopupContentChangedEvent;
+import com.snow.popin.domain.popup.event.PopupHoursChangedEvent;
 import com.snow.popin.domain.popup.repository.PopupHoursRepository;
 import com.snow.popin.domain.popup.repository.PopupRepository;
 import com.snow.popin.domain.popup.repository.TagRepository;
+import com.snow.popin.domain.space.service.FileStorageService;
 import com.snow.popin.domain.user.entity.User;
 import com.snow.popin.global.constant.ErrorCode;
 import com.snow.popin.global.exception.GeneralException;
+import com.snow.popin.global.image.ImageVariantService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -29,6 +35,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -49,6 +56,10 @@ public class HostService {
     private final TagRepository tagRepository;
     private final CategoryRepository categoryRepository;
     private final MapRepository mapRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImageVariantService imageVariantService;
+    private final FileStorageService fileStorageService;
+
     /**
      * 팝업 등록
      *
@@ -77,15 +88,21 @@ public class HostService {
             popup.getTags().addAll(tags);
         }
 
+        fillMissingImageVariants(popup);
         popupRepository.save(popup);
+        // 업로드 API는 참조를 잡지 않으므로 팝업에 저장되는 시점에 잡는다
+        fileStorageService.acquire(popup.getMainImageUrl());
 
         if (dto.getHours() != null && !dto.getHours().isEmpty()) {
             List<PopupHours> hours = dto.getHours().stream()
                     .map(hourDto -> PopupHours.create(popup, hourDto))
                     .collect(Collectors.toList());
             popupHoursRepository.saveAll(hours);
+            eventPublisher.publishEvent(new PopupHoursChangedEvent(popup.getId()));
         }
 
+        eventPublisher.publishEvent(new PopupContentChangedEvent(popup.getId()));
+
         log.info("[HostService] 팝업 등록 완료: popupId={}, userId={}", popup.getId(), user.getId());
         return popup.getId();
     }
@@ -150,7 +167,13 @@ public class HostService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "권한이 없습니다.");
         }
 
+        String previousMainImageUrl = popup.getMainImageUrl();
         popup.update(dto);
+        if (!Objects.equals(previousMainImageUrl, popup.getMainImageUrl())) {
+            fileStorageService.acquire(popup.getMainImageUrl());
+            // 이전 대표 이미지 참조 반납 (다른 팝업이 같은 이미지를 쓰면 파일은 유지)
+            fileStorageService.release(previousMainImageUrl);
+        }
 
         if (dto.getCategoryId() != null) {
             Category category = categoryRepository.findById(dto.getCategoryId())
@@ -158,12 +181,15 @@ public class HostService {
             popup.setCategory(category);
         }
 
+        fillMissingImageVariants(popup);
+
         popup.getTags().clear();
         if (dto.getTagIds() != null && !dto.getTagIds().isEmpty()) {
             List<Tag> tags = tagRepository.findAllById(dto.getTagIds());
             popup.getTags().addAll(tags);
         }
 
+        eventPublisher.publishEvent(new PopupContentChangedEvent(id));
         log.info("[HostService] 팝업 수정 완료: userId={}, popupId={}", user.getId(), id);
     }
 
@@ -186,7 +212,12 @@ public class HostService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "권한이 없습니다.");
         }
 
+        // 대표 이미지와 상세 이미지 참조 반납 (파일은 커밋 후 참조가 없을 때만 삭제)
+        fileStorageService.release(popup.getMainImageUrl());
+        popup.getImages().forEach(image -> fileStorageService.release(image.getImageUrl()));
         popupRepository.delete(popup);
+        eventPublisher.publishEvent(new PopupHoursChangedEvent(id));
+        eventPublisher.publishEvent(new PopupContentChangedEvent(id));
         log.info("[HostService] 팝업 삭제 완료: userId={}, popupId={}", user.getId(), id);
     }
     /**
@@ -235,4 +266,16 @@ public class HostService {
                 popupId, venue.getId(), venue.getRegion());
     }
 
+
+    // 변형 생성이 팝업 저장보다 먼저 끝난 경우 대비 (이벤트 기록 시점에 행이 없어 놓친 변형을 파일에서 찾음)
+    private void fillMissingImageVariants(Popup popup) {
+        if (popup.getMainImageVariants() == null || !popup.getMainImageVariants().isReady()) {
+            popup.updateMainImageVariants(imageVariantService.findExisting(popup.getMainImageUrl()));
+        }
+        for (PopupImage image : popup.getImages()) {
+            if (image.getVariants() == null || !image.getVariants().isReady()) {
+                image.updateVariants(imageVariantService.findExisting(image.getImageUrl()));
+            }
+        }
+    }
 }
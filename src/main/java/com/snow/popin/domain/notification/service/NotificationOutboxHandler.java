@@ -0,0 +1,50 @@
+package com.snow.popin.domain.notification.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.snow.popin.domain.notification.constant.NotificationType;
+import com.snow.popin.global.outbox.OutboxEvent;
+import com.snow.popin.global.outbox.OutboxEventType;
+import com.snow.popin.global.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 알림 발송 처리기 (아웃박스)
+ * 업무 트랜잭션 커밋 이후에만 알림이 생성/푸시되도록 아웃박스를 통해 전달받는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxHandler implements OutboxHandler {
+
+    private final NotificationService notificationService;
+
+    public static Map<String, Object> payload(Long userId, String title, String message,
+                                              NotificationType type, String link) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("userId", userId);
+        payload.put("title", title);
+        payload.put("message", message);
+        payload.put("type", type.name());
+        payload.put("link", link);
+        return payload;
+    }
+
+    @Override
+    public OutboxEventType type() {
+        return OutboxEventType.NOTIFICATION;
+    }
+
+    @Override
+    public void handle(OutboxEvent event, JsonNode payload) {
+        notificationService.createNotification(
+                payload.get("userId").asLong(),
+                payload.get("title").asText(),
+                payload.get("message").asText(),
+                NotificationType.valueOf(payload.get("type").asText()),
+                payload.path("link").isNull() ? null : payload.path("link").asText(null)
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.snow.popin.domain.payment.constant;
+
+/**
+ * 결제사 기준 결제 상태 (대사용)
+ */
+public enum ProviderPaymentStatus {
+    PAID,
+    REFUNDED,
+    UNKNOWN
+}
@@ -5,9 +5,12 @@ import com.snow.popin.domain.payment.dto.PaymentResponseDto;
 import com.snow.popin.domain.payment.service.PaymentService;
 import com.snow.popin.domain.popupReservation.service.ReservationService;
 import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.global.idempotency.Idempotent;
+import com.snow.popin.global.idempotency.IdempotencyStore;
 import com.snow.popin.global.util.UserUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -24,10 +27,14 @@ public class PaymentController {
     private final PaymentService paymentService;
     private final ReservationService reservationService;
     private final UserUtil userUtil;
+    private final IdempotencyStore idempotencyStore;
 
     /**
      * 팝업 예약 결제 준비
+     * - 요청 값 오류(예약 없음, 무료 팝업)만 400, 결제사/내부 오류는 5xx 로 응답한다.
+     *   5xx 는 멱등 키 결과로 저장되지 않으므로 같은 키로 재시도할 수 있다.
      */
+    @Idempotent
     @PostMapping("/ready")
     public ResponseEntity<PaymentResponseDto> preparePayment(@RequestBody PaymentRequestDto request, HttpSession session) {
         try {
@@ -50,12 +57,20 @@ public class PaymentController {
                 session.setAttribute("payment_method", request.getPaymentMethod());
             }
 
+            if (result.isProviderFailure()) {
+                return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(result);
+            }
             return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            log.error("결제 준비 실패", e);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.warn("결제 준비 요청 오류: {}", e.getMessage());
             return ResponseEntity.badRequest().body(
                     PaymentResponseDto.failure(e.getMessage())
             );
+        } catch (Exception e) {
+            log.error("결제 준비 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+                    PaymentResponseDto.failure("결제 준비 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.")
+            );
         }
     }
 
@@ -80,7 +95,10 @@ public class PaymentController {
                 );
             }
 
-            boolean success = paymentService.approveKakaoPayment(tid, pgToken, reservationId);
+            // 콜백 새로고침/중복 호출 시 승인 API를 다시 호출하지 않음 (성공 결과만 저장, 처리 중이면 결과 대기)
+            Boolean approved = idempotencyStore.execute("kakao-approve:" + tid,
+                    () -> paymentService.approveKakaoPayment(tid, pgToken, reservationId) ? Boolean.TRUE : null);
+            boolean success = approved != null;
 
             if (success) {
                 return ResponseEntity.ok(
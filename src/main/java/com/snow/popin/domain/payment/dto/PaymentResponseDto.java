@@ -11,6 +11,9 @@ import lombok.NoArgsConstructor;
 @Builder
 public class PaymentResponseDto {
 
+    // 결제사 호출 실패 (일시적일 수 있어 같은 멱등 키로 재시도 가능해야 함)
+    public static final String PROVIDER_ERROR = "PROVIDER_ERROR";
+
     private Boolean success;
     private String tid;
     private String redirectUrl;
@@ -37,6 +40,21 @@ public class PaymentResponseDto {
                 .message(message)
                 .build();
     }
+    /**
+     * 결제사 호출 실패 응답 생성
+     */
+    public static PaymentResponseDto providerFailure(String message) {
+        return PaymentResponseDto.builder()
+                .success(false)
+                .message(message)
+                .errorCode(PROVIDER_ERROR)
+                .build();
+    }
+
+    public boolean isProviderFailure() {
+        return PROVIDER_ERROR.equals(errorCode);
+    }
+
     /**
      * 성공 여부 체크
      */
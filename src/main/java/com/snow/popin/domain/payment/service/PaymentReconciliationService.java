@@ -0,0 +1,144 @@
+package com.snow.popin.domain.payment.service;
+
+import com.snow.popin.domain.payment.constant.ProviderPaymentStatus;
+import com.snow.popin.domain.popupReservation.entity.Reservation;
+import com.snow.popin.domain.popupReservation.entity.ReservationStatus;
+import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
+import com.snow.popin.global.outbox.OutboxEvent;
+import com.snow.popin.global.outbox.OutboxEventRepository;
+import com.snow.popin.global.outbox.OutboxEventType;
+import com.snow.popin.global.outbox.OutboxService;
+import com.snow.popin.global.outbox.OutboxStatus;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 결제 대사 (취소된 예약의 로컬 결제 상태 ↔ 결제사 상태 비교)
+ * - 결제사는 환불 완료인데 로컬이 환불 전 상태 → 로컬을 REFUNDED로 보정
+ * - 결제사는 결제 완료인데 환불 요청이 없음 → 환불 아웃박스 등록
+ * - 환불 아웃박스가 FAILED 이거나 로컬은 환불 완료인데 결제사는 결제 상태 → 불일치로 기록 (수동 확인)
+ *
+ * 결제사 조회는 트랜잭션 밖에서, 보정은 예약 단위의 짧은 트랜잭션으로 수행한다.
+ */
+@Slf4j
+@Service
+public class PaymentReconciliationService {
+
+    private static final List<Reservation.PaymentStatus> TARGET_STATUSES = List.of(
+            Reservation.PaymentStatus.COMPLETED,
+            Reservation.PaymentStatus.REFUND_PENDING,
+            Reservation.PaymentStatus.REFUNDED);
+
+    private final ReservationRepository reservationRepository;
+    private final PaymentService paymentService;
+    private final OutboxService outboxService;
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${payment.reconciliation.lookback-days:7}")
+    private int lookbackDays = 7;
+
+    @Value("${payment.reconciliation.page-size:100}")
+    private int pageSize = 100;
+
+    public PaymentReconciliationService(ReservationRepository reservationRepository,
+                                        PaymentService paymentService,
+                                        OutboxService outboxService,
+                                        OutboxEventRepository outboxEventRepository,
+                                        PlatformTransactionManager transactionManager) {
+        this.reservationRepository = reservationRepository;
+        this.paymentService = paymentService;
+        this.outboxService = outboxService;
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public ReconciliationResult reconcile() {
+        ReconciliationResult result = new ReconciliationResult();
+        LocalDateTime since = LocalDateTime.now().minusDays(lookbackDays);
+        long afterId = 0L;
+
+        while (true) {
+            List<Reservation> page = reservationRepository.findReconciliationCandidates(
+                    ReservationStatus.CANCELLED, TARGET_STATUSES, since, afterId, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            for (Reservation reservation : page) {
+                reconcile(reservation, result);
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+
+        log.info("[Reconciliation] 결제 대사 완료 - checked={}, repaired={}, requeued={}, mismatched={}, unknown={}",
+                result.checked, result.repaired, result.requeued, result.mismatched, result.unknown);
+        return result;
+    }
+
+    private void reconcile(Reservation reservation, ReconciliationResult result) {
+        result.checked++;
+        Long reservationId = reservation.getId();
+        ProviderPaymentStatus provider = paymentService.inquireProviderStatus(reservation);
+
+        if (provider == ProviderPaymentStatus.UNKNOWN) {
+            result.unknown++;
+            return;
+        }
+
+        if (reservation.getPaymentStatus() == Reservation.PaymentStatus.REFUNDED) {
+            if (provider == ProviderPaymentStatus.PAID) {
+                result.mismatched++;
+                log.error("[Reconciliation] 로컬은 환불 완료, 결제사는 결제 상태 - reservationId={}, tid={}",
+                        reservationId, reservation.getPaymentTid());
+            }
+            return;
+        }
+
+        if (provider == ProviderPaymentStatus.REFUNDED) {
+            transactionTemplate.executeWithoutResult(status ->
+                    reservationRepository.findById(reservationId).ifPresent(Reservation::markPaymentRefunded));
+            result.repaired++;
+            log.warn("[Reconciliation] 결제사 환불 완료 상태로 보정 - reservationId={}", reservationId);
+            return;
+        }
+
+        // 결제사는 아직 결제 상태: 환불 요청이 진행 중인지 확인
+        String key = RefundOutboxHandler.idempotencyKey(reservationId);
+        Optional<OutboxEvent> outbox = outboxEventRepository.findByIdempotencyKey(key);
+        if (outbox.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    reservationRepository.findById(reservationId).ifPresent(locked -> {
+                        if (locked.isPaymentCompleted()) {
+                            locked.markRefundRequested();
+                        }
+                        outboxService.enqueue(OutboxEventType.PAYMENT_REFUND, String.valueOf(reservationId), key,
+                                Map.of("reservationId", reservationId));
+                    }));
+            result.requeued++;
+            log.warn("[Reconciliation] 누락된 환불 요청 등록 - reservationId={}", reservationId);
+        } else if (outbox.get().getStatus() == OutboxStatus.FAILED || outbox.get().getStatus() == OutboxStatus.COMPLETED) {
+            result.mismatched++;
+            log.error("[Reconciliation] 환불 요청 {} 상태이나 결제사는 결제 상태 - reservationId={}, lastError={}",
+                    outbox.get().getStatus(), reservationId, outbox.get().getLastError());
+        }
+    }
+
+    @Getter
+    public static class ReconciliationResult {
+        private int checked;
+        private int repaired;
+        private int requeued;
+        private int mismatched;
+        private int unknown;
+    }
+}
@@ -1,5 +1,6 @@
 package com.snow.popin.domain.payment.service;
 
+import com.snow.popin.domain.payment.constant.ProviderPaymentStatus;
 import com.snow.popin.domain.payment.dto.PaymentResponseDto;
 import com.snow.popin.domain.popupReservation.entity.Reservation;
 import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
@@ -11,10 +12,12 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -104,7 +107,7 @@ public class PaymentService {
             reservation.markPaymentFailed(e.getMessage());
             reservationRepository.save(reservation);
 
-            return PaymentResponseDto.failure("카카오페이 결제 준비 실패: " + e.getMessage());
+            return PaymentResponseDto.providerFailure("카카오페이 결제 준비 실패: " + e.getMessage());
         }
     }
 
@@ -118,7 +121,7 @@ public class PaymentService {
         if (naverPayClientId == null || naverPayClientId.isEmpty() ||
                 naverPayClientSecret == null || naverPayClientSecret.isEmpty()) {
             log.error("네이버페이 설정이 완료되지 않았습니다.");
-            return PaymentResponseDto.failure("네이버페이 설정이 완료되지 않았습니다.");
+            return PaymentResponseDto.providerFailure("네이버페이 설정이 완료되지 않았습니다.");
         }
 
         // 예약 정보 조회
@@ -198,7 +201,7 @@ public class PaymentService {
                 reservation.markPaymentFailed(errorMessage);
                 reservationRepository.save(reservation);
 
-                return PaymentResponseDto.failure("네이버페이 결제 준비 실패: " + errorMessage);
+                return PaymentResponseDto.providerFailure("네이버페이 결제 준비 실패: " + errorMessage);
             }
 
         } catch (Exception e) {
@@ -206,7 +209,7 @@ public class PaymentService {
             reservation.markPaymentFailed(e.getMessage());
             reservationRepository.save(reservation);
 
-            return PaymentResponseDto.failure("네이버페이 결제 준비 실패: " + e.getMessage());
+            return PaymentResponseDto.providerFailure("네이버페이 결제 준비 실패: " + e.getMessage());
         }
     }
 
@@ -321,7 +324,7 @@ public class PaymentService {
             Reservation reservation = reservationRepository.findById(reservationId)
                     .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
 
-            if (!reservation.isPaymentCompleted()) {
+            if (!reservation.isPaymentCompleted() && !reservation.isRefundPending()) {
                 log.warn("결제가 완료되지 않은 예약입니다. reservationId: {}", reservationId);
                 return false;
             }
@@ -386,7 +389,7 @@ public class PaymentService {
             Reservation reservation = reservationRepository.findById(reservationId)
                     .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
 
-            if (!reservation.isPaymentCompleted()) {
+            if (!reservation.isPaymentCompleted() && !reservation.isRefundPending()) {
                 log.warn("결제가 완료되지 않은 예약입니다. reservationId: {}", reservationId);
                 return false;
             }
@@ -437,13 +440,21 @@ public class PaymentService {
 
     /**
      * 통합 환불 처리 (결제 방법에 따라 자동 분기)
+     * 결제사 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (조회/저장은 각각 짧은 트랜잭션)
+     * 이미 환불된 예약은 성공으로 처리하므로 아웃박스 재시도 시에도 중복 환불되지 않는다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean processRefund(Long reservationId) {
         try {
             Reservation reservation = reservationRepository.findById(reservationId)
                     .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
 
-            if (!reservation.isPaymentCompleted()) {
+            if (reservation.getPaymentStatus() == Reservation.PaymentStatus.REFUNDED) {
+                log.info("이미 환불된 예약입니다. reservationId: {}", reservationId);
+                return true;
+            }
+
+            if (!reservation.isPaymentCompleted() && !reservation.isRefundPending()) {
                 log.info("결제되지 않은 예약이므로 환불할 필요가 없습니다. reservationId: {}", reservationId);
                 return true;
             }
@@ -471,6 +482,91 @@ public class PaymentService {
         }
     }
 
+    /**
+     * 결제사에 기록된 결제 상태 조회 (대사용)
+     * 조회 실패나 알 수 없는 응답은 UNKNOWN으로 반환하여 대사 대상에서 제외한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProviderPaymentStatus inquireProviderStatus(Reservation reservation) {
+        String paymentMethod = reservation.getPaymentMethod();
+        String tid = reservation.getPaymentTid();
+        if (paymentMethod == null || tid == null || tid.isEmpty()) {
+            return ProviderPaymentStatus.UNKNOWN;
+        }
+
+        try {
+            switch (paymentMethod.toUpperCase()) {
+                case "KAKAO_PAY":
+                    return inquireKakaoPayment(tid);
+                case "NAVER_PAY":
+                    return inquireNaverPayment(tid);
+                default:
+                    return ProviderPaymentStatus.UNKNOWN;
+            }
+        } catch (Exception e) {
+            log.warn("결제사 상태 조회 실패: reservationId={}, paymentMethod={}", reservation.getId(), paymentMethod, e);
+            return ProviderPaymentStatus.UNKNOWN;
+        }
+    }
+
+    private ProviderPaymentStatus inquireKakaoPayment(String tid) {
+        String url = "https://kapi.kakao.com/v1/payment/order";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "KakaoAK " + kakaoPayAdminKey);
+        headers.set("Content-Type", "application/x-www-form-urlencoded;charset=utf-8");
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("cid", "TC0ONETIME");
+        params.put("tid", tid);
+
+        ResponseEntity<Map> response = restTemplate.exchange(
+                url, HttpMethod.POST, new HttpEntity<>(buildFormData(params), headers), Map.class);
+        Map<String, Object> result = response.getBody();
+        String status = result != null ? (String) result.get("status") : null;
+
+        if ("SUCCESS_PAYMENT".equals(status)) {
+            return ProviderPaymentStatus.PAID;
+        }
+        if ("CANCEL_PAYMENT".equals(status) || "PART_CANCEL_PAYMENT".equals(status)) {
+            return ProviderPaymentStatus.REFUNDED;
+        }
+        return ProviderPaymentStatus.UNKNOWN;
+    }
+
+    private ProviderPaymentStatus inquireNaverPayment(String paymentId) {
+        String url = "https://dev.apis.naver.com/naverpay-partner/naverpay/payments/v2.2/list/history/" + paymentId;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Content-Type", "application/json;charset=UTF-8");
+        headers.set("X-Naver-Client-Id", naverPayClientId);
+        headers.set("X-Naver-Client-Secret", naverPayClientSecret);
+
+        ResponseEntity<Map> response = restTemplate.exchange(
+                url, HttpMethod.POST, new HttpEntity<>(new HashMap<>(), headers), Map.class);
+        Map<String, Object> result = response.getBody();
+        if (result == null || !"Success".equals(result.get("code"))) {
+            return ProviderPaymentStatus.UNKNOWN;
+        }
+
+        Map<String, Object> body = (Map<String, Object>) result.get("body");
+        List<Map<String, Object>> list = body != null ? (List<Map<String, Object>>) body.get("list") : null;
+        if (list == null || list.isEmpty()) {
+            return ProviderPaymentStatus.UNKNOWN;
+        }
+
+        // 최신 이력 기준 (admissionTypeCode: 01 승인, 03 전체취소, 04 부분취소)
+        Map<String, Object> latest = list.get(0);
+        if (!"SUCCESS".equals(latest.get("admissionState"))) {
+            return ProviderPaymentStatus.UNKNOWN;
+        }
+        String typeCode = (String) latest.get("admissionTypeCode");
+        if ("03".equals(typeCode) || "04".equals(typeCode)) {
+            return ProviderPaymentStatus.REFUNDED;
+        }
+        return "01".equals(typeCode) ? ProviderPaymentStatus.PAID : ProviderPaymentStatus.UNKNOWN;
+    }
+
     private String buildFormData(Map<String, Object> params) {
         StringBuilder sb = new StringBuilder();
         for (Map.Entry<String, Object> entry : params.entrySet()) {
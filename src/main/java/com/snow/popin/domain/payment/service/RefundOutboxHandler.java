@@ -0,0 +1,58 @@
+package com.snow.popin.domain.payment.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.snow.popin.domain.payment.constant.ProviderPaymentStatus;
+import com.snow.popin.domain.popupReservation.entity.Reservation;
+import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
+import com.snow.popin.global.outbox.OutboxEvent;
+import com.snow.popin.global.outbox.OutboxEventType;
+import com.snow.popin.global.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 취소 환불 처리기 (아웃박스)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefundOutboxHandler implements OutboxHandler {
+
+    public static final String KEY_PREFIX = "refund:reservation:";
+
+    private final PaymentService paymentService;
+    private final ReservationRepository reservationRepository;
+
+    public static String idempotencyKey(Long reservationId) {
+        return KEY_PREFIX + reservationId;
+    }
+
+    @Override
+    public OutboxEventType type() {
+        return OutboxEventType.PAYMENT_REFUND;
+    }
+
+    @Override
+    public void handle(OutboxEvent event, JsonNode payload) {
+        Long reservationId = payload.get("reservationId").asLong();
+
+        // 재시도인 경우: 이전 시도에서 결제사 환불은 성공했지만 결과 저장 전에 중단되었을 수 있으므로
+        // 결제사 상태를 먼저 확인하여 중복 환불 요청을 보내지 않음
+        if (event.getAttempts() > 1) {
+            Reservation reservation = reservationRepository.findById(reservationId)
+                    .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
+            if (reservation.isRefundPending()
+                    && paymentService.inquireProviderStatus(reservation) == ProviderPaymentStatus.REFUNDED) {
+                reservation.markPaymentRefunded();
+                reservationRepository.save(reservation);
+                log.info("[Refund] 결제사 환불 확인 후 상태 반영: reservationId={}", reservationId);
+                return;
+            }
+        }
+
+        if (!paymentService.processRefund(reservationId)) {
+            throw new IllegalStateException("환불 처리 실패: reservationId=" + reservationId);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.snow.popin.domain.popup.dto.response;
 
 import com.snow.popin.domain.popup.entity.PopupImage;
+import com.snow.popin.global.image.ImageVariant;
+import com.snow.popin.global.image.ImageVariants;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -9,13 +11,17 @@ import lombok.Getter;
 public class PopupImageResponseDto {
     private Long id;
     private String imageUrl;
+    private String thumbnailUrl;
+    private String srcset;
     private String caption;
     private Integer sortOrder;
 
     public static PopupImageResponseDto from(PopupImage image) {
         return PopupImageResponseDto.builder()
                 .id(image.getId())
-                .imageUrl(image.getImageUrl())
+                .imageUrl(ImageVariants.resolve(image.getVariants(), ImageVariant.DETAIL, image.getImageUrl()))
+                .thumbnailUrl(ImageVariants.resolve(image.getVariants(), ImageVariant.THUMBNAIL, image.getImageUrl()))
+                .srcset(image.getVariants() != null ? image.getVariants().toSrcset() : null)
                 .caption(image.getCaption())
                 .sortOrder(image.getSortOrder())
                 .build();
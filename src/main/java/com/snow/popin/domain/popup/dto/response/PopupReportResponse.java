@@ -20,6 +20,7 @@ public class PopupReportResponse {
     private final String extraInfo;
     private final List<String> images;
     private final String status;
+    private final Long suspectedDuplicateOf;
 
     public static PopupReportResponse from(PopupReport r) {
         return PopupReportResponse.builder()
@@ -32,6 +33,7 @@ public class PopupReportResponse {
                 .extraInfo(r.getExtraInfo())
                 .images(r.getImages())
                 .status(r.getStatus().name())
+                .suspectedDuplicateOf(r.getSuspectedDuplicateOf())
                 .build();
     }
 }
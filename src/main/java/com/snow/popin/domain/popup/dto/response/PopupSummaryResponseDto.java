@@ -2,6 +2,8 @@ package com.snow.popin.domain.popup.dto.response;
 
 import com.snow.popin.domain.popup.entity.Popup;
 import com.snow.popin.domain.popup.entity.PopupStatus;
+import com.snow.popin.global.image.ImageVariant;
+import com.snow.popin.global.image.ImageVariants;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -18,6 +20,7 @@ public class PopupSummaryResponseDto {
     private String period;
     private PopupStatus status;
     private String mainImageUrl;
+    private String mainImageSrcset;
     private Boolean isFeatured;
     private Boolean reservationAvailable;
     private Boolean waitlistAvailable;
@@ -52,7 +55,8 @@ public class PopupSummaryResponseDto {
                 .summary(popup.getSummary())
                 .period(popup.getPeriodText())
                 .status(popup.getStatus())
-                .mainImageUrl(popup.getMainImageUrl())
+                .mainImageUrl(ImageVariants.resolve(popup.getMainImageVariants(), ImageVariant.CARD, popup.getMainImageUrl()))
+                .mainImageSrcset(popup.getMainImageVariants() != null ? popup.getMainImageVariants().toSrcset() : null)
                 .isFeatured(popup.getIsFeatured())
                 .reservationAvailable(popup.getReservationAvailable())
                 .waitlistAvailable(popup.getWaitlistAvailable())
@@ -84,7 +88,8 @@ public class PopupSummaryResponseDto {
                 .summary(popup.getSummary())
                 .period(popup.getPeriodText())
                 .status(popup.getStatus())
-                .mainImageUrl(popup.getMainImageUrl())
+                .mainImageUrl(ImageVariants.resolve(popup.getMainImageVariants(), ImageVariant.CARD, popup.getMainImageUrl()))
+                .mainImageSrcset(popup.getMainImageVariants() != null ? popup.getMainImageVariants().toSrcset() : null)
                 .isFeatured(popup.getIsFeatured())
                 .reservationAvailable(popup.getReservationAvailable())
                 .waitlistAvailable(popup.getWaitlistAvailable())
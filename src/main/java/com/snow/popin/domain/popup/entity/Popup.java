@@ -4,6 +4,7 @@ import com.snow.popin.domain.category.entity.Category;
 import com.snow.popin.domain.map.entity.Venue;
 import com.snow.popin.domain.mypage.host.dto.PopupRegisterRequestDto;
 import com.snow.popin.global.common.BaseEntity;
+import com.snow.popin.global.image.ImageVariants;
 import lombok.*;
 import org.hibernate.annotations.BatchSize;
 
@@ -12,10 +13,14 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.LinkedHashSet;
+import java.util.Objects;
 import java.util.Set;
 
 @Entity
-@Table(name = "popups")
+@Table(name = "popups", indexes = {
+        @Index(name = "idx_popup_end_date_status", columnList = "end_date, status"),
+        @Index(name = "idx_popup_start_date_status", columnList = "start_date, status")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Popup extends BaseEntity {
@@ -63,12 +68,21 @@ public class Popup extends BaseEntity {
     @Column(name = "main_image_url")
     private String mainImageUrl;
 
+    // 대표 이미지 리사이즈 변형 (비동기 생성 완료 후 기록)
+    @Embedded
+    private ImageVariants mainImageVariants;
+
     @Column(name = "is_featured")
     private Boolean isFeatured = false;
 
     @Column(name = "view_count", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
     private Long viewCount = 0L;
 
+    // 북마크 수 (북마크 추가/삭제 시 증감 쿼리로만 갱신)
+    @Column(name = "bookmark_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT DEFAULT 0")
+    private Long bookmarkCount = 0L;
+
     @OneToMany(mappedBy = "popup", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @BatchSize(size = 50)
     @OrderBy("sortOrder ASC")
@@ -280,9 +294,17 @@ public class Popup extends BaseEntity {
         this.reservationLink = dto.getReservationLink();
         this.waitlistAvailable = dto.getWaitlistAvailable();
         this.notice = dto.getNotice();
+        if (!Objects.equals(this.mainImageUrl, dto.getMainImageUrl())) {
+            this.mainImageVariants = null;
+        }
         this.mainImageUrl = dto.getMainImageUrl();
         this.isFeatured = dto.getIsFeatured();
     }
+
+    public void updateMainImageVariants(ImageVariants mainImageVariants) {
+        this.mainImageVariants = mainImageVariants;
+    }
+
     //
     public void setVenue(Venue venue) {
         this.venue = venue;
@@ -1,11 +1,13 @@
 package com.snow.popin.domain.popup.entity;
 
 import com.snow.popin.global.common.BaseEntity;
+import com.snow.popin.global.image.ImageVariants;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
+import java.util.Objects;
 
 @Entity
 @Table(name = "popup_images")
@@ -25,14 +27,25 @@ public class PopupImage extends BaseEntity {
 
     private String caption;
 
+    // 썸네일/카드/상세 변형 (비동기 생성 완료 후 기록)
+    @Embedded
+    private ImageVariants variants;
+
     @Column(name = "sort_order")
     private Integer sortOrder = 0;
 
     public void updateImageInfo(String imageUrl, String caption) {
+        if (!Objects.equals(this.imageUrl, imageUrl)) {
+            this.variants = null;
+        }
         this.imageUrl = imageUrl;
         this.caption = caption;
     }
 
+    public void updateVariants(ImageVariants variants) {
+        this.variants = variants;
+    }
+
     public void updateSortOrder(Integer sortOrder) {
         this.sortOrder = sortOrder;
     }
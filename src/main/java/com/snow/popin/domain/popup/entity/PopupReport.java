@@ -64,6 +64,10 @@ public class PopupReport extends BaseEntity {
     @Column(nullable = false, length = 20)
     private Status status = Status.PENDING;
 
+    // 접수 시 내용이 매우 비슷했던 기존 제보 ID (중복 의심 표시)
+    @Column(name = "suspected_duplicate_of")
+    private Long suspectedDuplicateOf;
+
 
     @Builder
     public PopupReport(User reporter,
@@ -96,6 +100,11 @@ public class PopupReport extends BaseEntity {
         this.status = Status.REJECTED;
     }
 
+    /** 중복 의심 표시 */
+    public void markSuspectedDuplicate(Long reportId) {
+        this.suspectedDuplicateOf = reportId;
+    }
+
     /** 제보자 본인 여부 */
     public boolean isReporter(User user) {
         return this.reporter != null && user != null && this.reporter.getId().equals(user.getId());
@@ -0,0 +1,14 @@
+package com.snow.popin.domain.popup.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 팝업 등록/수정/삭제로 제목·태그·카테고리·장소가 바뀌었음을 알림 (커밋 이후 처리)
+ * 콘텐츠 유사도 색인이 구독한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PopupContentChangedEvent {
+    private final Long popupId;
+}
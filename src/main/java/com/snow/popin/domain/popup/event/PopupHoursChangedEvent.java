@@ -0,0 +1,14 @@
+package com.snow.popin.domain.popup.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 팝업 운영 시간이 등록/변경/삭제되었음을 알림 (커밋 이후 처리)
+ * 운영 일정 캐시가 구독한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PopupHoursChangedEvent {
+    private final Long popupId;
+}
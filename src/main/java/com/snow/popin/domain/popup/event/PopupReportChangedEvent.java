@@ -0,0 +1,14 @@
+package com.snow.popin.domain.popup.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 팝업 제보가 접수/승인/반려되었음을 알림 (커밋 이후 처리)
+ * 중복 제보 색인이 구독한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PopupReportChangedEvent {
+    private final Long reportId;
+}
@@ -0,0 +1,18 @@
+package com.snow.popin.domain.popup.event;
+
+import com.snow.popin.domain.popup.entity.PopupStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 팝업 상태가 일괄 전환되었음을 알림 (커밋 이후 발행)
+ * 팝업 목록/추천 등 상태에 의존하는 캐시와 인덱스가 구독한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PopupStatusChangedEvent {
+    private final List<Long> popupIds;
+    private final PopupStatus status;
+}
@@ -0,0 +1,20 @@
+package com.snow.popin.domain.popup.repository;
+
+import com.snow.popin.domain.popup.entity.PopupImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PopupImageRepository extends JpaRepository<PopupImage, Long> {
+
+    // 이미지 변형 생성 완료 시 기록
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE PopupImage pi SET pi.variants.thumbnailUrl = :thumbnailUrl, " +
+            "pi.variants.cardUrl = :cardUrl, pi.variants.detailUrl = :detailUrl " +
+            "WHERE pi.imageUrl = :imageUrl")
+    int updateVariants(@Param("imageUrl") String imageUrl,
+                       @Param("thumbnailUrl") String thumbnailUrl,
+                       @Param("cardUrl") String cardUrl,
+                       @Param("detailUrl") String detailUrl);
+}
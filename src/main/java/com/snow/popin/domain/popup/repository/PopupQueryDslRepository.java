@@ -379,6 +379,13 @@ public class PopupQueryDslRepository {
                 )
                 .fetch();
 
+        return filterAndSortByDistance(candidates, lat, lng, radiusKm);
+    }
+
+    /**
+     * 경계 박스 후보 중 실제 반경 내 팝업만 남기고 가까운 순으로 정렬 (벤치마크에서 직접 호출)
+     */
+    static List<Popup> filterAndSortByDistance(List<Popup> candidates, double lat, double lng, double radiusKm) {
         return candidates.stream()
                 .filter(p -> calculateDistance(lat, lng,
                         p.getVenue().getLatitude(), p.getVenue().getLongitude()) <= radiusKm)
@@ -469,7 +476,7 @@ public class PopupQueryDslRepository {
     }
 
     // 거리 계산 헬퍼 메서드 (Haversine formula)
-    private double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
+    private static double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
         final int R = 6371; // 지구 반지름 (km)
         double latDistance = Math.toRadians(lat2 - lat1);
         double lngDistance = Math.toRadians(lng2 - lng1);
@@ -6,7 +6,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface PopupReportRepository extends JpaRepository<PopupReport, Long> {
     Page<PopupReport> findAllByStatusOrderByCreatedAtDesc(PopupReport.Status status, Pageable pageable);
     Page<PopupReport> findAllByReporterOrderByCreatedAtDesc(User reporter, Pageable pageable);
+
+    // 중복 제보 색인 구성용 (id 기준 키셋 페이지네이션)
+    List<PopupReport> findByIdGreaterThanAndStatusNotOrderByIdAsc(Long afterId, PopupReport.Status status, Pageable pageable);
 }
\ No newline at end of file
@@ -7,20 +7,34 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PopupRepository extends JpaRepository<Popup, Long>, JpaSpecificationExecutor<Popup> {
 
+    // 대표 이미지 변형 생성 완료 시 기록
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Popup p SET p.mainImageVariants.thumbnailUrl = :thumbnailUrl, " +
+            "p.mainImageVariants.cardUrl = :cardUrl, p.mainImageVariants.detailUrl = :detailUrl " +
+            "WHERE p.mainImageUrl = :mainImageUrl")
+    int updateMainImageVariants(@Param("mainImageUrl") String mainImageUrl,
+                                @Param("thumbnailUrl") String thumbnailUrl,
+                                @Param("cardUrl") String cardUrl,
+                                @Param("detailUrl") String detailUrl);
+
     /**
-     * 특정 상태의 팝업 조회 (AI 추천용)
+     * 특정 상태의 팝업 조회 (AI 추천용, 장소 함께 조회)
      */
+    @EntityGraph(attributePaths = "venue")
     List<Popup> findByStatus(PopupStatus status);
 
     // ===== 팝업 상세 조회 =====
@@ -47,4 +61,78 @@ public interface PopupRepository extends JpaRepository<Popup, Long>, JpaSpecific
             "LEFT JOIN FETCH p.category " +
             "WHERE p.id = :id")
     Optional<Popup> findByIdWithTagsAndCategory(@Param("id") Long id);
-}
\ No newline at end of file
+
+    // ===== 콘텐츠 유사도 색인 =====
+
+    @Query("SELECT p.id FROM Popup p WHERE p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT DISTINCT p FROM Popup p " +
+            "LEFT JOIN FETCH p.tags " +
+            "LEFT JOIN FETCH p.category " +
+            "LEFT JOIN FETCH p.venue " +
+            "WHERE p.id IN :ids")
+    List<Popup> findAllWithContentByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ===== 상태 일괄 전환 (배치) =====
+
+    /**
+     * ONGOING으로 전환할 팝업 ID (id 키셋 청크)
+     */
+    @Query("SELECT p.id FROM Popup p " +
+            "WHERE p.status <> com.snow.popin.domain.popup.entity.PopupStatus.ONGOING " +
+            "AND p.startDate <= :today AND p.endDate >= :today AND p.id > :afterId " +
+            "ORDER BY p.id")
+    List<Long> findIdsToStart(@Param("today") LocalDate today, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * ENDED로 전환할 팝업 ID (id 키셋 청크)
+     */
+    @Query("SELECT p.id FROM Popup p " +
+            "WHERE p.status <> com.snow.popin.domain.popup.entity.PopupStatus.ENDED " +
+            "AND p.endDate < :today AND p.id > :afterId " +
+            "ORDER BY p.id")
+    List<Long> findIdsToEnd(@Param("today") LocalDate today, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 팝업 상태 일괄 변경 (이미 해당 상태인 행은 제외)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Popup p SET p.status = :status, p.updatedAt = :now " +
+            "WHERE p.id IN :ids AND p.status <> :status")
+    int bulkUpdateStatus(@Param("ids") Collection<Long> ids,
+                         @Param("status") PopupStatus status,
+                         @Param("now") LocalDateTime now);
+
+    interface BookmarkCount {
+        Long getId();
+
+        Long getBookmarkCount();
+    }
+
+    /**
+     * 북마크 수 증감 (팝업 엔티티를 다시 쓰지 않도록 행 단위 원자적 갱신)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Popup p SET p.bookmarkCount = p.bookmarkCount + :delta WHERE p.id = :popupId")
+    int addBookmarkCount(@Param("popupId") Long popupId, @Param("delta") long delta);
+
+    @Query("SELECT p.id AS id, p.bookmarkCount AS bookmarkCount FROM Popup p WHERE p.id IN :ids")
+    List<BookmarkCount> findBookmarkCountsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 북마크가 있는데 북마크 수가 0인 팝업 (컬럼 추가 직후 보정 필요 여부 확인용, 1건만 조회)
+     */
+    @Query("SELECT p.id FROM Popup p WHERE p.bookmarkCount = 0 " +
+            "AND EXISTS (SELECT b.id FROM BookMark b WHERE b.popupId = p.id)")
+    List<Long> findIdsWithUncountedBookmarks(Pageable pageable);
+
+    /**
+     * bookmarks 테이블 기준으로 북마크 수 재계산 (값이 다른 팝업만 갱신)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Popup p SET p.bookmarkCount = " +
+            "(SELECT COUNT(b) FROM BookMark b WHERE b.popupId = p.id) " +
+            "WHERE p.bookmarkCount <> (SELECT COUNT(b2) FROM BookMark b2 WHERE b2.popupId = p.id)")
+    int resyncBookmarkCounts();
+}
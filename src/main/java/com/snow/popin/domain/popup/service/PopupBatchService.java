@@ -1,70 +1,174 @@
 package com.snow.popin.domain.popup.service;
 
-import com.snow.popin.domain.mission.repository.MissionRepository;
 import com.snow.popin.domain.mission.repository.MissionSetRepository;
-import com.snow.popin.domain.popup.entity.Popup;
-import com.snow.popin.domain.popup.repository.PopupQueryDslRepository;
+import com.snow.popin.domain.popup.entity.PopupStatus;
+import com.snow.popin.domain.popup.event.PopupStatusChangedEvent;
 import com.snow.popin.domain.popup.repository.PopupRepository;
-import lombok.RequiredArgsConstructor;
+import com.snow.popin.global.batch.BatchJobProgress;
+import com.snow.popin.global.batch.BatchJobProgressRepository;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
+/**
+ * 팝업 상태 일괄 전환 배치
+ * - 엔티티를 읽지 않고 ID만 청크 단위로 조회한 뒤 UPDATE ... WHERE id IN (...) 으로 전환
+ * - 청크마다 별도 트랜잭션으로 커밋하고, 같은 트랜잭션에서 진행 기록(batch_job_progress)을 갱신
+ * - 실패 후 같은 날 다시 실행하면 기록된 단계/ID 이후부터 이어서 처리
+ * - 전환된 팝업 ID로 미션셋을 일괄 활성/비활성화하고 PopupStatusChangedEvent 발행
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PopupBatchService {
 
+    public static final String JOB_NAME = "popup-status-transition";
+
+    // 단계 순서: 시작일 도래 → 종료일 경과
+    private static final List<PopupStatus> PHASES = List.of(PopupStatus.ONGOING, PopupStatus.ENDED);
+
     private final PopupRepository popupRepository;
-    private final PopupQueryDslRepository popupQueryDslRepository;
     private final MissionSetRepository missionSetRepository;
+    private final BatchJobProgressRepository progressRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${popup.batch.chunk-size:5000}")
+    private int chunkSize = 5000;
+
+    public PopupBatchService(PopupRepository popupRepository,
+                             MissionSetRepository missionSetRepository,
+                             BatchJobProgressRepository progressRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager) {
+        this.popupRepository = popupRepository;
+        this.missionSetRepository = missionSetRepository;
+        this.progressRepository = progressRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
-    //매일 자정, 팝업의 상태를 자동으로 업데이트합니다.
-    @Transactional
-    @Scheduled(cron = "0 0 0 * * *")
+    //매일 자정, 팝업의 상태를 자동으로 업데이트합니다. (SchedulerConfig의 popup-status-transition 작업)
     public void updatePopupStatuses() {
-        log.info("팝업 상태 업데이트 스케줄러 시작");
-        LocalDate today = LocalDate.now();
-        int updatedCount = 0;
-
-        // PLANNED -> ONGOING 업데이트
-        List<Popup> popupsToStart = popupQueryDslRepository.findPopupsToUpdateToOngoing(today);
-        for (Popup popup : popupsToStart) {
-            if (popup.updateStatus()) {
-                updatedCount++;
-            }
+        updatePopupStatuses(LocalDate.now());
+    }
+
+    public BatchResult updatePopupStatuses(LocalDate today) {
+        log.info("팝업 상태 업데이트 스케줄러 시작 - runDate={}", today);
+        long startedAt = System.currentTimeMillis();
+
+        BatchJobProgress progress = transactionTemplate.execute(status -> loadProgress(today));
+        BatchResult result = new BatchResult();
+        if (progress.isCompletedFor(today)) {
+            log.info("오늘 팝업 상태 업데이트가 이미 완료되었습니다.");
+            return result;
         }
-        if (!popupsToStart.isEmpty()) {
-            var ids = popupsToStart.stream().map(Popup::getId).collect(Collectors.toSet());
-            int enabled = missionSetRepository.bulkEnableByPopupIds(ids);
-            log.info("ONGOING 전환된 팝업 {}건에 대해 미션셋 {}건 ENABLE(벌크) 처리", popupsToStart.size(), enabled);
-            popupRepository.saveAll(popupsToStart);
+
+        try {
+            int startPhase = PHASES.indexOf(PopupStatus.valueOf(progress.getPhase()));
+            long afterId = progress.getLastProcessedId();
+
+            for (int i = startPhase; i < PHASES.size(); i++) {
+                PopupStatus target = PHASES.get(i);
+                if (i > startPhase) {
+                    afterId = 0L;
+                    transactionTemplate.executeWithoutResult(status -> updateProgress(p -> p.nextPhase(target.name())));
+                }
+                result.add(target, transition(target, today, afterId));
+            }
+
+            transactionTemplate.executeWithoutResult(status -> updateProgress(BatchJobProgress::complete));
+        } catch (RuntimeException e) {
+            log.error("팝업 상태 업데이트 실패 - 다음 실행 시 이어서 처리", e);
+            transactionTemplate.executeWithoutResult(status -> updateProgress(p -> p.fail(e.getMessage())));
+            throw e;
         }
 
-        // ONGOING -> ENDED 업데이트
-        List<Popup> popupsToEnd = popupQueryDslRepository.findPopupsToUpdateToEnded(today);
-        for (Popup popup : popupsToEnd) {
-            if (popup.updateStatus()) {
-                updatedCount++;
+        log.info("팝업 상태 업데이트 스케줄러 종료 - ONGOING {}건, ENDED {}건, {}ms",
+                result.started, result.ended, System.currentTimeMillis() - startedAt);
+        return result;
+    }
+
+    /**
+     * 한 단계의 전환을 청크 단위로 수행
+     */
+    private int transition(PopupStatus target, LocalDate today, long afterId) {
+        int total = 0;
+        while (true) {
+            long cursor = afterId;
+            List<Long> ids = transactionTemplate.execute(status -> transitionChunk(target, today, cursor));
+            if (ids == null || ids.isEmpty()) {
+                return total;
             }
+            total += ids.size();
+            afterId = ids.get(ids.size() - 1);
+
+            // 커밋 이후 발행 (캐시/인덱스 갱신)
+            eventPublisher.publishEvent(new PopupStatusChangedEvent(ids, target));
         }
-        if (!popupsToEnd.isEmpty()) {
-            var ids = popupsToEnd.stream().map(Popup::getId).collect(Collectors.toSet());
-            int disabled = missionSetRepository.bulkDisableByPopupIds(ids);
-            log.info("ENDED 전환된 팝업 {}건에 대해 미션셋 {}건 DISABLE(벌크) 처리", popupsToEnd.size(), disabled);
-            popupRepository.saveAll(popupsToEnd);
+    }
+
+    private List<Long> transitionChunk(PopupStatus target, LocalDate today, long afterId) {
+        PageRequest page = PageRequest.of(0, chunkSize);
+        List<Long> ids = target == PopupStatus.ONGOING
+                ? popupRepository.findIdsToStart(today, afterId, page)
+                : popupRepository.findIdsToEnd(today, afterId, page);
+        if (ids.isEmpty()) {
+            return ids;
         }
 
-        if (updatedCount > 0) {
-            log.info("총 {}개의 팝업 상태가 업데이트되었습니다.", updatedCount);
-        } else {
-            log.info("상태를 업데이트할 팝업이 없습니다.");
+        int updated = popupRepository.bulkUpdateStatus(ids, target, LocalDateTime.now());
+        int missionSets = target == PopupStatus.ONGOING
+                ? missionSetRepository.bulkEnableByPopupIds(ids)
+                : missionSetRepository.bulkDisableByPopupIds(ids);
+        updateProgress(p -> p.advance(ids.get(ids.size() - 1), updated));
+
+        log.info("{} 전환 팝업 {}건, 미션셋 {}건 {} 처리 (~id {})", target, updated, missionSets,
+                target == PopupStatus.ONGOING ? "ENABLE" : "DISABLE", ids.get(ids.size() - 1));
+        return ids;
+    }
+
+    private BatchJobProgress loadProgress(LocalDate today) {
+        String firstPhase = PHASES.get(0).name();
+        BatchJobProgress progress = progressRepository.findById(JOB_NAME)
+                .orElseGet(() -> progressRepository.save(BatchJobProgress.start(JOB_NAME, today, firstPhase)));
+
+        if (progress.isResumable(today)) {
+            if (progress.getLastProcessedId() > 0 || !firstPhase.equals(progress.getPhase())) {
+                log.info("이전 실행 이어서 처리 - phase={}, lastId={}, processed={}",
+                        progress.getPhase(), progress.getLastProcessedId(), progress.getProcessedCount());
+            }
+            progress.resume();
+        } else if (!progress.isCompletedFor(today)) {
+            progress.restart(today, firstPhase);
+        }
+        return progress;
+    }
+
+    private void updateProgress(Consumer<BatchJobProgress> update) {
+        progressRepository.findById(JOB_NAME).ifPresent(update);
+    }
+
+    @Getter
+    public static class BatchResult {
+        private int started;
+        private int ended;
+
+        void add(PopupStatus status, int count) {
+            if (status == PopupStatus.ONGOING) {
+                started += count;
+            } else {
+                ended += count;
+            }
         }
-        log.info("팝업 상태 업데이트 스케줄러 종료");
     }
-}
\ No newline at end of file
+}
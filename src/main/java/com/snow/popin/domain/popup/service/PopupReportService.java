@@ -2,12 +2,16 @@
 package com.snow.popin.domain.popup.service;
 
 import com.snow.popin.domain.popup.entity.PopupReport;
+import com.snow.popin.domain.popup.event.PopupReportChangedEvent;
 import com.snow.popin.domain.popup.repository.PopupReportRepository;
+import com.snow.popin.domain.popup.similarity.PopupReportDuplicateIndex;
 import com.snow.popin.domain.space.service.FileStorageService;
 import com.snow.popin.domain.user.entity.User;
 import com.snow.popin.domain.user.service.UserService;
 import com.snow.popin.global.util.UserUtil;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -18,6 +22,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -27,6 +32,8 @@ public class PopupReportService {
     private final UserService userService;
     private final UserUtil userUtil;
     private final FileStorageService fileStorageService;
+    private final PopupReportDuplicateIndex duplicateIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public PopupReport create(String brandName,
@@ -49,18 +56,27 @@ public class PopupReportService {
             }
         }
 
-        return repository.save(
-                PopupReport.builder()
-                        .reporter(reporter)
-                        .brandName(brandName)
-                        .popupName(popupName)
-                        .address(address)
-                        .startDate(startDate)
-                        .endDate(endDate)
-                        .extraInfo(extraInfo)
-                        .images(urls) // URL 저장
-                        .build()
-        );
+        PopupReport report = PopupReport.builder()
+                .reporter(reporter)
+                .brandName(brandName)
+                .popupName(popupName)
+                .address(address)
+                .startDate(startDate)
+                .endDate(endDate)
+                .extraInfo(extraInfo)
+                .images(urls) // URL 저장
+                .build();
+
+        // 이미 접수된 제보와 내용이 매우 비슷하면 중복 의심으로 표시 (접수는 그대로 진행)
+        duplicateIndex.findDuplicate(popupName, brandName, address).ifPresent(duplicateOf -> {
+            report.markSuspectedDuplicate(duplicateOf);
+            log.info("[PopupReport] 중복 의심 제보 - popupName={}, duplicateOf={}", popupName, duplicateOf);
+        });
+
+        PopupReport saved = repository.save(report);
+        urls.forEach(fileStorageService::acquire);
+        eventPublisher.publishEvent(new PopupReportChangedEvent(saved.getId()));
+        return saved;
     }
 
 
@@ -83,11 +99,13 @@ public class PopupReportService {
     public void approve(Long id) {
         PopupReport r = getOne(id);
         r.approve();
+        eventPublisher.publishEvent(new PopupReportChangedEvent(id));
     }
 
     @Transactional
     public void reject(Long id) {
         PopupReport r = getOne(id);
         r.reject();
+        eventPublisher.publishEvent(new PopupReportChangedEvent(id));
     }
 }
@@ -0,0 +1,56 @@
+package com.snow.popin.domain.popup.service;
+
+import com.snow.popin.domain.popup.event.PopupHoursChangedEvent;
+import com.snow.popin.domain.popup.repository.PopupHoursRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 팝업별 주간 운영 일정 캐시 (LRU)
+ * 예약 가능 날짜/슬롯 조회마다 요일별 운영 시간을 다시 조회하지 않도록 팝업당 한 번만 읽는다.
+ * 운영 시간이 바뀌면 커밋 이후 해당 팝업만 비운다.
+ */
+@Component
+@Slf4j
+public class PopupScheduleCache {
+
+    private final PopupHoursRepository popupHoursRepository;
+    private final Map<Long, PopupWeeklySchedule> cache;
+
+    public PopupScheduleCache(PopupHoursRepository popupHoursRepository,
+                              @Value("${popup.schedule.cache.max-entries:2000}") int maxEntries) {
+        this.popupHoursRepository = popupHoursRepository;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, PopupWeeklySchedule> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public PopupWeeklySchedule get(Long popupId) {
+        PopupWeeklySchedule cached = cache.get(popupId);
+        if (cached != null) {
+            return cached;
+        }
+        PopupWeeklySchedule compiled = PopupWeeklySchedule.compile(popupHoursRepository.findByPopupId(popupId));
+        cache.put(popupId, compiled);
+        return compiled;
+    }
+
+    public void evict(Long popupId) {
+        cache.remove(popupId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHoursChanged(PopupHoursChangedEvent event) {
+        evict(event.getPopupId());
+        log.debug("[PopupSchedule] 운영 일정 캐시 삭제 - popupId={}", event.getPopupId());
+    }
+}
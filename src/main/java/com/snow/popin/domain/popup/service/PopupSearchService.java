@@ -80,9 +80,9 @@ public class PopupSearchService {
     }
 
     /**
-     * 검색어 전처리
+     * 검색어 전처리 (벤치마크에서 직접 호출)
      */
-    private String preprocessQuery(String query) {
+    String preprocessQuery(String query) {
         if (query == null) {
             return null;
         }
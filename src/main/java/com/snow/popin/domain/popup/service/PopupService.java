@@ -7,8 +7,10 @@ import com.snow.popin.domain.popup.entity.Popup;
 import com.snow.popin.domain.popup.entity.PopupStatus;
 import com.snow.popin.domain.popup.repository.PopupQueryDslRepository;
 import com.snow.popin.domain.popup.repository.PopupRepository;
+import com.snow.popin.domain.popup.similarity.PopupContentIndex;
 import com.snow.popin.domain.recommendation.dto.AiRecommendationResponseDto;
 import com.snow.popin.domain.recommendation.service.AiRecommendationService;
+import com.snow.popin.domain.recommendation.service.PopupSimilarityService;
 import com.snow.popin.global.exception.PopupNotFoundException;
 import com.snow.popin.global.util.UserUtil;
 import lombok.RequiredArgsConstructor;
@@ -27,11 +29,16 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PopupService {
 
+    // 콘텐츠 유사 팝업 최대 개수 (공동 예약 이웃 K와 맞춤)
+    private static final int CONTENT_SIMILAR_LIMIT = 20;
+
     private final PopupRepository popupRepository;
     private final PopupQueryDslRepository popupQueryDslRepository;
     private final AiRecommendationService aiRecommendationService;
     private final BrandRepository brandRepository;
     private final UserUtil userUtil;
+    private final PopupSimilarityService popupSimilarityService;
+    private final PopupContentIndex popupContentIndex;
 
     // ===== 메인 페이지 필터링 API =====
 
@@ -267,10 +274,27 @@ public class PopupService {
 
     // ===== 추천 및 유사 팝업 조회 =====
 
-    // 유사한 팝업 조회 (같은 카테고리)
+    // 유사한 팝업 조회 (함께 예약/북마크된 팝업 → 콘텐츠가 비슷한 팝업 → 같은 카테고리 순)
     public PopupListResponseDto getSimilarPopups(String categoryName, Long excludePopupId, int page, int size) {
         log.info("유사한 팝업 조회 - 카테고리: {}, 제외 ID: {}", categoryName, excludePopupId);
 
+        try {
+            PopupListResponseDto coReserved = getPopupsInNeighborOrder(
+                    popupSimilarityService.neighborsOf(excludePopupId), page, size, "공동 예약");
+            if (coReserved != null) {
+                return coReserved;
+            }
+
+            // 예약/북마크 이력이 없는 신규 팝업은 콘텐츠 유사도로 대체
+            PopupListResponseDto contentSimilar = getPopupsInNeighborOrder(
+                    popupContentIndex.similarTo(excludePopupId, CONTENT_SIMILAR_LIMIT), page, size, "콘텐츠");
+            if (contentSimilar != null) {
+                return contentSimilar;
+            }
+        } catch (Exception e) {
+            log.warn("이웃 기반 유사 팝업 조회 실패 - 카테고리 기준으로 대체: popupId={}", excludePopupId, e);
+        }
+
         if (categoryName == null || categoryName.trim().isEmpty()) {
             log.warn("카테고리명이 없어서 빈 결과 반환");
             return PopupListResponseDto.empty(0, 20);
@@ -291,6 +315,29 @@ public class PopupService {
         }
     }
 
+    // 이웃(최대 K개)을 한 번에 조회하여 진행 중/예정 팝업만 이웃 순서대로 페이지 처리 (없으면 null)
+    private PopupListResponseDto getPopupsInNeighborOrder(List<Long> neighborIds, int page, int size, String source) {
+        if (neighborIds.isEmpty()) {
+            return null;
+        }
+
+        List<Popup> candidates = sortPopupsByIdOrder(popupQueryDslRepository.findByIdIn(neighborIds), neighborIds)
+                .stream()
+                .filter(popup -> popup.getStatus() == PopupStatus.ONGOING || popup.getStatus() == PopupStatus.PLANNED)
+                .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        Pageable pageable = createPageable(page, size);
+        int start = (int) Math.min(pageable.getOffset(), candidates.size());
+        int end = Math.min(start + pageable.getPageSize(), candidates.size());
+        List<Popup> paged = candidates.subList(start, end);
+
+        log.info("유사한 팝업 조회 완료 ({} 기반) - 총 {}개", source, candidates.size());
+        return PopupListResponseDto.of(new PageImpl<>(paged, pageable, candidates.size()), convertToSummaryDtos(paged));
+    }
+
     // 카테고리별 추천 팝업 조회
     public PopupListResponseDto getRecommendedPopupsBySelectedCategories(
             List<Long> categoryIds, int page, int size) {
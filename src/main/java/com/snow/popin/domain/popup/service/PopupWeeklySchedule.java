@@ -0,0 +1,119 @@
+package com.snow.popin.domain.popup.service;
+
+import com.snow.popin.domain.popup.entity.PopupHours;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 팝업 주간 운영 일정 (PopupHours를 한 번 읽어 컴파일한 결과)
+ * - 운영 요일 7비트 마스크
+ * - 요일별 운영 구간 (자정 기준 분 단위 [open, close))
+ *
+ * 요일 인덱스는 예약 조회와 같은 규칙(DayOfWeek.getValue() % 7)을 사용한다.
+ */
+public final class PopupWeeklySchedule {
+
+    public static final PopupWeeklySchedule EMPTY = new PopupWeeklySchedule(0, emptyRanges());
+
+    private final int openDayMask;
+    private final int[][] minuteRanges; // [요일][open0, close0, open1, close1, ...]
+
+    private PopupWeeklySchedule(int openDayMask, int[][] minuteRanges) {
+        this.openDayMask = openDayMask;
+        this.minuteRanges = minuteRanges;
+    }
+
+    public static PopupWeeklySchedule compile(Collection<PopupHours> hours) {
+        int mask = 0;
+        List<List<int[]>> byDay = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            byDay.add(new ArrayList<>());
+        }
+
+        for (PopupHours h : hours) {
+            Integer day = h.getDayOfWeek();
+            if (day == null || day < 0 || day > 6) {
+                continue;
+            }
+            mask |= 1 << day;
+            if (h.getOpenTime() != null && h.getCloseTime() != null && h.getOpenTime().isBefore(h.getCloseTime())) {
+                byDay.get(day).add(new int[]{minuteOf(h.getOpenTime()), minuteOf(h.getCloseTime())});
+            }
+        }
+
+        int[][] ranges = new int[7][];
+        for (int day = 0; day < 7; day++) {
+            List<int[]> list = byDay.get(day);
+            list.sort((a, b) -> Integer.compare(a[0], b[0]));
+            ranges[day] = new int[list.size() * 2];
+            for (int i = 0; i < list.size(); i++) {
+                ranges[day][i * 2] = list.get(i)[0];
+                ranges[day][i * 2 + 1] = list.get(i)[1];
+            }
+        }
+        return new PopupWeeklySchedule(mask, ranges);
+    }
+
+    public static int dayIndex(LocalDate date) {
+        return date.getDayOfWeek().getValue() % 7;
+    }
+
+    public int getOpenDayMask() {
+        return openDayMask;
+    }
+
+    public boolean isOpen(LocalDate date) {
+        return (openDayMask & (1 << dayIndex(date))) != 0;
+    }
+
+    /**
+     * 해당 날짜의 운영 구간 목록 ([open, close] LocalTime 쌍, 시작 시각순)
+     */
+    public List<LocalTime[]> rangesOf(LocalDate date) {
+        int[] ranges = minuteRanges[dayIndex(date)];
+        if (ranges.length == 0) {
+            return Collections.emptyList();
+        }
+        List<LocalTime[]> result = new ArrayList<>(ranges.length / 2);
+        for (int i = 0; i < ranges.length; i += 2) {
+            result.add(new LocalTime[]{timeOf(ranges[i]), timeOf(ranges[i + 1])});
+        }
+        return result;
+    }
+
+    /**
+     * 해당 날짜에 만들 수 있는 예약 슬롯 수 (슬롯이 운영 종료 시각을 넘으면 제외)
+     */
+    public int slotCount(LocalDate date, int intervalMinutes) {
+        if (intervalMinutes <= 0) {
+            return 0;
+        }
+        int[] ranges = minuteRanges[dayIndex(date)];
+        int count = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            count += (ranges[i + 1] - ranges[i]) / intervalMinutes;
+        }
+        return count;
+    }
+
+    private static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static LocalTime timeOf(int minute) {
+        return LocalTime.of(minute / 60, minute % 60);
+    }
+
+    private static int[][] emptyRanges() {
+        int[][] ranges = new int[7][];
+        for (int i = 0; i < 7; i++) {
+            ranges[i] = new int[0];
+        }
+        return ranges;
+    }
+}
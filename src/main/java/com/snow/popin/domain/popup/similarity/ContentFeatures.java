@@ -0,0 +1,81 @@
+package com.snow.popin.domain.popup.similarity;
+
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.entity.PopupReport;
+import com.snow.popin.domain.popup.entity.Tag;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * MinHash 입력 특징 추출
+ * - 특징마다 종류 접두어(t: 태그, c: 카테고리, r: 지역, s: 제목 2글자 조각, b: 브랜드, a: 주소 토큰)를 붙여
+ *   서로 다른 필드의 같은 글자가 같은 특징으로 섞이지 않게 한다.
+ * - 제목은 공백을 제거한 뒤 2글자 단위로 잘라 띄어쓰기/조사 차이에 덜 민감하게 비교한다.
+ */
+public final class ContentFeatures {
+
+    private ContentFeatures() {
+    }
+
+    public static Set<String> of(Popup popup) {
+        Set<String> features = new HashSet<>();
+        addShingles(features, "s:", popup.getTitle());
+        for (Tag tag : popup.getTags()) {
+            addToken(features, "t:", tag.getName());
+        }
+        if (popup.getCategory() != null) {
+            addToken(features, "c:", popup.getCategory().getName());
+        }
+        addToken(features, "r:", popup.getRegion());
+        return features;
+    }
+
+    public static Set<String> of(PopupReport report) {
+        return ofReport(report.getPopupName(), report.getBrandName(), report.getAddress());
+    }
+
+    public static Set<String> ofReport(String popupName, String brandName, String address) {
+        Set<String> features = new HashSet<>();
+        addShingles(features, "s:", popupName);
+        addToken(features, "b:", brandName);
+        if (address != null) {
+            for (String token : address.split("\\s+")) {
+                addToken(features, "a:", token);
+            }
+        }
+        return features;
+    }
+
+    static void addShingles(Set<String> features, String prefix, String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        if (normalized.length() < 2) {
+            features.add(prefix + normalized);
+            return;
+        }
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            features.add(prefix + normalized.substring(i, i + 2));
+        }
+    }
+
+    private static void addToken(Set<String> features, String prefix, String token) {
+        String normalized = normalize(token);
+        if (!normalized.isEmpty()) {
+            features.add(prefix + normalized);
+        }
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFC)
+                .replaceAll("\\s+", "")
+                .toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,175 @@
+package com.snow.popin.domain.popup.similarity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * MinHash 서명 LSH(locality-sensitive hashing) 색인
+ * - 서명을 bands × rows 로 나누고, 밴드마다 rows개 값을 묶은 해시를 버킷 키로 사용
+ * - 한 밴드라도 버킷이 같은 항목만 후보로 보고 서명 일치율로 유사도를 확정하므로 전체 비교 없이 조회
+ *
+ * 유사도 s인 두 항목이 후보가 될 확률은 1 - (1 - s^rows)^bands
+ * (기본 32 × 4: s=0.3 → 23%, s=0.5 → 87%, s=0.7 → 99.9%)
+ */
+public class LshIndex {
+
+    private final MinHasher hasher;
+    private final int bands;
+    private final int rows;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, int[]> signatures = new HashMap<>();
+    private final Map<Long, Set<Long>> buckets = new HashMap<>();
+
+    public LshIndex(int bands, int rows) {
+        this.hasher = new MinHasher(bands * rows);
+        this.bands = bands;
+        this.rows = rows;
+    }
+
+    public int[] signature(Set<String> features) {
+        return hasher.signature(features);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return signatures.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(Long id, int[] signature) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            if (signature == null) {
+                return;
+            }
+            signatures.put(id, signature);
+            for (int band = 0; band < bands; band++) {
+                buckets.computeIfAbsent(bucketKey(signature, band), k -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            signatures.clear();
+            buckets.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 항목 기준 유사 항목 조회
+     */
+    public List<Match> similarTo(Long id, double minSimilarity, int limit) {
+        lock.readLock().lock();
+        try {
+            int[] signature = signatures.get(id);
+            return signature == null ? List.of() : queryInternal(signature, id, minSimilarity, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인되지 않은 서명으로 유사 항목 조회
+     *
+     * @param excludeId 결과에서 제외할 ID (없으면 null)
+     */
+    public List<Match> query(int[] signature, Long excludeId, double minSimilarity, int limit) {
+        if (signature == null) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return queryInternal(signature, excludeId, minSimilarity, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Match> queryInternal(int[] signature, Long excludeId, double minSimilarity, int limit) {
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < bands; band++) {
+            Set<Long> bucket = buckets.get(bucketKey(signature, band));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        if (excludeId != null) {
+            candidates.remove(excludeId);
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (Long candidate : candidates) {
+            double similarity = MinHasher.estimate(signature, signatures.get(candidate));
+            if (similarity >= minSimilarity) {
+                matches.add(new Match(candidate, similarity));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(Match::getSimilarity).reversed()
+                .thenComparing(Match::getId));
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    private void removeInternal(Long id) {
+        int[] previous = signatures.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            long key = bucketKey(previous, band);
+            Set<Long> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(id);
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    // 밴드 번호를 함께 섞어 밴드 간 버킷이 겹치지 않게 한다
+    private long bucketKey(int[] signature, int band) {
+        long hash = band;
+        int offset = band * rows;
+        for (int i = 0; i < rows; i++) {
+            hash = MinHasher.mix(hash * 31 + signature[offset + i]);
+        }
+        return hash;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Match {
+        private final Long id;
+        private final double similarity;
+    }
+}
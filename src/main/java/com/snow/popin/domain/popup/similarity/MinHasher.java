@@ -0,0 +1,82 @@
+package com.snow.popin.domain.popup.similarity;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * MinHash 서명 생성기
+ * - 특징(문자열) 집합을 고정 길이 int[] 서명으로 압축
+ * - 두 서명에서 같은 위치의 값이 일치하는 비율이 두 집합의 Jaccard 유사도 추정치가 된다.
+ *
+ * 해시 함수는 시드만 다른 64비트 믹서(SplitMix64 finalizer)를 사용하므로 프로세스가 달라도 같은 서명이 나온다.
+ */
+public final class MinHasher {
+
+    private final long[] seeds;
+
+    public MinHasher(int numHashes) {
+        this.seeds = new long[numHashes];
+        long state = 0x5DEECE66DL;
+        for (int i = 0; i < numHashes; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            seeds[i] = mix(state);
+        }
+    }
+
+    public int size() {
+        return seeds.length;
+    }
+
+    /**
+     * 특징 집합의 MinHash 서명 (빈 집합이면 null)
+     */
+    public int[] signature(Collection<String> features) {
+        if (features == null || features.isEmpty()) {
+            return null;
+        }
+
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String feature : features) {
+            long base = fnv1a(feature);
+            for (int i = 0; i < seeds.length; i++) {
+                int value = (int) (mix(base ^ seeds[i]) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 두 서명으로 추정한 Jaccard 유사도 (0 ~ 1)
+     */
+    public static double estimate(int[] a, int[] b) {
+        if (a == null || b == null || a.length != b.length || a.length == 0) {
+            return 0.0;
+        }
+        int same = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / a.length;
+    }
+
+    private static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,91 @@
+package com.snow.popin.domain.popup.similarity;
+
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.event.PopupContentChangedEvent;
+import com.snow.popin.domain.popup.repository.PopupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 팝업 콘텐츠 유사도 색인 (메모리)
+ * - 제목 조각, 태그, 카테고리, 지역으로 MinHash 서명을 만들어 LSH 버킷에 보관
+ * - 예약/북마크 이력이 없는 신규 팝업의 유사 팝업(콜드 스타트)에 사용
+ *
+ * 기동 시와 매일 새벽 전체 팝업으로 다시 구성하고, 등록/수정/삭제 커밋 후 해당 팝업만 갱신한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PopupContentIndex {
+
+    static final int BANDS = 32;
+    static final int ROWS = 4;
+    static final double MIN_SIMILARITY = 0.2;
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final PopupRepository popupRepository;
+
+    private volatile LshIndex index = new LshIndex(BANDS, ROWS);
+
+    /**
+     * 콘텐츠가 비슷한 팝업 ID (유사도 내림차순)
+     */
+    public List<Long> similarTo(Long popupId, int limit) {
+        if (popupId == null) {
+            return List.of();
+        }
+        return index.similarTo(popupId, MIN_SIMILARITY, limit).stream()
+                .map(LshIndex.Match::getId)
+                .collect(Collectors.toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            LshIndex fresh = new LshIndex(BANDS, ROWS);
+            long afterId = 0L;
+            while (true) {
+                List<Long> ids = popupRepository.findIdsAfter(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                for (Popup popup : popupRepository.findAllWithContentByIdIn(ids)) {
+                    fresh.put(popup.getId(), fresh.signature(ContentFeatures.of(popup)));
+                }
+                afterId = ids.get(ids.size() - 1);
+            }
+            index = fresh;
+            log.info("[PopupContentIndex] 콘텐츠 유사도 색인 구성 완료 - {}개", fresh.size());
+        } catch (RuntimeException e) {
+            log.error("[PopupContentIndex] 콘텐츠 유사도 색인 구성 실패 (기존 색인 유지)", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(PopupContentChangedEvent event) {
+        try {
+            List<Popup> popups = popupRepository.findAllWithContentByIdIn(List.of(event.getPopupId()));
+            if (popups.isEmpty()) {
+                index.remove(event.getPopupId());
+                return;
+            }
+            upsert(popups.get(0));
+        } catch (RuntimeException e) {
+            log.warn("[PopupContentIndex] 색인 갱신 실패 - popupId={}, error={}", event.getPopupId(), e.getMessage());
+        }
+    }
+
+    public void upsert(Popup popup) {
+        LshIndex current = index;
+        current.put(popup.getId(), current.signature(ContentFeatures.of(popup)));
+    }
+}
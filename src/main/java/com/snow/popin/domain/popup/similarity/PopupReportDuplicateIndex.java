@@ -0,0 +1,79 @@
+package com.snow.popin.domain.popup.similarity;
+
+import com.snow.popin.domain.popup.entity.PopupReport;
+import com.snow.popin.domain.popup.event.PopupReportChangedEvent;
+import com.snow.popin.domain.popup.repository.PopupReportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 중복 팝업 제보 색인 (메모리)
+ * - 팝업명 조각, 브랜드, 주소 토큰으로 MinHash 서명을 만들어 LSH 버킷에 보관
+ * - 새 제보와 추정 유사도가 기준 이상인 기존 제보(반려 제외)를 찾아 중복 의심으로 표시하는 데 사용
+ *
+ * 기동 시 전체 제보로 구성하고, 접수/승인/반려 커밋 후 해당 제보만 갱신한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class PopupReportDuplicateIndex {
+
+    static final double DUPLICATE_SIMILARITY = 0.6;
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final PopupReportRepository popupReportRepository;
+
+    private final LshIndex index = new LshIndex(PopupContentIndex.BANDS, PopupContentIndex.ROWS);
+
+    /**
+     * 가장 비슷한 기존 제보 ID (기준 미만이면 empty)
+     */
+    public Optional<Long> findDuplicate(String popupName, String brandName, String address) {
+        int[] signature = index.signature(ContentFeatures.ofReport(popupName, brandName, address));
+        List<LshIndex.Match> matches = index.query(signature, null, DUPLICATE_SIMILARITY, 1);
+        return matches.isEmpty() ? Optional.empty() : Optional.of(matches.get(0).getId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            long afterId = 0L;
+            while (true) {
+                List<PopupReport> reports = popupReportRepository.findByIdGreaterThanAndStatusNotOrderByIdAsc(
+                        afterId, PopupReport.Status.REJECTED, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                if (reports.isEmpty()) {
+                    break;
+                }
+                reports.forEach(this::upsert);
+                afterId = reports.get(reports.size() - 1).getId();
+            }
+            log.info("[PopupReportDuplicate] 중복 제보 색인 구성 완료 - {}건", index.size());
+        } catch (RuntimeException e) {
+            log.error("[PopupReportDuplicate] 중복 제보 색인 구성 실패", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportChanged(PopupReportChangedEvent event) {
+        try {
+            popupReportRepository.findById(event.getReportId())
+                    .filter(report -> report.getStatus() != PopupReport.Status.REJECTED)
+                    .ifPresentOrElse(this::upsert, () -> index.remove(event.getReportId()));
+        } catch (RuntimeException e) {
+            log.warn("[PopupReportDuplicate] 색인 갱신 실패 - reportId={}, error={}", event.getReportId(), e.getMessage());
+        }
+    }
+
+    public void upsert(PopupReport report) {
+        index.put(report.getId(), index.signature(ContentFeatures.of(report)));
+    }
+}
@@ -1,11 +1,13 @@
 package com.snow.popin.domain.popupReservation.controller;
 
 import com.snow.popin.domain.popupReservation.dto.AvailableSlotDto;
+import com.snow.popin.domain.popupReservation.dto.DateAvailabilityDto;
 import com.snow.popin.domain.popupReservation.dto.ReservationRequestDto;
 import com.snow.popin.domain.popupReservation.dto.ReservationResponseDto;
 import com.snow.popin.domain.popupReservation.dto.TimeSlotDto;
 import com.snow.popin.domain.popupReservation.service.ReservationService;
 import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.global.idempotency.Idempotent;
 import com.snow.popin.global.util.UserUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +20,7 @@ import javax.validation.Valid;
 import javax.validation.constraints.FutureOrPresent;
 import javax.validation.constraints.Positive;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
 
@@ -46,6 +49,7 @@ public class ReservationController {
      * @param popupId 예약할 팝업 ID
      * @param dto 예약 요청 DTO
      */
+    @Idempotent
     @PostMapping("/popups/{popupId}")
     public ResponseEntity<?> createReservation(
             @PathVariable @Positive Long popupId,
@@ -182,4 +186,21 @@ public class ReservationController {
         log.info("[ReservationController] 예약 가능 슬롯(인원 포함) 조회 완료: popupId={}, date={}, count={}", popupId, date, slots.size());
         return ResponseEntity.ok(slots);
     }
+
+    /**
+     * 특정 팝업의 월간 날짜별 예약 현황 조회 (기본: 이번 달, 형식: yyyy-MM)
+     */
+    @GetMapping("/popups/{popupId}/availability")
+    public ResponseEntity<List<DateAvailabilityDto>> getMonthAvailability(
+            @PathVariable @Positive Long popupId,
+            @RequestParam(required = false) YearMonth month) {
+
+        YearMonth target = month != null ? month : YearMonth.now();
+        log.info("[ReservationController] 월간 예약 현황 조회 요청: popupId={}, month={}", popupId, target);
+
+        List<DateAvailabilityDto> days = reservationService.getMonthAvailability(popupId, target);
+
+        log.info("[ReservationController] 월간 예약 현황 조회 완료: popupId={}, month={}", popupId, target);
+        return ResponseEntity.ok(days);
+    }
 }
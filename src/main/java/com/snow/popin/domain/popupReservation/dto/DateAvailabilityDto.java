@@ -0,0 +1,27 @@
+package com.snow.popin.domain.popupReservation.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 월간 예약 현황의 날짜별 항목
+ * - open: 운영 요일 여부
+ * - bookable: 예약 가능 기간(팝업 기간, 당일 예약 허용, 사전 예약 일수) 안인지
+ * - totalCapacity: 해당 날짜 전체 슬롯 정원 합계
+ * - remainingCapacity: 남은 인원 (예약 불가 날짜는 0)
+ */
+@Getter
+@AllArgsConstructor
+public class DateAvailabilityDto {
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+
+    private boolean open;
+    private boolean bookable;
+    private int totalCapacity;
+    private int remainingCapacity;
+}
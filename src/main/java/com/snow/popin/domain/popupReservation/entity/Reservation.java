@@ -80,6 +80,7 @@ public class Reservation extends BaseEntity {
         COMPLETED("결제 완료"),
         FAILED("결제 실패"),
         CANCELLED("결제 취소"),
+        REFUND_PENDING("환불 처리 중"),
         REFUNDED("환불 완료");
 
         private final String description;
@@ -168,6 +169,16 @@ public class Reservation extends BaseEntity {
         this.paidAt = null;
     }
 
+    /**
+     * 환불 요청 처리 (실제 환불은 아웃박스를 통해 비동기로 수행)
+     */
+    public void markRefundRequested() {
+        if (paymentStatus != PaymentStatus.COMPLETED) {
+            throw new IllegalStateException("결제 완료 상태에서만 환불을 요청할 수 있습니다.");
+        }
+        this.paymentStatus = PaymentStatus.REFUND_PENDING;
+    }
+
     /**
      * 환불 처리
      */
@@ -192,6 +203,13 @@ public class Reservation extends BaseEntity {
         return paymentStatus == PaymentStatus.COMPLETED;
     }
 
+    /**
+     * 환불 처리 중인지 확인
+     */
+    public boolean isRefundPending() {
+        return paymentStatus == PaymentStatus.REFUND_PENDING;
+    }
+
     /**
      * 결제가 실패했는지 확인
      */
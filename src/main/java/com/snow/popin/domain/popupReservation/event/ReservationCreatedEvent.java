@@ -0,0 +1,16 @@
+package com.snow.popin.domain.popupReservation.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 팝업 예약이 생성되었음을 알림 (커밋 이후 처리)
+ * 유사 팝업 모델이 구독하여 해당 사용자의 공동 예약 관계를 반영한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReservationCreatedEvent {
+    private final Long reservationId;
+    private final Long userId;
+    private final Long popupId;
+}
@@ -1,5 +1,9 @@
 package com.snow.popin.domain.popupReservation.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.DateExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.snow.popin.domain.popup.entity.Popup;
 import com.snow.popin.domain.popupReservation.entity.Reservation;
@@ -9,9 +13,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
+import java.sql.Date;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.snow.popin.domain.popupReservation.entity.QReservation.reservation;
 
@@ -105,6 +113,37 @@ public class ReservationQueryDslRepository {
         return sum != null ? sum.longValue() : 0L;
     }
 
+    /**
+     * 특정 팝업의 기간 [from, toExclusive) 날짜별 예약 인원 합계 (한 번의 GROUP BY 조회)
+     * 예약이 없는 날짜는 결과에 포함되지 않는다.
+     */
+    public Map<LocalDate, Long> sumPartySizeByPopupGroupByDate(Popup popup, LocalDate from, LocalDate toExclusive) {
+        DateExpression<Date> day = Expressions.dateTemplate(Date.class, "cast({0} as date)", reservation.reservationDate);
+        NumberExpression<Integer> total = reservation.partySize.sum().coalesce(0);
+
+        List<Tuple> rows = queryFactory
+                .select(day, total)
+                .from(reservation)
+                .where(
+                        reservation.popup.eq(popup)
+                                .and(reservation.reservationDate.goe(from.atStartOfDay()))
+                                .and(reservation.reservationDate.lt(toExclusive.atStartOfDay()))
+                                .and(reservation.status.ne(ReservationStatus.CANCELLED))
+                )
+                .groupBy(day)
+                .fetch();
+
+        Map<LocalDate, Long> result = new HashMap<>();
+        for (Tuple row : rows) {
+            Date date = row.get(day);
+            Integer sum = row.get(total);
+            if (date != null) {
+                result.put(date.toLocalDate(), sum != null ? sum.longValue() : 0L);
+            }
+        }
+        return result;
+    }
+
     /**
      * 특정 팝업의 특정 날짜 예약 목록 조회
      */
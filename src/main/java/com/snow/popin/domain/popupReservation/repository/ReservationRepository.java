@@ -4,6 +4,8 @@ import com.snow.popin.domain.popup.entity.Popup;
 import com.snow.popin.domain.popupReservation.entity.Reservation;
 import com.snow.popin.domain.popupReservation.entity.ReservationStatus;
 import com.snow.popin.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,11 +20,12 @@ import java.util.List;
  */
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
     /**
-     * 특정 사용자의 예약 목록 조회
+     * 특정 사용자의 예약 목록 조회 (팝업/장소 함께 조회)
      *
      * @param currentUser 사용자
      * @return 예약 목록
      */
+    @EntityGraph(attributePaths = {"popup", "popup.venue"})
     List<Reservation> findByUser(User currentUser);
     /**
      * 특정 팝업의 예약 목록 조회
@@ -45,4 +48,39 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
      * 팝업별 상태별 예약 목록 조회 (시간대별 통계용)
      */
     List<Reservation> findByPopupAndStatus(Popup popup, ReservationStatus status);
-}
\ No newline at end of file
+
+    /**
+     * 결제 대사 대상 조회 (id 기준 키셋 페이지네이션)
+     *
+     * @param status 예약 상태
+     * @param paymentStatuses 결제 상태 목록
+     * @param since 이 시각 이후 변경된 예약만
+     * @param afterId 이전 페이지 마지막 ID
+     */
+    @Query("SELECT r FROM Reservation r " +
+            "WHERE r.status = :status AND r.paymentStatus IN :paymentStatuses " +
+            "AND r.updatedAt >= :since AND r.id > :afterId ORDER BY r.id")
+    List<Reservation> findReconciliationCandidates(@Param("status") ReservationStatus status,
+                                                   @Param("paymentStatuses") List<Reservation.PaymentStatus> paymentStatuses,
+                                                   @Param("since") LocalDateTime since,
+                                                   @Param("afterId") Long afterId,
+                                                   Pageable pageable);
+
+    /**
+     * 유사 팝업 모델 구성용 - 취소되지 않은 예약의 (사용자, 팝업) 쌍 (id 기준 키셋 페이지네이션)
+     *
+     * @param excluded 제외할 예약 상태
+     * @param afterId 이전 페이지 마지막 ID
+     */
+    @Query("SELECT r.id AS id, r.user.id AS userId, r.popup.id AS popupId FROM Reservation r " +
+            "WHERE r.status <> :excluded AND r.id > :afterId ORDER BY r.id")
+    List<UserPopupRow> findUserPopupPairsAfter(@Param("excluded") ReservationStatus excluded,
+                                               @Param("afterId") Long afterId,
+                                               Pageable pageable);
+
+    interface UserPopupRow {
+        Long getId();
+        Long getUserId();
+        Long getPopupId();
+    }
+}
@@ -3,20 +3,25 @@ package com.snow.popin.domain.popupReservation.service;
 import com.snow.popin.domain.mypage.host.entity.Brand;
 import com.snow.popin.domain.mypage.host.repository.BrandRepository;
 import com.snow.popin.domain.mypage.host.repository.HostRepository;
-import com.snow.popin.domain.payment.service.PaymentService;
+import com.snow.popin.domain.notification.constant.NotificationType;
+import com.snow.popin.domain.notification.service.NotificationOutboxHandler;
+import com.snow.popin.domain.payment.service.RefundOutboxHandler;
 import com.snow.popin.domain.popup.entity.Popup;
-import com.snow.popin.domain.popup.entity.PopupHours;
-import com.snow.popin.domain.popup.repository.PopupHoursRepository;
 import com.snow.popin.domain.popup.repository.PopupRepository;
+import com.snow.popin.domain.popup.service.PopupScheduleCache;
+import com.snow.popin.domain.popup.service.PopupWeeklySchedule;
 import com.snow.popin.domain.popupReservation.dto.*;
 import com.snow.popin.domain.popupReservation.entity.PopupReservationSettings;
 import com.snow.popin.domain.popupReservation.entity.Reservation;
+import com.snow.popin.domain.popupReservation.event.ReservationCreatedEvent;
 import com.snow.popin.domain.popupReservation.repository.ReservationQueryDslRepository;
 import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
 import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.global.outbox.OutboxEventType;
+import com.snow.popin.global.outbox.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,8 +30,10 @@ import org.springframework.web.server.ResponseStatusException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -40,11 +47,10 @@ public class ReservationService {
     private final PopupRepository popupRepository;
     private final HostRepository hostRepository;
     private final BrandRepository brandRepository;
-    private final PopupHoursRepository popupHoursRepository;
+    private final PopupScheduleCache popupScheduleCache;
     private final PopupReservationSettingsService settingsService;
-
-    @Autowired
-    private PaymentService paymentService;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 팝업 예약 생성
@@ -70,6 +76,7 @@ public class ReservationService {
         );
 
         Reservation saved = reservationRepository.save(reservation);
+        eventPublisher.publishEvent(new ReservationCreatedEvent(saved.getId(), currentUser.getId(), popupId));
 
         log.info("[ReservationService] 예약 생성 완료: reservationId={}, popupId={}, userId={}, partySize={}",
                 saved.getId(), popupId, currentUser.getId(), dto.getPartySize());
@@ -86,9 +93,7 @@ public class ReservationService {
         Popup popup = validatePopupForReservation(popupId);
         PopupReservationSettings settings = settingsService.getSettings(popupId);
 
-        List<PopupHours> operatingHours = popupHoursRepository.findByPopupIdAndDayOfWeek(
-                popupId, date.getDayOfWeek().getValue() % 7
-        );
+        List<LocalTime[]> operatingHours = popupScheduleCache.get(popupId).rangesOf(date);
 
         if (operatingHours.isEmpty()) {
             log.info("[ReservationService] 운영 시간 없음: popupId={}, date={}", popupId, date);
@@ -96,9 +101,9 @@ public class ReservationService {
         }
 
         List<TimeSlotDto> timeSlots = new ArrayList<>();
-        for (PopupHours hours : operatingHours) {
+        for (LocalTime[] hours : operatingHours) {
             timeSlots.addAll(generateTimeSlotsForOperatingHours(
-                    popup, settings, date, hours.getOpenTime(), hours.getCloseTime()
+                    popup, settings, date, hours[0], hours[1]
             ));
         }
 
@@ -178,27 +183,31 @@ public class ReservationService {
         PopupReservationSettings settings = settingsService.getSettings(reservation.getPopup().getId());
         validateCancellationDeadline(reservation, settings);
 
-        boolean refundProcessed = false;
+        // 결제사 환불 호출은 트랜잭션 밖에서 아웃박스 디스패처가 수행
+        // 취소 상태와 환불 요청 레코드가 한 트랜잭션으로 커밋되므로 중간 장애 시에도 환불이 누락되지 않음
+        boolean refundRequested = false;
         if (reservation.isPaymentCompleted()) {
-            log.info("[ReservationService] 환불 처리 시작: reservationId={}, amount={}",
-                    reservationId, reservation.getPaymentAmount());
-
-            refundProcessed = paymentService.processRefund(reservationId);
-
-            if (!refundProcessed) {
-                log.error("[ReservationService] 환불 처리 실패: reservationId={}", reservationId);
-                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
-                        "환불 처리 중 오류가 발생했습니다.");
-            }
+            reservation.markRefundRequested();
+            outboxService.enqueue(OutboxEventType.PAYMENT_REFUND, String.valueOf(reservationId),
+                    RefundOutboxHandler.idempotencyKey(reservationId), Map.of("reservationId", reservationId));
+            refundRequested = true;
 
-            log.info("[ReservationService] 환불 처리 완료: reservationId={}", reservationId);
+            log.info("[ReservationService] 환불 요청 등록: reservationId={}, amount={}",
+                    reservationId, reservation.getPaymentAmount());
         }
 
         reservation.cancel();
         reservationRepository.save(reservation);
 
-        log.info("[ReservationService] 예약 취소 완료: reservationId={}, userId={}, refunded={}",
-                reservationId, currentUser.getId(), refundProcessed);
+        String message = String.format("[%s] 예약이 취소되었습니다.%s", reservation.getPopup().getTitle(),
+                refundRequested ? " 결제 금액은 환불 처리 중입니다." : "");
+        outboxService.enqueue(OutboxEventType.NOTIFICATION, String.valueOf(reservationId),
+                "notification:reservation-cancelled:" + reservationId,
+                NotificationOutboxHandler.payload(currentUser.getId(), "예약 취소", message,
+                        NotificationType.RESERVATION, "/users/user-popup-reservation"));
+
+        log.info("[ReservationService] 예약 취소 완료: reservationId={}, userId={}, refundRequested={}",
+                reservationId, currentUser.getId(), refundRequested);
     }
 
     /**
@@ -305,12 +314,13 @@ public class ReservationService {
 
         LocalDate startDate = calculateStartDate(popup, settings);
         LocalDate endDate = calculateEndDate(popup, settings);
+        PopupWeeklySchedule schedule = popupScheduleCache.get(popupId);
 
         List<LocalDate> dates = new ArrayList<>();
         LocalDate current = startDate;
 
         while (!current.isAfter(endDate)) {
-            if (hasOperatingHours(popupId, current)) {
+            if (schedule.isOpen(current)) {
                 dates.add(current);
             }
             current = current.plusDays(1);
@@ -330,13 +340,12 @@ public class ReservationService {
         PopupReservationSettings settings = settingsService.getSettings(popupId);
 
         List<AvailableSlotDto> slots = new ArrayList<>();
-        List<PopupHours> hoursList = popupHoursRepository.findByPopupIdAndDayOfWeek(
-                popupId, date.getDayOfWeek().getValue() % 7);
+        List<LocalTime[]> hoursList = popupScheduleCache.get(popupId).rangesOf(date);
 
-        for (PopupHours hours : hoursList) {
-            LocalTime current = hours.getOpenTime();
-            while (current.plusMinutes(settings.getTimeSlotInterval()).isBefore(hours.getCloseTime())
-                    || current.plusMinutes(settings.getTimeSlotInterval()).equals(hours.getCloseTime())) {
+        for (LocalTime[] hours : hoursList) {
+            LocalTime current = hours[0];
+            while (current.plusMinutes(settings.getTimeSlotInterval()).isBefore(hours[1])
+                    || current.plusMinutes(settings.getTimeSlotInterval()).equals(hours[1])) {
 
                 LocalTime slotStart = current;
                 LocalTime slotEnd = current.plusMinutes(settings.getTimeSlotInterval());
@@ -355,6 +364,39 @@ public class ReservationService {
         return slots;
     }
 
+    /**
+     * 월간 예약 현황 조회
+     * 운영 일정은 캐시에서, 예약 인원은 날짜별 GROUP BY 한 번으로 조회한다.
+     */
+    public List<DateAvailabilityDto> getMonthAvailability(Long popupId, YearMonth month) {
+        log.info("[ReservationService] 월간 예약 현황 조회 요청: popupId={}, month={}", popupId, month);
+
+        Popup popup = validatePopupForReservation(popupId);
+        PopupReservationSettings settings = settingsService.getSettings(popupId);
+        PopupWeeklySchedule schedule = popupScheduleCache.get(popupId);
+
+        LocalDate first = month.atDay(1);
+        LocalDate last = month.atEndOfMonth();
+        LocalDate bookableFrom = calculateStartDate(popup, settings);
+        LocalDate bookableTo = calculateEndDate(popup, settings);
+
+        Map<LocalDate, Long> reserved = reservationQueryDslRepository.sumPartySizeByPopupGroupByDate(
+                popup, first, last.plusDays(1));
+
+        List<DateAvailabilityDto> days = new ArrayList<>();
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            boolean open = schedule.isOpen(date);
+            boolean bookable = open && !date.isBefore(bookableFrom) && !date.isAfter(bookableTo);
+            int total = schedule.slotCount(date, settings.getTimeSlotInterval()) * settings.getMaxCapacityPerSlot();
+            int remaining = bookable ? (int) Math.max(total - reserved.getOrDefault(date, 0L), 0) : 0;
+            days.add(new DateAvailabilityDto(date, open, bookable, total, remaining));
+        }
+
+        log.info("[ReservationService] 월간 예약 현황 조회 완료: popupId={}, month={}, reservedDays={}",
+                popupId, month, reserved.size());
+        return days;
+    }
+
     // ========== 유틸리티 메서드들 ==========
 
     private Popup validatePopupForReservation(Long popupId) {
@@ -443,10 +485,4 @@ public class ReservationService {
 
         return popupEnd.isBefore(maxAdvanceDate) ? popupEnd : maxAdvanceDate;
     }
-
-    private boolean hasOperatingHours(Long popupId, LocalDate date) {
-        return !popupHoursRepository.findByPopupIdAndDayOfWeek(
-                popupId, date.getDayOfWeek().getValue() % 7
-        ).isEmpty();
-    }
 }
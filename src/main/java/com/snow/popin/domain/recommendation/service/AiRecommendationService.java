@@ -248,9 +248,9 @@ public class AiRecommendationService {
     }
 
     /**
-     *  팝업 ID 추출
+     *  팝업 ID 추출 (벤치마크에서 직접 호출)
      */
-    private List<Long> extractPopupIdsEnhanced(String aiResponse, List<Popup> availablePopups) {
+    List<Long> extractPopupIdsEnhanced(String aiResponse, List<Popup> availablePopups) {
         List<Long> recommendedIds = new ArrayList<>();
         Set<Long> availableIds = availablePopups.stream()
                 .map(Popup::getId)
@@ -423,11 +423,17 @@ public class AiRecommendationService {
 
     private List<ReservationHistoryDto> getReservationHistory(User user) {
         try {
-            List<Reservation> reservations = reservationRepository.findByUser(user);
-            return reservations.stream()
+            List<Reservation> recent = reservationRepository.findByUser(user).stream()
                     .sorted((r1, r2) -> r2.getReservationDate().compareTo(r1.getReservationDate()))
                     .limit(10)
-                    .map(this::convertToReservationHistoryDto)
+                    .collect(Collectors.toList());
+            // 브랜드명은 예약마다 조회하지 않고 한 번에 조회
+            Map<Long, String> brandMap = getBrandNamesMap(recent.stream()
+                    .map(Reservation::getPopup)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList()));
+            return recent.stream()
+                    .map(reservation -> convertToReservationHistoryDto(reservation, brandMap))
                     .filter(Objects::nonNull)
                     .collect(Collectors.toList());
         } catch (Exception e) {
@@ -436,14 +442,14 @@ public class AiRecommendationService {
         }
     }
 
-    private ReservationHistoryDto convertToReservationHistoryDto(Reservation reservation) {
+    private ReservationHistoryDto convertToReservationHistoryDto(Reservation reservation, Map<Long, String> brandMap) {
         try {
             Popup popup = reservation.getPopup();
             if (popup == null) return null;
 
             String categoryName = popup.getCategory() != null && popup.getCategory().getId() != null ?
                     CATEGORY_MAP.get(popup.getCategory().getId()) : null;
-            String brandName = getBrandName(popup.getBrandId());
+            String brandName = brandMap.getOrDefault(popup.getBrandId(), "브랜드");
 
             return ReservationHistoryDto.builder()
                     .popupId(popup.getId())
@@ -460,16 +466,6 @@ public class AiRecommendationService {
         }
     }
 
-    private String getBrandName(Long brandId) {
-        if (brandId == null) return "브랜드";
-        try {
-            return brandRepository.findById(brandId).map(Brand::getName).orElse("브랜드");
-        } catch (Exception e) {
-            log.warn("브랜드 조회 실패 - brandId: {}", brandId, e);
-            return "브랜드";
-        }
-    }
-
     private Map<Long, String> getBrandNamesMap(List<Popup> popups) {
         Set<Long> brandIds = popups.stream()
                 .map(Popup::getBrandId)
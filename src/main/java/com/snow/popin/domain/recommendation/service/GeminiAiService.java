@@ -4,9 +4,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.snow.popin.domain.recommendation.dto.GeminiRequestDto;
 import com.snow.popin.domain.recommendation.dto.GeminiResponseDto;
 import com.snow.popin.global.config.GeminiProperties;
+import com.snow.popin.global.http.OutboundHttpClients;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -22,14 +22,13 @@ public class GeminiAiService {
     private final ObjectMapper objectMapper;
     private final RestTemplate restTemplate;
 
-    // RestTemplate Bean이 없는 경우 생성자에서 직접 생성
-    public GeminiAiService(GeminiProperties geminiProperties, ObjectMapper objectMapper) {
+    // 결제 API와 풀을 공유하지 않도록 gemini 전용 풀 사용, 응답 생성 시간을 고려해 읽기 타임아웃은 ai.gemini.timeout 적용
+    public GeminiAiService(GeminiProperties geminiProperties, ObjectMapper objectMapper,
+                           OutboundHttpClients outboundHttpClients) {
         this.geminiProperties = geminiProperties;
         this.objectMapper = objectMapper;
-        this.restTemplate = new RestTemplateBuilder()
-                .setConnectTimeout(Duration.ofMillis(geminiProperties.getTimeout()))
-                .setReadTimeout(Duration.ofMillis(geminiProperties.getTimeout()))
-                .build();
+        this.restTemplate = outboundHttpClients.restTemplate(
+                Duration.ofMillis(geminiProperties.getTimeout()), "gemini");
     }
 
     /**
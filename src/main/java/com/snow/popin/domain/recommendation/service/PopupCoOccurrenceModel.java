@@ -0,0 +1,192 @@
+package com.snow.popin.domain.recommendation.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 팝업 간 공동 상호작용(예약/북마크) 희소 행렬
+ * - 사용자별 상호작용 가중치 w(u,i)를 보관하고, 함께 상호작용한 팝업 쌍마다 Σ w(u,i)·w(u,j)를 누적
+ * - 유사도 = 코사인(co(i,j) / sqrt(norm(i)·norm(j))) × 신뢰도 보정(co / (co + SHRINKAGE))
+ * - 팝업별 상위 K개 이웃을 점수순으로 정렬된 원시 배열(long[]/float[])로 보관하여 조회는 O(K)
+ *
+ * 같은 (사용자, 팝업)에 더 큰 가중치가 들어오면 차이만큼만 누적하므로 증분 반영 결과가 전체 구성 결과와 같다.
+ * 상호작용 제거(예약 취소, 북마크 해제)와, 변경된 팝업을 이웃으로 가진 다른 팝업의 점수는 주기적 재구성으로 보정한다.
+ */
+class PopupCoOccurrenceModel {
+
+    // 공동 상호작용이 적은 쌍은 우연일 가능성이 커서 점수를 낮춘다
+    private static final double SHRINKAGE = 2.0;
+
+    private final int topK;
+    private final int maxItemsPerUser;
+
+    private final Map<Long, Map<Long, Float>> userItems = new HashMap<>();
+    private final Map<Long, Map<Long, Double>> coOccurrence = new HashMap<>();
+    private final Map<Long, Double> norms = new HashMap<>();
+    private final Map<Long, PopupNeighbors> neighbors = new ConcurrentHashMap<>();
+
+    PopupCoOccurrenceModel(int topK, int maxItemsPerUser) {
+        this.topK = topK;
+        this.maxItemsPerUser = maxItemsPerUser;
+    }
+
+    /**
+     * 상호작용 누적 (이웃 목록은 갱신하지 않음)
+     *
+     * @return 공동 상호작용 값이 바뀐 팝업 ID (이웃 재계산 대상)
+     */
+    synchronized Set<Long> add(Long userId, Long popupId, float weight) {
+        Map<Long, Float> items = userItems.computeIfAbsent(userId, k -> new HashMap<>());
+        Float previous = items.get(popupId);
+        float prev = previous != null ? previous : 0f;
+        if (weight <= prev) {
+            return Set.of();
+        }
+        // 상호작용이 지나치게 많은 사용자는 쌍의 수가 제곱으로 늘어나므로 상한까지만 반영
+        if (previous == null && items.size() >= maxItemsPerUser) {
+            return Set.of();
+        }
+
+        double delta = weight - prev;
+        Set<Long> touched = new HashSet<>();
+        touched.add(popupId);
+        for (Map.Entry<Long, Float> other : items.entrySet()) {
+            if (other.getKey().equals(popupId)) {
+                continue;
+            }
+            double value = delta * other.getValue();
+            coOccurrence.computeIfAbsent(popupId, k -> new HashMap<>()).merge(other.getKey(), value, Double::sum);
+            coOccurrence.computeIfAbsent(other.getKey(), k -> new HashMap<>()).merge(popupId, value, Double::sum);
+            touched.add(other.getKey());
+        }
+        norms.merge(popupId, (double) weight * weight - (double) prev * prev, Double::sum);
+        items.put(popupId, weight);
+        return touched;
+    }
+
+    /**
+     * 지정한 팝업들의 상위 K 이웃 재계산
+     */
+    synchronized void refresh(Collection<Long> popupIds) {
+        for (Long popupId : popupIds) {
+            computeNeighbors(popupId);
+        }
+    }
+
+    /**
+     * 전체 팝업의 상위 K 이웃 재계산
+     */
+    synchronized void refreshAll() {
+        refresh(new ArrayList<>(coOccurrence.keySet()));
+    }
+
+    PopupNeighbors neighborsOf(Long popupId) {
+        return neighbors.getOrDefault(popupId, PopupNeighbors.EMPTY);
+    }
+
+    int popupCount() {
+        return neighbors.size();
+    }
+
+    int userCount() {
+        return userItems.size();
+    }
+
+    private void computeNeighbors(Long popupId) {
+        Map<Long, Double> row = coOccurrence.get(popupId);
+        double norm = norms.getOrDefault(popupId, 0.0);
+        if (row == null || row.isEmpty() || norm <= 0) {
+            neighbors.remove(popupId);
+            return;
+        }
+
+        // 점수 오름차순 최소 힙으로 상위 K개만 유지
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(topK + 1);
+        for (Map.Entry<Long, Double> entry : row.entrySet()) {
+            double co = entry.getValue();
+            double otherNorm = norms.getOrDefault(entry.getKey(), 0.0);
+            if (co <= 0 || otherNorm <= 0) {
+                continue;
+            }
+            double score = co / Math.sqrt(norm * otherNorm) * (co / (co + SHRINKAGE));
+            heap.offer(new Candidate(entry.getKey(), (float) score));
+            if (heap.size() > topK) {
+                heap.poll();
+            }
+        }
+
+        int size = heap.size();
+        long[] ids = new long[size];
+        float[] scores = new float[size];
+        for (int i = size - 1; i >= 0; i--) {
+            Candidate candidate = heap.poll();
+            ids[i] = candidate.popupId;
+            scores[i] = candidate.score;
+        }
+        neighbors.put(popupId, new PopupNeighbors(ids, scores));
+    }
+
+    private static final class Candidate implements Comparable<Candidate> {
+        private final long popupId;
+        private final float score;
+
+        private Candidate(long popupId, float score) {
+            this.popupId = popupId;
+            this.score = score;
+        }
+
+        // 점수가 같으면 ID가 큰 쪽을 먼저 버린다
+        @Override
+        public int compareTo(Candidate other) {
+            int byScore = Float.compare(score, other.score);
+            return byScore != 0 ? byScore : Long.compare(other.popupId, popupId);
+        }
+    }
+
+    /**
+     * 팝업 하나의 이웃 목록 (점수 내림차순, 불변)
+     */
+    static final class PopupNeighbors {
+
+        static final PopupNeighbors EMPTY = new PopupNeighbors(new long[0], new float[0]);
+
+        private final long[] ids;
+        private final float[] scores;
+
+        private PopupNeighbors(long[] ids, float[] scores) {
+            this.ids = ids;
+            this.scores = scores;
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        long idAt(int index) {
+            return ids[index];
+        }
+
+        float scoreAt(int index) {
+            return scores[index];
+        }
+
+        List<Long> ids() {
+            if (ids.length == 0) {
+                return Collections.emptyList();
+            }
+            List<Long> result = new ArrayList<>(ids.length);
+            for (long id : ids) {
+                result.add(id);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.snow.popin.domain.recommendation.service;
+
+import com.snow.popin.domain.bookmark.event.BookmarkChangedEvent;
+import com.snow.popin.domain.bookmark.repository.BookMarkRepository;
+import com.snow.popin.domain.popupReservation.entity.ReservationStatus;
+import com.snow.popin.domain.popupReservation.event.ReservationCreatedEvent;
+import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 함께 예약/북마크된 팝업 기반 유사 팝업 (아이템-아이템 협업 필터링)
+ * - 기동 시와 매일 새벽 전체 예약(취소 제외)·북마크로 공동 상호작용 행렬을 다시 구성
+ * - 예약 생성, 북마크 추가 커밋 후 해당 사용자의 팝업 쌍만 증분 반영
+ * - 예약은 북마크보다 강한 신호로 보고 가중치를 더 준다.
+ *
+ * 노드별 메모리 모델이므로 재구성은 분산 락 없이 각 노드에서 실행한다.
+ */
+@Component
+@Slf4j
+public class PopupSimilarityService {
+
+    static final float RESERVATION_WEIGHT = 1.0f;
+    static final float BOOKMARK_WEIGHT = 0.5f;
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final ReservationRepository reservationRepository;
+    private final BookMarkRepository bookMarkRepository;
+    private final int topK;
+    private final int maxItemsPerUser;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    // 재구성 중 들어온 상호작용 (새 모델로 교체한 뒤 다시 반영)
+    private final Queue<Interaction> pending = new ConcurrentLinkedQueue<>();
+
+    private volatile PopupCoOccurrenceModel model;
+
+    public PopupSimilarityService(ReservationRepository reservationRepository,
+                                  BookMarkRepository bookMarkRepository,
+                                  @Value("${popup.similarity.top-k:20}") int topK,
+                                  @Value("${popup.similarity.max-items-per-user:200}") int maxItemsPerUser) {
+        this.reservationRepository = reservationRepository;
+        this.bookMarkRepository = bookMarkRepository;
+        this.topK = topK;
+        this.maxItemsPerUser = maxItemsPerUser;
+        this.model = new PopupCoOccurrenceModel(topK, maxItemsPerUser);
+    }
+
+    /**
+     * 유사 팝업 ID 목록 (유사도 내림차순, 최대 K개)
+     */
+    public List<Long> neighborsOf(Long popupId) {
+        if (popupId == null) {
+            return List.of();
+        }
+        return model.neighborsOf(popupId).ids();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("[PopupSimilarity] 이미 재구성 중 - 건너뜀");
+            return;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            PopupCoOccurrenceModel fresh = new PopupCoOccurrenceModel(topK, maxItemsPerUser);
+            int reservations = loadReservations(fresh);
+            int bookmarks = loadBookmarks(fresh);
+            fresh.refreshAll();
+
+            model = fresh;
+            drainPending(fresh);
+            log.info("[PopupSimilarity] 유사 팝업 모델 구성 완료 - reservations={}, bookmarks={}, users={}, popups={}, {}ms",
+                    reservations, bookmarks, fresh.userCount(), fresh.popupCount(),
+                    System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("[PopupSimilarity] 유사 팝업 모델 구성 실패 (기존 모델 유지)", e);
+        } finally {
+            pending.clear();
+            rebuilding.set(false);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationCreated(ReservationCreatedEvent event) {
+        record(event.getUserId(), event.getPopupId(), RESERVATION_WEIGHT);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookmarkChanged(BookmarkChangedEvent event) {
+        if (event.isAdded()) {
+            record(event.getUserId(), event.getPopupId(), BOOKMARK_WEIGHT);
+        }
+    }
+
+    void record(Long userId, Long popupId, float weight) {
+        if (userId == null || popupId == null) {
+            return;
+        }
+        try {
+            PopupCoOccurrenceModel current = model;
+            current.refresh(current.add(userId, popupId, weight));
+            if (rebuilding.get()) {
+                pending.add(new Interaction(userId, popupId, weight));
+            }
+        } catch (RuntimeException e) {
+            log.warn("[PopupSimilarity] 증분 반영 실패 - userId={}, popupId={}, error={}", userId, popupId, e.getMessage());
+        }
+    }
+
+    private int loadReservations(PopupCoOccurrenceModel target) {
+        int loaded = 0;
+        long afterId = 0L;
+        while (true) {
+            List<ReservationRepository.UserPopupRow> rows = reservationRepository.findUserPopupPairsAfter(
+                    ReservationStatus.CANCELLED, afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            if (rows.isEmpty()) {
+                return loaded;
+            }
+            for (ReservationRepository.UserPopupRow row : rows) {
+                target.add(row.getUserId(), row.getPopupId(), RESERVATION_WEIGHT);
+            }
+            loaded += rows.size();
+            afterId = rows.get(rows.size() - 1).getId();
+        }
+    }
+
+    private int loadBookmarks(PopupCoOccurrenceModel target) {
+        int loaded = 0;
+        long afterId = 0L;
+        while (true) {
+            List<BookMarkRepository.UserPopupRow> rows = bookMarkRepository.findUserPopupPairsAfter(
+                    afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            if (rows.isEmpty()) {
+                return loaded;
+            }
+            for (BookMarkRepository.UserPopupRow row : rows) {
+                target.add(row.getUserId(), row.getPopupId(), BOOKMARK_WEIGHT);
+            }
+            loaded += rows.size();
+            afterId = rows.get(rows.size() - 1).getId();
+        }
+    }
+
+    private void drainPending(PopupCoOccurrenceModel target) {
+        Interaction interaction;
+        while ((interaction = pending.poll()) != null) {
+            target.refresh(target.add(interaction.userId, interaction.popupId, interaction.weight));
+        }
+    }
+
+    private static final class Interaction {
+        private final Long userId;
+        private final Long popupId;
+        private final float weight;
+
+        private Interaction(Long userId, Long popupId, float weight) {
+            this.userId = userId;
+            this.popupId = popupId;
+            this.weight = weight;
+        }
+    }
+}
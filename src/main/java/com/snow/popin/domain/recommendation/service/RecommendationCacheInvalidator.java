@@ -0,0 +1,37 @@
+package com.snow.popin.domain.recommendation.service;
+
+import com.snow.popin.domain.popup.entity.PopupStatus;
+import com.snow.popin.domain.popup.event.PopupStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팝업이 종료되면 추천 결과 캐시에 종료된 팝업이 남지 않도록 비움
+ * (추천 캐시는 사용자 단위 키라 팝업 단위로 골라낼 수 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationCacheInvalidator {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    @EventListener
+    public void onPopupStatusChanged(PopupStatusChangedEvent event) {
+        if (event.getStatus() != PopupStatus.ENDED || event.getPopupIds().isEmpty()) {
+            return;
+        }
+        cacheManager.ifAvailable(manager -> {
+            Cache cache = manager.getCache("aiRecommendations");
+            if (cache != null) {
+                cache.clear();
+                log.info("팝업 {}건 종료로 AI 추천 캐시 초기화", event.getPopupIds().size());
+            }
+        });
+    }
+}
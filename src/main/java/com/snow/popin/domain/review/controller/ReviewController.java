@@ -2,6 +2,8 @@ package com.snow.popin.domain.review.controller;
 
 import com.snow.popin.domain.review.dto.*;
 import com.snow.popin.domain.review.service.ReviewService;
+import com.snow.popin.global.constant.ErrorCode;
+import com.snow.popin.global.exception.GeneralException;
 import com.snow.popin.global.util.UserUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +26,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ReviewController {
 
+    private static final int MAX_STATS_BATCH = 100;
+
     private final ReviewService reviewService;
     private final UserUtil userUtil;
 
@@ -79,6 +83,15 @@ public class ReviewController {
         return ResponseEntity.ok(stats);
     }
 
+    // 여러 팝업 리뷰 통계 일괄 조회 (목록 카드용)
+    @GetMapping("/stats")
+    public ResponseEntity<Map<Long, ReviewStatsDto>> getReviewStatsBatch(@RequestParam List<Long> popupIds) {
+        if (popupIds.size() > MAX_STATS_BATCH) {
+            throw new GeneralException(ErrorCode.BAD_REQUEST, "한 번에 조회할 수 있는 팝업은 최대 " + MAX_STATS_BATCH + "개입니다.");
+        }
+        return ResponseEntity.ok(reviewService.getReviewStats(popupIds));
+    }
+
     // 현재 사용자의 리뷰 목록 조회
     @GetMapping("/me")
     public ResponseEntity<Page<ReviewResponseDto>> getMyReviews(
@@ -4,7 +4,10 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 // 리뷰 통계 DTO
 @Slf4j
@@ -13,11 +16,39 @@ public class ReviewStatsDto {
 
     private Double averageRating;
     private Long totalReviews;
+    // 별점(1~5)별 리뷰 수
+    private Map<Integer, Long> ratingHistogram;
+    private LocalDateTime lastReviewedAt;
 
     @Builder
-    public ReviewStatsDto(Double averageRating, Long totalReviews) {
+    public ReviewStatsDto(Double averageRating, Long totalReviews,
+                          Map<Integer, Long> ratingHistogram, LocalDateTime lastReviewedAt) {
         this.averageRating = averageRating != null ? Math.round(averageRating * 10) / 10.0 : 0.0;
         this.totalReviews = totalReviews != null ? totalReviews : 0L;
+        this.ratingHistogram = ratingHistogram != null ? ratingHistogram : histogramOf(new long[5]);
+        this.lastReviewedAt = lastReviewedAt;
+    }
+
+    /**
+     * 집계 값으로 생성
+     *
+     * @param histogram 1~5점 리뷰 수 (길이 5)
+     */
+    public static ReviewStatsDto of(long reviewCount, long ratingSum, long[] histogram, LocalDateTime lastReviewedAt) {
+        return ReviewStatsDto.builder()
+                .averageRating(reviewCount > 0 ? (double) ratingSum / reviewCount : 0.0)
+                .totalReviews(reviewCount)
+                .ratingHistogram(histogramOf(histogram))
+                .lastReviewedAt(lastReviewedAt)
+                .build();
+    }
+
+    private static Map<Integer, Long> histogramOf(long[] histogram) {
+        Map<Integer, Long> result = new LinkedHashMap<>();
+        for (int star = 1; star <= histogram.length; star++) {
+            result.put(star, histogram[star - 1]);
+        }
+        return result;
     }
 
     public static ReviewStatsDto from(Object[] result) {
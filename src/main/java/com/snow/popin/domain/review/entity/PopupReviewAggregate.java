@@ -0,0 +1,86 @@
+package com.snow.popin.domain.review.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * 팝업별 리뷰 집계 (차단되지 않은 리뷰 기준)
+ * 리뷰 작성/수정/삭제/차단 시 같은 트랜잭션에서 증감 쿼리로 갱신하므로,
+ * 평점 통계를 reviews 테이블 집계 없이 기본키 조회 한 번으로 읽는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "popup_review_aggregate")
+public class PopupReviewAggregate {
+
+    @Id
+    @Column(name = "popup_id")
+    private Long popupId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    // 별점별 리뷰 수 (1~5점)
+    @Column(name = "star1_count", nullable = false)
+    private long star1Count;
+
+    @Column(name = "star2_count", nullable = false)
+    private long star2Count;
+
+    @Column(name = "star3_count", nullable = false)
+    private long star3Count;
+
+    @Column(name = "star4_count", nullable = false)
+    private long star4Count;
+
+    @Column(name = "star5_count", nullable = false)
+    private long star5Count;
+
+    @Column(name = "last_reviewed_at")
+    private LocalDateTime lastReviewedAt;
+
+    public static PopupReviewAggregate empty(Long popupId) {
+        PopupReviewAggregate aggregate = new PopupReviewAggregate();
+        aggregate.popupId = popupId;
+        return aggregate;
+    }
+
+    /**
+     * reviews 테이블에서 다시 계산한 값으로 덮어씀
+     *
+     * @param histogram 1~5점 리뷰 수 (길이 5)
+     */
+    public void overwrite(long reviewCount, long ratingSum, long[] histogram, LocalDateTime lastReviewedAt) {
+        this.reviewCount = reviewCount;
+        this.ratingSum = ratingSum;
+        this.star1Count = histogram[0];
+        this.star2Count = histogram[1];
+        this.star3Count = histogram[2];
+        this.star4Count = histogram[3];
+        this.star5Count = histogram[4];
+        this.lastReviewedAt = lastReviewedAt;
+    }
+
+    public long[] getHistogram() {
+        return new long[]{star1Count, star2Count, star3Count, star4Count, star5Count};
+    }
+
+    public double getAverageRating() {
+        return reviewCount > 0 ? (double) ratingSum / reviewCount : 0.0;
+    }
+
+    public boolean matches(long reviewCount, long ratingSum, long[] histogram) {
+        return this.reviewCount == reviewCount
+                && this.ratingSum == ratingSum
+                && Arrays.equals(getHistogram(), histogram);
+    }
+}
@@ -0,0 +1,55 @@
+package com.snow.popin.domain.review.repository;
+
+import com.snow.popin.domain.review.entity.PopupReviewAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PopupReviewAggregateRepository extends JpaRepository<PopupReviewAggregate, Long> {
+
+    // 증감 반영 (동시 작성 시에도 유실되지 않도록 행 단위 원자적 갱신)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PopupReviewAggregate a SET " +
+            "a.reviewCount = a.reviewCount + :count, " +
+            "a.ratingSum = a.ratingSum + :sum, " +
+            "a.star1Count = a.star1Count + :star1, " +
+            "a.star2Count = a.star2Count + :star2, " +
+            "a.star3Count = a.star3Count + :star3, " +
+            "a.star4Count = a.star4Count + :star4, " +
+            "a.star5Count = a.star5Count + :star5 " +
+            "WHERE a.popupId = :popupId")
+    int applyDelta(@Param("popupId") Long popupId,
+                   @Param("count") long count,
+                   @Param("sum") long sum,
+                   @Param("star1") long star1,
+                   @Param("star2") long star2,
+                   @Param("star3") long star3,
+                   @Param("star4") long star4,
+                   @Param("star5") long star5);
+
+    // 마지막 리뷰 시각은 앞으로만 이동
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PopupReviewAggregate a SET a.lastReviewedAt = :reviewedAt " +
+            "WHERE a.popupId = :popupId AND (a.lastReviewedAt IS NULL OR a.lastReviewedAt < :reviewedAt)")
+    int touch(@Param("popupId") Long popupId, @Param("reviewedAt") LocalDateTime reviewedAt);
+
+    // 검증 재계산 시 행 잠금 (진행 중인 증감 트랜잭션이 끝난 뒤 계산)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM PopupReviewAggregate a WHERE a.popupId = :popupId")
+    Optional<PopupReviewAggregate> lockById(@Param("popupId") Long popupId);
+
+    // 리뷰가 남아 있지 않은데 집계가 0이 아닌 팝업
+    @Query("SELECT a.popupId FROM PopupReviewAggregate a " +
+            "WHERE a.reviewCount <> 0 AND NOT EXISTS " +
+            "(SELECT r.id FROM Review r WHERE r.popupId = a.popupId AND r.isBlocked = false)")
+    List<Long> findOrphanedPopupIds();
+}
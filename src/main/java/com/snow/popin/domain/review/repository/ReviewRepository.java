@@ -8,12 +8,43 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
+    interface RatingStats {
+        Long getPopupId();
+
+        Long getReviewCount();
+
+        Long getRatingSum();
+
+        Long getStar1();
+
+        Long getStar2();
+
+        Long getStar3();
+
+        Long getStar4();
+
+        Long getStar5();
+
+        LocalDateTime getLastReviewedAt();
+    }
+
+    String RATING_STATS_SELECT = "SELECT r.popupId AS popupId, COUNT(r) AS reviewCount, SUM(r.rating) AS ratingSum, " +
+            "SUM(CASE WHEN r.rating = 1 THEN 1 ELSE 0 END) AS star1, " +
+            "SUM(CASE WHEN r.rating = 2 THEN 1 ELSE 0 END) AS star2, " +
+            "SUM(CASE WHEN r.rating = 3 THEN 1 ELSE 0 END) AS star3, " +
+            "SUM(CASE WHEN r.rating = 4 THEN 1 ELSE 0 END) AS star4, " +
+            "SUM(CASE WHEN r.rating = 5 THEN 1 ELSE 0 END) AS star5, " +
+            "MAX(r.createdAt) AS lastReviewedAt " +
+            "FROM Review r ";
+
     // 특정 팝업의 차단되지 않은 리뷰 조회 (동적 정렬 및 페이징)
     Page<Review> findByPopupIdAndIsBlockedFalse(Long popupId, Pageable pageable);
 
@@ -34,4 +65,15 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT AVG(r.rating), COUNT(r) FROM Review r " +
             "WHERE r.popupId = :popupId AND r.isBlocked = false")
     Object[] findRatingStatsByPopupId(@Param("popupId") Long popupId);
-}
\ No newline at end of file
+
+    // 팝업별 평점 집계 재계산 (리뷰 집계 검증/초기화용)
+    @Query(RATING_STATS_SELECT +
+            "WHERE r.popupId > :afterPopupId AND r.isBlocked = false " +
+            "GROUP BY r.popupId ORDER BY r.popupId")
+    List<RatingStats> findRatingStatsAfter(@Param("afterPopupId") Long afterPopupId, Pageable pageable);
+
+    @Query(RATING_STATS_SELECT +
+            "WHERE r.popupId IN :popupIds AND r.isBlocked = false " +
+            "GROUP BY r.popupId")
+    List<RatingStats> findRatingStatsByPopupIds(@Param("popupIds") Collection<Long> popupIds);
+}
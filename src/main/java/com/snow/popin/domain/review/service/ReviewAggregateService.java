@@ -0,0 +1,256 @@
+package com.snow.popin.domain.review.service;
+
+import com.snow.popin.domain.review.dto.ReviewStatsDto;
+import com.snow.popin.domain.review.entity.PopupReviewAggregate;
+import com.snow.popin.domain.review.entity.Review;
+import com.snow.popin.domain.review.repository.PopupReviewAggregateRepository;
+import com.snow.popin.domain.review.repository.ReviewRepository;
+import com.snow.popin.domain.review.repository.ReviewRepository.RatingStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 팝업 리뷰 집계(popup_review_aggregate) 관리
+ * - 리뷰 작성/수정/삭제/차단 시 호출 트랜잭션 안에서 증감 쿼리로 반영
+ * - 집계 행이 없으면 커밋된 리뷰로 계산한 행을 별도 트랜잭션에서 만든 뒤 반영
+ * - 검증 작업이 reviews 테이블 기준으로 다시 계산해 차이가 있는 팝업만 바로잡는다.
+ */
+@Service
+@Slf4j
+public class ReviewAggregateService {
+
+    public static final String VERIFY_JOB_NAME = "review-aggregate-verify";
+    private static final int VERIFY_PAGE_SIZE = 500;
+
+    private final PopupReviewAggregateRepository aggregateRepository;
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate requiresNew;
+    private final Counter driftCounter;
+
+    public ReviewAggregateService(PopupReviewAggregateRepository aggregateRepository,
+                                  ReviewRepository reviewRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.aggregateRepository = aggregateRepository;
+        this.reviewRepository = reviewRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.driftCounter = meterRegistry.counter("review.aggregate.drift");
+    }
+
+    /**
+     * 리뷰가 집계에 포함됨 (작성, 차단 해제)
+     */
+    @Transactional
+    public void onAdded(Review review) {
+        apply(review.getPopupId(), 1, review.getRating());
+        LocalDateTime reviewedAt = review.getCreatedAt() != null ? review.getCreatedAt() : LocalDateTime.now();
+        aggregateRepository.touch(review.getPopupId(), reviewedAt);
+    }
+
+    /**
+     * 리뷰가 집계에서 빠짐 (삭제, 차단)
+     * 마지막 리뷰 시각은 되돌리지 않으며 검증 작업에서 바로잡는다.
+     */
+    @Transactional
+    public void onRemoved(Review review) {
+        apply(review.getPopupId(), -1, review.getRating());
+    }
+
+    @Transactional
+    public void onRatingChanged(Long popupId, int oldRating, int newRating) {
+        if (oldRating == newRating) {
+            return;
+        }
+        apply(popupId, -1, oldRating);
+        apply(popupId, 1, newRating);
+    }
+
+    /**
+     * 팝업 평점 통계 (집계 행이 없으면 리뷰에서 계산)
+     */
+    @Transactional(readOnly = true)
+    public ReviewStatsDto getStats(Long popupId) {
+        return getStats(List.of(popupId)).get(popupId);
+    }
+
+    /**
+     * 여러 팝업의 평점 통계를 한 번에 조회 (목록 페이지용)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ReviewStatsDto> getStats(Collection<Long> popupIds) {
+        Set<Long> ids = new LinkedHashSet<>(popupIds);
+        Map<Long, ReviewStatsDto> result = new HashMap<>();
+        for (PopupReviewAggregate aggregate : aggregateRepository.findAllById(ids)) {
+            result.put(aggregate.getPopupId(), toDto(aggregate));
+        }
+
+        Set<Long> missing = ids.stream().filter(id -> !result.containsKey(id)).collect(Collectors.toSet());
+        if (!missing.isEmpty()) {
+            Map<Long, RatingStats> computed = reviewRepository.findRatingStatsByPopupIds(missing).stream()
+                    .collect(Collectors.toMap(RatingStats::getPopupId, Function.identity()));
+            for (Long id : missing) {
+                RatingStats stats = computed.get(id);
+                result.put(id, stats != null
+                        ? ReviewStatsDto.of(stats.getReviewCount(), stats.getRatingSum(), histogramOf(stats),
+                        stats.getLastReviewedAt())
+                        : ReviewStatsDto.of(0, 0, new long[5], null));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 전체 집계 검증: reviews 기준으로 다시 계산해 차이가 있는 팝업을 바로잡는다.
+     */
+    public VerifyResult verify() {
+        VerifyResult result = new VerifyResult();
+        long afterPopupId = 0L;
+        while (true) {
+            List<RatingStats> page = reviewRepository.findRatingStatsAfter(afterPopupId, PageRequest.of(0, VERIFY_PAGE_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+            Map<Long, PopupReviewAggregate> aggregates = aggregateRepository.findAllById(
+                            page.stream().map(RatingStats::getPopupId).collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.toMap(PopupReviewAggregate::getPopupId, Function.identity()));
+
+            for (RatingStats stats : page) {
+                result.checked++;
+                PopupReviewAggregate aggregate = aggregates.get(stats.getPopupId());
+                if (aggregate == null) {
+                    result.created++;
+                    rebuild(stats.getPopupId());
+                } else if (!aggregate.matches(stats.getReviewCount(), stats.getRatingSum(), histogramOf(stats))) {
+                    if (rebuild(stats.getPopupId())) {
+                        result.drifted++;
+                    }
+                }
+            }
+            afterPopupId = page.get(page.size() - 1).getPopupId();
+        }
+
+        // 리뷰가 모두 삭제/차단됐는데 집계가 남은 팝업
+        for (Long popupId : aggregateRepository.findOrphanedPopupIds()) {
+            result.checked++;
+            if (rebuild(popupId)) {
+                result.drifted++;
+            }
+        }
+
+        log.info("[ReviewAggregate] 검증 완료 - checked={}, created={}, drifted={}",
+                result.checked, result.created, result.drifted);
+        return result;
+    }
+
+    /**
+     * 팝업 하나의 집계를 잠근 상태에서 다시 계산
+     *
+     * @return 기존 값과 달랐으면 true
+     */
+    boolean rebuild(Long popupId) {
+        createIfAbsent(popupId);
+        Boolean drifted = requiresNew.execute(status -> {
+            PopupReviewAggregate aggregate = aggregateRepository.lockById(popupId).orElseThrow();
+            // 잠금 이후 읽으므로 진행 중이던 증감 트랜잭션의 리뷰 변경이 포함된다
+            List<RatingStats> stats = reviewRepository.findRatingStatsByPopupIds(List.of(popupId));
+            long count = stats.isEmpty() ? 0 : stats.get(0).getReviewCount();
+            long sum = stats.isEmpty() ? 0 : stats.get(0).getRatingSum();
+            long[] histogram = stats.isEmpty() ? new long[5] : histogramOf(stats.get(0));
+            LocalDateTime last = stats.isEmpty() ? null : stats.get(0).getLastReviewedAt();
+
+            boolean changed = !aggregate.matches(count, sum, histogram);
+            if (changed) {
+                log.warn("[ReviewAggregate] 집계 불일치 보정 - popupId={}, count {} -> {}, sum {} -> {}",
+                        popupId, aggregate.getReviewCount(), count, aggregate.getRatingSum(), sum);
+                driftCounter.increment();
+            }
+            aggregate.overwrite(count, sum, histogram, last);
+            return changed;
+        });
+        return Boolean.TRUE.equals(drifted);
+    }
+
+    private void apply(Long popupId, int sign, Integer rating) {
+        // 없는 행에 대한 갱신은 갭 락을 잡아 별도 트랜잭션의 생성과 교착되므로 존재 확인(잠금 없는 읽기)을 먼저 한다
+        if (!aggregateRepository.existsById(popupId)) {
+            createIfAbsent(popupId);
+        }
+        int star = rating != null ? rating : 0;
+        int updated = aggregateRepository.applyDelta(popupId, sign, (long) sign * star,
+                star == 1 ? sign : 0,
+                star == 2 ? sign : 0,
+                star == 3 ? sign : 0,
+                star == 4 ? sign : 0,
+                star == 5 ? sign : 0);
+        if (updated == 0) {
+            throw new IllegalStateException("리뷰 집계를 만들 수 없습니다. popupId=" + popupId);
+        }
+    }
+
+    /**
+     * 커밋된 리뷰로 계산한 집계 행 생성 (호출 트랜잭션의 미커밋 변경은 포함되지 않음)
+     */
+    private void createIfAbsent(Long popupId) {
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                if (aggregateRepository.existsById(popupId)) {
+                    return;
+                }
+                PopupReviewAggregate aggregate = PopupReviewAggregate.empty(popupId);
+                List<RatingStats> stats = reviewRepository.findRatingStatsByPopupIds(List.of(popupId));
+                if (!stats.isEmpty()) {
+                    RatingStats s = stats.get(0);
+                    aggregate.overwrite(s.getReviewCount(), s.getRatingSum(), histogramOf(s), s.getLastReviewedAt());
+                }
+                aggregateRepository.saveAndFlush(aggregate);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 팝업의 동시 작성으로 다른 요청이 먼저 생성
+            log.debug("[ReviewAggregate] 집계 행 동시 생성 - popupId={}", popupId);
+        }
+    }
+
+    private static ReviewStatsDto toDto(PopupReviewAggregate aggregate) {
+        return ReviewStatsDto.of(aggregate.getReviewCount(), aggregate.getRatingSum(),
+                aggregate.getHistogram(), aggregate.getLastReviewedAt());
+    }
+
+    private static long[] histogramOf(RatingStats stats) {
+        return new long[]{
+                nz(stats.getStar1()), nz(stats.getStar2()), nz(stats.getStar3()),
+                nz(stats.getStar4()), nz(stats.getStar5())};
+    }
+
+    private static long nz(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    @Getter
+    public static class VerifyResult {
+        private int checked;
+        private int created;
+        private int drifted;
+    }
+}
@@ -17,7 +17,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,6 +30,7 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final PopupRepository popupRepository;
     private final UserRepository userRepository;
+    private final ReviewAggregateService reviewAggregateService;
 
     /**
      * 리뷰 작성
@@ -53,6 +56,7 @@ public class ReviewService {
 
         // 연관관계 설정 (조회용)
         savedReview = reviewRepository.findById(savedReview.getId()).orElseThrow();
+        reviewAggregateService.onAdded(savedReview);
 
         log.info("리뷰 작성 완료 - 사용자: {}, 팝업: {}, 평점: {}",
                 user.getName(), popup.getTitle(), request.getRating());
@@ -78,8 +82,12 @@ public class ReviewService {
         }
 
         // 내용 수정
+        Integer oldRating = review.getRating();
         review.updateContent(request.getContent());
         review.updateRating(request.getRating());
+        if (oldRating != null && request.getRating() != null) {
+            reviewAggregateService.onRatingChanged(review.getPopupId(), oldRating, request.getRating());
+        }
 
         log.info("리뷰 수정 완료 - 리뷰ID: {}, 사용자ID: {}", reviewId, userId);
 
@@ -104,6 +112,7 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+        reviewAggregateService.onRemoved(review);
         log.info("리뷰 삭제 완료 - 리뷰ID: {}, 사용자ID: {}", reviewId, userId);
     }
 
@@ -160,33 +169,53 @@ public class ReviewService {
     }
 
     /**
-     * 팝업 리뷰 통계 조회
+     * 리뷰 차단 (집계에서 제외)
      */
-    @Transactional(readOnly = true)
-    public ReviewStatsDto getReviewStats(Long popupId) {
-        log.info("리뷰 통계 조회 - 팝업ID: {}", popupId);
-
-        long actualCount = reviewRepository.countByPopupIdAndIsBlockedFalse(popupId);
-        log.info("실제 리뷰 개수: {}", actualCount);
+    @Transactional
+    public void blockReview(Long reviewId) {
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new ReviewException.ReviewNotFound(reviewId));
+        if (review.isBlocked()) {
+            return;
+        }
 
-        Object[] result = reviewRepository.findRatingStatsByPopupId(popupId);
+        review.block();
+        reviewAggregateService.onRemoved(review);
+        log.info("리뷰 차단 완료 - 리뷰ID: {}", reviewId);
+    }
 
-        // 상세 디버깅
-        log.info("result == null? {}", result == null);
-        if (result != null) {
-            log.info("[리뷰] result.length: {}", result.length);
-            for (int i = 0; i < result.length; i++) {
-                log.info("[리뷰]  result[{}]: {} (type: {})", i, result[i],
-                        result[i] != null ? result[i].getClass().getSimpleName() : "null");
-            }
+    /**
+     * 리뷰 차단 해제 (집계에 다시 포함)
+     */
+    @Transactional
+    public void unblockReview(Long reviewId) {
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new ReviewException.ReviewNotFound(reviewId));
+        if (!review.isBlocked()) {
+            return;
         }
 
-        ReviewStatsDto statsDto = ReviewStatsDto.from(result);
-        log.info("최종 DTO: averageRating={}, totalReviews={}",
-                statsDto.getAverageRating(), statsDto.getTotalReviews());
+        review.unblock();
+        reviewAggregateService.onAdded(review);
+        log.info("리뷰 차단 해제 완료 - 리뷰ID: {}", reviewId);
+    }
 
-        return statsDto;
+    /**
+     * 팝업 리뷰 통계 조회 (리뷰 집계 행 기본키 조회)
+     */
+    @Transactional(readOnly = true)
+    public ReviewStatsDto getReviewStats(Long popupId) {
+        return reviewAggregateService.getStats(popupId);
     }
+
+    /**
+     * 여러 팝업 리뷰 통계 일괄 조회 (목록 페이지용)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ReviewStatsDto> getReviewStats(Collection<Long> popupIds) {
+        return reviewAggregateService.getStats(popupIds);
+    }
+
     /**
      * 사용자가 해당 팝업에 리뷰 작성 여부 확인
      */
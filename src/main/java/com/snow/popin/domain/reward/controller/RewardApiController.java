@@ -9,6 +9,7 @@ import com.snow.popin.domain.reward.dto.response.UserRewardResponseDto;
 import com.snow.popin.domain.reward.entity.UserReward;
 import com.snow.popin.domain.reward.service.RewardService;
 import com.snow.popin.domain.user.service.UserService;
+import com.snow.popin.global.idempotency.Idempotent;
 import com.snow.popin.global.util.UserUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -46,6 +47,7 @@ public class RewardApiController {
     }
 
     // 발급 (유저당 1회, 재고 차감)
+    @Idempotent
     @PostMapping("/claim")
     public ResponseEntity<ClaimResponseDto> claim(@RequestBody @Valid ClaimRequestDto req) {
         Long userId = userUtil.getCurrentUserId();
@@ -6,9 +6,11 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Formula;
 
 import javax.persistence.*;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Table(
@@ -36,10 +38,17 @@ public class RewardOption extends BaseEntity {
     @Column(nullable = false)
     private int total;
 
-    // 발급된 개수
-    @Column(nullable = false)
+    // 재고 분할 이전 발급 수 (샤드가 만들어질 때 첫 샤드로 이관되고 이후에는 변경하지 않음)
+    @Column(name = "issued", nullable = false)
+    private int legacyIssued;
+
+    // 발급된 개수 = 샤드 발급 수 합계 (샤드가 아직 없으면 이전 컬럼 값)
+    @Formula("coalesce((select sum(s.issued) from reward_stock_shard s where s.option_id = id), issued)")
     private int issued;
 
+    @OneToMany(mappedBy = "option", cascade = CascadeType.REMOVE)
+    private List<RewardStockShard> shards = new ArrayList<>();
+
     @Version
     private long version;
 
@@ -49,7 +58,7 @@ public class RewardOption extends BaseEntity {
         this.missionSet = missionSet;
         this.name = name;
         this.total = total;
-        this.issued = 0;
+        this.legacyIssued = 0;
     }
 
     public void update(String name, int total) {
@@ -62,14 +71,6 @@ public class RewardOption extends BaseEntity {
         return Math.max(0, total - issued);
     }
 
-    // 재고 차감 (초과 방지)
-    public void consumeOne() {
-        if (getRemaining() <= 0) {
-            throw new IllegalStateException("OUT_OF_STOCK");
-        }
-        issued++;
-    }
-
     public void setMissionSet(MissionSet missionSet) {
         this.missionSet = missionSet;
     }
@@ -0,0 +1,57 @@
+package com.snow.popin.domain.reward.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 리워드 옵션 재고 분할 카운터
+ * 옵션 재고를 여러 행으로 나눠 두고, 발급 시 임의의 행을 조건부 UPDATE로 차감한다.
+ * 동시 발급이 한 행의 락에 몰리지 않고 샤드 수만큼 분산된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "reward_stock_shard",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reward_stock_shard_option_no", columnNames = {"option_id", "shard_no"}))
+public class RewardStockShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "option_id", nullable = false)
+    private RewardOption option;
+
+    @Column(name = "shard_no", nullable = false)
+    private int shardNo;
+
+    // 이 샤드에 배정된 재고
+    @Column(nullable = false)
+    private int total;
+
+    // 이 샤드에서 발급된 개수
+    @Column(nullable = false)
+    private int issued;
+
+    public static RewardStockShard of(RewardOption option, int shardNo, int total, int issued) {
+        RewardStockShard shard = new RewardStockShard();
+        shard.option = option;
+        shard.shardNo = shardNo;
+        shard.total = total;
+        shard.issued = issued;
+        return shard;
+    }
+
+    public int getRemaining() {
+        return Math.max(0, total - issued);
+    }
+
+    // 남은 재고 재배정 (발급 수는 유지)
+    public void reassign(int remaining) {
+        this.total = issued + remaining;
+    }
+}
@@ -0,0 +1,40 @@
+package com.snow.popin.domain.reward.repository;
+
+import com.snow.popin.domain.reward.entity.RewardStockShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+
+public interface RewardStockShardRepository extends JpaRepository<RewardStockShard, Long> {
+
+    interface ShardRemaining {
+        Long getId();
+
+        int getRemaining();
+    }
+
+    // 락 없이 샤드별 남은 재고 조회 (차감 대상 선택용)
+    @Query("SELECT s.id AS id, (s.total - s.issued) AS remaining FROM RewardStockShard s " +
+            "WHERE s.option.id = :optionId")
+    List<ShardRemaining> findRemainingByOptionId(@Param("optionId") Long optionId);
+
+    /**
+     * 샤드 1개 차감 (남은 재고가 있을 때만, 영향 행 수 1 = 성공)
+     * 같은 트랜잭션의 다른 엔티티를 분리하지 않도록 영속성 컨텍스트는 비우지 않는다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE RewardStockShard s SET s.issued = s.issued + 1 WHERE s.id = :id AND s.issued < s.total")
+    int tryConsume(@Param("id") Long id);
+
+    // 재배정/재고 변경 시 옵션의 샤드를 모두 잠금 (샤드 번호 순으로 잠가 교착 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM RewardStockShard s WHERE s.option.id = :optionId ORDER BY s.shardNo")
+    List<RewardStockShard> lockByOptionId(@Param("optionId") Long optionId);
+
+    long countByOption_Id(Long optionId);
+}
@@ -1,9 +1,8 @@
 package com.snow.popin.domain.reward.service;
 
-import com.snow.popin.domain.mission.constant.UserMissionStatus;
 import com.snow.popin.domain.mission.entity.MissionSet;
 import com.snow.popin.domain.mission.repository.MissionSetRepository;
-import com.snow.popin.domain.mission.repository.UserMissionRepository;
+import com.snow.popin.domain.mission.service.UserMissionProgressService;
 import com.snow.popin.domain.reward.constant.UserRewardStatus;
 import com.snow.popin.domain.reward.entity.RewardOption;
 import com.snow.popin.domain.reward.entity.UserReward;
@@ -11,20 +10,43 @@ import com.snow.popin.domain.reward.repository.RewardOptionRepository;
 import com.snow.popin.domain.reward.repository.UserRewardRepository;
 import com.snow.popin.global.exception.MissionException;
 import com.snow.popin.global.exception.RewardException;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class RewardService {
 
+    // 샤드 락 교착으로 발급 트랜잭션이 희생되었을 때 다시 시도하는 최대 횟수
+    private static final int CLAIM_ATTEMPTS = 3;
+
     private final RewardOptionRepository rewardOptionRepository;
     private final UserRewardRepository rewardRepository;
     private final MissionSetRepository missionSetRepository;
-    private final UserMissionRepository userMissionRepository;
+    private final UserMissionProgressService userMissionProgressService;
+    private final RewardStockService rewardStockService;
+    private final TransactionTemplate transactionTemplate;
+
+    public RewardService(RewardOptionRepository rewardOptionRepository,
+                         UserRewardRepository rewardRepository,
+                         MissionSetRepository missionSetRepository,
+                         UserMissionProgressService userMissionProgressService,
+                         RewardStockService rewardStockService,
+                         PlatformTransactionManager transactionManager) {
+        this.rewardOptionRepository = rewardOptionRepository;
+        this.rewardRepository = rewardRepository;
+        this.missionSetRepository = missionSetRepository;
+        this.userMissionProgressService = userMissionProgressService;
+        this.rewardStockService = rewardStockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     @Transactional(readOnly = true)
     public List<RewardOption> listOptions(UUID missionSetId) {
@@ -33,9 +55,25 @@ public class RewardService {
 
     /**
      * 발급: 유저당 1회 / 미션 조건 충족 / 옵션 재고 차감
+     * - 재고 소진 직전에는 여러 샤드를 시도하는 발급끼리, 또는 재배정과 교착될 수 있어
+     *   DB가 희생시킨 트랜잭션은 새 트랜잭션으로 다시 시도한다. (호출자 트랜잭션에 참여 중이면 재시도하지 않음)
      */
-    @Transactional
     public UserReward claim(UUID missionSetId, Long optionId, Long userId) {
+        boolean retryable = !TransactionSynchronizationManager.isActualTransactionActive();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> issue(missionSetId, optionId, userId));
+            } catch (ConcurrencyFailureException e) {
+                if (!retryable || attempt >= CLAIM_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("[Reward] 발급 트랜잭션 교착으로 재시도 - optionId={}, userId={}, attempt={}",
+                        optionId, userId, attempt);
+            }
+        }
+    }
+
+    private UserReward issue(UUID missionSetId, Long optionId, Long userId) {
         // 이미 발급된 게 있으면 그대로 반환 (idempotent)
         var existing = rewardRepository.findByUserIdAndMissionSetId(userId, missionSetId);
         if (existing.isPresent()) {
@@ -45,22 +83,22 @@ public class RewardService {
         // 미션 조건 확인
         MissionSet missionSet = missionSetRepository.findById(missionSetId)
                 .orElseThrow(MissionException.MissionSetNotFound::new);
-        int required = Optional.ofNullable(missionSet.getRequiredCount()).orElse(0);
-        long success = userMissionRepository.countByUser_IdAndMission_MissionSet_IdAndStatus(
-                userId, missionSetId, UserMissionStatus.COMPLETED);
-        if (success < required) {
+        boolean cleared = userMissionProgressService.find(userId, missionSetId)
+                .map(progress -> progress.isCleared(missionSet.getRequiredCount()))
+                .orElseGet(() -> missionSet.isCleared(0));
+        if (!cleared) {
             throw new MissionException.MissionNotCleared();
         }
 
-        // 옵션 잠금 + 재고 차감
-        RewardOption opt = rewardOptionRepository.lockById(optionId)
+        RewardOption opt = rewardOptionRepository.findById(optionId)
                 .orElseThrow(RewardException.OptionNotFound::new);
 
         if (!opt.getMissionSet().getId().equals(missionSetId)) {
             throw new RewardException.OptionNotInMissionSet();
         }
 
-        opt.consumeOne(); // 재고 없으면 RewardException.OutOfStock 발생
+        // 분할 재고 차감 (옵션 행을 잠그지 않음, 재고 없으면 RewardException.OutOfStock 발생)
+        rewardStockService.consumeOne(opt);
 
         // 지급 레코드 생성
         UserReward userReward = UserReward.builder()
@@ -0,0 +1,196 @@
+package com.snow.popin.domain.reward.service;
+
+import com.snow.popin.domain.reward.entity.RewardOption;
+import com.snow.popin.domain.reward.entity.RewardStockShard;
+import com.snow.popin.domain.reward.repository.RewardOptionRepository;
+import com.snow.popin.domain.reward.repository.RewardStockShardRepository;
+import com.snow.popin.domain.reward.repository.RewardStockShardRepository.ShardRemaining;
+import com.snow.popin.global.exception.RewardException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 리워드 재고 분할 카운터 관리
+ * - 옵션 재고를 샤드 행 N개로 나누고, 발급 시 남은 샤드 중 임의의 행을 조건부 UPDATE로 차감
+ *   (옵션 행 하나에 비관적 락을 거는 대신 N개 행으로 경합 분산)
+ * - 절반 이상의 샤드가 소진되면 남은 재고를 전체 샤드에 다시 고르게 배정
+ *   (재배정은 최적화일 뿐이므로 차감 중인 트랜잭션과 락이 엇갈려 실패하면 건너뜀)
+ * - 옵션의 발급 수는 샤드 합계로 계산되어 관리자에게는 하나의 재고로 보인다. (RewardOption.issued)
+ * - 샤드가 없는 기존 옵션은 첫 발급 시 샤드를 만든다.
+ */
+@Service
+@Slf4j
+public class RewardStockService {
+
+    private final RewardStockShardRepository shardRepository;
+    private final RewardOptionRepository optionRepository;
+    private final TransactionTemplate requiresNew;
+
+    @Value("${reward.stock.shards:8}")
+    private int shardCount = 8;
+
+    public RewardStockService(RewardStockShardRepository shardRepository,
+                              RewardOptionRepository optionRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.shardRepository = shardRepository;
+        this.optionRepository = optionRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 재고 1개 차감 (호출 트랜잭션 안에서 실행, 롤백되면 차감도 취소)
+     *
+     * @return 차감한 샤드 ID
+     * @throws RewardException.OutOfStock 남은 재고가 없을 때
+     */
+    public Long consumeOne(RewardOption option) {
+        Long optionId = option.getId();
+        List<ShardRemaining> shards = shardRepository.findRemainingByOptionId(optionId);
+        if (shards.isEmpty()) {
+            // 새 트랜잭션에서 만든 행은 호출 트랜잭션의 스냅샷(REPEATABLE READ)에 보이지 않으므로 그 안에서 다시 조회
+            shards = requiresNew.execute(status -> {
+                createShardsIfAbsent(optionId);
+                return shardRepository.findRemainingByOptionId(optionId);
+            });
+        }
+
+        List<Long> available = availableIds(shards);
+        if (available.isEmpty()) {
+            throw new RewardException.OutOfStock();
+        }
+        if (isSkewed(shards, available.size())) {
+            // 차감 전(샤드 락을 잡기 전)에 별도 트랜잭션으로 재배정
+            List<ShardRemaining> rebalanced = tryRebalance(optionId);
+            if (rebalanced != null) {
+                available = availableIds(rebalanced);
+            }
+        }
+
+        Collections.shuffle(available, ThreadLocalRandom.current());
+        for (Long shardId : available) {
+            if (shardRepository.tryConsume(shardId) == 1) {
+                return shardId;
+            }
+        }
+        // 조회 이후 다른 요청이 남은 샤드를 모두 소진
+        throw new RewardException.OutOfStock();
+    }
+
+    /**
+     * 새 옵션의 샤드 생성 (옵션 저장과 같은 트랜잭션)
+     */
+    public void initialize(RewardOption option) {
+        shardRepository.saveAll(buildShards(option));
+    }
+
+    /**
+     * 옵션 총 재고 변경 - 발급 수는 유지하고 남은 재고를 샤드에 다시 배정
+     */
+    public void resize(RewardOption option, int newTotal) {
+        List<RewardStockShard> shards = shardRepository.lockByOptionId(option.getId());
+        if (shards.isEmpty()) {
+            return; // 첫 발급 시 새 총량 기준으로 생성됨
+        }
+        int issued = shards.stream().mapToInt(RewardStockShard::getIssued).sum();
+        assign(shards, Math.max(0, newTotal - issued));
+    }
+
+    /**
+     * 남은 재고를 전체 샤드에 고르게 재배정
+     */
+    void rebalance(Long optionId) {
+        List<RewardStockShard> shards = shardRepository.lockByOptionId(optionId);
+        int remaining = shards.stream().mapToInt(RewardStockShard::getRemaining).sum();
+        assign(shards, remaining);
+        log.debug("[RewardStock] 샤드 재배정 - optionId={}, shards={}, remaining={}", optionId, shards.size(), remaining);
+    }
+
+    /**
+     * 재배정 후 샤드별 남은 재고 (교착/락 대기 초과로 실패하면 null - 기존 조회 결과로 차감 진행)
+     * 실패한 샤드를 잡은 채 다음 샤드를 기다리는 차감 트랜잭션과, 샤드 번호 순으로 전부 잠그는 재배정이 엇갈릴 수 있다.
+     */
+    private List<ShardRemaining> tryRebalance(Long optionId) {
+        try {
+            return requiresNew.execute(status -> {
+                rebalance(optionId);
+                return shardRepository.findRemainingByOptionId(optionId);
+            });
+        } catch (ConcurrencyFailureException e) {
+            log.debug("[RewardStock] 샤드 재배정 건너뜀 - optionId={}, cause={}", optionId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 절반 이상의 샤드가 소진되었고, 남은 재고를 다시 나눌 만큼 있을 때
+     */
+    static boolean isSkewed(List<ShardRemaining> shards, int availableCount) {
+        int drained = shards.size() - availableCount;
+        int remaining = shards.stream().mapToInt(s -> Math.max(0, s.getRemaining())).sum();
+        return drained * 2 >= shards.size() && remaining >= shards.size() && shards.size() > 1;
+    }
+
+    /**
+     * amount를 parts개로 최대한 고르게 나눔 (앞쪽 샤드부터 1개씩 더 배정)
+     */
+    static int[] split(int amount, int parts) {
+        int[] result = new int[parts];
+        for (int i = 0; i < parts; i++) {
+            result[i] = amount / parts + (i < amount % parts ? 1 : 0);
+        }
+        return result;
+    }
+
+    private void createShardsIfAbsent(Long optionId) {
+        // 옵션 행을 잠가 동시 첫 발급에서 샤드가 두 번 만들어지지 않도록 함
+        RewardOption option = optionRepository.lockById(optionId)
+                .orElseThrow(RewardException.OptionNotFound::new);
+        if (shardRepository.countByOption_Id(optionId) > 0) {
+            return;
+        }
+        shardRepository.saveAll(buildShards(option));
+        log.info("[RewardStock] 샤드 생성 - optionId={}, total={}, issued={}",
+                optionId, option.getTotal(), option.getLegacyIssued());
+    }
+
+    private List<RewardStockShard> buildShards(RewardOption option) {
+        int issued = option.getLegacyIssued();
+        int remaining = Math.max(0, option.getTotal() - issued);
+        int parts = Math.max(1, Math.min(shardCount, remaining));
+        int[] shares = split(remaining, parts);
+
+        // 이전 발급 수는 첫 샤드에 기록하여 합계를 유지
+        List<RewardStockShard> shards = new ArrayList<>(parts);
+        for (int i = 0; i < parts; i++) {
+            int shardIssued = i == 0 ? issued : 0;
+            shards.add(RewardStockShard.of(option, i, shardIssued + shares[i], shardIssued));
+        }
+        return shards;
+    }
+
+    private static void assign(List<RewardStockShard> shards, int remaining) {
+        int[] shares = split(remaining, shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            shards.get(i).reassign(shares[i]);
+        }
+    }
+
+    private static List<Long> availableIds(List<ShardRemaining> shards) {
+        return shards.stream()
+                .filter(s -> s.getRemaining() > 0)
+                .map(ShardRemaining::getId)
+                .collect(Collectors.toList());
+    }
+}
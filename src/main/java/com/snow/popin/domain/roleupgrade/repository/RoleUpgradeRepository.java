@@ -39,6 +39,10 @@ public interface RoleUpgradeRepository extends JpaRepository<RoleUpgrade, Long>
     // 특정 이메일의 최신 요청 조회
     Optional<RoleUpgrade> findFirstByEmailOrderByCreatedAtDesc(String email);
 
+    // 업로드 문서 조회 권한 확인: 해당 문서를 첨부한 신청자인지
+    @Query("SELECT COUNT(d) > 0 FROM RoleUpgradeDocument d WHERE d.roleUpgrade.email = :email AND d.fileUrl = :fileUrl")
+    boolean existsByEmailAndDocumentUrl(@Param("email") String email, @Param("fileUrl") String fileUrl);
+
     // 대기중인 요청 개수 조회 (관리자용)
     long countByStatus(ApprovalStatus status);
 
@@ -87,6 +87,7 @@ public class RoleUpgradeService {
                             .build();
 
                     roleUpgrade.addDocument(document);
+                    fileStorageService.acquire(fileUrl);
 
                     log.info("문서 첨부 완료. RequestId: {}, FileName: {}, FileUrl: {}",
                             roleUpgrade.getId(),
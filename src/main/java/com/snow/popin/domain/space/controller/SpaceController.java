@@ -9,7 +9,9 @@ import com.snow.popin.domain.user.entity.User;
 import com.snow.popin.global.util.UserUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.BindingResult;
@@ -52,21 +54,24 @@ public class SpaceController {
      * @param location 주소 검색 키워드 (선택)
      * @param minArea  최소 면적 (선택)
      * @param maxArea  최대 면적 (선택)
-     * @return 검색 조건에 맞는 공간 리스트
+     * @param pageable 페이지 정보 (기본 50건, 최대 100건)
+     * @return 검색 조건에 맞는 공간 페이지 (관련도 순, totalElements로 전체 건수 제공)
      */
     @GetMapping("/search")
-    public List<SpaceListResponseDto> searchSpaces(
+    public Page<SpaceListResponseDto> searchSpaces(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) Integer minArea,
-            @RequestParam(required = false) Integer maxArea
+            @RequestParam(required = false) Integer maxArea,
+            @PageableDefault(size = 50) Pageable pageable
     ) {
         User me = userUtil.getCurrentUser();
         log.info("[SpaceController] 공간 검색 요청: userId={}, keyword={}, location={}, minArea={}, maxArea={}",
                 me.getId(), keyword, location, minArea, maxArea);
 
-        List<SpaceListResponseDto> result = spaceService.searchSpaces(me, keyword, location, minArea, maxArea);
-        log.info("[SpaceController] 공간 검색 완료: userId={}, count={}", me.getId(), result.size());
+        Page<SpaceListResponseDto> result = spaceService.searchSpaces(me, keyword, location, minArea, maxArea, pageable);
+        log.info("[SpaceController] 공간 검색 완료: userId={}, count={}, total={}",
+                me.getId(), result.getNumberOfElements(), result.getTotalElements());
         return result;
     }
 
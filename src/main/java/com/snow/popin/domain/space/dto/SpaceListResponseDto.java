@@ -2,6 +2,8 @@ package com.snow.popin.domain.space.dto;
 
 import com.snow.popin.domain.space.entity.Space;
 import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.global.image.ImageVariant;
+import com.snow.popin.global.image.ImageVariants;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 import lombok.Getter;
@@ -28,6 +30,7 @@ public class SpaceListResponseDto {
 
     private Integer rentalFee;
     private String coverImageUrl;
+    private String coverImageSrcset;
 
     @JsonFormat(pattern = "yyyy-MM-dd")
     private LocalDateTime createdAt;
@@ -46,7 +49,9 @@ public class SpaceListResponseDto {
                 .startDate(space.getStartDate())
                 .endDate(space.getEndDate())
                 .rentalFee(space.getRentalFee())
-                .coverImageUrl(space.getCoverImageUrl())
+                // 목록은 카드 크기 변형 사용 (생성 전이면 원본)
+                .coverImageUrl(ImageVariants.resolve(space.getCoverImageVariants(), ImageVariant.CARD, space.getCoverImageUrl()))
+                .coverImageSrcset(space.getCoverImageVariants() != null ? space.getCoverImageVariants().toSrcset() : null)
                 .createdAt(space.getCreatedAt())
                 .mine(me != null && java.util.Objects.equals(space.getOwner().getId(), me.getId()))
                 .build();
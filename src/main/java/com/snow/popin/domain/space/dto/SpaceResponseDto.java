@@ -1,6 +1,8 @@
 package com.snow.popin.domain.space.dto;
 
 import com.snow.popin.domain.space.entity.Space;
+import com.snow.popin.global.image.ImageVariant;
+import com.snow.popin.global.image.ImageVariants;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 import lombok.Getter;
@@ -26,6 +28,7 @@ public class SpaceResponseDto {
     private Integer rentalFee;
     private String contactPhone;
     private String coverImageUrl;
+    private String coverImageSrcset;
     private Boolean isPublic;
     private Boolean isOfficial;
 
@@ -69,7 +72,8 @@ public class SpaceResponseDto {
                 .endDate(space.getEndDate())
                 .rentalFee(space.getRentalFee())
                 .contactPhone(space.getContactPhone())
-                .coverImageUrl(space.getCoverImageUrl())
+                .coverImageUrl(ImageVariants.resolve(space.getCoverImageVariants(), ImageVariant.DETAIL, space.getCoverImageUrl()))
+                .coverImageSrcset(space.getCoverImageVariants() != null ? space.getCoverImageVariants().toSrcset() : null)
                 .isPublic(space.getIsPublic())
                 .isOfficial(space.getIsOfficial())
                 .isHidden(space.getIsHidden())
@@ -3,6 +3,7 @@ package com.snow.popin.domain.space.entity;
 import com.snow.popin.domain.map.entity.Venue;
 import com.snow.popin.domain.user.entity.User;
 import com.snow.popin.global.common.BaseEntity;
+import com.snow.popin.global.image.ImageVariants;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -10,9 +11,12 @@ import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
 import java.time.LocalDate;
+import java.util.Objects;
 
 @Entity
-@Table(name = "place_lists")
+@Table(name = "place_lists", indexes = {
+        @Index(name = "idx_space_hidden_end_date", columnList = "is_hidden, end_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Space extends BaseEntity {
@@ -43,6 +47,10 @@ public class Space extends BaseEntity {
     @Column(name = "cover_image_url", length = 500)
     private String coverImageUrl;
 
+    // 커버 이미지 리사이즈 변형 (비동기 생성 완료 후 기록)
+    @Embedded
+    private ImageVariants coverImageVariants;
+
     @Column(length = 500)
     private String address; // 임시 호환 필드
 
@@ -113,9 +121,16 @@ public class Space extends BaseEntity {
     }
 
     public void updateCoverImage(String coverImageUrl) {
+        if (!Objects.equals(this.coverImageUrl, coverImageUrl)) {
+            this.coverImageVariants = null;
+        }
         this.coverImageUrl = coverImageUrl;
     }
 
+    public void updateCoverImageVariants(ImageVariants coverImageVariants) {
+        this.coverImageVariants = coverImageVariants;
+    }
+
     public boolean isOwner(User user) {
         return this.owner.getId().equals(user.getId());
     }
@@ -0,0 +1,14 @@
+package com.snow.popin.domain.space.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 공간이 등록/수정되었거나 노출 상태가 바뀌었음을 알림 (커밋 이후 처리)
+ * 공간 검색 인덱스가 구독한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SpaceChangedEvent {
+    private final Long spaceId;
+}
@@ -0,0 +1,17 @@
+package com.snow.popin.domain.space.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 공간 등록/수정으로 종료일이 정해졌음을 알림
+ * 만료 큐 모드에서 종료일 기준 숨김 예약에 사용한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SpaceEndDateChangedEvent {
+    private final Long spaceId;
+    private final LocalDate endDate;
+}
@@ -0,0 +1,16 @@
+package com.snow.popin.domain.space.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 공간이 숨김 처리되었음을 알림 (커밋 이후 발행)
+ * 공간 목록/검색 등 노출 여부에 의존하는 캐시와 인덱스가 구독한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SpaceHiddenEvent {
+    private final List<Long> spaceIds;
+}
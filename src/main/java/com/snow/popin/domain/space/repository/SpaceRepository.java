@@ -6,11 +6,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,11 +29,16 @@ public interface SpaceRepository extends JpaRepository<Space, Long>, JpaSpecific
     // 특정 사용자 소유의 특정 공간 조회 (권한 체크용)
     Optional<Space> findByIdAndOwner(Long id, User owner);
 
+    /** 예약 기간 중복 확인 시 동시성 제어 (비관적 락) */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Space s where s.id = :id")
+    Optional<Space> lockById(@Param("id") Long id);
+
     // 통계용 메서드들
     long countByIsHidden(boolean isHidden);
 
-    //검색용 쿼리
-    @Query("SELECT DISTINCT s FROM Space s " +
+    //검색용 쿼리 (전체 건수는 fetch join 없이 별도 집계)
+    @Query(value = "SELECT DISTINCT s FROM Space s " +
             "JOIN FETCH s.owner o " +
             "LEFT JOIN FETCH s.venue v " +
             "WHERE s.isPublic = true AND s.isHidden = false AND " +
@@ -42,11 +53,42 @@ public interface SpaceRepository extends JpaRepository<Space, Long>, JpaSpecific
             "  LOWER(v.detailAddress) LIKE LOWER(CONCAT('%', :location, '%'))))) AND " +
             "(:minArea IS NULL OR s.areaSize >= :minArea) AND " +
             "(:maxArea IS NULL OR s.areaSize <= :maxArea) " +
-            "ORDER BY s.createdAt DESC")
-    List<Space> searchSpacesWithJoins(@Param("keyword") String keyword,
+            "ORDER BY s.createdAt DESC",
+            countQuery = "SELECT COUNT(s) FROM Space s " +
+            "LEFT JOIN s.venue v " +
+            "WHERE s.isPublic = true AND s.isHidden = false AND " +
+            "(:keyword IS NULL OR :keyword = '' OR " +
+            " LOWER(s.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            " LOWER(s.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+            "(:location IS NULL OR :location = '' OR " +
+            " LOWER(s.address) LIKE LOWER(CONCAT('%', :location, '%')) OR " +
+            " (s.venue IS NOT NULL AND (" +
+            "  LOWER(v.roadAddress) LIKE LOWER(CONCAT('%', :location, '%')) OR " +
+            "  LOWER(v.jibunAddress) LIKE LOWER(CONCAT('%', :location, '%')) OR " +
+            "  LOWER(v.detailAddress) LIKE LOWER(CONCAT('%', :location, '%'))))) AND " +
+            "(:minArea IS NULL OR s.areaSize >= :minArea) AND " +
+            "(:maxArea IS NULL OR s.areaSize <= :maxArea)")
+    Page<Space> searchSpacesWithJoins(@Param("keyword") String keyword,
                                       @Param("location") String location,
                                       @Param("minArea") Integer minArea,
-                                      @Param("maxArea") Integer maxArea);
+                                      @Param("maxArea") Integer maxArea,
+                                      Pageable pageable);
+
+    // 검색 인덱스 구성용 노출 공간 (ID 커서 기반 청크)
+    @Query("SELECT s FROM Space s LEFT JOIN FETCH s.venue " +
+            "WHERE s.isPublic = true AND s.isHidden = false AND s.id > :afterId ORDER BY s.id")
+    List<Space> findVisibleWithVenueAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 검색 인덱스 단건 갱신용
+    @Query("SELECT s FROM Space s LEFT JOIN FETCH s.venue WHERE s.id = :id")
+    Optional<Space> findWithVenueById(@Param("id") Long id);
+
+    // 검색 인덱스 결과 ID로 목록 조회 (순서는 호출 측에서 맞춤)
+    @Query("SELECT s FROM Space s " +
+            "JOIN FETCH s.owner o " +
+            "LEFT JOIN FETCH s.venue v " +
+            "WHERE s.id IN :ids")
+    List<Space> findAllWithJoinsByIdIn(@Param("ids") Collection<Long> ids);
 
     // Provider가 등록한 공간 목록 조회 (join으로 N+1 방지)
     @Query("SELECT DISTINCT s FROM Space s " +
@@ -58,4 +100,29 @@ public interface SpaceRepository extends JpaRepository<Space, Long>, JpaSpecific
 
     Page<Space> findByIsPublicTrueAndIsHiddenFalseOrderByCreatedAtDesc(Pageable pageable);
 
-}
\ No newline at end of file
+    // 커버 이미지 변형 생성 완료 시 기록
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Space s SET s.coverImageVariants.thumbnailUrl = :thumbnailUrl, " +
+            "s.coverImageVariants.cardUrl = :cardUrl, s.coverImageVariants.detailUrl = :detailUrl " +
+            "WHERE s.coverImageUrl = :coverImageUrl")
+    int updateCoverImageVariants(@Param("coverImageUrl") String coverImageUrl,
+                                 @Param("thumbnailUrl") String thumbnailUrl,
+                                 @Param("cardUrl") String cardUrl,
+                                 @Param("detailUrl") String detailUrl);
+
+    // 종료일이 지난 노출 공간 ID (is_hidden, end_date 인덱스 사용, ID 커서 기반 청크)
+    @Query("SELECT s.id FROM Space s WHERE s.isHidden = false AND s.endDate < :today " +
+            "AND s.id > :afterId ORDER BY s.id")
+    List<Long> findExpiredIds(@Param("today") LocalDate today,
+                              @Param("afterId") Long afterId,
+                              Pageable pageable);
+
+    // 만료 예약 대상 종료일 목록 (아직 노출 중이고 종료일이 오늘 이후)
+    @Query("SELECT DISTINCT s.endDate FROM Space s WHERE s.isHidden = false AND s.endDate >= :from")
+    List<LocalDate> findUpcomingEndDates(@Param("from") LocalDate from);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Space s SET s.isHidden = true, s.updatedAt = :now " +
+            "WHERE s.id IN :ids AND s.isHidden = false")
+    int bulkHide(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,122 @@
+package com.snow.popin.domain.space.scheduler;
+
+import com.snow.popin.domain.space.event.SpaceEndDateChangedEvent;
+import com.snow.popin.domain.space.repository.SpaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 공간 만료 큐 (space.expiry.mode=queue)
+ * - 매 시 폴링하지 않고 종료일 다음 날 0시에 맞춰 숨김을 예약
+ * - 종료일은 날짜 단위이므로 같은 종료일의 공간은 하나의 예약으로 묶어 일괄 숨김
+ * - 기동 시 밀린 만료를 먼저 처리하고 남은 종료일을 모두 예약
+ * - 공간 등록/수정으로 종료일이 바뀌면 SpaceEndDateChangedEvent로 예약 추가
+ */
+@Component
+@ConditionalOnProperty(name = "space.expiry.mode", havingValue = SpaceScheduler.MODE_QUEUE)
+@Slf4j
+public class SpaceExpiryQueue {
+
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final SpaceScheduler spaceScheduler;
+    private final SpaceRepository spaceRepository;
+    private final TaskScheduler taskScheduler;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    // 종료일 → 예약된 숨김 작업
+    private final Map<LocalDate, ScheduledFuture<?>> scheduled = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SpaceExpiryQueue(SpaceScheduler spaceScheduler, SpaceRepository spaceRepository) {
+        this(spaceScheduler, spaceRepository, createTaskScheduler());
+    }
+
+    SpaceExpiryQueue(SpaceScheduler spaceScheduler, SpaceRepository spaceRepository, TaskScheduler taskScheduler) {
+        this.spaceScheduler = spaceScheduler;
+        this.spaceRepository = spaceRepository;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDate today = LocalDate.now(zone);
+        // 중단되어 있던 동안 지난 종료일 처리
+        spaceScheduler.hideExpiredSpaces(today);
+
+        spaceRepository.findUpcomingEndDates(today).forEach(this::schedule);
+        log.info("[SpaceExpiryQueue] 공간 만료 예약 {}건 등록", scheduled.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEndDateChanged(SpaceEndDateChangedEvent event) {
+        schedule(event.getEndDate());
+    }
+
+    /**
+     * 종료일 다음 날 0시에 숨김 예약 (같은 종료일은 한 번만 예약)
+     * 이미 지난 종료일이면 즉시 실행한다.
+     */
+    public void schedule(LocalDate endDate) {
+        if (endDate == null) {
+            return;
+        }
+        // 지난 종료일은 즉시 실행되어 이미 끝난 예약이 남을 수 있으므로 완료된 예약은 교체
+        scheduled.compute(endDate, (date, future) -> future != null && !future.isDone()
+                ? future
+                : taskScheduler.schedule(() -> fire(date), dueAt(date)));
+    }
+
+    Instant dueAt(LocalDate endDate) {
+        return endDate.plusDays(1).atStartOfDay(zone).toInstant();
+    }
+
+    int size() {
+        return scheduled.size();
+    }
+
+    void fire(LocalDate endDate) {
+        scheduled.remove(endDate);
+        try {
+            int hidden = spaceScheduler.hideExpiredSpaces(LocalDate.now(zone));
+            log.debug("[SpaceExpiryQueue] 종료일 {} 만료 처리 - {}건", endDate, hidden);
+        } catch (RuntimeException e) {
+            log.warn("[SpaceExpiryQueue] 만료 처리 실패, {} 후 재시도 - endDate={}", RETRY_DELAY, endDate, e);
+            scheduled.computeIfAbsent(endDate,
+                    date -> taskScheduler.schedule(() -> fire(date), Instant.now().plus(RETRY_DELAY)));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduled.values().forEach(future -> future.cancel(false));
+        scheduled.clear();
+        if (taskScheduler instanceof ThreadPoolTaskScheduler) {
+            ((ThreadPoolTaskScheduler) taskScheduler).shutdown();
+        }
+    }
+
+    private static ThreadPoolTaskScheduler createTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("space-expiry-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
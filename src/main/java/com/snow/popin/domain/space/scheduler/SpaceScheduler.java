@@ -1,38 +1,88 @@
 package com.snow.popin.domain.space.scheduler;
 
-import com.snow.popin.domain.space.entity.Space;
+import com.snow.popin.domain.space.event.SpaceHiddenEvent;
 import com.snow.popin.domain.space.repository.SpaceRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * 종료일이 지난 공간 숨김 처리
+ * - (is_hidden, end_date) 인덱스로 ID만 청크 단위 조회 후 UPDATE ... WHERE id IN (...) 으로 일괄 숨김
+ * - 청크마다 별도 트랜잭션으로 커밋하고 커밋 이후 SpaceHiddenEvent 발행
+ * - space.expiry.mode=queue 이면 정시 폴링 대신 SpaceExpiryQueue가 종료일에 맞춰 호출한다.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class SpaceScheduler {
 
+    public static final String MODE_SWEEP = "sweep";
+    public static final String MODE_QUEUE = "queue";
+
     private final SpaceRepository spaceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${space.expiry.mode:" + MODE_SWEEP + "}")
+    private String mode = MODE_SWEEP;
+
+    @Value("${space.expiry.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    public SpaceScheduler(SpaceRepository spaceRepository,
+                          ApplicationEventPublisher eventPublisher,
+                          PlatformTransactionManager transactionManager) {
+        this.spaceRepository = spaceRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
-    // 매 시 정각 실행
-    @Scheduled(cron = "0 0 * * * *")
-    @Transactional
+    // 매 시 정각 실행 - SchedulerConfig의 space-expiry 작업 (만료 큐 모드에서는 큐가 종료일에 맞춰 실행하므로 건너뜀)
     public void hideExpiredSpaces() {
-        LocalDate today = LocalDate.now();
+        if (MODE_QUEUE.equals(mode)) {
+            return;
+        }
+        hideExpiredSpaces(LocalDate.now());
+    }
 
-        List<Space> expiredSpaces = spaceRepository.findAll().stream()
-                .filter(space -> !space.getIsHidden()
-                        && space.getEndDate() != null
-                        && space.getEndDate().isBefore(today))
-                .collect(Collectors.toList());
+    /**
+     * today 이전에 종료된 노출 공간을 모두 숨김 처리
+     *
+     * @return 숨김 처리된 공간 수
+     */
+    public int hideExpiredSpaces(LocalDate today) {
+        int total = 0;
+        long afterId = 0L;
+        while (true) {
+            long cursor = afterId;
+            List<Long> ids = transactionTemplate.execute(status -> hideChunk(today, cursor));
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            total += ids.size();
+            afterId = ids.get(ids.size() - 1);
 
-        expiredSpaces.forEach(Space::hide);
+            // 커밋 이후 발행 (목록 캐시/인덱스 갱신)
+            eventPublisher.publishEvent(new SpaceHiddenEvent(ids));
+        }
+
+        log.info("만료된 공간 {}개가 숨김 처리됨", total);
+        return total;
+    }
 
-        log.info("만료된 공간 {}개가 숨김 처리됨", expiredSpaces.size());
+    private List<Long> hideChunk(LocalDate today, long afterId) {
+        List<Long> ids = spaceRepository.findExpiredIds(today, afterId, PageRequest.of(0, chunkSize));
+        if (!ids.isEmpty()) {
+            spaceRepository.bulkHide(ids, LocalDateTime.now());
+        }
+        return ids;
     }
 }
@@ -0,0 +1,58 @@
+package com.snow.popin.domain.space.search;
+
+import com.snow.popin.domain.map.entity.Venue;
+import com.snow.popin.domain.space.entity.Space;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 공간 검색 인덱스에 담는 정규화된 공간 정보
+ * - keywordText: 제목 + 설명 (키워드 검색 대상)
+ * - locationText: 공간 주소 + 장소 도로명/지번/상세 주소 (지역 검색 대상)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class SpaceSearchDocument {
+
+    // 필드 구분자 (검색어가 두 필드에 걸쳐 매칭되지 않도록)
+    static final char FIELD_SEPARATOR = '\u0001';
+
+    private final Long spaceId;
+    private final String title;
+    private final String keywordText;
+    private final String locationText;
+    private final Integer areaSize;
+    private final LocalDateTime createdAt;
+
+    public static SpaceSearchDocument from(Space space) {
+        Venue venue = space.getVenue();
+        String location = Stream.of(space.getAddress(),
+                        venue != null ? venue.getRoadAddress() : null,
+                        venue != null ? venue.getJibunAddress() : null,
+                        venue != null ? venue.getDetailAddress() : null)
+                .map(SpaceSearchDocument::normalize)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.joining(String.valueOf(FIELD_SEPARATOR)));
+        String title = normalize(space.getTitle());
+
+        return new SpaceSearchDocument(space.getId(), title,
+                title + FIELD_SEPARATOR + normalize(space.getDescription()),
+                location, space.getAreaSize(), space.getCreatedAt());
+    }
+
+    /**
+     * 소문자 변환 + 공백 정리 (검색어에도 같은 규칙 적용)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,352 @@
+package com.snow.popin.domain.space.search;
+
+import com.snow.popin.domain.space.entity.Space;
+import com.snow.popin.domain.space.event.SpaceChangedEvent;
+import com.snow.popin.domain.space.event.SpaceHiddenEvent;
+import com.snow.popin.domain.space.repository.SpaceRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 공개 공간 검색 인덱스 (메모리)
+ * - 키워드(제목/설명), 지역(주소) 필드를 1·2글자 단위 n-gram 역색인으로 보관
+ *   검색어의 n-gram 목록 교집합으로 후보를 좁힌 뒤 부분 문자열 포함 여부로 확정 (앞뒤 % LIKE와 같은 결과)
+ * - 면적은 정렬 맵으로 범위 조회
+ * - 제목 일치 > 설명 일치 순으로 점수를 매기고 최신 등록순으로 정렬해 페이지 단위로 반환
+ *
+ * 기동 시 노출 공간 전체로 구성하고, 등록/수정/숨김 커밋 후 해당 공간만 갱신한다.
+ * 변경 이벤트는 커밋한 노드에만 전달되므로 노드마다 주기적으로 다시 읽어 다른 노드의 등록/수정/숨김을 반영한다.
+ * (SchedulerConfig.spaceSearchRebuildJob, 재구성 중 이 노드에서 바뀐 공간은 재구성 결과로 덮어쓰지 않음)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SpaceSearchIndex {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final SpaceRepository spaceRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, SpaceSearchDocument> documents = new HashMap<>();
+    private final Map<String, Set<Long>> keywordPostings = new HashMap<>();
+    private final Map<String, Set<Long>> locationPostings = new HashMap<>();
+    private final NavigableMap<Integer, Set<Long>> byArea = new TreeMap<>();
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    // 재구성 중 이벤트로 갱신된 공간 (재구성이 먼저 읽은 이전 상태로 덮어쓰거나 지우지 않도록)
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("[SpaceSearch] 이미 재구성 중 - 건너뜀");
+            return;
+        }
+        try {
+            Set<Long> seen = new HashSet<>();
+            long afterId = 0L;
+            while (true) {
+                List<Space> spaces = spaceRepository.findVisibleWithVenueAfter(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                if (spaces.isEmpty()) {
+                    break;
+                }
+                for (Space space : spaces) {
+                    seen.add(space.getId());
+                    if (!changedDuringRebuild.contains(space.getId())) {
+                        upsert(SpaceSearchDocument.from(space));
+                    }
+                }
+                afterId = spaces.get(spaces.size() - 1).getId();
+            }
+            int removed = removeUnseen(seen);
+            ready = true;
+            log.info("[SpaceSearch] 검색 인덱스 구성 완료 - {}건, 제거 {}건", seen.size(), removed);
+        } catch (RuntimeException e) {
+            log.error("[SpaceSearch] 검색 인덱스 구성 실패 (SQL 검색 사용)", e);
+        } finally {
+            rebuilding.set(false);
+            changedDuringRebuild.clear();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(SpaceChangedEvent event) {
+        markChanged(event.getSpaceId());
+        try {
+            spaceRepository.findWithVenueById(event.getSpaceId()).ifPresentOrElse(space -> {
+                if (Boolean.TRUE.equals(space.getIsPublic()) && !Boolean.TRUE.equals(space.getIsHidden())) {
+                    upsert(SpaceSearchDocument.from(space));
+                } else {
+                    remove(space.getId());
+                }
+            }, () -> remove(event.getSpaceId()));
+        } catch (RuntimeException e) {
+            log.warn("[SpaceSearch] 인덱스 갱신 실패 - spaceId={}, error={}", event.getSpaceId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHidden(SpaceHiddenEvent event) {
+        event.getSpaceIds().forEach(this::markChanged);
+        event.getSpaceIds().forEach(this::remove);
+    }
+
+    private void markChanged(Long spaceId) {
+        if (rebuilding.get()) {
+            changedDuringRebuild.add(spaceId);
+        }
+    }
+
+    // 재구성에서 읽히지 않은(다른 노드에서 숨김/삭제된) 공간 제거
+    private int removeUnseen(Set<Long> seen) {
+        lock.writeLock().lock();
+        try {
+            List<Long> stale = documents.keySet().stream()
+                    .filter(id -> !seen.contains(id) && !changedDuringRebuild.contains(id))
+                    .collect(Collectors.toList());
+            stale.forEach(this::removeInternal);
+            return stale.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(SpaceSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.getSpaceId());
+            documents.put(document.getSpaceId(), document);
+            addPostings(keywordPostings, document.getKeywordText(), document.getSpaceId());
+            addPostings(locationPostings, document.getLocationText(), document.getSpaceId());
+            if (document.getAreaSize() != null) {
+                byArea.computeIfAbsent(document.getAreaSize(), k -> new HashSet<>()).add(document.getSpaceId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long spaceId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(spaceId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param keyword  제목/설명 검색어 (선택)
+     * @param location 주소 검색어 (선택)
+     * @param minArea  최소 면적 (선택)
+     * @param maxArea  최대 면적 (선택)
+     * @param offset   결과 시작 위치
+     * @param limit    최대 결과 수
+     */
+    public Result search(String keyword, String location, Integer minArea, Integer maxArea, int offset, int limit) {
+        String key = SpaceSearchDocument.normalize(keyword);
+        String loc = SpaceSearchDocument.normalize(location);
+
+        lock.readLock().lock();
+        try {
+            List<Set<Long>> filters = new ArrayList<>();
+            if (!key.isEmpty()) {
+                filters.addAll(postingsOf(keywordPostings, key));
+            }
+            if (!loc.isEmpty()) {
+                filters.addAll(postingsOf(locationPostings, loc));
+            }
+            if (minArea != null || maxArea != null) {
+                filters.add(areaRange(minArea, maxArea));
+            }
+
+            List<Scored> matches = new ArrayList<>();
+            for (Long id : candidates(filters)) {
+                SpaceSearchDocument doc = documents.get(id);
+                if (doc == null
+                        || (!key.isEmpty() && !doc.getKeywordText().contains(key))
+                        || (!loc.isEmpty() && !doc.getLocationText().contains(loc))) {
+                    continue;
+                }
+                matches.add(new Scored(doc, score(doc, key)));
+            }
+
+            matches.sort(Comparator.comparingInt(Scored::getScore).reversed()
+                    .thenComparing(s -> s.getDocument().getCreatedAt(), Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(s -> s.getDocument().getSpaceId(), Comparator.reverseOrder()));
+
+            List<Long> ids = matches.stream()
+                    .skip(Math.max(offset, 0))
+                    .limit(Math.max(limit, 0))
+                    .map(s -> s.getDocument().getSpaceId())
+                    .collect(Collectors.toList());
+            return new Result(ids, matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 제목 일치 3점(앞부분 일치 +1), 설명에만 일치 1점
+    private static int score(SpaceSearchDocument doc, String key) {
+        if (key.isEmpty()) {
+            return 0;
+        }
+        if (doc.getTitle().startsWith(key)) {
+            return 4;
+        }
+        return doc.getTitle().contains(key) ? 3 : 1;
+    }
+
+    private Collection<Long> candidates(List<Set<Long>> filters) {
+        if (filters.isEmpty()) {
+            return new ArrayList<>(documents.keySet());
+        }
+        filters.sort(Comparator.comparingInt(Set::size));
+        List<Long> result = new ArrayList<>();
+        Set<Long> smallest = filters.get(0);
+        outer:
+        for (Long id : smallest) {
+            for (int i = 1; i < filters.size(); i++) {
+                if (!filters.get(i).contains(id)) {
+                    continue outer;
+                }
+            }
+            result.add(id);
+        }
+        return result;
+    }
+
+    private Set<Long> areaRange(Integer minArea, Integer maxArea) {
+        int from = minArea != null ? minArea : Integer.MIN_VALUE;
+        int to = maxArea != null ? maxArea : Integer.MAX_VALUE;
+        if (from > to) {
+            return Set.of();
+        }
+        Set<Long> ids = new HashSet<>();
+        byArea.subMap(from, true, to, true).values().forEach(ids::addAll);
+        return ids;
+    }
+
+    // 검색어의 n-gram 게시 목록 (없는 n-gram이 있으면 빈 목록 하나로 결과 없음)
+    private static List<Set<Long>> postingsOf(Map<String, Set<Long>> postings, String query) {
+        List<Set<Long>> result = new ArrayList<>();
+        for (String gram : queryGrams(query)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return List.of(Set.of());
+            }
+            result.add(ids);
+        }
+        return result;
+    }
+
+    private void removeInternal(Long spaceId) {
+        SpaceSearchDocument previous = documents.remove(spaceId);
+        if (previous == null) {
+            return;
+        }
+        removePostings(keywordPostings, previous.getKeywordText(), spaceId);
+        removePostings(locationPostings, previous.getLocationText(), spaceId);
+        if (previous.getAreaSize() != null) {
+            Set<Long> ids = byArea.get(previous.getAreaSize());
+            if (ids != null && ids.remove(spaceId) && ids.isEmpty()) {
+                byArea.remove(previous.getAreaSize());
+            }
+        }
+    }
+
+    private static void addPostings(Map<String, Set<Long>> postings, String text, Long spaceId) {
+        for (String gram : indexGrams(text)) {
+            postings.computeIfAbsent(gram, k -> new HashSet<>()).add(spaceId);
+        }
+    }
+
+    private static void removePostings(Map<String, Set<Long>> postings, String text, Long spaceId) {
+        for (String gram : indexGrams(text)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null && ids.remove(spaceId) && ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    // 색인: 모든 1글자 + 2글자 (필드 구분자는 제외)
+    static Set<String> indexGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == SpaceSearchDocument.FIELD_SEPARATOR) {
+                continue;
+            }
+            grams.add(String.valueOf(c));
+            if (i + 1 < text.length() && text.charAt(i + 1) != SpaceSearchDocument.FIELD_SEPARATOR) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    // 검색: 1글자면 그대로, 2글자 이상이면 2글자 단위
+    static Set<String> queryGrams(String query) {
+        if (query.length() == 1) {
+            return Set.of(query);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 1 < query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Scored {
+        private final SpaceSearchDocument document;
+        private final int score;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+        private final List<Long> spaceIds;
+        private final int total;
+    }
+}
@@ -1,31 +1,37 @@
 package com.snow.popin.domain.space.service;
 
+import com.snow.popin.global.image.ImageInspector;
+import com.snow.popin.global.image.ImageVariantService;
+import com.snow.popin.global.storage.BlobNamespace;
+import com.snow.popin.global.storage.BlobStore;
+import com.snow.popin.global.storage.StoredBlob;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.*;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
 import java.util.Optional;
-import java.util.Set;
-import java.util.UUID;
 
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class FileStorageService {
 
-    @Value("${uploadPath}")
-    private String uploadPath;
+    private final ImageVariantService imageVariantService;
+    private final BlobStore blobStore;
 
-    private static final java.util.Set<String> ALLOWED_CONTENT_TYPES =
-            java.util.Set.of("image/jpeg", "image/png", "image/gif", "image/webp");
+    // Content-Type 헤더 대신 실제 바이트에서 판별한 포맷 기준으로 허용
+    private static final java.util.Set<String> ALLOWED_FORMATS =
+            java.util.Set.of("jpeg", "png", "gif", "webp");
     private static final java.util.Set<String> ALLOWED_EXT =
             java.util.Set.of(".jpg", ".jpeg", ".png", ".gif", ".webp");
 
-    //파일 저장
+    /**
+     * 이미지 파일 저장
+     * 참조는 잡지 않으므로, URL을 엔티티에 저장하는 트랜잭션에서 acquire를 호출한다.
+     */
     public String save(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             log.debug("No file to upload, skipping save.");
@@ -33,15 +39,6 @@ public class FileStorageService {
         }
 
         try {
-            // uploadPath를 Path 객체로 변환
-            Path root = Paths.get(uploadPath);
-
-            // 업로드 디렉토리 없으면 생성
-            if (!Files.exists(root)) {
-                Files.createDirectories(root);
-                log.info("Created upload directory: {}", root.toAbsolutePath());
-            }
-
             // 확장자 추출
             String ext = Optional.ofNullable(file.getOriginalFilename())
                     .filter(name -> name.contains("."))
@@ -51,21 +48,28 @@ public class FileStorageService {
             if (!ALLOWED_EXT.contains(lowerExt)) {
                 throw new IllegalArgumentException("허용되지 않은 파일 형식입니다.");
             }
-            String contentType = Optional.ofNullable(file.getContentType()).orElse("").toLowerCase();
-            if (!ALLOWED_CONTENT_TYPES.contains(contentType)) {
-                throw new IllegalArgumentException("허용되지 않은 콘텐츠 타입입니다.");
+            String format;
+            try (InputStream in = file.getInputStream()) {
+                format = ImageInspector.detectFormat(in).orElse("");
+            }
+            if (!ALLOWED_FORMATS.contains(format)) {
+                throw new IllegalArgumentException("이미지 파일이 아니거나 허용되지 않은 형식입니다.");
             }
 
-            // UUID + 확장자로 파일명 생성
-            String filename = UUID.randomUUID() + ext;
-            Path target = root.resolve(filename).normalize().toAbsolutePath();
-
-            // 파일 복사 (기존 파일 있으면 교체)
-            Files.copy(file.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
-            log.info("File saved: {}", target);
+            // 내용 해시 기반으로 저장 (같은 이미지는 한 번만 저장)
+            // 확장자는 실제 포맷 기준으로 통일하여 .jpg/.jpeg 차이로 중복 저장되지 않도록 함
+            StoredBlob blob;
+            try (InputStream in = file.getInputStream()) {
+                blob = blobStore.storeUnreferenced(in, "jpeg".equals(format) ? ".jpg" : "." + format, BlobNamespace.IMAGES);
+            }
+            log.info("File saved: {} (deduplicated={})", blob.getPath(), blob.isDeduplicated());
 
-            // WebMvcConfig의 /uploads/** 매핑에 맞춰서 반환
-            return "/uploads/" + filename;
+            // 썸네일/카드/상세 변형은 비동기로 생성 (완료 전까지는 원본 URL로 서비스)
+            // 중복 업로드면 이미 만들어진 변형을 재사용
+            if (!blob.isDeduplicated() || !imageVariantService.findExisting(blob.getUrl()).isReady()) {
+                imageVariantService.generateAsync(blob.getPath(), blob.getUrl());
+            }
+            return blob.getUrl();
 
         } catch (IOException e) {
             log.error("File save failed", e);
@@ -75,7 +79,7 @@ public class FileStorageService {
 
     /**
      * 문서 파일 저장 메서드 (역할 승격용)
-     * RoleUpgradeService에서 검증 완료된 파일을 저장
+     * RoleUpgradeService에서 검증 완료된 파일을 저장 (참조는 save와 같이 acquire로 잡는다)
      */
     public String saveDocument(MultipartFile file) {
         if (file == null || file.isEmpty()) {
@@ -83,26 +87,12 @@ public class FileStorageService {
             return null;
         }
 
-        try {
-            // documents 하위 디렉토리 생성
-            Path root = Paths.get(uploadPath, "documents");
-
-            // 업로드 디렉토리 없으면 생성
-            if (!Files.exists(root)) {
-                Files.createDirectories(root);
-                log.info("Created upload directory: {}", root.toAbsolutePath());
-            }
-
-            // 고유한 파일명 생성 (타임스탬프 + UUID + 원본확장자)
-            String filename = generateUniqueFileName(file.getOriginalFilename());
-            Path target = root.resolve(filename).normalize().toAbsolutePath();
-
-            // 파일 복사 (기존 파일 있으면 교체)
-            Files.copy(file.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
-            log.info("Document file saved: {}", target);
+        try (InputStream in = file.getInputStream()) {
+            StoredBlob blob = blobStore.storeUnreferenced(in, getFileExtension(file.getOriginalFilename()), BlobNamespace.DOCUMENTS);
+            log.info("Document file saved: {}", blob.getPath());
 
             // 웹 접근 가능한 경로 반환
-            return "/uploads/documents/" + filename;
+            return blob.getUrl();
 
         } catch (IOException e) {
             log.error("Document file save failed", e);
@@ -111,14 +101,21 @@ public class FileStorageService {
     }
 
     /**
-     * 고유한 파일명 생성 (문서 파일용)
+     * 업로드 URL을 엔티티에 저장할 때 참조 추가
+     * 호출한 트랜잭션이 롤백되면 참조도 취소된다. (null, 블롭 저장소 이전 URL은 무시)
      */
-    private String generateUniqueFileName(String originalFilename) {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String uuid = UUID.randomUUID().toString().substring(0, 8);
-        String extension = getFileExtension(originalFilename);
+    public void acquire(String url) {
+        if (url != null) {
+            blobStore.acquire(url);
+        }
+    }
 
-        return String.format("%s_%s%s", timestamp, uuid, extension);
+    /**
+     * 더 이상 참조하지 않는 업로드 파일 반납
+     * 다른 곳에서 같은 내용을 참조하고 있으면 파일은 유지된다.
+     */
+    public void release(String url) {
+        blobStore.release(url);
     }
 
     /**
@@ -130,4 +127,4 @@ public class FileStorageService {
         }
         return filename.substring(filename.lastIndexOf("."));
     }
-}
\ No newline at end of file
+}
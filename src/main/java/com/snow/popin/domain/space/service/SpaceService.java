@@ -7,16 +7,29 @@ import com.snow.popin.domain.space.dto.SpaceListResponseDto;
 import com.snow.popin.domain.space.dto.SpaceResponseDto;
 import com.snow.popin.domain.space.dto.SpaceUpdateRequestDto;
 import com.snow.popin.domain.space.entity.Space;
+import com.snow.popin.domain.space.event.SpaceChangedEvent;
+import com.snow.popin.domain.space.event.SpaceEndDateChangedEvent;
+import com.snow.popin.domain.space.event.SpaceHiddenEvent;
 import com.snow.popin.domain.space.repository.SpaceRepository;
+import com.snow.popin.domain.space.search.SpaceSearchIndex;
 import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.global.image.ImageVariantService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +41,15 @@ public class SpaceService {
     private final SpaceRepository spaceRepository;
     private final FileStorageService fileStorageService;
     private final MapRepository venueRepository;
+    private final ImageVariantService imageVariantService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SpaceSearchIndex spaceSearchIndex;
+
+    public static final int MAX_SEARCH_PAGE_SIZE = 100;
+
+    // index: 메모리 검색 인덱스 사용 (구성 전이면 SQL), sql: 항상 SQL LIKE 검색
+    @Value("${space.search.mode:index}")
+    private String searchMode;
 
     /**
      * 공간 등록
@@ -66,8 +88,13 @@ public class SpaceService {
                 .coverImageUrl(imageUrl)
                 .venue(venue)
                 .build();
+        // 변형 생성이 저장보다 먼저 끝난 경우 대비
+        space.updateCoverImageVariants(imageVariantService.findExisting(imageUrl));
 
         Space saved = spaceRepository.save(space);
+        fileStorageService.acquire(imageUrl);
+        eventPublisher.publishEvent(new SpaceEndDateChangedEvent(saved.getId(), saved.getEndDate()));
+        eventPublisher.publishEvent(new SpaceChangedEvent(saved.getId()));
         log.info("[SpaceService] 공간 등록 완료: spaceId={}, userId={}", saved.getId(), owner.getId());
         return saved.getId();
     }
@@ -159,9 +186,13 @@ public class SpaceService {
         venue.setRegionFromAddress();
         venueRepository.save(venue);
 
-        String imageUrl = space.getCoverImageUrl();
+        String previousImageUrl = space.getCoverImageUrl();
+        String imageUrl = previousImageUrl;
         if (dto.getImage() != null && !dto.getImage().isEmpty()) {
             imageUrl = fileStorageService.save(dto.getImage());
+            fileStorageService.acquire(imageUrl);
+            // 이전 커버 이미지 참조 반납 (다른 공간이 같은 이미지를 쓰면 파일은 유지)
+            fileStorageService.release(previousImageUrl);
         }
 
         space.updateSpaceInfo(
@@ -175,6 +206,11 @@ public class SpaceService {
         );
         space.updateVenue(venue);
         space.updateCoverImage(imageUrl);
+        if (space.getCoverImageVariants() == null) {
+            space.updateCoverImageVariants(imageVariantService.findExisting(imageUrl));
+        }
+        eventPublisher.publishEvent(new SpaceEndDateChangedEvent(spaceId, space.getEndDate()));
+        eventPublisher.publishEvent(new SpaceChangedEvent(spaceId));
 
         log.info("[SpaceService] 공간 수정 완료: userId={}, spaceId={}", owner.getId(), spaceId);
     }
@@ -192,6 +228,7 @@ public class SpaceService {
                 .orElseThrow(() -> new IllegalArgumentException("공간이 없거나 삭제 권한이 없습니다."));
 
         space.hide();
+        eventPublisher.publishEvent(new SpaceHiddenEvent(List.of(id)));
         log.info("[SpaceService] 공간 삭제 완료: userId={}, spaceId={}", owner.getId(), id);
     }
 
@@ -233,32 +270,59 @@ public class SpaceService {
         }
 
         space.hide();
+        eventPublisher.publishEvent(new SpaceHiddenEvent(List.of(spaceId)));
         log.info("[SpaceService] 공간 숨김 처리 완료: reporterId={}, spaceId={}", reporter.getId(), spaceId);
     }
 
     /**
      * 공간 검색
+     * 검색 인덱스가 준비되어 있으면 인덱스에서 순위/페이지를 정한 뒤 해당 ID만 조회하고,
+     * 그렇지 않거나 space.search.mode=sql이면 SQL LIKE 검색을 사용한다.
      *
      * @param me       현재 사용자
      * @param keyword  검색 키워드 (선택)
      * @param location 위치 (선택)
      * @param minArea  최소 면적 (선택)
      * @param maxArea  최대 면적 (선택)
-     * @return 검색 조건에 맞는 공간 리스트
+     * @param pageable 페이지 정보 (크기는 최대 MAX_SEARCH_PAGE_SIZE)
+     * @return 검색 조건에 맞는 공간 페이지 (전체 건수 포함)
      */
     @Transactional(readOnly = true)
-    public List<SpaceListResponseDto> searchSpaces(User me, String keyword, String location,
-                                                   Integer minArea, Integer maxArea) {
+    public Page<SpaceListResponseDto> searchSpaces(User me, String keyword, String location,
+                                                   Integer minArea, Integer maxArea, Pageable pageable) {
         log.info("[SpaceService] 공간 검색 요청: keyword={}, location={}, minArea={}, maxArea={}",
                 keyword, location, minArea, maxArea);
 
-        List<Space> spaces = spaceRepository.searchSpacesWithJoins(keyword, location, minArea, maxArea);
+        Pageable page = PageRequest.of(pageable.getPageNumber(),
+                Math.min(pageable.getPageSize(), MAX_SEARCH_PAGE_SIZE));
 
-        List<SpaceListResponseDto> result = spaces.stream()
-                .map(space -> SpaceListResponseDto.from(space, me))
-                .collect(Collectors.toList());
+        Page<Space> spaces;
+        if (!"sql".equalsIgnoreCase(searchMode) && spaceSearchIndex.isReady()) {
+            SpaceSearchIndex.Result hits = spaceSearchIndex.search(keyword, location, minArea, maxArea,
+                    (int) page.getOffset(), page.getPageSize());
+            spaces = new PageImpl<>(loadInOrder(hits.getSpaceIds()), page, hits.getTotal());
+        } else {
+            spaces = spaceRepository.searchSpacesWithJoins(keyword, location, minArea, maxArea, page);
+        }
 
-        log.info("[SpaceService] 공간 검색 완료: count={}", result.size());
+        Page<SpaceListResponseDto> result = spaces.map(space -> SpaceListResponseDto.from(space, me));
+
+        log.info("[SpaceService] 공간 검색 완료: count={}, total={}", result.getNumberOfElements(), result.getTotalElements());
         return result;
     }
+
+    // 인덱스 순위 순서대로 조회 (그 사이 숨김 처리된 공간은 제외)
+    private List<Space> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> order = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            order.put(ids.get(i), i);
+        }
+        return spaceRepository.findAllWithJoinsByIdIn(ids).stream()
+                .filter(space -> Boolean.TRUE.equals(space.getIsPublic()) && !Boolean.TRUE.equals(space.getIsHidden()))
+                .sorted(Comparator.comparing(space -> order.get(space.getId())))
+                .collect(Collectors.toList());
+    }
 }
@@ -1,5 +1,6 @@
 package com.snow.popin.domain.spacereservation.controller;
 
+import com.snow.popin.domain.spacereservation.dto.SpaceCalendarResponseDto;
 import com.snow.popin.domain.spacereservation.dto.SpaceReservationCreateRequestDto;
 import com.snow.popin.domain.spacereservation.dto.SpaceReservationListResponseDto;
 import com.snow.popin.domain.spacereservation.dto.SpaceReservationResponseDto;
@@ -7,10 +8,12 @@ import com.snow.popin.domain.spacereservation.service.SpaceReservationService;
 import com.snow.popin.global.util.UserUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -28,6 +31,22 @@ public class SpaceReservationController {
     private final SpaceReservationService reservationService;
     private final UserUtil userUtil;
 
+    /**
+     * 공간 예약 현황 조회
+     *
+     * @param spaceId 공간 ID
+     * @param from    조회 시작일 (기본 오늘)
+     * @param months  조회 개월 수 (기본 3, 최대 12)
+     * @return 승인된 예약 기간과 예약 가능 기간
+     */
+    @GetMapping("/spaces/{spaceId}/calendar")
+    public SpaceCalendarResponseDto getSpaceCalendar(
+            @PathVariable Long spaceId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(defaultValue = "" + SpaceReservationService.DEFAULT_CALENDAR_MONTHS) int months) {
+        return reservationService.getCalendar(spaceId, from, months);
+    }
+
     /**
      * 예약 요청 생성 (HOST)
      *
@@ -0,0 +1,49 @@
+package com.snow.popin.domain.spacereservation.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 공간 예약 현황 (승인된 예약 기간 / 예약 가능 기간)
+ * 예약자 정보는 포함하지 않는다.
+ */
+@Getter
+@Builder
+public class SpaceCalendarResponseDto {
+
+    private Long spaceId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate from;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate to;
+
+    private List<DateRange> booked;
+    private List<DateRange> free;
+
+    @Getter
+    public static class DateRange {
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private final LocalDate startDate;
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private final LocalDate endDate;
+
+        public DateRange(LocalDate startDate, LocalDate endDate) {
+            this.startDate = startDate;
+            this.endDate = endDate;
+        }
+
+        public static List<DateRange> of(List<LocalDate[]> ranges) {
+            return ranges.stream()
+                    .map(r -> new DateRange(r[0], r[1]))
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.snow.popin.domain.spacereservation.event;
+
+import com.snow.popin.domain.spacereservation.entity.ReservationStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 공간 예약 상태가 바뀌었음을 알림 (커밋 이후 처리)
+ * 공간 예약 현황 인덱스가 구독한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReservationStatusChangedEvent {
+    private final Long reservationId;
+    private final Long spaceId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final ReservationStatus status;
+}
@@ -40,9 +40,21 @@ public interface SpaceReservationRepository extends JpaRepository<SpaceReservati
                                       @Param("startDate") LocalDate startDate,
                                       @Param("endDate") LocalDate endDate);
 
+    // 예약 현황 인덱스 구성용 - 특정 공간의 승인된 예약 기간
+    @Query("SELECT sr.id AS id, sr.startDate AS startDate, sr.endDate AS endDate " +
+            "FROM SpaceReservation sr WHERE sr.space.id = :spaceId " +
+            "AND sr.status = 'ACCEPTED' AND sr.isHidden = false")
+    List<AcceptedRange> findAcceptedRangesBySpaceId(@Param("spaceId") Long spaceId);
+
     // 특정 공간의 모든 예약 목록
     List<SpaceReservation> findBySpaceAndIsHiddenFalseOrderByStartDateDesc(Space space);
 
     // 특정 상태의 예약 목록
     List<SpaceReservation> findByStatusAndIsHiddenFalseOrderByCreatedAtDesc(ReservationStatus status);
+
+    interface AcceptedRange {
+        Long getId();
+        LocalDate getStartDate();
+        LocalDate getEndDate();
+    }
 }
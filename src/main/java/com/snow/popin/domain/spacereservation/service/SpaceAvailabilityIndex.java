@@ -0,0 +1,107 @@
+package com.snow.popin.domain.spacereservation.service;
+
+import com.snow.popin.domain.spacereservation.entity.ReservationStatus;
+import com.snow.popin.domain.spacereservation.event.ReservationStatusChangedEvent;
+import com.snow.popin.domain.spacereservation.repository.SpaceReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 공간별 승인 예약 기간 인덱스
+ * - 공간을 처음 조회할 때 승인된 예약 기간을 한 번 읽어 SpaceBookingCalendar로 보관 (LRU)
+ * - 승인/거절/취소 커밋 이후 이미 올라와 있는 공간만 갱신 (없으면 다음 조회 때 읽음)
+ * - 캘린더의 점유/빈 구간 조회를 DB 조회 없이 처리
+ *   (커밋 이후 갱신되므로 예약 생성/승인 시 중복 확인은 DB에서 공간 행을 잠그고 수행)
+ *
+ * 읽는 도중 같은 공간 구간에 승인/취소가 커밋되었으면 읽은 결과를 캐시에 넣지 않는다.
+ */
+@Component
+@Slf4j
+public class SpaceAvailabilityIndex {
+
+    private static final int STRIPES = 64;
+
+    private final SpaceReservationRepository reservationRepository;
+    private final Map<Long, SpaceBookingCalendar> calendars;
+    // 공간 구간별 변경 횟수 (로딩 중 변경 감지용)
+    private final AtomicLongArray versions = new AtomicLongArray(STRIPES);
+
+    public SpaceAvailabilityIndex(SpaceReservationRepository reservationRepository,
+                                  @Value("${space.availability.max-spaces:5000}") int maxSpaces) {
+        this.reservationRepository = reservationRepository;
+        this.calendars = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, SpaceBookingCalendar> eldest) {
+                return size() > maxSpaces;
+            }
+        });
+    }
+
+    /**
+     * 기간 [startDate, endDate]에 승인된 예약이 있는지
+     */
+    public boolean overlaps(Long spaceId, LocalDate startDate, LocalDate endDate) {
+        return calendarOf(spaceId).overlaps(startDate, endDate);
+    }
+
+    public List<LocalDate[]> booked(Long spaceId, LocalDate from, LocalDate to) {
+        return calendarOf(spaceId).booked(from, to);
+    }
+
+    public List<LocalDate[]> free(Long spaceId, LocalDate from, LocalDate to) {
+        return calendarOf(spaceId).free(from, to);
+    }
+
+    public void evict(Long spaceId) {
+        versions.incrementAndGet(stripeOf(spaceId));
+        calendars.remove(spaceId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(ReservationStatusChangedEvent event) {
+        versions.incrementAndGet(stripeOf(event.getSpaceId()));
+        SpaceBookingCalendar calendar = calendars.get(event.getSpaceId());
+        if (calendar == null) {
+            return;
+        }
+        if (event.getStatus() == ReservationStatus.ACCEPTED) {
+            calendar.put(event.getReservationId(), event.getStartDate(), event.getEndDate());
+        } else {
+            calendar.remove(event.getReservationId());
+        }
+        log.debug("[SpaceAvailability] 예약 현황 갱신 - spaceId={}, reservationId={}, status={}",
+                event.getSpaceId(), event.getReservationId(), event.getStatus());
+    }
+
+    private SpaceBookingCalendar calendarOf(Long spaceId) {
+        SpaceBookingCalendar cached = calendars.get(spaceId);
+        if (cached != null) {
+            return cached;
+        }
+        // 맵 잠금을 잡은 채로 DB를 읽지 않도록 로드 후 putIfAbsent
+        int stripe = stripeOf(spaceId);
+        long version = versions.get(stripe);
+        SpaceBookingCalendar loaded = new SpaceBookingCalendar();
+        for (SpaceReservationRepository.AcceptedRange range : reservationRepository.findAcceptedRangesBySpaceId(spaceId)) {
+            loaded.put(range.getId(), range.getStartDate(), range.getEndDate());
+        }
+        if (versions.get(stripe) != version) {
+            return loaded;
+        }
+        SpaceBookingCalendar existing = calendars.putIfAbsent(spaceId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private static int stripeOf(Long spaceId) {
+        return (int) Math.floorMod(spaceId, (long) STRIPES);
+    }
+}
@@ -0,0 +1,106 @@
+package com.snow.popin.domain.spacereservation.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 한 공간의 승인된 예약 기간 (시작일/종료일 포함)
+ * - 예약별 기간을 보관하고, 겹치거나 맞닿은 기간을 합친 점유 구간을 시작일 정렬 맵으로 유지
+ * - 점유 구간끼리는 겹치지 않으므로 겹침 확인은 floorEntry 한 번(O(log n))으로 끝난다.
+ */
+class SpaceBookingCalendar {
+
+    private final Map<Long, LocalDate[]> reservations = new HashMap<>();
+    private NavigableMap<LocalDate, LocalDate> busy = new TreeMap<>();
+
+    synchronized void put(Long reservationId, LocalDate startDate, LocalDate endDate) {
+        reservations.put(reservationId, new LocalDate[]{startDate, endDate});
+        merge();
+    }
+
+    synchronized void remove(Long reservationId) {
+        if (reservations.remove(reservationId) != null) {
+            merge();
+        }
+    }
+
+    synchronized boolean overlaps(LocalDate startDate, LocalDate endDate) {
+        Map.Entry<LocalDate, LocalDate> floor = busy.floorEntry(endDate);
+        return floor != null && !floor.getValue().isBefore(startDate);
+    }
+
+    /**
+     * 기간 [from, to]와 겹치는 점유 구간 (기간 밖은 잘라냄)
+     */
+    synchronized List<LocalDate[]> booked(LocalDate from, LocalDate to) {
+        List<LocalDate[]> result = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return result;
+        }
+        Map.Entry<LocalDate, LocalDate> floor = busy.floorEntry(from);
+        LocalDate start = floor != null && !floor.getValue().isBefore(from) ? floor.getKey() : from;
+        for (Map.Entry<LocalDate, LocalDate> e : busy.subMap(start, true, to, true).entrySet()) {
+            result.add(new LocalDate[]{max(e.getKey(), from), min(e.getValue(), to)});
+        }
+        return result;
+    }
+
+    /**
+     * 기간 [from, to] 안의 빈 구간
+     */
+    synchronized List<LocalDate[]> free(LocalDate from, LocalDate to) {
+        List<LocalDate[]> result = new ArrayList<>();
+        LocalDate cursor = from;
+        for (LocalDate[] range : booked(from, to)) {
+            if (cursor.isBefore(range[0])) {
+                result.add(new LocalDate[]{cursor, range[0].minusDays(1)});
+            }
+            cursor = range[1].plusDays(1);
+        }
+        if (!cursor.isAfter(to)) {
+            result.add(new LocalDate[]{cursor, to});
+        }
+        return result;
+    }
+
+    synchronized int size() {
+        return reservations.size();
+    }
+
+    private void merge() {
+        List<LocalDate[]> sorted = new ArrayList<>(reservations.values());
+        sorted.sort((a, b) -> a[0].compareTo(b[0]));
+
+        NavigableMap<LocalDate, LocalDate> merged = new TreeMap<>();
+        LocalDate start = null;
+        LocalDate end = null;
+        for (LocalDate[] range : sorted) {
+            if (start != null && !range[0].isAfter(end.plusDays(1))) {
+                end = max(end, range[1]);
+                continue;
+            }
+            if (start != null) {
+                merged.put(start, end);
+            }
+            start = range[0];
+            end = range[1];
+        }
+        if (start != null) {
+            merged.put(start, end);
+        }
+        busy = merged;
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -11,19 +11,23 @@ import com.snow.popin.domain.popup.entity.PopupStatus;
 import com.snow.popin.domain.popup.repository.PopupRepository;
 import com.snow.popin.domain.space.entity.Space;
 import com.snow.popin.domain.space.repository.SpaceRepository;
+import com.snow.popin.domain.spacereservation.dto.SpaceCalendarResponseDto;
 import com.snow.popin.domain.spacereservation.dto.SpaceReservationCreateRequestDto;
 import com.snow.popin.domain.spacereservation.dto.SpaceReservationListResponseDto;
 import com.snow.popin.domain.spacereservation.dto.SpaceReservationResponseDto;
 import com.snow.popin.domain.spacereservation.entity.SpaceReservation;
 import com.snow.popin.domain.spacereservation.entity.ReservationStatus;
+import com.snow.popin.domain.spacereservation.event.ReservationStatusChangedEvent;
 import com.snow.popin.domain.spacereservation.repository.SpaceReservationRepository;
 import com.snow.popin.domain.user.entity.User;
 import com.snow.popin.global.util.UserUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -44,6 +48,11 @@ public class SpaceReservationService {
     private final HostRepository hostRepository;
     private final UserUtil userUtil;
     private final NotificationService notificationService;
+    private final SpaceAvailabilityIndex availabilityIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public static final int DEFAULT_CALENDAR_MONTHS = 3;
+    public static final int MAX_CALENDAR_MONTHS = 12;
 
     /**
      * 공간 예약 생성 (HOST)
@@ -68,6 +77,12 @@ public class SpaceReservationService {
         Popup popup = popupRepository.findById(dto.getPopupId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 팝업입니다."));
 
+        if (hasAcceptedOverlap(space.getId(), dto.getStartDate(), dto.getEndDate())) {
+            log.warn("[SpaceReservationService] 승인된 예약과 기간 중복: spaceId={}, startDate={}, endDate={}",
+                    space.getId(), dto.getStartDate(), dto.getEndDate());
+            throw new IllegalArgumentException("해당 기간에 이미 승인된 예약이 있습니다.");
+        }
+
         SpaceReservation reservation = SpaceReservation.builder()
                 .space(space)
                 .host(user)
@@ -176,7 +191,13 @@ public class SpaceReservationService {
             throw new IllegalArgumentException("해당 공간에 대한 승인 권한이 없습니다.");
         }
 
+        if (hasAcceptedOverlap(reservation.getSpace().getId(), reservation.getStartDate(), reservation.getEndDate())) {
+            log.warn("[SpaceReservationService] 승인된 예약과 기간 중복: reservationId={}", reservationId);
+            throw new IllegalArgumentException("해당 기간에 이미 승인된 예약이 있습니다.");
+        }
+
         reservation.accept();
+        publishStatusChanged(reservation);
 
         notificationService.createNotification(
                 reservation.getHost().getId(),
@@ -211,6 +232,7 @@ public class SpaceReservationService {
                 .orElseThrow(() -> new IllegalArgumentException("예약이 존재하지 않거나 거절 권한이 없습니다."));
 
         reservation.reject();
+        publishStatusChanged(reservation);
 
         notificationService.createNotification(
                 reservation.getHost().getId(),
@@ -237,6 +259,7 @@ public class SpaceReservationService {
                 .orElseThrow(() -> new IllegalArgumentException("예약이 존재하지 않거나 취소 권한이 없습니다."));
 
         reservation.cancel();
+        publishStatusChanged(reservation);
 
         notificationService.createNotification(
                 reservation.getSpace().getOwner().getId(),
@@ -270,4 +293,58 @@ public class SpaceReservationService {
             throw new IllegalArgumentException("승인되었거나 진행 중인 예약은 삭제(숨김)할 수 없습니다.");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 공간 예약 현황 (승인된 예약 기간과 예약 가능 기간)
+     * 조회 기간은 공간의 대여 가능 기간 안으로 제한된다.
+     *
+     * @param spaceId 공간 ID
+     * @param from    조회 시작일 (없으면 오늘)
+     * @param months  조회 개월 수 (1 ~ MAX_CALENDAR_MONTHS)
+     * @return 예약 현황
+     */
+    @Transactional(readOnly = true)
+    public SpaceCalendarResponseDto getCalendar(Long spaceId, LocalDate from, int months) {
+        Space space = spaceRepository.findById(spaceId)
+                .filter(s -> !Boolean.TRUE.equals(s.getIsHidden()))
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 공간입니다."));
+
+        int span = Math.max(1, Math.min(months, MAX_CALENDAR_MONTHS));
+        LocalDate start = from != null ? from : LocalDate.now();
+        LocalDate end = start.plusMonths(span).minusDays(1);
+        if (space.getStartDate() != null && start.isBefore(space.getStartDate())) {
+            start = space.getStartDate();
+        }
+        if (space.getEndDate() != null && end.isAfter(space.getEndDate())) {
+            end = space.getEndDate();
+        }
+
+        return SpaceCalendarResponseDto.builder()
+                .spaceId(spaceId)
+                .from(start)
+                .to(end)
+                .booked(SpaceCalendarResponseDto.DateRange.of(availabilityIndex.booked(spaceId, start, end)))
+                .free(SpaceCalendarResponseDto.DateRange.of(availabilityIndex.free(spaceId, start, end)))
+                .build();
+    }
+
+    /**
+     * 승인된 예약과 기간이 겹치는지 DB에서 확인
+     * - 공간 행을 잠가 같은 공간의 동시 승인이 순서대로 확인하도록 함 (커밋 전 승인도 놓치지 않음)
+     * - 예약 현황 인덱스는 커밋 이후에 갱신되므로 캘린더 조회에만 사용
+     */
+    private boolean hasAcceptedOverlap(Long spaceId, LocalDate startDate, LocalDate endDate) {
+        Space space = spaceRepository.lockById(spaceId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 공간입니다."));
+        return reservationRepository.countOverlappingReservations(space, startDate, endDate) > 0;
+    }
+
+    private void publishStatusChanged(SpaceReservation reservation) {
+        eventPublisher.publishEvent(new ReservationStatusChangedEvent(
+                reservation.getId(),
+                reservation.getSpace().getId(),
+                reservation.getStartDate(),
+                reservation.getEndDate(),
+                reservation.getStatus()));
+    }
+}
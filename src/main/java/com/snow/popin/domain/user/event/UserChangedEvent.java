@@ -0,0 +1,14 @@
+package com.snow.popin.domain.user.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 가입 또는 이름/닉네임/연락처/역할 변경을 알림 (커밋 이후 처리)
+ * 관리자 회원 검색 인덱스가 구독한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserChangedEvent {
+    private final Long userId;
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> , JpaSpecificationExecutor<User> {
@@ -23,4 +24,7 @@ public interface UserRepository extends JpaRepository<User, Long> , JpaSpecifica
     // 역할별 회원 수 조회
     Long countByRole(Role role);
 
+    // 관리자 검색 인덱스 구성용 (ID 커서 기반 청크)
+    List<User> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
 }
\ No newline at end of file
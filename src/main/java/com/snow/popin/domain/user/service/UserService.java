@@ -8,6 +8,8 @@ import com.snow.popin.global.constant.ErrorCode;
 import com.snow.popin.global.exception.GeneralException;
 import com.snow.popin.global.util.UserUtil;
 import lombok.*;
+import com.snow.popin.domain.user.event.UserChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -21,6 +23,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final UserUtil userUtil;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     public User findById(Long id){
         return userRepository.findById(id)
@@ -46,6 +49,7 @@ public class UserService {
     public UserResponseDto updateCurrentUser(UserUpdateRequestDto dto) {
         User user = userUtil.getCurrentUser();
         user.updateProfile(dto.getName(), dto.getNickname(), dto.getPhone());
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
         return new UserResponseDto(user);
     }
 
@@ -0,0 +1,96 @@
+package com.snow.popin.global.batch;
+
+import com.snow.popin.global.common.BaseTimeEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * 배치 작업 진행 기록 (작업당 한 행)
+ * 청크를 커밋할 때 같은 트랜잭션에서 마지막 처리 ID를 갱신하므로,
+ * 중간에 실패해도 같은 실행일에 다시 돌리면 남은 구간부터 이어서 처리한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "batch_job_progress")
+public class BatchJobProgress extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    // 작업 내 단계 (예: ONGOING 전환 → ENDED 전환)
+    @Column(name = "phase", length = 50)
+    private String phase;
+
+    @Column(name = "last_processed_id", nullable = false)
+    private Long lastProcessedId;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private BatchJobStatus status;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public static BatchJobProgress start(String jobName, LocalDate runDate, String firstPhase) {
+        BatchJobProgress progress = new BatchJobProgress();
+        progress.jobName = jobName;
+        progress.restart(runDate, firstPhase);
+        return progress;
+    }
+
+    public void restart(LocalDate runDate, String firstPhase) {
+        this.runDate = runDate;
+        this.phase = firstPhase;
+        this.lastProcessedId = 0L;
+        this.processedCount = 0;
+        this.status = BatchJobStatus.RUNNING;
+        this.lastError = null;
+    }
+
+    /**
+     * 같은 실행일의 미완료 작업이면 이어서 처리
+     */
+    public boolean isResumable(LocalDate runDate) {
+        return this.runDate.equals(runDate) && status != BatchJobStatus.COMPLETED;
+    }
+
+    public boolean isCompletedFor(LocalDate runDate) {
+        return this.runDate.equals(runDate) && status == BatchJobStatus.COMPLETED;
+    }
+
+    public void resume() {
+        this.status = BatchJobStatus.RUNNING;
+        this.lastError = null;
+    }
+
+    public void advance(Long lastProcessedId, int count) {
+        this.lastProcessedId = lastProcessedId;
+        this.processedCount += count;
+    }
+
+    public void nextPhase(String phase) {
+        this.phase = phase;
+        this.lastProcessedId = 0L;
+    }
+
+    public void complete() {
+        this.status = BatchJobStatus.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.status = BatchJobStatus.FAILED;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
@@ -0,0 +1,6 @@
+package com.snow.popin.global.batch;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BatchJobProgressRepository extends JpaRepository<BatchJobProgress, String> {
+}
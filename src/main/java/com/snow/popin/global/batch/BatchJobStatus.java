@@ -0,0 +1,7 @@
+package com.snow.popin.global.batch;
+
+public enum BatchJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -1,5 +1,6 @@
 package com.snow.popin.global.config;
 
+import com.snow.popin.global.http.OutboundHttpClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -7,8 +8,12 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class HttpClientConfig {
 
+    /**
+     * 결제 API(카카오페이, 네이버페이) 호출용
+     * 제공자별 커넥션 풀, 타임아웃, 재시도, 지표 수집이 적용된다.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(OutboundHttpClients outboundHttpClients) {
+        return outboundHttpClients.restTemplate("kakao-pay", "naver-pay");
     }
-}
\ No newline at end of file
+}
@@ -9,7 +9,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import javax.persistence.EntityManager;
 
 @Configuration
-@EnableJpaRepositories(basePackages = "com.snow.popin.domain")
+@EnableJpaRepositories(basePackages = {"com.snow.popin.domain", "com.snow.popin.global"})
 public class QueryDslConfig {
 
     @Autowired
@@ -0,0 +1,193 @@
+package com.snow.popin.global.config;
+
+import com.snow.popin.domain.admin.search.AdminUserSearchIndex;
+import com.snow.popin.domain.bookmark.service.BookMarkService;
+import com.snow.popin.domain.payment.service.PaymentReconciliationService;
+import com.snow.popin.domain.popup.service.PopupBatchService;
+import com.snow.popin.domain.popup.similarity.PopupContentIndex;
+import com.snow.popin.domain.recommendation.service.PopupSimilarityService;
+import com.snow.popin.domain.review.service.ReviewAggregateService;
+import com.snow.popin.domain.space.scheduler.SpaceScheduler;
+import com.snow.popin.domain.space.search.SpaceSearchIndex;
+import com.snow.popin.global.idempotency.IdempotencyStore;
+import com.snow.popin.global.outbox.OutboxDispatcher;
+import com.snow.popin.global.scheduler.ReservationReminderScheduler;
+import com.snow.popin.global.scheduler.job.JobDefinition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * ManagedJobScheduler로 실행하는 예약 작업 목록
+ * 작업마다 전용 스레드에서 실행되며, leaderOnly 작업은 여러 노드 중 실행권을 얻은 한 노드만 실행한다.
+ * 노드 메모리 상태를 다루는 작업(멱등 키 정리, 아웃박스 폴링, 유사 팝업 모델·콘텐츠 인덱스·공간 검색 인덱스·관리자 회원 검색 인덱스 재구성)은 leaderOnly(false)로 노드마다 실행한다.
+ */
+@Configuration
+public class SchedulerConfig {
+
+    // 매 분 0초 예약 임박 알림
+    @Bean
+    public JobDefinition reservationReminderJob(
+            ReservationReminderScheduler reminderScheduler,
+            @Value("${scheduler.jobs.reservation-reminder.cron:0 * * * * *}") String cron) {
+        return JobDefinition.builder()
+                .name("reservation-reminder")
+                .cron(cron)
+                .lockAtMost(Duration.ofMinutes(5))
+                .lockAtLeast(Duration.ofSeconds(30))
+                .task(reminderScheduler::sendReservationReminders)
+                .build();
+    }
+
+    // 매 시 정각 만료 공간 숨김
+    @Bean
+    public JobDefinition spaceExpiryJob(
+            SpaceScheduler spaceScheduler,
+            @Value("${scheduler.jobs.space-expiry.cron:0 0 * * * *}") String cron) {
+        return JobDefinition.builder()
+                .name("space-expiry")
+                .cron(cron)
+                .lockAtMost(Duration.ofMinutes(30))
+                .lockAtLeast(Duration.ofMinutes(5))
+                .task(spaceScheduler::hideExpiredSpaces)
+                .build();
+    }
+
+    // 매일 자정 팝업 상태 전환
+    @Bean
+    public JobDefinition popupStatusTransitionJob(
+            PopupBatchService popupBatchService,
+            @Value("${scheduler.jobs.popup-status-transition.cron:0 0 0 * * *}") String cron) {
+        return JobDefinition.builder()
+                .name(PopupBatchService.JOB_NAME)
+                .cron(cron)
+                .lockAtMost(Duration.ofHours(2))
+                .lockAtLeast(Duration.ofMinutes(10))
+                .task(popupBatchService::updatePopupStatuses)
+                .build();
+    }
+
+    // 매일 04:30 리뷰 집계 검증 (reviews 기준 재계산 후 불일치 보정)
+    @Bean
+    public JobDefinition reviewAggregateVerifyJob(
+            ReviewAggregateService reviewAggregateService,
+            @Value("${scheduler.jobs.review-aggregate-verify.cron:0 30 4 * * *}") String cron) {
+        return JobDefinition.builder()
+                .name(ReviewAggregateService.VERIFY_JOB_NAME)
+                .cron(cron)
+                .lockAtMost(Duration.ofHours(1))
+                .lockAtLeast(Duration.ofMinutes(5))
+                .task(reviewAggregateService::verify)
+                .build();
+    }
+
+    // 매일 04:45 팝업 북마크 수 재계산 (컬럼 추가 직후 1회는 관리자 API로 즉시 실행)
+    @Bean
+    public JobDefinition bookmarkCountResyncJob(
+            BookMarkService bookMarkService,
+            @Value("${scheduler.jobs.bookmark-count-resync.cron:0 45 4 * * *}") String cron) {
+        return JobDefinition.builder()
+                .name("bookmark-count-resync")
+                .cron(cron)
+                .lockAtMost(Duration.ofMinutes(30))
+                .lockAtLeast(Duration.ofMinutes(5))
+                .task(bookMarkService::resyncBookmarkCounts)
+                // bookmark_count 컬럼이 막 추가되어(기본값 0) 북마크가 있는데 0인 팝업이 있으면 기동 직후 보정
+                .runOnStartupIf(bookMarkService::hasUncountedBookmarks)
+                .build();
+    }
+
+    // 10분마다 취소 예약의 결제 상태를 결제사와 대사
+    @Bean
+    public JobDefinition paymentReconciliationJob(
+            PaymentReconciliationService paymentReconciliationService,
+            @Value("${payment.reconciliation.cron:0 */10 * * * *}") String cron) {
+        return JobDefinition.builder()
+                .name("payment-reconciliation")
+                .cron(cron)
+                .lockAtMost(Duration.ofMinutes(30))
+                .lockAtLeast(Duration.ofMinutes(1))
+                .task(paymentReconciliationService::reconcile)
+                .build();
+    }
+
+    // 처리 시각이 된 아웃박스 이벤트 폴링 (행 점유로 중복 처리를 막으므로 노드마다 실행)
+    @Bean
+    public JobDefinition outboxPollJob(
+            OutboxDispatcher outboxDispatcher,
+            @Value("${outbox.dispatcher.poll-interval-ms:5000}") long intervalMs) {
+        return JobDefinition.builder()
+                .name("outbox-poll")
+                .interval(Duration.ofMillis(intervalMs))
+                .leaderOnly(false)
+                .task(outboxDispatcher::poll)
+                .build();
+    }
+
+    // 노드 메모리의 만료된 멱등 키 정리
+    @Bean
+    public JobDefinition idempotencyPurgeJob(
+            IdempotencyStore idempotencyStore,
+            @Value("${idempotency.purge-interval-ms:60000}") long intervalMs) {
+        return JobDefinition.builder()
+                .name("idempotency-purge")
+                .interval(Duration.ofMillis(intervalMs))
+                .leaderOnly(false)
+                .task(idempotencyStore::evictExpired)
+                .build();
+    }
+
+    // 매일 05:15 노드 메모리의 유사 팝업(함께 본 팝업) 모델 재구성
+    @Bean
+    public JobDefinition popupSimilarityRebuildJob(
+            PopupSimilarityService popupSimilarityService,
+            @Value("${popup.similarity.rebuild-cron:0 15 5 * * *}") String cron) {
+        return JobDefinition.builder()
+                .name("popup-similarity-rebuild")
+                .cron(cron)
+                .leaderOnly(false)
+                .task(popupSimilarityService::rebuild)
+                .build();
+    }
+
+    // 매일 05:20 노드 메모리의 팝업 콘텐츠 유사도 인덱스 재구성
+    @Bean
+    public JobDefinition popupContentIndexRebuildJob(
+            PopupContentIndex popupContentIndex,
+            @Value("${popup.content-index.rebuild-cron:0 20 5 * * *}") String cron) {
+        return JobDefinition.builder()
+                .name("popup-content-index-rebuild")
+                .cron(cron)
+                .leaderOnly(false)
+                .task(popupContentIndex::rebuild)
+                .build();
+    }
+
+    // 10분마다 노드 메모리의 공간 검색 인덱스 재구성 (다른 노드에서 등록/수정/숨김된 공간 반영)
+    @Bean
+    public JobDefinition spaceSearchRebuildJob(
+            SpaceSearchIndex spaceSearchIndex,
+            @Value("${space.search.rebuild-cron:0 */10 * * * *}") String cron) {
+        return JobDefinition.builder()
+                .name("space-search-rebuild")
+                .cron(cron)
+                .leaderOnly(false)
+                .task(spaceSearchIndex::rebuild)
+                .build();
+    }
+
+    // 10분마다 노드 메모리의 관리자 회원 검색 인덱스 재구성 (다른 노드에서 가입/수정/역할 변경된 회원 반영)
+    @Bean
+    public JobDefinition adminUserSearchRebuildJob(
+            AdminUserSearchIndex adminUserSearchIndex,
+            @Value("${admin.user-search.rebuild-cron:0 */10 * * * *}") String cron) {
+        return JobDefinition.builder()
+                .name("admin-user-search-rebuild")
+                .cron(cron)
+                .leaderOnly(false)
+                .task(adminUserSearchIndex::rebuild)
+                .build();
+    }
+}
@@ -40,7 +40,9 @@ public class SecurityConfig {
     public WebSecurityCustomizer webSecurityCustomizer() {
         return (web) -> web.ignoring()
                 .antMatchers("/css/**", "/js/**", "/images/**", "/static/**",
-                        "/favicon.ico", "/templates/**", "/uploads/**", "/error/**");
+                        "/favicon.ico", "/templates/**", "/error/**",
+                        // 업로드 파일 중 공개 영역만 제외 (/uploads/documents/**는 인증 필터를 거침)
+                        "/uploads/*", "/uploads/blobs/**", "/uploads/variants/**", "/uploads/QrCodes/**");
     }
 
     @Bean
@@ -56,6 +58,9 @@ public class SecurityConfig {
                 .and()
 
                 .authorizeRequests(authz -> authz
+                        // 역할 승격 문서 (소유자/관리자 확인은 UploadFileService에서)
+                        .antMatchers("/uploads/documents/**").authenticated()
+
                         // 정적 리소스
                         .antMatchers("/uploads/**","/css/**", "/js/**", "/images/**",
                                 "/static/**", "/favicon.ico", "/templates/**", "/*.json",
@@ -1,6 +1,9 @@
 package com.snow.popin.global.config;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.snow.popin.global.idempotency.IdempotencyInterceptor;
+import com.snow.popin.global.idempotency.IdempotencyStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
@@ -10,6 +13,7 @@ import org.springframework.http.converter.json.MappingJackson2HttpMessageConvert
 import org.springframework.web.filter.CharacterEncodingFilter;
 import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -17,9 +21,11 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
-    @Value("${uploadPath}")
-    String uploadPath;
+
+    // @WebMvcTest 슬라이스에는 저장소 빈이 없으므로 있을 때만 등록
+    private final ObjectProvider<IdempotencyStore> idempotencyStore;
 
     @Bean
     public CharacterEncodingFilter characterEncodingFilter() {
@@ -65,10 +71,14 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .addResourceLocations("classpath:/static/favicon.ico")
                 .setCachePeriod(0);
 
-        // 업로드된 파일
-        String dir = uploadPath.endsWith("/") ? uploadPath : uploadPath + "/";
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:" + dir);
+        // 업로드된 파일(/uploads/**)은 UploadController에서 캐시 검증/Range/권한 처리와 함께 서빙
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // @Idempotent API의 Idempotency-Key 처리
+        idempotencyStore.ifAvailable(store ->
+                registry.addInterceptor(new IdempotencyInterceptor(store)).addPathPatterns("/api/**"));
     }
 
     // CORS 설정 추가
@@ -0,0 +1,153 @@
+package com.snow.popin.global.controller;
+
+import com.snow.popin.global.storage.UploadFile;
+import com.snow.popin.global.storage.UploadFileService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UriUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 업로드 파일 서빙 (/uploads/**)
+ * - ETag/Last-Modified 조건부 요청 → 304
+ * - 내용 해시 파일명은 1년 immutable 캐시
+ * - 단일 Range 요청 → 206 (다중 Range는 전체 응답으로 대체, RFC 7233 허용)
+ * - Tomcat sendfile 지원 시 커널 zero-copy 전송, 아니면 FileChannel.transferTo로 전송
+ */
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class UploadController {
+
+    private static final String PREFIX = "/uploads/";
+    private static final long IMMUTABLE_MAX_AGE = 31536000L; // 1년
+    private static final long DEFAULT_MAX_AGE = 86400L;      // 1일
+
+    // Tomcat NIO 커넥터 sendfile 요청 속성 (DefaultServlet과 동일한 방식)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final UploadFileService uploadFileService;
+
+    // HEAD 요청도 같은 핸들러로 매핑됨
+    @GetMapping("/uploads/**")
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        String relative = UriUtils.decode(uri.substring(PREFIX.length()), StandardCharsets.UTF_8);
+        UploadFile file = uploadFileService.resolve(relative);
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(file));
+        if (file.isRestricted()) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment");
+        }
+
+        // If-None-Match / If-Modified-Since 처리 (ETag, Last-Modified 헤더도 함께 설정됨)
+        if (new ServletWebRequest(request, response).checkNotModified(file.getEtag(), file.getLastModified())) {
+            return;
+        }
+
+        long start = 0;
+        long end = file.getLength() - 1;
+        HttpRange range;
+        try {
+            range = requestedRange(request, file);
+            if (range != null) {
+                start = range.getRangeStart(file.getLength());
+                end = range.getRangeEnd(file.getLength());
+                if (start >= file.getLength() || start > end) {
+                    throw new IllegalArgumentException("요청 범위가 파일 크기를 벗어났습니다.");
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + file.getLength());
+            return;
+        }
+        if (range != null) {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + file.getLength());
+        }
+
+        long length = end - start + 1;
+        response.setContentType(file.getMediaType().toString());
+        response.setContentLengthLong(Math.max(length, 0));
+        if ("HEAD".equals(request.getMethod()) || length <= 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.getPath().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.getPath(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    private String cacheControl(UploadFile file) {
+        if (file.isRestricted()) {
+            return "private, max-age=" + DEFAULT_MAX_AGE;
+        }
+        if (file.isImmutable()) {
+            return "public, max-age=" + IMMUTABLE_MAX_AGE + ", immutable";
+        }
+        return "public, max-age=" + DEFAULT_MAX_AGE;
+    }
+
+    /**
+     * 단일 Range만 처리. Range가 없거나, If-Range 불일치거나, 다중 Range면 null (전체 응답)
+     *
+     * @throws IllegalArgumentException Range 헤더 형식 오류 또는 만족할 수 없는 범위
+     */
+    private HttpRange requestedRange(HttpServletRequest request, UploadFile file) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (!StringUtils.hasText(header)) {
+            return null;
+        }
+        // If-Range가 현재 ETag와 다르면 Range를 무시하고 전체를 보냄
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (StringUtils.hasText(ifRange) && !ifRange.trim().equals(file.getEtag())) {
+            return null;
+        }
+        List<HttpRange> ranges = HttpRange.parseRanges(header);
+        if (ranges.size() != 1) {
+            return null;
+        }
+        if (file.getLength() == 0) {
+            throw new IllegalArgumentException("빈 파일에는 Range를 적용할 수 없습니다.");
+        }
+        return ranges.get(0);
+    }
+}
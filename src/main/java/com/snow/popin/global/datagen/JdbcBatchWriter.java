@@ -0,0 +1,56 @@
+package com.snow.popin.global.datagen;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 행을 모아 JDBC 배치 INSERT 로 내보내는 버퍼
+ * MySQL 은 URL 에 rewriteBatchedStatements=true 를 줘야 배치가 다중 VALUES 한 문장으로 합쳐진다.
+ */
+final class JdbcBatchWriter implements AutoCloseable {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String sql;
+    private final int batchSize;
+    private final List<Object[]> buffer;
+    private long rows;
+
+    JdbcBatchWriter(JdbcTemplate jdbcTemplate, String table, List<String> columns, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        this.batchSize = Math.max(1, batchSize);
+        this.buffer = new ArrayList<>(this.batchSize);
+    }
+
+    void add(Object... row) {
+        buffer.add(row);
+        rows++;
+        if (buffer.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * 추가한 행 수 (close 전 아직 버퍼에 남은 행 포함)
+     */
+    long rows() {
+        return rows;
+    }
+
+    private void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, buffer);
+        buffer.clear();
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+}
@@ -0,0 +1,85 @@
+package com.snow.popin.global.datagen;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.SplittableRandom;
+
+/**
+ * 합성 장소 생성용 실제 지역 좌표
+ * - 중심 좌표는 각 구청 부근, weight는 팝업스토어가 몰리는 정도(성수/홍대/강남 등)를 반영한 상대 가중치
+ * - 장소 좌표는 중심에서 약 ±1.5km 안으로 흩뿌린다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RegionCoordinate {
+
+    SEOUL_SEONGDONG("서울특별시", "성동구", "성수이로", 37.5446, 127.0557, 14),
+    SEOUL_MAPO("서울특별시", "마포구", "와우산로", 37.5563, 126.9236, 12),
+    SEOUL_GANGNAM("서울특별시", "강남구", "압구정로", 37.5172, 127.0473, 12),
+    SEOUL_YONGSAN("서울특별시", "용산구", "이태원로", 37.5345, 126.9947, 8),
+    SEOUL_JONGNO("서울특별시", "종로구", "삼청로", 37.5735, 126.9790, 6),
+    SEOUL_JUNG("서울특별시", "중구", "명동길", 37.5636, 126.9826, 6),
+    SEOUL_YEONGDEUNGPO("서울특별시", "영등포구", "여의대로", 37.5259, 126.9284, 6),
+    SEOUL_SONGPA("서울특별시", "송파구", "올림픽로", 37.5133, 127.1001, 6),
+    SEOUL_SEOCHO("서울특별시", "서초구", "강남대로", 37.4837, 127.0324, 4),
+    SEOUL_GWANGJIN("서울특별시", "광진구", "아차산로", 37.5385, 127.0823, 3),
+    SEOUL_SEODAEMUN("서울특별시", "서대문구", "연세로", 37.5579, 126.9368, 3),
+    SEOUL_GANGSEO("서울특별시", "강서구", "마곡중앙로", 37.5609, 126.8255, 2),
+    SEOUL_DONGDAEMUN("서울특별시", "동대문구", "왕산로", 37.5744, 127.0396, 1),
+    SEOUL_NOWON("서울특별시", "노원구", "동일로", 37.6542, 127.0568, 1),
+    GYEONGGI_SEONGNAM("경기도", "성남시 분당구", "판교역로", 37.3947, 127.1112, 3),
+    GYEONGGI_HANAM("경기도", "하남시", "미사대로", 37.5453, 127.2234, 2),
+    INCHEON_YEONSU("인천광역시", "연수구", "센트럴로", 37.3925, 126.6390, 2),
+    BUSAN_HAEUNDAE("부산광역시", "해운대구", "해운대해변로", 35.1631, 129.1636, 4),
+    BUSAN_BUSANJIN("부산광역시", "부산진구", "중앙대로", 35.1577, 129.0592, 2),
+    DAEGU_JUNG("대구광역시", "중구", "동성로", 35.8694, 128.5961, 2),
+    DAEJEON_YUSEONG("대전광역시", "유성구", "대학로", 36.3623, 127.3563, 1),
+    GWANGJU_DONG("광주광역시", "동구", "충장로", 35.1468, 126.9190, 1),
+    JEJU_JEJU("제주특별자치도", "제주시", "노형로", 33.4859, 126.4779, 1);
+
+    // 위도 0.0135도 ≈ 1.5km
+    private static final double JITTER_DEGREES = 0.0135;
+
+    private static final RegionCoordinate[] VALUES = values();
+    private static final int TOTAL_WEIGHT;
+
+    static {
+        int total = 0;
+        for (RegionCoordinate region : VALUES) {
+            total += region.weight;
+        }
+        TOTAL_WEIGHT = total;
+    }
+
+    private final String province;
+    private final String district;
+    private final String road;
+    private final double latitude;
+    private final double longitude;
+    private final int weight;
+
+    public static RegionCoordinate sample(SplittableRandom random) {
+        int target = random.nextInt(TOTAL_WEIGHT);
+        for (RegionCoordinate region : VALUES) {
+            target -= region.weight;
+            if (target < 0) {
+                return region;
+            }
+        }
+        return VALUES[VALUES.length - 1];
+    }
+
+    public double jitterLatitude(SplittableRandom random) {
+        return latitude + (random.nextDouble() * 2 - 1) * JITTER_DEGREES;
+    }
+
+    public double jitterLongitude(SplittableRandom random) {
+        // 경도 1도 길이는 위도에 따라 줄어드므로 같은 거리만큼 보정
+        return longitude + (random.nextDouble() * 2 - 1) * JITTER_DEGREES / Math.cos(Math.toRadians(latitude));
+    }
+
+    public String roadAddress(int buildingNumber) {
+        return province + " " + district + " " + road + " " + buildingNumber;
+    }
+}
@@ -0,0 +1,733 @@
+package com.snow.popin.global.datagen;
+
+import com.snow.popin.domain.bookmark.service.BookMarkService;
+import com.snow.popin.domain.review.service.ReviewAggregateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 대량 합성 데이터 생성기 (datagen 프로필)
+ * - DataInitializer 가 리포지토리 save 로 몇 건씩 넣는 것과 달리, 설정한 건수만큼 JDBC 배치 INSERT 로 적재
+ * - 사용자/브랜드/장소/팝업/운영시간/예약/리뷰/북마크/미션/공간/공간예약/채팅을 FK 순서대로 생성
+ * - 테이블마다 seed 에서 파생한 난수열을 쓰고, ID 는 기존 최대값 다음부터 직접 부여하므로
+ *   같은 seed, 같은 기준일, 같은 시작 상태면 같은 데이터가 만들어진다.
+ *
+ * 스키마는 JPA(ddl-auto)로 미리 만들어져 있어야 한다.
+ * 실행: --spring.profiles.active=datagen --datagen.users=1000000 --datagen.reservations=5000000
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+@RequiredArgsConstructor
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final String PASSWORD = "1234";
+    // 사용자별 활동량(예약/북마크/미션 참여) 쏠림
+    private static final double USER_ACTIVITY_SKEW = 0.6;
+
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임",
+            "한", "오", "서", "신", "권", "황", "안", "송", "류", "홍"};
+    private static final String[] GIVEN_SYLLABLES = {"민", "서", "지", "현", "우", "준", "예", "도", "하", "윤",
+            "수", "진", "영", "은", "성", "재", "유", "연", "태", "승"};
+    private static final String[] BRAND_PREFIXES = {"모노", "루나", "코지", "블루", "오로라", "포레스트", "써니",
+            "마블", "플로라", "노바"};
+    private static final String[] BRAND_SUFFIXES = {"랩", "하우스", "스튜디오", "마켓", "컴퍼니", "웍스", "살롱", "키친"};
+    private static final String[] POPUP_THEMES = {"시즌 한정", "컬래버레이션", "체험", "굿즈", "아트", "뷰티",
+            "디저트", "향수", "캐릭터", "리빙", "빈티지", "전시"};
+    private static final String[][] REVIEW_TEXTS = {
+            {"기대보다 많이 아쉬웠어요.", "대기 시간이 너무 길었습니다."},
+            {"구성은 괜찮았는데 동선이 불편했어요.", "굿즈가 금방 품절됐어요."},
+            {"무난하게 둘러보기 좋았어요.", "사진 찍을 곳은 많았어요."},
+            {"전시 구성이 알차고 직원분들이 친절했어요.", "굿즈 퀄리티가 좋아요."},
+            {"정말 만족스러웠어요! 또 방문하고 싶어요.", "예약하고 가니 바로 입장해서 좋았어요."}
+    };
+    private static final String[] CHAT_TEXTS = {"안녕하세요, 공간 대관 문의드립니다.", "요청하신 기간 이용 가능합니다.",
+            "전기 용량과 반입 시간 확인 부탁드립니다.", "주말 오픈 시간도 조정 가능할까요?", "계약서 보내드렸습니다.",
+            "확인했습니다. 감사합니다."};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final SyntheticDataProperties properties;
+    private final BookMarkService bookMarkService;
+    private final ReviewAggregateService reviewAggregateService;
+
+    @Override
+    public void run(String... args) {
+        long started = System.currentTimeMillis();
+        log.info("=== SyntheticDataGenerator 실행 시작 - seed={}, users={}, popups={}, reservations={} ===",
+                properties.getSeed(), properties.getUsers(), properties.getPopups(), properties.getReservations());
+
+        new GenerationRun().execute();
+
+        if (properties.isResyncCounters()) {
+            bookMarkService.resyncBookmarkCounts();
+            reviewAggregateService.verify();
+        }
+        log.info("=== SyntheticDataGenerator 완료 - {}ms ===", System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 한 번의 생성 실행 상태 (앞 단계에서 만든 ID/속성을 뒤 단계가 참조)
+     */
+    private final class GenerationRun {
+
+        private final LocalDate baseDate = properties.resolveBaseDate();
+        private final LocalDateTime baseTime = baseDate.atTime(LocalTime.NOON);
+        private final Map<String, String> tables = resolveTables();
+        private final boolean h2 = isH2();
+
+        private long firstUserId;
+        private int[] activeUserOrder;
+        private int[] hostUsers = new int[0];
+        private int[] providerUsers = new int[0];
+
+        private long firstBrandId;
+        private int[] hostBrands = new int[0];
+        private List<Long> categoryIds = List.of();
+
+        private long firstPopupId;
+        private int[] popupBrand;
+        private int[] popupStartDay;
+        private int[] popupEndDay;
+        private int[] popupEntryFee;
+        private int[] popularityOrder;
+        private int[] reservablePopups;
+        private int[][] brandPopups;
+
+        // 방문 완료 예약 (리뷰 후보)
+        private LongList visitedPopups = new LongList();
+        private LongList visitedUsers = new LongList();
+        private LongList visitedDays = new LongList();
+
+        private List<byte[]> missionIds = new ArrayList<>();
+
+        private long firstSpaceId;
+        private int[] spaceOwner = new int[0];
+
+        private long firstSpaceReservationId;
+        private int[] spaceReservationHost = new int[0];
+        private int[] spaceReservationOwner = new int[0];
+        private int[] spaceReservationDay = new int[0];
+
+        void execute() {
+            step("user", this::users);
+            step("brands", this::brands);
+            step("brand_members", this::brandMembers);
+            step("popups", this::popups);
+            step("popup_hours", this::popupHours);
+            step("reservations", this::reservations);
+            step("reviews", this::reviews);
+            step("bookmarks", this::bookmarks);
+            step("mission_set", this::missions);
+            step("user_mission", this::userMissions);
+            step("place_lists", this::spaces);
+            step("space_reservation", this::spaceReservations);
+            step("chat_message", this::chatMessages);
+        }
+
+        private void step(String table, Step step) {
+            long started = System.currentTimeMillis();
+            long rows = step.run();
+            syncIdentity(table);
+            log.info("[Datagen] {} {}건 적재 - {}ms", table, rows, System.currentTimeMillis() - started);
+        }
+
+        private long users() {
+            SplittableRandom random = random("user");
+            int count = properties.getUsers();
+            firstUserId = nextId("user");
+            String encodedPassword = passwordEncoder.encode(PASSWORD);
+
+            List<Integer> hosts = new ArrayList<>();
+            List<Integer> providers = new ArrayList<>();
+            try (JdbcBatchWriter writer = writer("user", "id", "email", "password", "name", "nickname", "phone",
+                    "auth_provider", "role", "status", "created_at", "updated_at")) {
+                for (int i = 0; i < count; i++) {
+                    long id = firstUserId + i;
+                    double roll = random.nextDouble();
+                    String role = "USER";
+                    if (roll < properties.getHostRatio()) {
+                        role = "HOST";
+                        hosts.add(i);
+                    } else if (roll < properties.getHostRatio() + properties.getProviderRatio()) {
+                        role = "PROVIDER";
+                        providers.add(i);
+                    }
+                    LocalDateTime joinedAt = baseTime.minusDays(random.nextInt(730)).minusMinutes(random.nextInt(1440));
+                    writer.add(id, "user" + id + "@datagen.popin.test", encodedPassword, personName(i),
+                            "popin" + id, phone(i), "LOCAL", role, "ACTIVE", joinedAt, joinedAt);
+                }
+                hostUsers = toArray(hosts);
+                providerUsers = toArray(providers);
+                // 활동량(예약/북마크 빈도)이 사용자마다 다르도록 Zipf 순위를 섞은 사용자 순서
+                activeUserOrder = permutation(count, random);
+                return writer.rows();
+            }
+        }
+
+        private long brands() {
+            SplittableRandom random = random("brands");
+            categoryIds = jdbcTemplate.queryForList("SELECT id FROM " + table("categories") + " ORDER BY id", Long.class);
+            firstBrandId = nextId("brands");
+            try (JdbcBatchWriter writer = writer("brands", "id", "name", "description", "business_type",
+                    "category_id", "created_at", "updated_at")) {
+                for (int i = 0; i < properties.getBrands(); i++) {
+                    String name = brandName(i);
+                    LocalDateTime createdAt = baseTime.minusDays(365 + random.nextInt(365));
+                    writer.add(firstBrandId + i, name, name + " 공식 브랜드",
+                            random.nextInt(4) == 0 ? "INDIVIDUAL" : "CORPORATE",
+                            randomCategory(random), createdAt, createdAt);
+                }
+                return writer.rows();
+            }
+        }
+
+        private long brandMembers() {
+            if (properties.getBrands() == 0) {
+                return 0;
+            }
+            SplittableRandom random = random("brand_members");
+            long firstId = nextId("brand_members");
+            hostBrands = new int[hostUsers.length];
+            try (JdbcBatchWriter writer = writer("brand_members", "id", "brand_id", "user_id", "role_in_brand",
+                    "created_at", "updated_at")) {
+                for (int i = 0; i < hostUsers.length; i++) {
+                    hostBrands[i] = random.nextInt(properties.getBrands());
+                    LocalDateTime createdAt = baseTime.minusDays(random.nextInt(365));
+                    writer.add(firstId + i, firstBrandId + hostBrands[i], firstUserId + hostUsers[i], "OWNER",
+                            createdAt, createdAt);
+                }
+                return writer.rows();
+            }
+        }
+
+        private long popups() {
+            SplittableRandom random = random("popups");
+            int count = properties.getPopups();
+            popupBrand = new int[count];
+            popupStartDay = new int[count];
+            popupEndDay = new int[count];
+            popupEntryFee = new int[count];
+            List<Integer> reservable = new ArrayList<>();
+            int[] brandPopupCounts = new int[Math.max(1, properties.getBrands())];
+
+            firstPopupId = nextId("popups");
+            long firstVenueId = nextId("venues");
+            // 장소와 팝업은 1:1 로 같은 배치 경계에서 장소가 먼저 내보내지고, 닫을 때도 역순이라 장소가 먼저 닫힌다
+            try (JdbcBatchWriter popups = writer("popups", "id", "brand_id", "venue_id", "title_search", "title",
+                    "summary", "description", "start_date", "end_date", "status", "entry_fee",
+                    "reservation_available", "waitlist_available", "is_featured", "view_count", "category_id",
+                    "created_at", "updated_at");
+                 JdbcBatchWriter venues = writer("venues", "id", "name", "road_address", "detail_address",
+                         "latitude", "longitude", "region", "parking_available", "created_at", "updated_at")) {
+                for (int i = 0; i < count; i++) {
+                    RegionCoordinate region = RegionCoordinate.sample(random);
+                    LocalDateTime createdAt = baseTime.minusDays(random.nextInt(150));
+                    long venueId = firstVenueId + i;
+                    venues.add(venueId, region.getDistrict() + " 팝업 공간 " + (i + 1),
+                            region.roadAddress(1 + random.nextInt(300)), (1 + random.nextInt(3)) + "층",
+                            region.jitterLatitude(random), region.jitterLongitude(random), region.getProvince(),
+                            random.nextInt(3) == 0, createdAt, createdAt);
+
+                    LocalDate start = baseDate.plusDays(random.nextInt(165) - 120);
+                    LocalDate end = start.plusDays(6 + random.nextInt(55));
+                    int brand = properties.getBrands() > 0 ? random.nextInt(properties.getBrands()) : -1;
+                    int entryFee = random.nextInt(10) < 7 ? 0 : (5 + random.nextInt(16)) * 1000;
+                    boolean reservationAvailable = random.nextInt(10) < 6;
+                    String title = (brand >= 0 ? brandName(brand) + " " : "")
+                            + POPUP_THEMES[random.nextInt(POPUP_THEMES.length)] + " 팝업스토어";
+
+                    popupBrand[i] = brand;
+                    popupStartDay[i] = (int) start.toEpochDay();
+                    popupEndDay[i] = (int) end.toEpochDay();
+                    popupEntryFee[i] = entryFee;
+                    if (reservationAvailable) {
+                        reservable.add(i);
+                    }
+                    if (brand >= 0) {
+                        brandPopupCounts[brand]++;
+                    }
+                    popups.add(firstPopupId + i, brand >= 0 ? firstBrandId + brand : null, venueId,
+                            title.toLowerCase(Locale.ROOT).trim(), title, region.getDistrict() + "에서 만나는 " + title,
+                            title + " 상세 안내입니다.", start, end, statusOf(start, end), entryFee,
+                            reservationAvailable, false, random.nextInt(50) == 0, (long) random.nextInt(5000),
+                            randomCategory(random), createdAt, createdAt);
+                }
+            }
+            syncIdentity("venues");
+            log.info("[Datagen] venues {}건 적재 (팝업 장소)", count);
+
+            popularityOrder = permutation(count, random);
+            reservablePopups = toArray(reservable);
+            brandPopups = new int[brandPopupCounts.length][];
+            for (int brand = 0; brand < brandPopupCounts.length; brand++) {
+                brandPopups[brand] = new int[brandPopupCounts[brand]];
+                brandPopupCounts[brand] = 0;
+            }
+            for (int i = 0; i < count; i++) {
+                if (popupBrand[i] >= 0) {
+                    brandPopups[popupBrand[i]][brandPopupCounts[popupBrand[i]]++] = i;
+                }
+            }
+            return count;
+        }
+
+        private long popupHours() {
+            long firstId = nextId("popup_hours");
+            LocalDateTime createdAt = baseTime.minusDays(150);
+            try (JdbcBatchWriter writer = writer("popup_hours", "id", "popup_id", "day_of_week", "open_time",
+                    "close_time", "created_at", "updated_at")) {
+                long id = firstId;
+                for (int i = 0; i < properties.getPopups(); i++) {
+                    for (int day = 0; day < 7; day++) {
+                        boolean weekend = day >= 5;
+                        writer.add(id++, firstPopupId + i, day, LocalTime.of(weekend ? 10 : 11, 0),
+                                LocalTime.of(weekend ? 21 : 20, 0), createdAt, createdAt);
+                    }
+                }
+                return writer.rows();
+            }
+        }
+
+        private long reservations() {
+            if (reservablePopups.length == 0 || properties.getUsers() == 0) {
+                return 0;
+            }
+            SplittableRandom random = random("reservations");
+            SyntheticDistributions.Zipf popularity =
+                    new SyntheticDistributions.Zipf(reservablePopups.length, properties.getPopularitySkew());
+            SyntheticDistributions.Zipf activity = new SyntheticDistributions.Zipf(properties.getUsers(), USER_ACTIVITY_SKEW);
+            int[] reservableOrder = permutation(reservablePopups.length, random);
+            long firstId = nextId("reservations");
+
+            try (JdbcBatchWriter writer = writer("reservations", "id", "popup_id", "user_id", "name", "phone",
+                    "party_size", "reservation_date", "reserved_at", "status", "payment_status", "payment_amount",
+                    "paid_at", "created_at", "updated_at")) {
+                for (int i = 0; i < properties.getReservations(); i++) {
+                    int popup = reservablePopups[reservableOrder[popularity.sample(random)]];
+                    int user = activeUserOrder[activity.sample(random)];
+                    LocalDateTime visitAt = SyntheticDistributions.visitTime(random,
+                            LocalDate.ofEpochDay(popupStartDay[popup]), LocalDate.ofEpochDay(popupEndDay[popup]));
+                    LocalDateTime reservedAt = visitAt.minusDays(random.nextInt(15)).minusMinutes(random.nextInt(1440));
+                    if (reservedAt.isAfter(baseTime)) {
+                        reservedAt = baseTime.minusMinutes(random.nextInt(1440));
+                    }
+
+                    String status = reservationStatus(random, visitAt);
+                    int partySize = SyntheticDistributions.partySize(random);
+                    int amount = popupEntryFee[popup] * partySize;
+                    String paymentStatus = "PENDING";
+                    LocalDateTime paidAt = null;
+                    if (amount > 0) {
+                        paymentStatus = "CANCELLED".equals(status) ? "REFUNDED" : "COMPLETED";
+                        paidAt = reservedAt.plusMinutes(1);
+                    }
+                    if ("VISITED".equals(status)) {
+                        visitedPopups.add(popup);
+                        visitedUsers.add(user);
+                        visitedDays.add(visitAt.toLocalDate().toEpochDay());
+                    }
+                    writer.add(firstId + i, firstPopupId + popup, firstUserId + user, personName(user), phone(user),
+                            partySize, visitAt, reservedAt, status, paymentStatus, amount, paidAt, reservedAt, reservedAt);
+                }
+                return writer.rows();
+            }
+        }
+
+        private long reviews() {
+            int candidates = visitedPopups.size();
+            if (candidates == 0) {
+                return 0;
+            }
+            SplittableRandom random = random("reviews");
+            Set<Long> reviewed = new HashSet<>();
+            long firstId = nextId("reviews");
+            try (JdbcBatchWriter writer = writer("reviews", "id", "popup_id", "user_id", "content", "rating",
+                    "is_blocked", "created_at", "updated_at")) {
+                long attempts = 0;
+                long maxAttempts = 3L * Math.max(candidates, properties.getReviews());
+                while (reviewed.size() < properties.getReviews() && attempts++ < maxAttempts) {
+                    int pick = random.nextInt(candidates);
+                    long popup = visitedPopups.get(pick);
+                    long user = visitedUsers.get(pick);
+                    if (!reviewed.add(popup * properties.getUsers() + user)) {
+                        continue;
+                    }
+                    int rating = SyntheticDistributions.rating(random);
+                    String[] texts = REVIEW_TEXTS[rating - 1];
+                    LocalDateTime createdAt = LocalDate.ofEpochDay(visitedDays.get(pick) + random.nextInt(4))
+                            .atTime(18 + random.nextInt(5), random.nextInt(60));
+                    if (createdAt.isAfter(baseTime)) {
+                        createdAt = baseTime.minusMinutes(random.nextInt(600));
+                    }
+                    writer.add(firstId + reviewed.size() - 1, firstPopupId + popup, firstUserId + user,
+                            texts[random.nextInt(texts.length)], rating, false, createdAt, createdAt);
+                }
+                return reviewed.size();
+            }
+        }
+
+        private long bookmarks() {
+            if (properties.getPopups() == 0 || properties.getUsers() == 0) {
+                return 0;
+            }
+            SplittableRandom random = random("bookmarks");
+            SyntheticDistributions.Zipf popularity =
+                    new SyntheticDistributions.Zipf(properties.getPopups(), properties.getPopularitySkew());
+            SyntheticDistributions.Zipf activity = new SyntheticDistributions.Zipf(properties.getUsers(), USER_ACTIVITY_SKEW);
+            long maxPairs = (long) properties.getUsers() * properties.getPopups();
+            long target = Math.min(properties.getBookmarks(), maxPairs);
+            Set<Long> bookmarked = new HashSet<>();
+            long firstId = nextId("bookmarks");
+            try (JdbcBatchWriter writer = writer("bookmarks", "id", "user_id", "popup_id", "created_at",
+                    "updated_at")) {
+                long attempts = 0;
+                while (bookmarked.size() < target && attempts++ < 5 * target) {
+                    int popup = popularityOrder[popularity.sample(random)];
+                    int user = activeUserOrder[activity.sample(random)];
+                    if (!bookmarked.add((long) user * properties.getPopups() + popup)) {
+                        continue;
+                    }
+                    LocalDateTime createdAt = baseTime.minusDays(random.nextInt(120)).minusMinutes(random.nextInt(1440));
+                    writer.add(firstId + bookmarked.size() - 1, firstUserId + user, firstPopupId + popup,
+                            createdAt, createdAt);
+                }
+                return bookmarked.size();
+            }
+        }
+
+        private long missions() {
+            SplittableRandom random = random("mission_set");
+            int count = Math.min(properties.getMissionSets(), properties.getPopups());
+            byte[][] setIds = new byte[count][];
+            int[] missionCounts = new int[count];
+            LocalDateTime[] createdAts = new LocalDateTime[count];
+            // 미션이 미션셋을 참조하므로 미션셋을 모두 적재한 뒤 미션을 넣는다
+            try (JdbcBatchWriter sets = writer("mission_set", "id", "popup_id", "required_count", "status",
+                    "reward_pin", "created_at", "updated_at")) {
+                // 인기 팝업 순으로 미션셋 부여
+                for (int i = 0; i < count; i++) {
+                    int popup = popularityOrder[i];
+                    setIds[i] = uuid(random);
+                    missionCounts[i] = 3 + random.nextInt(3);
+                    createdAts[i] = LocalDate.ofEpochDay(popupStartDay[popup]).minusDays(3).atTime(10, 0);
+                    sets.add(setIds[i], firstPopupId + popup, missionCounts[i] - 1, "ENABLED",
+                            String.format("%04d", random.nextInt(10000)), createdAts[i], createdAts[i]);
+                }
+            }
+            try (JdbcBatchWriter missions = writer("mission", "id", "mission_set_id", "title", "description",
+                    "answer", "created_at", "updated_at")) {
+                for (int i = 0; i < count; i++) {
+                    for (int m = 1; m <= missionCounts[i]; m++) {
+                        byte[] missionId = uuid(random);
+                        missionIds.add(missionId);
+                        missions.add(missionId, setIds[i], "미션 " + m, "현장에서 " + m + "번째 힌트를 찾아 정답을 입력하세요.",
+                                "정답" + m, createdAts[i], createdAts[i]);
+                    }
+                }
+            }
+            return count;
+        }
+
+        private long userMissions() {
+            if (missionIds.isEmpty() || properties.getUsers() == 0) {
+                return 0;
+            }
+            SplittableRandom random = random("user_mission");
+            SyntheticDistributions.Zipf activity = new SyntheticDistributions.Zipf(properties.getUsers(), USER_ACTIVITY_SKEW);
+            long target = Math.min(properties.getUserMissions(), (long) properties.getUsers() * missionIds.size());
+            Set<Long> attempted = new HashSet<>();
+            long firstId = nextId("user_mission");
+            try (JdbcBatchWriter writer = writer("user_mission", "id", "user_id", "mission_id", "status",
+                    "completed_at", "created_at", "updated_at")) {
+                long attempts = 0;
+                while (attempted.size() < target && attempts++ < 5 * target) {
+                    int user = activeUserOrder[activity.sample(random)];
+                    int mission = random.nextInt(missionIds.size());
+                    if (!attempted.add((long) user * missionIds.size() + mission)) {
+                        continue;
+                    }
+                    int roll = random.nextInt(10);
+                    String status = roll < 6 ? "COMPLETED" : roll < 9 ? "PENDING" : "FAIL";
+                    LocalDateTime createdAt = baseTime.minusDays(random.nextInt(60)).minusMinutes(random.nextInt(1440));
+                    writer.add(firstId + attempted.size() - 1, firstUserId + user, missionIds.get(mission), status,
+                            "COMPLETED".equals(status) ? createdAt.plusMinutes(1 + random.nextInt(30)) : null,
+                            createdAt, createdAt);
+                }
+                return attempted.size();
+            }
+        }
+
+        private long spaces() {
+            if (providerUsers.length == 0) {
+                return 0;
+            }
+            SplittableRandom random = random("place_lists");
+            int count = properties.getSpaces();
+            spaceOwner = new int[count];
+            firstSpaceId = nextId("place_lists");
+            long firstVenueId = nextId("venues");
+            try (JdbcBatchWriter spaces = writer("place_lists", "id", "owner_user_id", "title", "description",
+                    "area_size", "is_public", "is_official", "address", "start_date", "end_date", "rental_fee",
+                    "contact_phone", "venue_id", "is_hidden", "created_at", "updated_at");
+                 JdbcBatchWriter venues = writer("venues", "id", "name", "road_address", "detail_address",
+                         "latitude", "longitude", "region", "parking_available", "created_at", "updated_at")) {
+                for (int i = 0; i < count; i++) {
+                    RegionCoordinate region = RegionCoordinate.sample(random);
+                    int owner = providerUsers[random.nextInt(providerUsers.length)];
+                    String address = region.roadAddress(1 + random.nextInt(300));
+                    LocalDateTime createdAt = baseTime.minusDays(random.nextInt(365));
+                    LocalDate start = baseDate.minusDays(random.nextInt(180));
+                    long venueId = firstVenueId + i;
+                    spaceOwner[i] = owner;
+                    venues.add(venueId, region.getDistrict() + " 대관 공간 " + (i + 1), address, "1층",
+                            region.jitterLatitude(random), region.jitterLongitude(random), region.getProvince(),
+                            random.nextBoolean(), createdAt, createdAt);
+                    spaces.add(firstSpaceId + i, firstUserId + owner, region.getDistrict() + " 팝업 대관 공간 " + (i + 1),
+                            "팝업스토어 운영에 적합한 공간입니다.", 20 + random.nextInt(180), true, false, address,
+                            start, start.plusDays(90 + random.nextInt(275)), (10 + random.nextInt(91)) * 10000,
+                            phone(owner), venueId, false, createdAt, createdAt);
+                }
+            }
+            syncIdentity("venues");
+            return count;
+        }
+
+        private long spaceReservations() {
+            if (spaceOwner.length == 0 || hostBrands.length == 0) {
+                return 0;
+            }
+            SplittableRandom random = random("space_reservation");
+            int target = properties.getSpaceReservations();
+            spaceReservationHost = new int[target];
+            spaceReservationOwner = new int[target];
+            spaceReservationDay = new int[target];
+            firstSpaceReservationId = nextId("space_reservation");
+            int written = 0;
+            try (JdbcBatchWriter writer = writer("space_reservation", "id", "space_id", "host_id", "popup_id",
+                    "brand_id", "start_date", "end_date", "message", "contact_phone", "status", "is_hidden",
+                    "created_at", "updated_at")) {
+                for (long attempts = 0; written < target && attempts < 5L * target; attempts++) {
+                    int hostIndex = random.nextInt(hostUsers.length);
+                    int[] candidates = brandPopups[hostBrands[hostIndex]];
+                    if (candidates.length == 0) {
+                        continue;
+                    }
+                    int host = hostUsers[hostIndex];
+                    int popup = candidates[random.nextInt(candidates.length)];
+                    int space = random.nextInt(spaceOwner.length);
+                    LocalDate start = LocalDate.ofEpochDay(popupStartDay[popup]);
+                    LocalDate end = LocalDate.ofEpochDay(popupEndDay[popup]);
+                    LocalDateTime createdAt = start.minusDays(14 + random.nextInt(30)).atTime(9 + random.nextInt(9), 0);
+                    int roll = random.nextInt(20);
+                    String status = roll < 6 ? "PENDING" : roll < 16 ? "ACCEPTED" : roll < 19 ? "REJECTED" : "CANCELLED";
+
+                    spaceReservationHost[written] = host;
+                    spaceReservationOwner[written] = spaceOwner[space];
+                    spaceReservationDay[written] = (int) createdAt.toLocalDate().toEpochDay();
+                    writer.add(firstSpaceReservationId + written, firstSpaceId + space, firstUserId + host,
+                            firstPopupId + popup, firstBrandId + hostBrands[hostIndex], start, end,
+                            "팝업스토어 운영을 위해 대관을 요청합니다.", phone(host), status, false, createdAt, createdAt);
+                    written++;
+                }
+            }
+            spaceReservationHost = Arrays.copyOf(spaceReservationHost, written);
+            spaceReservationOwner = Arrays.copyOf(spaceReservationOwner, written);
+            spaceReservationDay = Arrays.copyOf(spaceReservationDay, written);
+            return written;
+        }
+
+        private long chatMessages() {
+            if (spaceReservationHost.length == 0) {
+                return 0;
+            }
+            SplittableRandom random = random("chat_message");
+            long firstId = nextId("chat_message");
+            try (JdbcBatchWriter writer = writer("chat_message", "id", "reservation_id", "sender_id", "content",
+                    "sent_at", "created_at", "updated_at")) {
+                for (int i = 0; i < properties.getChatMessages(); i++) {
+                    int reservation = random.nextInt(spaceReservationHost.length);
+                    int sender = random.nextBoolean()
+                            ? spaceReservationHost[reservation] : spaceReservationOwner[reservation];
+                    LocalDateTime sentAt = LocalDate.ofEpochDay(spaceReservationDay[reservation])
+                            .atTime(9, 0).plusMinutes(random.nextInt(14 * 24 * 60));
+                    writer.add(firstId + i, firstSpaceReservationId + reservation, firstUserId + sender,
+                            CHAT_TEXTS[random.nextInt(CHAT_TEXTS.length)], sentAt, sentAt, sentAt);
+                }
+                return writer.rows();
+            }
+        }
+
+        private String reservationStatus(SplittableRandom random, LocalDateTime visitAt) {
+            int roll = random.nextInt(10);
+            if (visitAt.isBefore(baseTime)) {
+                // 지난 예약: 대부분 방문, 일부 취소/노쇼
+                return roll < 8 ? "VISITED" : roll < 9 ? "CANCELLED" : "RESERVED";
+            }
+            return roll < 9 ? "RESERVED" : "CANCELLED";
+        }
+
+        private String statusOf(LocalDate start, LocalDate end) {
+            if (baseDate.isBefore(start)) {
+                return "PLANNED";
+            }
+            return baseDate.isAfter(end) ? "ENDED" : "ONGOING";
+        }
+
+        private Long randomCategory(SplittableRandom random) {
+            return categoryIds.isEmpty() ? null : categoryIds.get(random.nextInt(categoryIds.size()));
+        }
+
+        private String brandName(int brand) {
+            String name = BRAND_PREFIXES[brand % BRAND_PREFIXES.length]
+                    + BRAND_SUFFIXES[(brand / BRAND_PREFIXES.length) % BRAND_SUFFIXES.length];
+            int round = brand / (BRAND_PREFIXES.length * BRAND_SUFFIXES.length);
+            return round > 0 ? name + " " + (round + 1) : name;
+        }
+
+        private SplittableRandom random(String table) {
+            return new SplittableRandom(properties.getSeed() * 31 + table.hashCode());
+        }
+
+        private JdbcBatchWriter writer(String table, String... columns) {
+            return new JdbcBatchWriter(jdbcTemplate, table(table), List.of(columns), properties.getBatchSize());
+        }
+
+        private String table(String logical) {
+            String table = tables.get(logical.toLowerCase(Locale.ROOT));
+            if (table == null) {
+                throw new IllegalStateException("테이블을 찾을 수 없습니다 (JPA 스키마 생성 필요): " + logical);
+            }
+            return table;
+        }
+
+        private long nextId(String table) {
+            Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table(table), Long.class);
+            return max == null ? 1L : max + 1;
+        }
+
+        // MySQL AUTO_INCREMENT 는 명시 ID 삽입 시 자동으로 따라오지만 H2 IDENTITY 는 직접 다시 맞춰야 한다
+        private void syncIdentity(String table) {
+            if (!h2 || "mission_set".equals(table)) {
+                return;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + table(table) + " ALTER COLUMN id RESTART WITH " + nextId(table));
+        }
+
+        private Map<String, String> resolveTables() {
+            return jdbcTemplate.execute((ConnectionCallback<Map<String, String>>) connection -> {
+                DatabaseMetaData meta = connection.getMetaData();
+                String quote = meta.getIdentifierQuoteString().trim();
+                Map<String, String> result = new HashMap<>();
+                try (ResultSet rs = meta.getTables(connection.getCatalog(), connection.getSchema(), "%",
+                        new String[]{"TABLE", "BASE TABLE"})) {
+                    while (rs.next()) {
+                        String name = rs.getString("TABLE_NAME");
+                        // user 는 H2/MySQL 예약어라 실제 대소문자 그대로 인용
+                        result.putIfAbsent(name.toLowerCase(Locale.ROOT), quote + name + quote);
+                    }
+                }
+                return result;
+            });
+        }
+
+        private boolean isH2() {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            return product != null && product.toUpperCase(Locale.ROOT).contains("H2");
+        }
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        long run();
+    }
+
+    static String personName(long index) {
+        long hash = mix(index);
+        return SURNAMES[(int) Long.remainderUnsigned(hash, SURNAMES.length)]
+                + GIVEN_SYLLABLES[(int) Long.remainderUnsigned(hash >>> 16, GIVEN_SYLLABLES.length)]
+                + GIVEN_SYLLABLES[(int) Long.remainderUnsigned(hash >>> 32, GIVEN_SYLLABLES.length)];
+    }
+
+    static String phone(long index) {
+        return String.format("010-%04d-%04d", (index / 10000) % 10000, index % 10000);
+    }
+
+    static int[] permutation(int size, SplittableRandom random) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        return order;
+    }
+
+    private static byte[] uuid(SplittableRandom random) {
+        // 버전 4 형식 비트를 맞춘 결정적 UUID (BINARY(16))
+        long most = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long least = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return ByteBuffer.allocate(16).putLong(most).putLong(least).array();
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 박싱 없이 long 을 모으는 가변 배열 (수백만 건 예약 후보 보관용)
+     */
+    private static final class LongList {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.snow.popin.global.datagen;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 대량 합성 데이터 생성 설정 (datagen 프로필)
+ * 같은 seed/기준일이면 같은 데이터가 만들어진다.
+ *
+ * 예) --spring.profiles.active=datagen --datagen.users=1000000 --datagen.popups=20000
+ */
+@Getter
+@Setter
+@Component
+@Profile("datagen")
+@ConfigurationProperties(prefix = "datagen")
+public class SyntheticDataProperties {
+
+    private long seed = 42L;
+    // 팝업 기간/예약일 계산 기준일 (없으면 실행일)
+    private LocalDate baseDate;
+    private int batchSize = 1000;
+
+    private int users = 10_000;
+    // 전체 사용자 중 호스트/공간제공자 비율
+    private double hostRatio = 0.02;
+    private double providerRatio = 0.01;
+
+    private int brands = 200;
+    private int popups = 2_000;
+    // 팝업 인기도 Zipf 지수 (클수록 소수 팝업에 예약/북마크가 몰림)
+    private double popularitySkew = 0.9;
+
+    private int reservations = 100_000;
+    private int reviews = 20_000;
+    private int bookmarks = 50_000;
+
+    private int missionSets = 100;
+    private int userMissions = 20_000;
+
+    private int spaces = 300;
+    private int spaceReservations = 1_000;
+    private int chatMessages = 20_000;
+
+    // 생성이 끝난 뒤 북마크 수/리뷰 집계를 테이블 기준으로 다시 맞춤
+    private boolean resyncCounters = true;
+
+    public LocalDate resolveBaseDate() {
+        return baseDate != null ? baseDate : LocalDate.now();
+    }
+}
@@ -0,0 +1,119 @@
+package com.snow.popin.global.datagen;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 합성 데이터 분포
+ * - 모든 표본은 호출자가 넘긴 SplittableRandom 으로만 뽑으므로 seed 가 같으면 결과도 같다.
+ */
+final class SyntheticDistributions {
+
+    // 10시 ~ 21시 시작 슬롯 가중치: 점심 이후(13~16시) 최고, 저녁에 한 번 더 오름
+    private static final int FIRST_SLOT_HOUR = 10;
+    private static final int[] HOUR_WEIGHTS = {3, 5, 7, 10, 11, 11, 10, 7, 6, 6, 4, 2};
+    // 평일 대비 토/일 예약 가중치
+    private static final int WEEKDAY_WEIGHT = 2;
+    private static final int WEEKEND_WEIGHT = 5;
+    // 인원 1~4명
+    private static final int[] PARTY_SIZE_WEIGHTS = {35, 45, 12, 8};
+    // 평점 1~5점 (후기는 높은 점수로 치우침)
+    private static final int[] RATING_WEIGHTS = {4, 6, 15, 35, 40};
+
+    private static final int[] HOUR_CUMULATIVE = cumulative(HOUR_WEIGHTS);
+    private static final int[] PARTY_SIZE_CUMULATIVE = cumulative(PARTY_SIZE_WEIGHTS);
+    private static final int[] RATING_CUMULATIVE = cumulative(RATING_WEIGHTS);
+
+    private SyntheticDistributions() {
+    }
+
+    /**
+     * 기간 [start, end] 안의 방문 시각 (주말/오후 쏠림, 30분 단위)
+     */
+    static LocalDateTime visitTime(SplittableRandom random, LocalDate start, LocalDate end) {
+        return LocalDateTime.of(visitDate(random, start, end), slotTime(random));
+    }
+
+    static LocalDate visitDate(SplittableRandom random, LocalDate start, LocalDate end) {
+        int days = (int) (end.toEpochDay() - start.toEpochDay()) + 1;
+        if (days <= 1) {
+            return start;
+        }
+        // 주말 가중치를 상한으로 하는 거절 표본추출
+        while (true) {
+            LocalDate date = start.plusDays(random.nextInt(days));
+            int weight = isWeekend(date) ? WEEKEND_WEIGHT : WEEKDAY_WEIGHT;
+            if (random.nextInt(WEEKEND_WEIGHT) < weight) {
+                return date;
+            }
+        }
+    }
+
+    static LocalTime slotTime(SplittableRandom random) {
+        int hour = FIRST_SLOT_HOUR + pick(random, HOUR_CUMULATIVE);
+        return LocalTime.of(hour, random.nextBoolean() ? 0 : 30);
+    }
+
+    static int partySize(SplittableRandom random) {
+        return 1 + pick(random, PARTY_SIZE_CUMULATIVE);
+    }
+
+    static int rating(SplittableRandom random) {
+        return 1 + pick(random, RATING_CUMULATIVE);
+    }
+
+    private static boolean isWeekend(LocalDate date) {
+        DayOfWeek day = date.getDayOfWeek();
+        return day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY;
+    }
+
+    private static int pick(SplittableRandom random, int[] cumulative) {
+        int target = random.nextInt(cumulative[cumulative.length - 1]);
+        int index = Arrays.binarySearch(cumulative, target + 1);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static int[] cumulative(int[] weights) {
+        int[] result = new int[weights.length];
+        int sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            result[i] = sum;
+        }
+        return result;
+    }
+
+    /**
+     * Zipf 분포 순위 표본 (0 = 가장 인기)
+     * 누적 확률표를 한 번 만들어 두고 이진 탐색으로 뽑는다.
+     */
+    static final class Zipf {
+
+        private final double[] cumulative;
+
+        Zipf(int size, double exponent) {
+            if (size <= 0) {
+                throw new IllegalArgumentException("size must be positive");
+            }
+            cumulative = new double[size];
+            double sum = 0;
+            for (int rank = 0; rank < size; rank++) {
+                sum += 1.0 / Math.pow(rank + 1, exponent);
+                cumulative[rank] = sum;
+            }
+            for (int rank = 0; rank < size; rank++) {
+                cumulative[rank] /= sum;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            int rank = index >= 0 ? index : -index - 1;
+            return Math.min(rank, cumulative.length - 1);
+        }
+    }
+}
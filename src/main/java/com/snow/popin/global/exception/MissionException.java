@@ -46,4 +46,18 @@ public class MissionException extends RuntimeException {
       super(ErrorCode.NOT_FOUND, "종료된 미션은 이용하실수 없습니다.");
     }
   }
+
+  // QR 시트 한 장에 담을 수 있는 미션셋 수 초과
+  public static class QrSheetTooLarge extends GeneralException {
+    public QrSheetTooLarge(int max) {
+      super(ErrorCode.VALIDATION_ERROR, "QR 시트 한 장에는 미션셋을 최대 " + max + "개까지 담을 수 있습니다.");
+    }
+  }
+
+  // 잘못된 QR 시트 페이지
+  public static class InvalidQrSheetPage extends GeneralException {
+    public InvalidQrSheetPage() {
+      super(ErrorCode.VALIDATION_ERROR, "QR 시트 페이지는 0 이상이어야 합니다.");
+    }
+  }
 }
@@ -0,0 +1,151 @@
+package com.snow.popin.global.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API 호출용 RestTemplate 팩토리
+ * - 제공자(kakao-pay, naver-pay, gemini ...)별 커넥션 풀을 분리하여 한 제공자의 지연이 다른 제공자 호출을 막지 않도록 함
+ * - 요청 URI의 호스트로 제공자를 판별 (설정에 없는 호스트는 default 풀 사용)
+ * - 모든 RestTemplate에 지표 수집 + 재시도 인터셉터 적용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundHttpClients {
+
+    public static final String DEFAULT_PROVIDER = "default";
+
+    private final OutboundHttpProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, CloseableHttpClient> clients = new ConcurrentHashMap<>();
+
+    /**
+     * 지정한 제공자들로 라우팅되는 RestTemplate
+     */
+    public RestTemplate restTemplate(String... providers) {
+        return restTemplate(null, providers);
+    }
+
+    /**
+     * 읽기 타임아웃을 호출 측에서 정하는 RestTemplate (예: 응답 생성이 긴 AI API)
+     * 커넥션 풀은 제공자 기본 풀을 그대로 공유한다.
+     */
+    public RestTemplate restTemplate(Duration readTimeout, String... providers) {
+        Map<String, ClientHttpRequestFactory> byProvider = new ConcurrentHashMap<>();
+        for (String provider : providers) {
+            byProvider.put(provider, requestFactory(provider, readTimeout));
+        }
+        ClientHttpRequestFactory fallback = requestFactory(DEFAULT_PROVIDER, readTimeout);
+
+        RestTemplate restTemplate = new RestTemplate(new BufferingClientHttpRequestFactory(
+                new RoutingRequestFactory(byProvider, fallback, this::providerOf)));
+        // 재시도 인터셉터는 마지막에 두어 시도마다 지표가 한 번씩 기록되지 않도록 함 (호출 단위 지연 시간)
+        restTemplate.setInterceptors(List.of(
+                new OutboundMetricsInterceptor(meterRegistry, this::providerOf),
+                new OutboundRetryInterceptor(host -> properties.provider(providerOf(host)))
+        ));
+        return restTemplate;
+    }
+
+    /**
+     * 호스트 → 제공자 이름
+     */
+    public String providerOf(String host) {
+        if (host != null) {
+            for (Map.Entry<String, OutboundHttpProperties.Provider> entry : properties.getProviders().entrySet()) {
+                if (entry.getValue().getHosts().contains(host)) {
+                    return entry.getKey();
+                }
+            }
+        }
+        return DEFAULT_PROVIDER;
+    }
+
+    private ClientHttpRequestFactory requestFactory(String provider, Duration readTimeout) {
+        OutboundHttpProperties.Provider config = properties.provider(provider);
+        HttpComponentsClientHttpRequestFactory factory =
+                new HttpComponentsClientHttpRequestFactory(clients.computeIfAbsent(provider, this::createClient));
+        factory.setConnectTimeout(config.getConnectTimeoutMs());
+        factory.setReadTimeout(readTimeout != null ? (int) readTimeout.toMillis() : config.getReadTimeoutMs());
+        // 풀에서 커넥션을 얻기까지의 대기도 연결 타임아웃 안에서 끝나도록 제한
+        factory.setConnectionRequestTimeout(config.getConnectTimeoutMs());
+        return factory;
+    }
+
+    private CloseableHttpClient createClient(String provider) {
+        OutboundHttpProperties.Provider config = properties.provider(provider);
+
+        PoolingHttpClientConnectionManager pool = new PoolingHttpClientConnectionManager(
+                config.getKeepAliveMs(), TimeUnit.MILLISECONDS);
+        pool.setMaxTotal(config.getMaxConnections());
+        // 제공자 풀은 소수의 호스트만 사용하므로 라우트당 최대치를 전체와 같게 둠
+        pool.setDefaultMaxPerRoute(config.getMaxConnections());
+        pool.setValidateAfterInactivity(2000);
+
+        log.info("외부 API 커넥션 풀 생성 - provider={}, maxConnections={}, connectTimeout={}ms, readTimeout={}ms",
+                provider, config.getMaxConnections(), config.getConnectTimeoutMs(), config.getReadTimeoutMs());
+
+        return HttpClients.custom()
+                .setConnectionManager(pool)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(config.getConnectTimeoutMs())
+                        .setSocketTimeout(config.getReadTimeoutMs())
+                        .build())
+                // 서버가 Keep-Alive 헤더를 보내지 않거나 더 길게 보내도 설정값을 넘겨 재사용하지 않음
+                .setKeepAliveStrategy((response, context) -> config.getKeepAliveMs())
+                .evictExpiredConnections()
+                .evictIdleConnections(config.getKeepAliveMs(), TimeUnit.MILLISECONDS)
+                // 재시도는 OutboundRetryInterceptor에서 일관되게 처리
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @PreDestroy
+    public void close() {
+        clients.forEach((provider, client) -> {
+            try {
+                client.close();
+            } catch (IOException e) {
+                log.warn("외부 API 커넥션 풀 종료 실패 - provider={}", provider, e);
+            }
+        });
+        clients.clear();
+    }
+
+    @RequiredArgsConstructor
+    private static class RoutingRequestFactory implements ClientHttpRequestFactory {
+
+        private final Map<String, ClientHttpRequestFactory> byProvider;
+        private final ClientHttpRequestFactory fallback;
+        private final java.util.function.Function<String, String> providerResolver;
+
+        @Override
+        public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+            return byProvider.getOrDefault(providerResolver.apply(uri.getHost()), fallback)
+                    .createRequest(uri, httpMethod);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.snow.popin.global.http;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 API(결제사, AI) 호출용 HTTP 클라이언트 설정
+ * 제공자별로 커넥션 풀/타임아웃/재시도 정책을 분리한다.
+ *
+ * 예) http.outbound.providers.kakao-pay.read-timeout-ms=3000
+ */
+@Getter
+@Component
+@ConfigurationProperties(prefix = "http.outbound")
+public class OutboundHttpProperties {
+
+    private final Map<String, Provider> providers = new HashMap<>(Map.of(
+            "kakao-pay", Provider.of(List.of("kapi.kakao.com"), 5000),
+            "naver-pay", Provider.of(List.of("dev.apis.naver.com", "apis.naver.com"), 5000),
+            "gemini", Provider.of(List.of("generativelanguage.googleapis.com"), 30000)
+    ));
+
+    public Provider provider(String name) {
+        return providers.computeIfAbsent(name, key -> new Provider());
+    }
+
+    @Getter
+    @Setter
+    public static class Provider {
+        private List<String> hosts = List.of();
+        private int connectTimeoutMs = 2000;
+        private int readTimeoutMs = 5000;
+        private int maxConnections = 20;
+        private long keepAliveMs = 30000;
+        // 재시도는 멱등 요청 또는 연결 자체가 실패한 경우에만 적용
+        private int maxRetries = 2;
+        private long retryBackoffMs = 100;
+
+        static Provider of(List<String> hosts, int readTimeoutMs) {
+            Provider provider = new Provider();
+            provider.hosts = hosts;
+            provider.readTimeoutMs = readTimeoutMs;
+            return provider;
+        }
+    }
+}
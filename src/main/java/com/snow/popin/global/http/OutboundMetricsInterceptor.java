@@ -0,0 +1,75 @@
+package com.snow.popin.global.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * 제공자/엔드포인트별 외부 호출 지연 시간 히스토그램과 오류 수 기록
+ * - http.client.outbound (Timer): provider, endpoint, method, status, outcome
+ * - http.client.outbound.errors (Counter): provider, endpoint, exception
+ *
+ * endpoint 태그는 쿼리 스트링을 제외한 경로만 사용하여 카디널리티를 제한한다.
+ */
+@RequiredArgsConstructor
+public class OutboundMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    static final String TIMER = "http.client.outbound";
+    static final String ERRORS = "http.client.outbound.errors";
+
+    private final MeterRegistry meterRegistry;
+    private final Function<String, String> providerResolver;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String provider = providerResolver.apply(request.getURI().getHost());
+        String endpoint = request.getURI().getPath();
+        String method = request.getMethodValue();
+
+        long start = System.nanoTime();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            int status = response.getRawStatusCode();
+            record(provider, endpoint, method, String.valueOf(status), outcome(status), System.nanoTime() - start);
+            if (status >= 500) {
+                countError(provider, endpoint, "HTTP_" + status);
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            record(provider, endpoint, method, "IO_ERROR", "ERROR", System.nanoTime() - start);
+            countError(provider, endpoint, e.getClass().getSimpleName());
+            throw e;
+        }
+    }
+
+    private void record(String provider, String endpoint, String method, String status, String outcome, long nanos) {
+        Timer.builder(TIMER)
+                .tag("provider", provider)
+                .tag("endpoint", endpoint)
+                .tag("method", method)
+                .tag("status", status)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, java.util.concurrent.TimeUnit.NANOSECONDS);
+    }
+
+    private void countError(String provider, String endpoint, String exception) {
+        meterRegistry.counter(ERRORS, "provider", provider, "endpoint", endpoint, "exception", exception).increment();
+    }
+
+    private static String outcome(int status) {
+        if (status < 400) {
+            return "SUCCESS";
+        }
+        return status < 500 ? "CLIENT_ERROR" : "SERVER_ERROR";
+    }
+}
@@ -0,0 +1,89 @@
+package com.snow.popin.global.http;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * 지수 백오프 + full jitter 재시도
+ * - 연결 실패(요청이 전송되지 않음): 모든 메서드 재시도
+ * - 응답 타임아웃, 502/503/504: 멱등 메서드(GET/HEAD/PUT/DELETE/OPTIONS)만 재시도
+ *
+ * 결제 준비/승인/환불은 POST이므로 연결 실패 외에는 재시도하지 않는다. (중복 결제 방지)
+ * 인터셉터 체인의 마지막에 두어야 execution.execute 재호출 시 실제 요청만 다시 보낸다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OutboundRetryInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Set<HttpMethod> IDEMPOTENT =
+            EnumSet.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.PUT, HttpMethod.DELETE, HttpMethod.OPTIONS);
+    private static final long MAX_BACKOFF_MS = 2000;
+
+    private final Function<String, OutboundHttpProperties.Provider> providerConfig;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        OutboundHttpProperties.Provider config = providerConfig.apply(request.getURI().getHost());
+        boolean idempotent = request.getMethod() != null && IDEMPOTENT.contains(request.getMethod());
+
+        for (int attempt = 0; ; attempt++) {
+            boolean canRetry = attempt < config.getMaxRetries();
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                if (canRetry && idempotent && isRetryableStatus(response.getRawStatusCode())) {
+                    response.close();
+                    backoff(config, attempt, request, "HTTP_" + response.getRawStatusCode());
+                    continue;
+                }
+                return response;
+            } catch (IOException e) {
+                if (!canRetry || !isRetryable(e, idempotent)) {
+                    throw e;
+                }
+                backoff(config, attempt, request, e.getClass().getSimpleName());
+            }
+        }
+    }
+
+    private static boolean isRetryable(IOException e, boolean idempotent) {
+        if (e instanceof ConnectException || e instanceof UnknownHostException
+                || e instanceof org.apache.http.conn.ConnectTimeoutException) {
+            return true;
+        }
+        return idempotent && (e instanceof SocketTimeoutException || !(e instanceof InterruptedIOException));
+    }
+
+    private static boolean isRetryableStatus(int status) {
+        return status == 502 || status == 503 || status == 504;
+    }
+
+    private void backoff(OutboundHttpProperties.Provider config, int attempt, HttpRequest request, String reason)
+            throws IOException {
+        long cap = Math.min(MAX_BACKOFF_MS, config.getRetryBackoffMs() << attempt);
+        long sleep = ThreadLocalRandom.current().nextLong(cap + 1);
+        log.warn("외부 API 재시도 - {} {}, attempt={}, reason={}, backoff={}ms",
+                request.getMethod(), request.getURI().getPath(), attempt + 1, reason, sleep);
+        try {
+            Thread.sleep(sleep);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("재시도 대기 중 인터럽트");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.snow.popin.global.idempotency;
+
+import lombok.Getter;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 재전송용으로 저장한 응답 (상태코드, Content-Type, 본문)
+ * 본문이 일정 크기 이상이면 gzip으로 압축해 보관한다.
+ */
+@Getter
+public class CachedResponse {
+
+    private static final int COMPRESS_THRESHOLD = 512;
+
+    private final int status;
+    private final String contentType;
+    private final byte[] body;
+    private final boolean compressed;
+
+    private CachedResponse(int status, String contentType, byte[] body, boolean compressed) {
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+        this.compressed = compressed;
+    }
+
+    public static CachedResponse of(int status, String contentType, byte[] body) {
+        if (body.length < COMPRESS_THRESHOLD) {
+            return new CachedResponse(status, contentType, body, false);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new CachedResponse(status, contentType, out.toByteArray(), true);
+    }
+
+    public byte[] bodyBytes() {
+        if (!compressed) {
+            return body;
+        }
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void writeTo(HttpServletResponse response) throws IOException {
+        byte[] bytes = bodyBytes();
+        response.setStatus(status);
+        if (contentType != null) {
+            response.setContentType(contentType);
+        }
+        response.setHeader(IdempotencyInterceptor.REPLAYED_HEADER, "true");
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+}
@@ -0,0 +1,84 @@
+package com.snow.popin.global.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * @Idempotent API의 Idempotency-Key 처리
+ * 키는 (사용자, 헤더 값) 조합이며, 완료된 요청의 응답은 IdempotencyStore에 저장되어 재요청 시 그대로 재전송된다.
+ * 5xx 응답은 저장하지 않아 클라이언트가 같은 키로 재시도할 수 있다.
+ *
+ * 응답 본문은 IdempotencyFilter가 감싼 ContentCachingResponseWrapper에서 읽는다. (WebMvcConfig에서 등록)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String KEY_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".KEY";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyStore idempotencyStore;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!(handler instanceof HandlerMethod) || !((HandlerMethod) handler).hasMethodAnnotation(Idempotent.class)) {
+            return true;
+        }
+        String headerValue = request.getHeader(HEADER);
+        String user = currentUser();
+        if (headerValue == null || headerValue.isBlank() || headerValue.length() > MAX_KEY_LENGTH || user == null) {
+            return true;
+        }
+
+        String key = user + ":" + headerValue;
+        String fingerprint = request.getMethod() + " " + request.getRequestURI();
+
+        Object cached = idempotencyStore.acquire(key, fingerprint);
+        if (cached instanceof CachedResponse) {
+            log.info("[Idempotency] 저장된 응답 재전송 - key={}, uri={}", headerValue, request.getRequestURI());
+            ((CachedResponse) cached).writeTo(response);
+            return false;
+        }
+
+        request.setAttribute(KEY_ATTRIBUTE, key);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        String key = (String) request.getAttribute(KEY_ATTRIBUTE);
+        if (key == null) {
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        if (ex != null || wrapper == null || response.getStatus() >= 500) {
+            idempotencyStore.abandon(key);
+            return;
+        }
+        idempotencyStore.complete(key,
+                CachedResponse.of(response.getStatus(), response.getContentType(), wrapper.getContentAsByteArray()));
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
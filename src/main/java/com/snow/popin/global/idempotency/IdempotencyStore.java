@@ -0,0 +1,165 @@
+package com.snow.popin.global.idempotency;
+
+import com.snow.popin.global.constant.ErrorCode;
+import com.snow.popin.global.exception.GeneralException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 키별 처리 결과 저장소 (메모리, TTL)
+ * - 처음 도착한 요청이 리더가 되어 실제 처리를 수행
+ * - 처리 중에 같은 키로 들어온 요청은 리더의 결과를 기다렸다가 같은 결과를 받음
+ * - 리더가 결과를 남기지 못하면(서버 오류 등) 대기 중인 요청 중 하나가 다시 리더가 됨
+ * - 같은 키를 다른 요청(메서드/경로)에 재사용하면 거부
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private static final Object ABANDONED = new Object();
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${idempotency.ttl-seconds:86400}")
+    private long ttlSeconds = 86400;
+
+    @Value("${idempotency.wait-timeout-ms:10000}")
+    private long waitTimeoutMs = 10000;
+
+    @Value("${idempotency.max-entries:10000}")
+    private int maxEntries = 10000;
+
+    /**
+     * 키 점유 시도
+     *
+     * @return 이미 완료된 결과가 있으면 그 값, 이 요청이 리더가 되면 null
+     */
+    public Object acquire(String key, String fingerprint) {
+        while (true) {
+            Entry entry = new Entry(fingerprint);
+            Entry existing = entries.putIfAbsent(key, entry);
+            if (existing == null) {
+                return null;
+            }
+            if (existing.isExpired()) {
+                entries.remove(key, existing);
+                continue;
+            }
+            if (!existing.fingerprint.equals(fingerprint)) {
+                throw new GeneralException(ErrorCode.BAD_REQUEST, "다른 요청에 사용된 Idempotency-Key입니다.");
+            }
+
+            Object result = await(existing);
+            if (result != ABANDONED) {
+                return result;
+            }
+            // 리더가 결과 없이 끝남 → 다시 점유 시도
+        }
+    }
+
+    public void complete(String key, Object result) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return;
+        }
+        entry.expiresAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds);
+        entry.result.complete(result);
+        if (entries.size() > maxEntries) {
+            evictExpired();
+        }
+    }
+
+    /**
+     * 결과를 남기지 않고 점유 해제 (대기 중인 요청은 다시 처리를 시도)
+     */
+    public void abandon(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            entry.result.complete(ABANDONED);
+        }
+    }
+
+    /**
+     * 서비스 코드에서 직접 사용하는 형태 (예: 결제 승인 콜백 중복 호출)
+     * 예외가 발생하면 결과를 저장하지 않는다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> action) {
+        Object cached = acquire(key, key);
+        if (cached != null) {
+            log.info("[Idempotency] 중복 요청 - 저장된 결과 반환: key={}", key);
+            return (T) cached;
+        }
+        try {
+            T result = action.get();
+            if (result == null) {
+                abandon(key);
+            } else {
+                complete(key, result);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            abandon(key);
+            throw e;
+        }
+    }
+
+    /**
+     * 만료/초과 항목 정리 (SchedulerConfig의 idempotency-purge 작업, 노드마다 실행)
+     */
+    public void evictExpired() {
+        entries.entrySet().removeIf(e -> e.getValue().isExpired());
+
+        // TTL 이내라도 최대 개수를 넘으면 만료가 가까운 것부터 제거 (처리 중인 키는 유지)
+        int overflow = entries.size() - maxEntries;
+        if (overflow > 0) {
+            entries.entrySet().stream()
+                    .filter(e -> e.getValue().result.isDone())
+                    .sorted((a, b) -> Long.compare(a.getValue().expiresAt, b.getValue().expiresAt))
+                    .limit(overflow)
+                    .map(Map.Entry::getKey)
+                    .forEach(entries::remove);
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private Object await(Entry entry) {
+        try {
+            return entry.result.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new GeneralException(ErrorCode.CONFLICT, "같은 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException(ErrorCode.CONFLICT, "같은 요청이 처리 중입니다.");
+        } catch (ExecutionException e) {
+            return ABANDONED;
+        }
+    }
+
+    private static class Entry {
+        final String fingerprint;
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        // 처리 중에는 만료되지 않음
+        volatile long expiresAt = Long.MAX_VALUE;
+
+        Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.snow.popin.global.idempotency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Idempotency-Key 헤더를 지원하는 API
+ * 같은 사용자가 같은 키로 다시 요청하면 처리 로직을 실행하지 않고 첫 응답을 그대로 돌려준다.
+ * 헤더가 없으면 기존과 동일하게 처리된다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
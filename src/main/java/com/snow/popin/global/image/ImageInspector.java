@@ -0,0 +1,83 @@
+package com.snow.popin.global.image;
+
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 업로드된 파일이 실제 이미지인지 Content-Type이 아닌 바이트 내용으로 확인한다.
+ * 헤더만 디코딩하여 포맷과 크기를 읽으므로 전체 픽셀을 메모리에 올리지 않는다.
+ */
+public class ImageInspector {
+
+    // 디컴프레션 폭탄 방지용 최대 픽셀 수 (약 4천만 화소)
+    private static final long MAX_PIXELS = 40_000_000L;
+
+    private ImageInspector() {
+    }
+
+    /**
+     * 이미지 포맷 판별
+     *
+     * @return 소문자 포맷명 (jpeg, png, gif, webp), 이미지가 아니면 empty
+     * @throws IllegalArgumentException 해상도가 허용 범위를 넘는 경우
+     */
+    public static Optional<String> detectFormat(InputStream in) throws IOException {
+        if (!in.markSupported()) {
+            in = new BufferedInputStream(in);
+        }
+
+        // JDK ImageIO는 WebP 디코더가 없으므로 RIFF....WEBP 시그니처로 판별
+        in.mark(12);
+        byte[] header = in.readNBytes(12);
+        in.reset();
+        if (isWebp(header)) {
+            return Optional.of("webp");
+        }
+
+        try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            if (iis == null) {
+                return Optional.empty();
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                return Optional.empty();
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels <= 0) {
+                    return Optional.empty();
+                }
+                if (pixels > MAX_PIXELS) {
+                    throw new IllegalArgumentException("이미지 해상도가 너무 큽니다.");
+                }
+                return Optional.of(normalize(reader.getFormatName()));
+            } catch (IIOException e) {
+                return Optional.empty();
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static boolean isWebp(byte[] header) {
+        return header.length >= 12
+                && header[0] == 'R' && header[1] == 'I' && header[2] == 'F' && header[3] == 'F'
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P';
+    }
+
+    private static String normalize(String formatName) {
+        String lower = formatName.toLowerCase(Locale.ROOT);
+        return "jpg".equals(lower) ? "jpeg" : lower;
+    }
+}
@@ -0,0 +1,27 @@
+package com.snow.popin.global.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 이미지로부터 생성되는 리사이즈 변형 종류
+ * - THUMBNAIL: 지도 핀, 북마크 목록 등 작은 썸네일
+ * - CARD: 팝업/공간 카드 목록
+ * - DETAIL: 상세 페이지 본문
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    THUMBNAIL("thumb", 200),
+    CARD("card", 480),
+    DETAIL("detail", 1080);
+
+    private final String suffix;
+    private final int width;
+
+    // 원본 파일명(확장자 제외) 기준 변형 파일명
+    public String fileNameFor(String baseName) {
+        return baseName + "_" + suffix + ".jpg";
+    }
+}
@@ -0,0 +1,217 @@
+package com.snow.popin.global.image;
+
+import com.snow.popin.global.storage.BlobDeletedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 이미지의 썸네일/카드/상세 변형을 생성한다.
+ * - 변형은 uploadPath/variants 아래에 원본 파일명 기반으로 저장 (결정적 이름)
+ *   블롭 원본(내용 해시 파일명)의 변형은 원본과 같이 해시 앞 4자리로 샤딩: variants/{hash[0:2]}/{hash[2:4]}/{hash}_{suffix}.jpg
+ * - 생성은 imageProcessingExecutor(제한된 풀)에서 비동기로 수행
+ * - 완료 시 ImageVariantsGeneratedEvent를 발행하여 엔티티에 기록
+ *
+ * JDK ImageIO에는 WebP 인코더가 없어 변형은 압축률을 조정한 JPEG로 저장한다.
+ */
+@Service
+@Slf4j
+public class ImageVariantService {
+
+    static final String VARIANT_DIR = "variants";
+    private static final Pattern BLOB_HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private final TaskExecutor imageProcessingExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${uploadPath}")
+    private String uploadPath;
+
+    @Value("${image.variant.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    public ImageVariantService(@Qualifier("imageProcessingExecutor") TaskExecutor imageProcessingExecutor,
+                               ApplicationEventPublisher eventPublisher) {
+        this.imageProcessingExecutor = imageProcessingExecutor;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 변형 생성 작업 예약
+     *
+     * @param original    저장된 원본 파일 경로
+     * @param originalUrl 원본 웹 경로 (/uploads/xxx.png)
+     */
+    public void generateAsync(Path original, String originalUrl) {
+        imageProcessingExecutor.execute(() -> {
+            try {
+                ImageVariants variants = generate(original);
+                if (variants != null) {
+                    eventPublisher.publishEvent(new ImageVariantsGeneratedEvent(originalUrl, variants));
+                }
+            } catch (Exception e) {
+                // 변형 생성 실패 시 원본 URL로 계속 서비스되므로 업로드 자체는 실패시키지 않음
+                log.warn("이미지 변형 생성 실패: original={}, error={}", originalUrl, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 변형 생성 (동기)
+     *
+     * @return 생성된 변형 URL 묶음, 디코딩할 수 없는 포맷(WebP 등)이면 null
+     */
+    public ImageVariants generate(Path original) throws IOException {
+        BufferedImage source = ImageIO.read(original.toFile());
+        if (source == null) {
+            log.debug("변형 생성 불가 포맷, 원본만 사용: {}", original.getFileName());
+            return null;
+        }
+
+        String baseName = baseName(original.getFileName().toString());
+        Path dir = variantDirectory(baseName);
+        Map<ImageVariant, String> urls = new EnumMap<>(ImageVariant.class);
+
+        for (ImageVariant variant : ImageVariant.values()) {
+            String fileName = variant.fileNameFor(baseName);
+            Path target = dir.resolve(fileName);
+            // 임시 파일에 쓴 뒤 원자적으로 교체하여 반쯤 쓰인 파일이 서빙되지 않도록 함
+            Path tmp = Files.createTempFile(dir, baseName, ".tmp");
+            try {
+                writeJpeg(resize(source, variant.getWidth()), tmp);
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            urls.put(variant, variantUrl(baseName, fileName));
+        }
+
+        return ImageVariants.of(
+                urls.get(ImageVariant.THUMBNAIL),
+                urls.get(ImageVariant.CARD),
+                urls.get(ImageVariant.DETAIL));
+    }
+
+    /**
+     * 이미 생성된 변형 조회
+     * 엔티티 저장 전에 비동기 작업이 먼저 끝난 경우 이벤트를 놓치므로, 저장 시점에 한 번 더 확인한다.
+     *
+     * @return 모든 변형 파일이 존재하면 URL 묶음, 아니면 빈 값
+     */
+    public ImageVariants findExisting(String originalUrl) {
+        if (originalUrl == null || !originalUrl.startsWith("/uploads/")) {
+            return ImageVariants.empty();
+        }
+        String baseName = baseName(originalUrl.substring(originalUrl.lastIndexOf('/') + 1));
+        Path dir = Paths.get(uploadPath, VARIANT_DIR).resolve(shardOf(baseName));
+
+        Map<ImageVariant, String> urls = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : ImageVariant.values()) {
+            String fileName = variant.fileNameFor(baseName);
+            if (!Files.exists(dir.resolve(fileName))) {
+                return ImageVariants.empty();
+            }
+            urls.put(variant, variantUrl(baseName, fileName));
+        }
+        return ImageVariants.of(
+                urls.get(ImageVariant.THUMBNAIL),
+                urls.get(ImageVariant.CARD),
+                urls.get(ImageVariant.DETAIL));
+    }
+
+    /**
+     * 원본 블롭이 삭제되면 변형 파일도 함께 삭제
+     */
+    @EventListener
+    public void onBlobDeleted(BlobDeletedEvent event) {
+        String url = event.getUrl();
+        String baseName = baseName(url.substring(url.lastIndexOf('/') + 1));
+        Path dir = Paths.get(uploadPath, VARIANT_DIR).resolve(shardOf(baseName));
+        for (ImageVariant variant : ImageVariant.values()) {
+            try {
+                Files.deleteIfExists(dir.resolve(variant.fileNameFor(baseName)));
+            } catch (IOException e) {
+                log.warn("이미지 변형 삭제 실패: original={}, variant={}", url, variant);
+            }
+        }
+    }
+
+    private Path variantDirectory(String baseName) throws IOException {
+        Path dir = Paths.get(uploadPath, VARIANT_DIR).resolve(shardOf(baseName));
+        if (!Files.exists(dir)) {
+            Files.createDirectories(dir);
+        }
+        return dir;
+    }
+
+    // 블롭 원본이면 원본과 같은 2단계 샤드 경로, 블롭 저장소 이전의 파일명이면 평면 (빈 경로)
+    static String shardOf(String baseName) {
+        if (!BLOB_HASH.matcher(baseName).matches()) {
+            return "";
+        }
+        return baseName.substring(0, 2) + "/" + baseName.substring(2, 4);
+    }
+
+    private static String variantUrl(String baseName, String fileName) {
+        String shard = shardOf(baseName);
+        return "/uploads/" + VARIANT_DIR + "/" + (shard.isEmpty() ? "" : shard + "/") + fileName;
+    }
+
+    // 원본보다 크게 확대하지 않으며, 투명 배경은 흰색으로 채움 (JPEG 알파 미지원)
+    static BufferedImage resize(BufferedImage source, int maxWidth) {
+        int width = Math.min(maxWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static String baseName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+}
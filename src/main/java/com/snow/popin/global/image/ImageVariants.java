@@ -0,0 +1,82 @@
+package com.snow.popin.global.image;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.util.StringJoiner;
+
+/**
+ * 엔티티에 기록되는 이미지 변형 URL 묶음
+ * 비동기 생성이 끝나기 전에는 모든 필드가 null이며, 이때 응답은 원본 URL로 대체된다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageVariants {
+
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;
+
+    @Column(name = "card_url", length = 500)
+    private String cardUrl;
+
+    @Column(name = "detail_url", length = 500)
+    private String detailUrl;
+
+    private ImageVariants(String thumbnailUrl, String cardUrl, String detailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+        this.cardUrl = cardUrl;
+        this.detailUrl = detailUrl;
+    }
+
+    public static ImageVariants of(String thumbnailUrl, String cardUrl, String detailUrl) {
+        return new ImageVariants(thumbnailUrl, cardUrl, detailUrl);
+    }
+
+    public static ImageVariants empty() {
+        return new ImageVariants();
+    }
+
+    public boolean isReady() {
+        return thumbnailUrl != null && cardUrl != null && detailUrl != null;
+    }
+
+    public String urlOf(ImageVariant variant) {
+        switch (variant) {
+            case THUMBNAIL:
+                return thumbnailUrl;
+            case CARD:
+                return cardUrl;
+            case DETAIL:
+                return detailUrl;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * img srcset 속성 값 생성 (예: "/uploads/variants/a_thumb.jpg 200w, ...")
+     * 변형이 준비되지 않았으면 null
+     */
+    public String toSrcset() {
+        if (!isReady()) {
+            return null;
+        }
+        StringJoiner joiner = new StringJoiner(", ");
+        for (ImageVariant variant : ImageVariant.values()) {
+            joiner.add(urlOf(variant) + " " + variant.getWidth() + "w");
+        }
+        return joiner.toString();
+    }
+
+    // 변형이 준비되었으면 해당 변형 URL, 아니면 원본 URL
+    public static String resolve(ImageVariants variants, ImageVariant variant, String originalUrl) {
+        if (variants == null || !variants.isReady()) {
+            return originalUrl;
+        }
+        return variants.urlOf(variant);
+    }
+}
@@ -0,0 +1,16 @@
+package com.snow.popin.global.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 원본 이미지의 변형 생성이 완료되었을 때 발행되는 이벤트
+ * 원본 URL을 참조하는 엔티티(PopupImage, Space)가 변형 URL을 기록한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ImageVariantsGeneratedEvent {
+
+    private final String originalUrl;
+    private final ImageVariants variants;
+}
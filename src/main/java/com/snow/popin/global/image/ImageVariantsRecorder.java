@@ -0,0 +1,40 @@
+package com.snow.popin.global.image;
+
+import com.snow.popin.domain.popup.repository.PopupImageRepository;
+import com.snow.popin.domain.popup.repository.PopupRepository;
+import com.snow.popin.domain.space.repository.SpaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 변형 생성 완료 이벤트를 받아 원본 URL을 참조하는 PopupImage/Popup 대표 이미지/Space에 변형 URL을 기록한다.
+ * imageProcessingExecutor 스레드에서 실행되며 별도 트랜잭션으로 처리된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ImageVariantsRecorder {
+
+    private final PopupImageRepository popupImageRepository;
+    private final PopupRepository popupRepository;
+    private final SpaceRepository spaceRepository;
+
+    @EventListener
+    @Transactional
+    public void onVariantsGenerated(ImageVariantsGeneratedEvent event) {
+        ImageVariants v = event.getVariants();
+
+        int images = popupImageRepository.updateVariants(
+                event.getOriginalUrl(), v.getThumbnailUrl(), v.getCardUrl(), v.getDetailUrl());
+        int popups = popupRepository.updateMainImageVariants(
+                event.getOriginalUrl(), v.getThumbnailUrl(), v.getCardUrl(), v.getDetailUrl());
+        int spaces = spaceRepository.updateCoverImageVariants(
+                event.getOriginalUrl(), v.getThumbnailUrl(), v.getCardUrl(), v.getDetailUrl());
+
+        log.debug("이미지 변형 기록: original={}, popupImages={}, popups={}, spaces={}",
+                event.getOriginalUrl(), images, popups, spaces);
+    }
+}
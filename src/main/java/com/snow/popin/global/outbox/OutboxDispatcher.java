@@ -0,0 +1,150 @@
+package com.snow.popin.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * 아웃박스 디스패처
+ * - 등록 트랜잭션 커밋 직후 즉시 디스패치 + 주기적 폴링으로 누락/재시도 이벤트 처리
+ * - 제한된 워커 풀에서 처리하며, 큐가 가득 차면 다음 폴링으로 미룸
+ * - 조건부 UPDATE로 점유하므로 여러 인스턴스에서 동시에 돌아도 한 번만 처리
+ * - 실패 시 지수 백오프(+jitter)로 재시도, 최대 횟수 초과 시 FAILED
+ *
+ * DB 트랜잭션은 점유/결과 기록에만 짧게 사용하고 외부 호출 중에는 커넥션을 잡지 않는다.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final TaskExecutor outboxExecutor;
+    private final TransactionTemplate txTemplate;
+    private final Map<OutboxEventType, OutboxHandler> handlers = new EnumMap<>(OutboxEventType.class);
+
+    @Value("${outbox.dispatcher.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${outbox.dispatcher.max-attempts:8}")
+    private int maxAttempts = 8;
+
+    @Value("${outbox.dispatcher.lock-seconds:60}")
+    private long lockSeconds = 60;
+
+    @Value("${outbox.dispatcher.backoff-base-seconds:5}")
+    private long backoffBaseSeconds = 5;
+
+    @Value("${outbox.dispatcher.backoff-max-seconds:1800}")
+    private long backoffMaxSeconds = 1800;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            ObjectMapper objectMapper,
+                            @Qualifier("outboxExecutor") TaskExecutor outboxExecutor,
+                            PlatformTransactionManager transactionManager,
+                            List<OutboxHandler> handlers) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.outboxExecutor = outboxExecutor;
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        this.txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        handlers.forEach(handler -> this.handlers.put(handler.type(), handler));
+    }
+
+    @TransactionalEventListener
+    public void onEnqueued(OutboxEnqueuedEvent event) {
+        submit(event.getOutboxEventId());
+    }
+
+    /**
+     * 처리 시각이 된 이벤트를 워커에 넘김 (SchedulerConfig의 outbox-poll 작업, 노드마다 실행)
+     */
+    public void poll() {
+        List<Long> dueIds = outboxEventRepository.findDueIds(LocalDateTime.now(), PageRequest.of(0, batchSize));
+        for (Long id : dueIds) {
+            if (!submit(id)) {
+                break;
+            }
+        }
+    }
+
+    private boolean submit(Long id) {
+        try {
+            outboxExecutor.execute(() -> process(id));
+            return true;
+        } catch (TaskRejectedException e) {
+            log.debug("[Outbox] 워커 큐 포화 - 다음 폴링에서 처리: id={}", id);
+            return false;
+        }
+    }
+
+    /**
+     * 이벤트 하나 처리 (점유 → 처리기 호출 → 결과 기록)
+     */
+    void process(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = txTemplate.execute(status ->
+                outboxEventRepository.claim(id, now, now.plusSeconds(lockSeconds)));
+        if (claimed == null || claimed == 0) {
+            return; // 다른 워커가 처리 중이거나 이미 완료됨
+        }
+
+        OutboxEvent event = outboxEventRepository.findById(id).orElse(null);
+        if (event == null) {
+            return;
+        }
+
+        OutboxHandler handler = handlers.get(event.getEventType());
+        try {
+            if (handler == null) {
+                throw new IllegalStateException("처리기가 없는 이벤트 타입: " + event.getEventType());
+            }
+            handler.handle(event, objectMapper.readTree(event.getPayload()));
+            finish(id, OutboxEvent::complete);
+            log.info("[Outbox] 처리 완료 - id={}, type={}, attempts={}", id, event.getEventType(), event.getAttempts());
+
+        } catch (Exception e) {
+            String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            if (event.getAttempts() >= maxAttempts) {
+                finish(id, outbox -> outbox.fail(error));
+                log.error("[Outbox] 최대 재시도 초과 - id={}, type={}, key={}",
+                        id, event.getEventType(), event.getIdempotencyKey(), e);
+            } else {
+                LocalDateTime next = LocalDateTime.now().plusSeconds(backoffSeconds(event.getAttempts()));
+                finish(id, outbox -> outbox.scheduleRetry(next, error));
+                log.warn("[Outbox] 처리 실패, 재시도 예약 - id={}, type={}, attempts={}, next={}, error={}",
+                        id, event.getEventType(), event.getAttempts(), next, error);
+            }
+        }
+    }
+
+    private void finish(Long id, Consumer<OutboxEvent> update) {
+        txTemplate.executeWithoutResult(status ->
+                outboxEventRepository.findById(id).ifPresent(update));
+    }
+
+    /**
+     * 지수 백오프 + jitter (base * 2^(n-1), 최대 backoffMaxSeconds, 50~100% 구간 무작위)
+     */
+    long backoffSeconds(int attempts) {
+        long exp = backoffBaseSeconds << Math.min(attempts - 1, 20);
+        long capped = Math.min(backoffMaxSeconds, Math.max(backoffBaseSeconds, exp));
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+}
@@ -0,0 +1,10 @@
+package com.snow.popin.global.outbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class OutboxEnqueuedEvent {
+    private final Long outboxEventId;
+}
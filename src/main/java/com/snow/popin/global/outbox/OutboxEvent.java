@@ -0,0 +1,108 @@
+package com.snow.popin.global.outbox;
+
+import com.snow.popin.global.common.BaseTimeEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스 레코드
+ * 업무 데이터와 같은 트랜잭션에서 저장되고, 커밋 이후 OutboxDispatcher가 외부 호출을 수행한다.
+ * idempotency_key 유니크 제약으로 같은 작업이 두 번 등록되지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox_events",
+        uniqueConstraints = @UniqueConstraint(name = "uk_outbox_idempotency_key", columnNames = "idempotency_key"),
+        indexes = @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+public class OutboxEvent extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private OutboxEventType eventType;
+
+    @Column(name = "aggregate_id", length = 100)
+    private String aggregateId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 150)
+    private String idempotencyKey;
+
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public static OutboxEvent create(OutboxEventType eventType, String aggregateId, String idempotencyKey, String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.eventType = eventType;
+        event.aggregateId = aggregateId;
+        event.idempotencyKey = idempotencyKey;
+        event.payload = payload;
+        event.status = OutboxStatus.PENDING;
+        event.attempts = 0;
+        event.nextAttemptAt = LocalDateTime.now();
+        return event;
+    }
+
+    public void complete() {
+        this.status = OutboxStatus.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+        this.lockedUntil = null;
+        this.lastError = null;
+    }
+
+    public void scheduleRetry(LocalDateTime nextAttemptAt, String error) {
+        this.status = OutboxStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lockedUntil = null;
+        this.lastError = truncate(error);
+    }
+
+    public void fail(String error) {
+        this.status = OutboxStatus.FAILED;
+        this.lockedUntil = null;
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * 수동 재처리 (FAILED → PENDING)
+     */
+    public void reset() {
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
@@ -0,0 +1,42 @@
+package com.snow.popin.global.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    Optional<OutboxEvent> findByIdempotencyKey(String idempotencyKey);
+
+    boolean existsByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * 처리할 이벤트 ID 조회
+     * 재시도 시각이 지난 대기 이벤트 + 점유 기한이 지난 처리 중 이벤트(워커 장애)
+     */
+    @Query("SELECT e.id FROM OutboxEvent e " +
+            "WHERE (e.status = com.snow.popin.global.outbox.OutboxStatus.PENDING AND e.nextAttemptAt <= :now) " +
+            "OR (e.status = com.snow.popin.global.outbox.OutboxStatus.PROCESSING AND e.lockedUntil < :now) " +
+            "ORDER BY e.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 이벤트 점유 (조건부 UPDATE)
+     * 여러 인스턴스/워커가 같은 이벤트를 동시에 처리하지 않도록 영향받은 행 수로 판정한다.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = com.snow.popin.global.outbox.OutboxStatus.PROCESSING, " +
+            "e.lockedUntil = :lockedUntil, e.attempts = e.attempts + 1 " +
+            "WHERE e.id = :id AND (" +
+            "(e.status = com.snow.popin.global.outbox.OutboxStatus.PENDING AND e.nextAttemptAt <= :now) " +
+            "OR (e.status = com.snow.popin.global.outbox.OutboxStatus.PROCESSING AND e.lockedUntil < :now))")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    long countByStatus(OutboxStatus status);
+}
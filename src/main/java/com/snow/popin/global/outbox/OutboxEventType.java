@@ -0,0 +1,6 @@
+package com.snow.popin.global.outbox;
+
+public enum OutboxEventType {
+    PAYMENT_REFUND,
+    NOTIFICATION
+}
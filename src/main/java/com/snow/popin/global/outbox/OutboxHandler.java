@@ -0,0 +1,15 @@
+package com.snow.popin.global.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 아웃박스 이벤트 처리기
+ * 예외를 던지면 백오프 후 재시도되며, 같은 이벤트가 두 번 이상 전달될 수 있으므로 멱등하게 구현해야 한다.
+ * 처리기는 트랜잭션 밖에서 호출된다.
+ */
+public interface OutboxHandler {
+
+    OutboxEventType type();
+
+    void handle(OutboxEvent event, JsonNode payload) throws Exception;
+}
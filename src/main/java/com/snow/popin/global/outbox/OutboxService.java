@@ -0,0 +1,53 @@
+package com.snow.popin.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 아웃박스 이벤트 등록
+     * 호출한 트랜잭션에 참여하므로 업무 데이터 변경과 함께 커밋/롤백된다.
+     * 같은 멱등 키가 이미 있으면 기존 이벤트를 그대로 반환한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent enqueue(OutboxEventType type, String aggregateId, String idempotencyKey, Map<String, Object> payload) {
+        return outboxEventRepository.findByIdempotencyKey(idempotencyKey)
+                .orElseGet(() -> {
+                    OutboxEvent event = outboxEventRepository.save(
+                            OutboxEvent.create(type, aggregateId, idempotencyKey, toJson(payload)));
+                    // 커밋 이후 바로 디스패치 (실패해도 주기적 폴링에서 처리됨)
+                    eventPublisher.publishEvent(new OutboxEnqueuedEvent(event.getId()));
+                    log.info("[Outbox] 이벤트 등록 - id={}, type={}, key={}", event.getId(), type, idempotencyKey);
+                    return event;
+                });
+    }
+
+    @Transactional(readOnly = true)
+    public boolean exists(String idempotencyKey) {
+        return outboxEventRepository.existsByIdempotencyKey(idempotencyKey);
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 payload 직렬화 실패", e);
+        }
+    }
+}
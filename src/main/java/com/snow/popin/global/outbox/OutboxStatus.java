@@ -0,0 +1,8 @@
+package com.snow.popin.global.outbox;
+
+public enum OutboxStatus {
+    PENDING,     // 처리 대기 (재시도 대기 포함)
+    PROCESSING,  // 워커가 점유 중 (locked_until 이후에는 다시 점유 가능)
+    COMPLETED,
+    FAILED       // 최대 시도 횟수 초과 - 수동 확인 필요
+}
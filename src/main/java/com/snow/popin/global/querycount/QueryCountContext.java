@@ -0,0 +1,97 @@
+package com.snow.popin.global.querycount;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 현재 스레드에서 열린 쿼리 집계 구간
+ * - 구간은 겹칠 수 있다. (테스트 구간 안에서 MockMvc 요청 구간이 열리는 경우) 실행된 SQL 은 열린 모든 구간에 기록된다.
+ * - 열린 구간이 없으면 아무 것도 하지 않으므로 요청 밖(스케줄러, 배치) 쿼리는 비용이 거의 없다.
+ */
+public final class QueryCountContext {
+
+    private static final ThreadLocal<Deque<QueryCountScope>> SCOPES = new ThreadLocal<>();
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final String APP_PACKAGE = "com.snow.popin.";
+    private static final String LISTENER = QueryCountListener.class.getName();
+    private static final int CALL_SITE_DEPTH = 3;
+
+    private static volatile boolean captureCallSites = true;
+
+    private QueryCountContext() {
+    }
+
+    /**
+     * 구간을 연다. try-with-resources 로 닫아야 한다.
+     */
+    public static QueryCountScope begin(String name) {
+        Deque<QueryCountScope> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        QueryCountScope scope = new QueryCountScope(name);
+        scopes.push(scope);
+        return scope;
+    }
+
+    public static boolean isActive() {
+        return SCOPES.get() != null;
+    }
+
+    static void setCaptureCallSites(boolean enabled) {
+        captureCallSites = enabled;
+    }
+
+    static void end(QueryCountScope scope) {
+        Deque<QueryCountScope> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+        scopes.remove(scope);
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+    }
+
+    static void record(String sql) {
+        Deque<QueryCountScope> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+        // 호출 위치는 구간에서 처음 보는 문장일 때만 구함 (반복 실행마다 스택을 훑지 않음)
+        List<String> callSite = null;
+        for (QueryCountScope scope : scopes) {
+            if (callSite == null && captureCallSites && !scope.contains(sql)) {
+                callSite = callSite();
+            }
+            scope.record(sql, callSite);
+        }
+    }
+
+    /**
+     * SQL 을 실행시킨 애플리케이션 코드 프레임 (가까운 순, 프록시/집계 코드 제외)
+     */
+    private static List<String> callSite() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> isApplicationFrame(frame.getClassName()))
+                .limit(CALL_SITE_DEPTH)
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.toList()));
+    }
+
+    private static boolean isApplicationFrame(String className) {
+        return className.startsWith(APP_PACKAGE)
+                && !className.equals(QueryCountContext.class.getName())
+                && !className.equals(LISTENER)
+                && !className.contains("$$")
+                && !className.contains("$HibernateProxy$");
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
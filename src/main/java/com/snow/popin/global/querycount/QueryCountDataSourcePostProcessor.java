@@ -0,0 +1,33 @@
+package com.snow.popin.global.querycount;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 빈을 datasource-proxy 로 감싸 실행되는 SQL 을 QueryCountListener 로 전달
+ * 커넥션 풀 설정 바인딩이 끝난 뒤(초기화 후)에 감싸므로 Hikari 설정은 그대로 적용된다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "query-count", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource && !(bean instanceof ProxyDataSource)) {
+            return wrap((DataSource) bean, beanName);
+        }
+        return bean;
+    }
+
+    public static DataSource wrap(DataSource dataSource, String name) {
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(name)
+                .listener(new QueryCountListener())
+                .build();
+    }
+}
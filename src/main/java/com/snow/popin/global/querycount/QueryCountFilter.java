@@ -0,0 +1,94 @@
+package com.snow.popin.global.querycount;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * HTTP 요청마다 실행된 SQL 수를 집계
+ * - db.queries.per.request (DistributionSummary): method, uri(핸들러 경로 패턴)
+ * - SQL 수가 warn-threshold 를 넘거나 같은 문장이 repeat-threshold 번 이상 반복되면(N+1 의심)
+ *   반복 문장과 호출 위치를 경고 로그로 남긴다.
+ *
+ * 보안 필터(JWT 사용자 조회)보다 먼저 실행되어 요청 전체를 센다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "query-count", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    static final String SUMMARY = "db.queries.per.request";
+
+    private final QueryCountProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // 웹 슬라이스 테스트(@WebMvcTest)처럼 설정/메트릭 빈이 없는 컨텍스트에서는 기본값과 로그만 사용
+    public QueryCountFilter(ObjectProvider<QueryCountProperties> properties,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties.getIfAvailable(QueryCountProperties::new);
+        this.meterRegistry = meterRegistry.getIfAvailable();
+        QueryCountContext.setCaptureCallSites(this.properties.isCaptureCallSites());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String requestLine = request.getMethod() + " " + request.getRequestURI();
+        try (QueryCountScope scope = QueryCountContext.begin(requestLine)) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                report(request, scope);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryCountScope scope) {
+        if (scope.total() == 0) {
+            return;
+        }
+        if (meterRegistry != null) {
+            DistributionSummary.builder(SUMMARY)
+                    .tag("method", request.getMethod())
+                    .tag("uri", uriPattern(request))
+                    .register(meterRegistry)
+                    .record(scope.total());
+        }
+
+        List<QueryCountScope.Statement> repeated = scope.repeated(properties.getRepeatThreshold());
+        if (!repeated.isEmpty()) {
+            log.warn("[QueryCount] N+1 의심: {} - SQL {}회{}", scope.getName(), scope.total(),
+                    scope.describe(limit(repeated)));
+        } else if (scope.total() > properties.getWarnThreshold()) {
+            log.warn("[QueryCount] SQL 과다: {} - SQL {}회 (기준 {}){}", scope.getName(), scope.total(),
+                    properties.getWarnThreshold(), scope.describe(scope.top(properties.getMaxReportedStatements())));
+        } else {
+            log.debug("[QueryCount] {} - SQL {}회", scope.getName(), scope.total());
+        }
+    }
+
+    private List<QueryCountScope.Statement> limit(List<QueryCountScope.Statement> statements) {
+        return statements.subList(0, Math.min(statements.size(), properties.getMaxReportedStatements()));
+    }
+
+    // 경로 변수를 태그에 그대로 넣지 않도록 매칭된 핸들러 패턴 사용
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
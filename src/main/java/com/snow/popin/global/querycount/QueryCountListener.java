@@ -0,0 +1,28 @@
+package com.snow.popin.global.querycount;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * datasource-proxy 가 알려주는 SQL 실행을 현재 스레드의 집계 구간에 기록
+ * 배치 실행(executeBatch)은 문장당 한 번으로 센다.
+ */
+public class QueryCountListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!QueryCountContext.isActive()) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            QueryCountContext.record(queryInfo.getQuery());
+        }
+    }
+}
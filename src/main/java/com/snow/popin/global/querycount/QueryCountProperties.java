@@ -0,0 +1,29 @@
+package com.snow.popin.global.querycount;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청별 SQL 실행 수 집계/N+1 감지 설정
+ *
+ * 예) query-count.warn-threshold=20, query-count.enabled=false (운영에서 끄기)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "query-count")
+public class QueryCountProperties {
+
+    // DataSource 프록시 등록 여부 (끄면 집계 자체를 하지 않음)
+    private boolean enabled = true;
+    // 요청 하나의 SQL 수가 이 값을 넘으면 경고
+    private int warnThreshold = 10;
+    // 같은 문장이 요청 하나에서 이 횟수 이상 실행되면 N+1 의심으로 경고
+    private int repeatThreshold = 3;
+    // 경고 로그에 실을 문장 수
+    private int maxReportedStatements = 5;
+    // 문장별 첫 실행 위치(애플리케이션 코드 프레임) 기록
+    private boolean captureCallSites = true;
+}
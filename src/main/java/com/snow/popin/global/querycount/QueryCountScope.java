@@ -0,0 +1,119 @@
+package com.snow.popin.global.querycount;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 한 구간(HTTP 요청, 테스트 메서드)에서 실행된 SQL 집계
+ * 같은 SQL 문장(파라미터는 ? 로 남음)별 실행 횟수와 처음 실행된 호출 위치를 기억한다.
+ *
+ * 스레드 하나에서만 쓰이므로 동기화하지 않는다.
+ */
+public class QueryCountScope implements AutoCloseable {
+
+    private static final int MAX_SQL_LENGTH = 200;
+
+    private final String name;
+    private final Map<String, Statement> statements = new LinkedHashMap<>();
+    private int total;
+    private boolean closed;
+
+    QueryCountScope(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 실행된 SQL 문장 수 (배치는 한 번으로 셈)
+     */
+    public int total() {
+        return total;
+    }
+
+    /**
+     * repeatThreshold 번 이상 반복된 문장 (N+1 의심), 많이 반복된 순
+     */
+    public List<Statement> repeated(int repeatThreshold) {
+        return statements.values().stream()
+                .filter(statement -> statement.count >= repeatThreshold)
+                .sorted(Comparator.comparingInt(Statement::getCount).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 많이 실행된 순으로 최대 limit 개 문장
+     */
+    public List<Statement> top(int limit) {
+        return statements.values().stream()
+                .sorted(Comparator.comparingInt(Statement::getCount).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 로그/실패 메시지용 요약: 문장마다 "횟수  SQL  ← 호출 위치"
+     */
+    public String describe(List<Statement> selected) {
+        StringBuilder builder = new StringBuilder();
+        for (Statement statement : selected) {
+            builder.append("\n  ").append(statement.count).append("회  ").append(abbreviate(statement.sql));
+            for (String frame : statement.callSite) {
+                builder.append("\n      ← ").append(frame);
+            }
+        }
+        return builder.toString();
+    }
+
+    boolean contains(String sql) {
+        return statements.containsKey(sql);
+    }
+
+    void record(String sql, List<String> callSite) {
+        total++;
+        statements.computeIfAbsent(sql, key -> new Statement(key, callSite)).count++;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            QueryCountContext.end(this);
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        String compact = sql.replaceAll("\\s+", " ").trim();
+        return compact.length() <= MAX_SQL_LENGTH ? compact : compact.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+
+    public static final class Statement {
+
+        private final String sql;
+        private final List<String> callSite;
+        private int count;
+
+        private Statement(String sql, List<String> callSite) {
+            this.sql = sql;
+            this.callSite = callSite != null ? callSite : new ArrayList<>();
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public List<String> getCallSite() {
+            return callSite;
+        }
+
+        public int getCount() {
+            return count;
+        }
+    }
+}
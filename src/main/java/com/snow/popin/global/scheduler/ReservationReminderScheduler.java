@@ -8,7 +8,6 @@ import com.snow.popin.domain.popupReservation.repository.ReservationQueryDslRepo
 import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -27,9 +26,8 @@ public class ReservationReminderScheduler {
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
     /**
-     * 매 분 0초마다 예약 임박 사용자에게 알림 발송
+     * 매 분 0초마다 예약 임박 사용자에게 알림 발송 (SchedulerConfig의 reservation-reminder 작업)
      */
-    @Scheduled(cron = "0 * * * * *") // 매 분 0초 실행
     public void sendReservationReminders() {
         LocalDateTime now = LocalDateTime.now();
 
@@ -0,0 +1,43 @@
+package com.snow.popin.global.scheduler.job;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 예약 작업 정의 (SchedulerConfig에서 빈으로 등록)
+ * - cron: 실행 주기
+ * - interval: cron 대신 일정 간격 실행 (폴링/정리 작업용, 이전 실행이 길어지면 그 주기는 건너뜀)
+ * - leaderOnly: 여러 노드 중 한 노드만 실행 (DB 실행권 사용)
+ * - lockAtMost: 실행 노드가 죽었을 때 실행권이 풀리기까지의 시간 (최대 실행 시간보다 길게)
+ * - lockAtLeast: 작업이 빨리 끝나도 실행권을 유지하는 시간 (노드 간 시계 차이 흡수)
+ * - runOnStartupIf: 기동 직후 조건이 참이면 주기를 기다리지 않고 한 번 실행 (leaderOnly면 실행권 사용)
+ */
+@Getter
+@Builder
+public class JobDefinition {
+
+    private final String name;
+    private final String cron;
+    private final Duration interval;
+
+    @Builder.Default
+    private final boolean leaderOnly = true;
+
+    @Builder.Default
+    private final Duration lockAtMost = Duration.ofMinutes(10);
+
+    @Builder.Default
+    private final Duration lockAtLeast = Duration.ofSeconds(30);
+
+    private final Runnable task;
+
+    private final BooleanSupplier runOnStartupIf;
+
+    // 관리자 조회/로그용 실행 주기 표시
+    public String describeSchedule() {
+        return cron != null ? cron : "every " + interval.toMillis() + "ms";
+    }
+}
@@ -0,0 +1,40 @@
+package com.snow.popin.global.scheduler.job;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 작업 실행권 (작업당 한 행)
+ * locked_until이 지난 경우에만 조건부 UPDATE로 소유자를 바꾸므로,
+ * 여러 노드가 같은 시각에 트리거되어도 한 노드만 작업을 실행한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "job_leases")
+public class JobLease {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "owner", length = 150)
+    private String owner;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "acquired_at")
+    private LocalDateTime acquiredAt;
+
+    public static JobLease unlocked(String jobName, LocalDateTime now) {
+        JobLease lease = new JobLease();
+        lease.jobName = jobName;
+        lease.lockedUntil = now;
+        return lease;
+    }
+}
@@ -0,0 +1,28 @@
+package com.snow.popin.global.scheduler.job;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    // 만료된 실행권만 가져옴 (영향 행 수 1 = 획득)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE JobLease l SET l.owner = :owner, l.lockedUntil = :lockedUntil, l.acquiredAt = :now " +
+            "WHERE l.jobName = :jobName AND l.lockedUntil <= :now")
+    int acquire(@Param("jobName") String jobName,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now,
+                @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    // 자신이 가진 실행권만 반납 (최소 보유 시간까지는 유지)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE JobLease l SET l.lockedUntil = :lockedUntil " +
+            "WHERE l.jobName = :jobName AND l.owner = :owner")
+    int release(@Param("jobName") String jobName,
+                @Param("owner") String owner,
+                @Param("lockedUntil") LocalDateTime lockedUntil);
+}
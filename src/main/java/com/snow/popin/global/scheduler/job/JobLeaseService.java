@@ -0,0 +1,100 @@
+package com.snow.popin.global.scheduler.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * DB 기반 작업 실행권 관리
+ * - 획득: locked_until이 지난 행만 조건부 UPDATE (행이 없으면 먼저 만들고 다시 시도)
+ * - 반납: 최소 보유 시간(lockAtLeast)까지는 유지하여 시계가 조금 어긋난 다른 노드가 같은 주기를 다시 실행하지 않도록 함
+ * - 노드가 죽으면 lockAtMost가 지난 뒤 다른 노드가 가져간다.
+ */
+@Service
+@Slf4j
+public class JobLeaseService {
+
+    private final JobLeaseRepository leaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+
+    public JobLeaseService(JobLeaseRepository leaseRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${scheduler.node-id:}") String nodeId) {
+        this.leaseRepository = leaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 실행권 획득 시도
+     *
+     * @param lockAtMost 노드가 응답 없이 죽었을 때 다른 노드가 가져갈 수 있기까지의 시간
+     * @return 획득 성공 여부
+     */
+    public boolean tryAcquire(String jobName, Duration lockAtMost) {
+        LocalDateTime now = LocalDateTime.now();
+        if (acquire(jobName, now, lockAtMost)) {
+            return true;
+        }
+        if (leaseRepository.existsById(jobName)) {
+            return false;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> leaseRepository.save(JobLease.unlocked(jobName, now)));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 만든 경우
+            log.debug("[JobLease] 실행권 행 동시 생성 - job={}", jobName);
+        }
+        return acquire(jobName, now, lockAtMost);
+    }
+
+    /**
+     * 실행권 반납
+     *
+     * @param startedAt   작업 시작 시각
+     * @param lockAtLeast 시작 시각 기준 최소 보유 시간
+     */
+    public void release(String jobName, LocalDateTime startedAt, Duration lockAtLeast) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime holdUntil = startedAt.plus(lockAtLeast);
+        LocalDateTime lockedUntil = holdUntil.isAfter(now) ? holdUntil : now;
+        try {
+            transactionTemplate.executeWithoutResult(status -> leaseRepository.release(jobName, nodeId, lockedUntil));
+        } catch (RuntimeException e) {
+            // 반납 실패 시에도 lockAtMost가 지나면 자연히 풀림
+            log.warn("[JobLease] 실행권 반납 실패 - job={}, error={}", jobName, e.getMessage());
+        }
+    }
+
+    private boolean acquire(String jobName, LocalDateTime now, Duration lockAtMost) {
+        Integer updated = transactionTemplate.execute(
+                status -> leaseRepository.acquire(jobName, nodeId, now, now.plus(lockAtMost)));
+        return updated != null && updated == 1;
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + ":" + ProcessHandle.current().pid();
+    }
+}
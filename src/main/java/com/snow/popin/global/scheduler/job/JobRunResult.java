@@ -0,0 +1,8 @@
+package com.snow.popin.global.scheduler.job;
+
+public enum JobRunResult {
+    SUCCESS,                // 정상 종료
+    FAILED,                 // 예외 발생
+    SKIPPED_RUNNING,        // 이전 실행이 아직 진행 중
+    SKIPPED_NOT_LEADER      // 다른 노드가 실행권 보유
+}
@@ -0,0 +1,26 @@
+package com.snow.popin.global.scheduler.job;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 작업 상태 (관리자 조회용)
+ */
+@Getter
+@Builder
+public class JobStatusResponse {
+    private final String name;
+    private final String cron;
+    private final boolean leaderOnly;
+    private final boolean running;
+    private final LocalDateTime nextFireTime;
+    private final LocalDateTime lastStartedAt;
+    private final LocalDateTime lastFinishedAt;
+    private final Long lastDurationMs;
+    private final Long lastLagMs;
+    private final JobRunResult lastResult;
+    private final String lastError;
+    private final long runCount;
+}
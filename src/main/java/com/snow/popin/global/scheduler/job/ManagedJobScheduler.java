@@ -0,0 +1,285 @@
+package com.snow.popin.global.scheduler.job;
+
+import com.snow.popin.global.constant.ErrorCode;
+import com.snow.popin.global.exception.GeneralException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.scheduling.support.PeriodicTrigger;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 작업 실행기
+ * - 스케줄러 스레드는 트리거만 하고 실제 작업은 작업별 전용 스레드에서 실행 (느린 작업이 다른 작업을 지연시키지 않음)
+ * - 이전 실행이 끝나지 않았으면 이번 주기는 건너뜀
+ * - leaderOnly 작업은 DB 실행권을 얻은 노드에서만 실행
+ * - 작업별 실행 시간(scheduler.job.duration)과 예정 시각 대비 지연(scheduler.job.lag) 기록
+ * - 기동 조건(runOnStartupIf)이 참인 작업은 기동 직후 한 번 실행
+ */
+@Component
+@Slf4j
+public class ManagedJobScheduler implements SchedulingConfigurer, DisposableBean {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final Map<String, JobState> jobs = new LinkedHashMap<>();
+    private final JobLeaseService leaseService;
+    private final MeterRegistry meterRegistry;
+
+    public ManagedJobScheduler(List<JobDefinition> definitions,
+                               JobLeaseService leaseService,
+                               MeterRegistry meterRegistry) {
+        this.leaseService = leaseService;
+        this.meterRegistry = meterRegistry;
+        for (JobDefinition definition : definitions) {
+            jobs.put(definition.getName(), new JobState(definition, createExecutor(definition.getName())));
+        }
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        for (JobState state : jobs.values()) {
+            Trigger trigger = triggerOf(state.definition);
+            registrar.addTriggerTask(() -> submit(state, state.nextFireTime), context -> {
+                Date next = trigger.nextExecutionTime(context);
+                state.nextFireTime = next != null ? next.toInstant() : null;
+                return next;
+            });
+            log.info("[Scheduler] 작업 등록 - job={}, schedule={}, leaderOnly={}",
+                    state.definition.getName(), state.definition.describeSchedule(), state.definition.isLeaderOnly());
+        }
+    }
+
+    /**
+     * 관리자 수동 실행
+     *
+     * @return 실행 시작 여부 (이전 실행이 진행 중이면 false)
+     */
+    public boolean trigger(String name) {
+        JobState state = getState(name);
+        log.info("[Scheduler] 수동 실행 요청 - job={}", name);
+        return submit(state, null);
+    }
+
+    /**
+     * 기동 직후 실행 조건이 참인 작업 실행 (조건 확인 실패 시 다음 주기에 맡김)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void runStartupJobs() {
+        for (JobState state : jobs.values()) {
+            BooleanSupplier condition = state.definition.getRunOnStartupIf();
+            if (condition == null) {
+                continue;
+            }
+            String name = state.definition.getName();
+            try {
+                if (condition.getAsBoolean()) {
+                    log.info("[Scheduler] 기동 조건 충족으로 실행 - job={}", name);
+                    submit(state, null);
+                }
+            } catch (RuntimeException e) {
+                log.warn("[Scheduler] 기동 조건 확인 실패 - job={}, error={}", name, e.getMessage());
+            }
+        }
+    }
+
+    public List<JobStatusResponse> getJobs() {
+        return jobs.values().stream()
+                .map(JobState::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    public JobStatusResponse getJob(String name) {
+        return getState(name).toResponse();
+    }
+
+    /**
+     * 전용 스레드에 실행 제출
+     *
+     * @param scheduledAt 예정 실행 시각 (수동 실행이면 null)
+     */
+    boolean submit(JobState state, Instant scheduledAt) {
+        String name = state.definition.getName();
+        if (!state.running.compareAndSet(false, true)) {
+            log.warn("[Scheduler] 이전 실행이 진행 중이라 건너뜀 - job={}", name);
+            skipped(state, JobRunResult.SKIPPED_RUNNING);
+            return false;
+        }
+
+        try {
+            state.executor.execute(() -> run(state, scheduledAt));
+            return true;
+        } catch (TaskRejectedException e) {
+            state.running.set(false);
+            log.warn("[Scheduler] 작업 제출 거절 - job={}", name);
+            skipped(state, JobRunResult.SKIPPED_RUNNING);
+            return false;
+        }
+    }
+
+    void run(JobState state, Instant scheduledAt) {
+        JobDefinition definition = state.definition;
+        String name = definition.getName();
+        Instant started = Instant.now();
+        LocalDateTime startedAt = LocalDateTime.ofInstant(started, ZONE);
+
+        if (scheduledAt != null) {
+            Duration lag = Duration.between(scheduledAt, started);
+            state.lastLagMs = Math.max(0, lag.toMillis());
+            Timer.builder("scheduler.job.lag")
+                    .tag("job", name)
+                    .register(meterRegistry)
+                    .record(lag.isNegative() ? Duration.ZERO : lag);
+        }
+
+        boolean leased = false;
+        try {
+            if (definition.isLeaderOnly()) {
+                leased = leaseService.tryAcquire(name, definition.getLockAtMost());
+                if (!leased) {
+                    log.debug("[Scheduler] 다른 노드가 실행 중 - job={}", name);
+                    skipped(state, JobRunResult.SKIPPED_NOT_LEADER);
+                    return;
+                }
+            }
+
+            state.lastStartedAt = startedAt;
+            JobRunResult result = JobRunResult.SUCCESS;
+            String error = null;
+            try {
+                definition.getTask().run();
+            } catch (Exception e) {
+                result = JobRunResult.FAILED;
+                error = e.getMessage();
+                log.error("[Scheduler] 작업 실패 - job={}", name, e);
+            }
+
+            Duration duration = Duration.between(started, Instant.now());
+            Timer.builder("scheduler.job.duration")
+                    .tag("job", name)
+                    .tag("result", result.name())
+                    .register(meterRegistry)
+                    .record(duration);
+            state.finish(result, error, duration);
+        } catch (RuntimeException e) {
+            // 실행권 조회 실패 등 작업 외부 오류
+            log.error("[Scheduler] 작업 실행 준비 실패 - job={}", name, e);
+            state.finish(JobRunResult.FAILED, e.getMessage(), Duration.between(started, Instant.now()));
+        } finally {
+            if (leased) {
+                leaseService.release(name, startedAt, definition.getLockAtLeast());
+            }
+            state.running.set(false);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        jobs.values().forEach(state -> state.executor.shutdown());
+    }
+
+    private void skipped(JobState state, JobRunResult reason) {
+        state.lastResult = reason;
+        meterRegistry.counter("scheduler.job.skipped",
+                "job", state.definition.getName(), "reason", reason.name()).increment();
+    }
+
+    private static Trigger triggerOf(JobDefinition definition) {
+        if (definition.getCron() != null) {
+            return new CronTrigger(definition.getCron());
+        }
+        if (definition.getInterval() == null) {
+            throw new IllegalArgumentException("cron 또는 interval 이 필요합니다: " + definition.getName());
+        }
+        PeriodicTrigger periodic = new PeriodicTrigger(definition.getInterval().toMillis());
+        periodic.setInitialDelay(definition.getInterval().toMillis());
+        return periodic;
+    }
+
+    private JobState getState(String name) {
+        JobState state = jobs.get(name);
+        if (state == null) {
+            throw new GeneralException(ErrorCode.NOT_FOUND, "등록되지 않은 작업입니다: " + name);
+        }
+        return state;
+    }
+
+    private static ThreadPoolTaskExecutor createExecutor(String name) {
+        // 실행 중 여부를 직접 관리하므로 대기열 없이 스레드 하나
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("job-" + name + "-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    static class JobState {
+        private final JobDefinition definition;
+        private final ThreadPoolTaskExecutor executor;
+        private final AtomicBoolean running = new AtomicBoolean(false);
+
+        private volatile Instant nextFireTime;
+        private volatile LocalDateTime lastStartedAt;
+        private volatile LocalDateTime lastFinishedAt;
+        private volatile Long lastDurationMs;
+        private volatile Long lastLagMs;
+        private volatile JobRunResult lastResult;
+        private volatile String lastError;
+        private volatile long runCount;
+
+        JobState(JobDefinition definition, ThreadPoolTaskExecutor executor) {
+            this.definition = definition;
+            this.executor = executor;
+        }
+
+        void finish(JobRunResult result, String error, Duration duration) {
+            this.lastResult = result;
+            this.lastError = error;
+            this.lastDurationMs = duration.toMillis();
+            this.lastFinishedAt = LocalDateTime.now(ZONE);
+            this.runCount++;
+        }
+
+        JobStatusResponse toResponse() {
+            return JobStatusResponse.builder()
+                    .name(definition.getName())
+                    .cron(definition.describeSchedule())
+                    .leaderOnly(definition.isLeaderOnly())
+                    .running(running.get())
+                    .nextFireTime(nextFireTime != null ? LocalDateTime.ofInstant(nextFireTime, ZONE) : null)
+                    .lastStartedAt(lastStartedAt)
+                    .lastFinishedAt(lastFinishedAt)
+                    .lastDurationMs(lastDurationMs)
+                    .lastLagMs(lastLagMs)
+                    .lastResult(lastResult)
+                    .lastError(lastError)
+                    .runCount(runCount)
+                    .build();
+        }
+    }
+}
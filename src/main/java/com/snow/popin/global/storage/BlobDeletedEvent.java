@@ -0,0 +1,15 @@
+package com.snow.popin.global.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 마지막 참조가 반납되어 블롭 파일이 삭제되었을 때 발행
+ * 파생 파일(이미지 변형 등)을 함께 정리하는 데 사용한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BlobDeletedEvent {
+
+    private final String url;
+}
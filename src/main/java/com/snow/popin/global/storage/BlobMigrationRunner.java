@@ -0,0 +1,35 @@
+package com.snow.popin.global.storage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 /uploads 파일 블롭 저장소 이전 실행기
+ * storage.migration.enabled=true로 기동하면 시작 시 한 번 실행된다.
+ * (예: java -jar popin.jar --storage.migration.enabled=true --storage.migration.delete-source=true)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "storage.migration.enabled", havingValue = "true")
+public class BlobMigrationRunner implements ApplicationRunner {
+
+    private final BlobMigrationService blobMigrationService;
+
+    @Value("${storage.migration.delete-source:false}")
+    private boolean deleteSource;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        log.info("[BlobMigration] 업로드 파일 이전 시작 - deleteSource={}", deleteSource);
+        BlobMigrationService.MigrationResult result = blobMigrationService.migrate(deleteSource);
+        if (result.getFailed() > 0) {
+            log.warn("[BlobMigration] {}개 파일 이전 실패, 재실행 시 이어서 처리됩니다.", result.getFailed());
+        }
+    }
+}
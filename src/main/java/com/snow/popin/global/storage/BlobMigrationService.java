@@ -0,0 +1,157 @@
+package com.snow.popin.global.storage;
+
+import com.snow.popin.global.image.ImageVariantService;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 기존 평면 디렉토리(/uploads/*, /uploads/documents/*, /uploads/QrCodes/*) 파일을 블롭 저장소로 이전한다.
+ * - 파일마다 블롭으로 저장하고, 해당 URL을 참조하는 컬럼을 새 URL로 일괄 변경
+ * - 컬럼 변경과 같은 트랜잭션에서 변경된 행 수만큼 참조 수를 더함
+ *   (참조하는 행이 없는 파일은 참조 수 0으로 등록만 되고 삭제하지 않음)
+ * - deleteSource가 true면 DB 변경 커밋 후 원본 파일 삭제
+ *
+ * 파일 단위로 커밋하므로 중간에 실패해도 다시 실행하면 남은 파일부터 이어서 처리된다.
+ * 이미 이전된 행은 다시 바뀌지 않으므로, 원본을 남겨 두고(deleteSource=false) 여러 번 실행해도 참조 수는 늘지 않는다.
+ */
+@Service
+@Slf4j
+public class BlobMigrationService {
+
+    // 업로드 URL을 저장하는 JPQL 컬럼 목록
+    private static final List<String> URL_COLUMNS = List.of(
+            "Space.coverImageUrl",
+            "PopupImage.imageUrl",
+            "Popup.mainImageUrl",
+            "RoleUpgradeDocument.fileUrl",
+            "MissionSet.qrImageUrl");
+
+    private final FileSystemBlobStore blobStore;
+    private final BlobRefRepository blobRefRepository;
+    private final ImageVariantService imageVariantService;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Value("${uploadPath}")
+    private String uploadPath;
+
+    public BlobMigrationService(FileSystemBlobStore blobStore,
+                                BlobRefRepository blobRefRepository,
+                                ImageVariantService imageVariantService,
+                                PlatformTransactionManager transactionManager) {
+        this.blobStore = blobStore;
+        this.blobRefRepository = blobRefRepository;
+        this.imageVariantService = imageVariantService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public MigrationResult migrate(boolean deleteSource) throws IOException {
+        MigrationResult result = new MigrationResult();
+        migrateDirectory(Paths.get(uploadPath), "/uploads/", BlobNamespace.IMAGES, deleteSource, result);
+        migrateDirectory(Paths.get(uploadPath, "documents"), "/uploads/documents/", BlobNamespace.DOCUMENTS, deleteSource, result);
+        migrateDirectory(Paths.get(uploadPath, "QrCodes"), "/uploads/QrCodes/", BlobNamespace.QR_CODES, deleteSource, result);
+
+        log.info("[BlobMigration] 완료 - files={}, deduplicated={}, rewrittenRows={}, failed={}",
+                result.files, result.deduplicated, result.rewrittenRows, result.failed);
+        return result;
+    }
+
+    private void migrateDirectory(Path dir, String urlPrefix, BlobNamespace namespace,
+                                  boolean deleteSource, MigrationResult result) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+
+        // 하위 디렉토리(샤드, 변형 등)는 건너뛰고 평면 파일만 대상
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(dir)) {
+            files = stream.filter(Files::isRegularFile)
+                    .filter(p -> !p.getFileName().toString().startsWith("."))
+                    .collect(Collectors.toList());
+        }
+
+        for (Path file : files) {
+            String fileName = file.getFileName().toString();
+            String oldUrl = urlPrefix + fileName;
+            try {
+                StoredBlob blob;
+                try (InputStream in = Files.newInputStream(file)) {
+                    blob = blobStore.storeUnreferenced(in, extensionOf(fileName), namespace);
+                }
+
+                Integer rows = transactionTemplate.execute(status -> {
+                    int changed = rewriteReferences(oldUrl, blob.getUrl());
+                    if (changed > 0) {
+                        blobRefRepository.increment(blob.getUrl(), changed);
+                    }
+                    return changed;
+                });
+                int rewritten = rows != null ? rows : 0;
+
+                if (namespace == BlobNamespace.IMAGES && !imageVariantService.findExisting(blob.getUrl()).isReady()) {
+                    imageVariantService.generateAsync(blob.getPath(), blob.getUrl());
+                }
+                if (deleteSource) {
+                    Files.deleteIfExists(file);
+                }
+
+                result.files++;
+                result.rewrittenRows += rewritten;
+                if (blob.isDeduplicated()) {
+                    result.deduplicated++;
+                }
+                log.debug("[BlobMigration] {} -> {} (rows={})", oldUrl, blob.getUrl(), rewritten);
+            } catch (Exception e) {
+                result.failed++;
+                log.warn("[BlobMigration] 이전 실패: file={}, error={}", oldUrl, e.getMessage());
+            }
+        }
+    }
+
+    private int rewriteReferences(String oldUrl, String newUrl) {
+        int rows = 0;
+        for (String column : URL_COLUMNS) {
+            String[] parts = column.split("\\.");
+            rows += em.createQuery("UPDATE " + parts[0] + " e SET e." + parts[1] + " = :newUrl WHERE e." + parts[1] + " = :oldUrl")
+                    .setParameter("newUrl", newUrl)
+                    .setParameter("oldUrl", oldUrl)
+                    .executeUpdate();
+        }
+        // PopupReport.images는 ElementCollection이므로 네이티브 쿼리로 변경
+        rows += em.createNativeQuery("UPDATE popup_report_images SET image_url = :newUrl WHERE image_url = :oldUrl")
+                .setParameter("newUrl", newUrl)
+                .setParameter("oldUrl", oldUrl)
+                .executeUpdate();
+        return rows;
+    }
+
+    private static String extensionOf(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(dot) : "";
+    }
+
+    @Getter
+    public static class MigrationResult {
+        private int files;
+        private int deduplicated;
+        private int rewrittenRows;
+        private int failed;
+    }
+}
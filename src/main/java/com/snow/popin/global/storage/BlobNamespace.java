@@ -0,0 +1,23 @@
+package com.snow.popin.global.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 블롭 저장 영역
+ * uploadPath 하위 디렉토리이자 /uploads/** 웹 경로의 첫 세그먼트
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BlobNamespace {
+
+    IMAGES("blobs"),
+    DOCUMENTS("documents"),
+    QR_CODES("QrCodes");
+
+    private final String directory;
+
+    public String urlPrefix() {
+        return "/uploads/" + directory + "/";
+    }
+}
@@ -0,0 +1,42 @@
+package com.snow.popin.global.storage;
+
+import com.snow.popin.global.common.BaseTimeEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * 블롭 참조 수
+ * 같은 내용을 여러 엔티티가 공유하므로 마지막 참조가 반납될 때만 파일을 삭제한다.
+ */
+@Entity
+@Table(name = "blob_refs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BlobRef extends BaseTimeEntity {
+
+    @Id
+    @Column(length = 255)
+    private String url;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "ref_count", nullable = false)
+    private Long refCount;
+
+    @Column(nullable = false)
+    private Long size;
+
+    public BlobRef(String url, String contentHash, long size, long refCount) {
+        this.url = url;
+        this.contentHash = contentHash;
+        this.size = size;
+        this.refCount = refCount;
+    }
+}
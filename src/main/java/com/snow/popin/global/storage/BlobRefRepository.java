@@ -0,0 +1,22 @@
+package com.snow.popin.global.storage;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BlobRefRepository extends JpaRepository<BlobRef, String> {
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE BlobRef b SET b.refCount = b.refCount + :delta WHERE b.url = :url")
+    int increment(@Param("url") String url, @Param("delta") long delta);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE BlobRef b SET b.refCount = b.refCount - 1 WHERE b.url = :url AND b.refCount > 0")
+    int decrement(@Param("url") String url);
+
+    // 참조 수가 여전히 0인 경우에만 삭제 (그 사이 재업로드되었으면 0건)
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM BlobRef b WHERE b.url = :url AND b.refCount = 0")
+    int deleteIfUnreferenced(@Param("url") String url);
+}
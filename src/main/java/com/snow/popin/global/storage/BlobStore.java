@@ -0,0 +1,51 @@
+package com.snow.popin.global.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 내용 주소 기반(SHA-256) 블롭 저장소
+ * - 동일한 내용은 한 번만 저장되고 참조 수로 관리된다.
+ * - store 호출마다 참조 수가 1 증가하며, 더 이상 쓰지 않는 URL은 release로 반납한다.
+ * - 업로드 URL이 엔티티에 저장될지 아직 모르면 storeUnreferenced로 파일만 저장하고,
+ *   실제로 저장하는 트랜잭션에서 acquire로 참조를 잡는다. (롤백되면 참조도 함께 취소)
+ */
+public interface BlobStore {
+
+    /**
+     * 스트림을 끝까지 읽으며 저장 (전체를 메모리에 올리지 않음)
+     *
+     * @param in        저장할 내용
+     * @param extension 확장자 (예: ".png"), 없으면 빈 문자열
+     * @param namespace 저장 영역
+     */
+    StoredBlob store(InputStream in, String extension, BlobNamespace namespace) throws IOException;
+
+    /**
+     * 참조 수를 늘리지 않고 저장 (같은 내용이 이미 있으면 기존 파일 재사용)
+     */
+    StoredBlob storeUnreferenced(InputStream in, String extension, BlobNamespace namespace) throws IOException;
+
+    /**
+     * 웹 경로를 실제 파일 경로로 변환
+     *
+     * @return 블롭 URL 형식이 아니거나 파일이 없으면 empty
+     */
+    Optional<Path> resolve(String url);
+
+    /**
+     * 현재 트랜잭션에서 참조 수 1 증가 (엔티티에 URL을 저장할 때)
+     *
+     * @return 블롭 URL 형식이 아니거나 등록되지 않은 블롭이면 false
+     */
+    boolean acquire(String url);
+
+    /**
+     * 참조 반납. 참조 수가 0이 되면 트랜잭션 커밋 후 파일을 삭제한다.
+     *
+     * @return 참조 수가 0이 되어 삭제 예약되었는지 여부
+     */
+    boolean release(String url);
+}
@@ -0,0 +1,236 @@
+package com.snow.popin.global.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 로컬 파일시스템 블롭 저장소
+ *
+ * 저장 경로: uploadPath/{namespace}/{hash[0:2]}/{hash[2:4]}/{hash}{ext}
+ * - 해시 앞 4자리로 2단계 샤딩하여 디렉토리당 파일 수를 제한
+ * - 임시 파일로 스트리밍하며 해시를 계산한 뒤 원자적으로 이동
+ * - 동일 내용이 이미 있으면 임시 파일을 버리고 참조 수만 증가
+ * - storeUnreferenced는 참조 수 0으로 등록만 하며, acquire가 호출한 쪽 트랜잭션에서 참조를 더한다.
+ *
+ * 같은 해시에 대한 저장/삭제 경합은 프로세스 내 스트라이프 락으로 직렬화한다.
+ */
+@Service
+@Slf4j
+public class FileSystemBlobStore implements BlobStore {
+
+    private static final Pattern BLOB_URL =
+            Pattern.compile("^/uploads/([A-Za-z]+)/([0-9a-f]{2})/([0-9a-f]{2})/([0-9a-f]{64})(\\.[A-Za-z0-9]{1,10})?$");
+    private static final int LOCK_STRIPES = 64;
+
+    private final BlobRefRepository blobRefRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate requiresNew;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    @Value("${uploadPath}")
+    private String uploadPath;
+
+    public FileSystemBlobStore(BlobRefRepository blobRefRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager) {
+        this.blobRefRepository = blobRefRepository;
+        this.eventPublisher = eventPublisher;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @Override
+    public StoredBlob store(InputStream in, String extension, BlobNamespace namespace) throws IOException {
+        return write(in, extension, namespace, 1);
+    }
+
+    @Override
+    public StoredBlob storeUnreferenced(InputStream in, String extension, BlobNamespace namespace) throws IOException {
+        return write(in, extension, namespace, 0);
+    }
+
+    private StoredBlob write(InputStream in, String extension, BlobNamespace namespace, int references) throws IOException {
+        String ext = normalizeExtension(extension);
+        Path staging = Paths.get(uploadPath, ".staging");
+        Files.createDirectories(staging);
+
+        Path tmp = Files.createTempFile(staging, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (DigestInputStream din = new DigestInputStream(in, digest);
+                 OutputStream out = Files.newOutputStream(tmp)) {
+                size = din.transferTo(out);
+            }
+
+            String hash = toHex(digest.digest());
+            String relative = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + ext;
+            Path target = Paths.get(uploadPath, namespace.getDirectory()).resolve(relative);
+            String url = namespace.urlPrefix() + relative;
+
+            boolean deduplicated;
+            synchronized (lockFor(hash)) {
+                deduplicated = Files.exists(target);
+                if (!deduplicated) {
+                    Files.createDirectories(target.getParent());
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+                }
+                // 업로드 요청 트랜잭션이 롤백되어도 참조 수는 남김 (조기 삭제보다 누수가 안전)
+                requiresNew.executeWithoutResult(status -> addReference(url, hash, size, references));
+            }
+
+            log.debug("Blob stored: url={}, size={}, deduplicated={}", url, size, deduplicated);
+            return new StoredBlob(hash, url, target, size, deduplicated);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Override
+    public Optional<Path> resolve(String url) {
+        return parse(url).filter(Files::exists);
+    }
+
+    @Override
+    public boolean acquire(String url) {
+        if (parse(url).isEmpty()) {
+            // 블롭 저장소 이전의 파일이나 외부 URL은 참조 관리 대상이 아님
+            return false;
+        }
+        if (blobRefRepository.increment(url, 1) == 0) {
+            log.warn("Blob acquire skipped, not registered: {}", url);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean release(String url) {
+        if (url == null || parse(url).isEmpty()) {
+            // 블롭 저장소 이전의 파일(평면 디렉토리)은 참조 관리 대상이 아님
+            return false;
+        }
+        if (blobRefRepository.decrement(url) == 0) {
+            return false;
+        }
+        boolean unreferenced = blobRefRepository.findById(url)
+                .map(ref -> ref.getRefCount() == 0)
+                .orElse(false);
+        if (!unreferenced) {
+            return false;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteIfUnreferenced(url);
+                }
+            });
+        } else {
+            deleteIfUnreferenced(url);
+        }
+        return true;
+    }
+
+    private void addReference(String url, String hash, long size, int references) {
+        if (blobRefRepository.increment(url, references) == 0) {
+            blobRefRepository.save(new BlobRef(url, hash, size, references));
+        }
+    }
+
+    private void deleteIfUnreferenced(String url) {
+        Matcher m = BLOB_URL.matcher(url);
+        if (!m.matches()) {
+            return;
+        }
+        synchronized (lockFor(m.group(4))) {
+            Integer deleted = requiresNew.execute(status -> blobRefRepository.deleteIfUnreferenced(url));
+            if (deleted == null || deleted == 0) {
+                return;
+            }
+            Optional<Path> path = parse(url);
+            try {
+                if (path.isPresent()) {
+                    Files.deleteIfExists(path.get());
+                }
+                log.info("Blob deleted: {}", url);
+            } catch (IOException e) {
+                log.warn("Blob file delete failed: url={}, error={}", url, e.getMessage());
+            }
+        }
+        eventPublisher.publishEvent(new BlobDeletedEvent(url));
+    }
+
+    private Optional<Path> parse(String url) {
+        if (url == null) {
+            return Optional.empty();
+        }
+        Matcher m = BLOB_URL.matcher(url);
+        if (!m.matches()) {
+            return Optional.empty();
+        }
+        for (BlobNamespace namespace : BlobNamespace.values()) {
+            if (namespace.getDirectory().equals(m.group(1))) {
+                return Optional.of(Paths.get(uploadPath, namespace.getDirectory())
+                        .resolve(m.group(2)).resolve(m.group(3))
+                        .resolve(m.group(4) + (m.group(5) != null ? m.group(5) : "")));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Object lockFor(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static String normalizeExtension(String extension) {
+        if (extension == null || extension.isBlank()) {
+            return "";
+        }
+        String ext = extension.toLowerCase(Locale.ROOT);
+        ext = ext.startsWith(".") ? ext : "." + ext;
+        return ext.matches("\\.[a-z0-9]{1,10}") ? ext : "";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,20 @@
+package com.snow.popin.global.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.file.Path;
+
+/**
+ * 블롭 저장 결과
+ */
+@Getter
+@RequiredArgsConstructor
+public class StoredBlob {
+
+    private final String hash;      // SHA-256 hex
+    private final String url;       // 웹 경로 (/uploads/blobs/ab/cd/<hash>.png)
+    private final Path path;        // 실제 파일 경로
+    private final long size;
+    private final boolean deduplicated; // 동일 내용이 이미 저장되어 있어 재사용한 경우
+}
@@ -0,0 +1,23 @@
+package com.snow.popin.global.storage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.nio.file.Path;
+
+/**
+ * /uploads/** 요청에 대해 해석된 파일 정보
+ */
+@Getter
+@RequiredArgsConstructor
+public class UploadFile {
+
+    private final Path path;
+    private final long length;
+    private final long lastModified;
+    private final String etag;          // 따옴표 포함 ("..." 또는 W/"...")
+    private final boolean immutable;    // 내용 해시 기반 이름이라 내용이 절대 바뀌지 않는 파일
+    private final boolean restricted;   // 인증된 소유자/관리자만 볼 수 있는 파일
+    private final MediaType mediaType;
+}
@@ -0,0 +1,89 @@
+package com.snow.popin.global.storage;
+
+import com.snow.popin.domain.roleupgrade.repository.RoleUpgradeRepository;
+import com.snow.popin.global.constant.ErrorCode;
+import com.snow.popin.global.exception.GeneralException;
+import com.snow.popin.global.util.UserUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 파일 조회
+ * - uploadPath 밖으로 벗어나는 경로 차단
+ * - 내용 해시가 파일명에 포함된 블롭/변형은 해시를 강한 ETag로 사용하고 불변으로 표시
+ * - 역할 승격 문서(/uploads/documents/**)는 관리자 또는 신청자 본인만 조회 가능
+ */
+@Service
+@RequiredArgsConstructor
+public class UploadFileService {
+
+    // 블롭(<hash>.ext)과 이미지 변형(<hash>_card.jpg) 파일명에서 해시 추출
+    private static final Pattern HASHED_NAME = Pattern.compile("^([0-9a-f]{64})(_[a-z]+)?(\\.[A-Za-z0-9]+)?$");
+
+    private final RoleUpgradeRepository roleUpgradeRepository;
+    private final UserUtil userUtil;
+
+    @Value("${uploadPath}")
+    private String uploadPath;
+
+    @Transactional(readOnly = true)
+    public UploadFile resolve(String relativePath) {
+        Path root = Paths.get(uploadPath).toAbsolutePath().normalize();
+        Path path = root.resolve(relativePath).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new GeneralException(ErrorCode.NOT_FOUND);
+        }
+
+        boolean restricted = path.startsWith(root.resolve(BlobNamespace.DOCUMENTS.getDirectory()));
+        if (restricted) {
+            checkDocumentAccess("/uploads/" + root.relativize(path).toString().replace('\\', '/'));
+        }
+
+        BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new GeneralException(ErrorCode.NOT_FOUND);
+        }
+        if (!attrs.isRegularFile()) {
+            throw new GeneralException(ErrorCode.NOT_FOUND);
+        }
+
+        String fileName = path.getFileName().toString();
+        long lastModified = attrs.lastModifiedTime().toMillis();
+        Matcher m = HASHED_NAME.matcher(fileName);
+        boolean immutable = m.matches();
+        // 해시 파일명은 내용 자체를 식별하므로 강한 ETag, 그 외(이전 UUID 파일)는 크기+수정시각 기반 약한 ETag
+        String etag = immutable
+                ? "\"" + m.group(1) + (m.group(2) != null ? m.group(2) : "") + "\""
+                : "W/\"" + Long.toHexString(attrs.size()) + "-" + Long.toHexString(lastModified) + "\"";
+
+        MediaType mediaType = MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        return new UploadFile(path, attrs.size(), lastModified, etag, immutable, restricted, mediaType);
+    }
+
+    private void checkDocumentAccess(String url) {
+        if (!userUtil.isAuthenticated()) {
+            throw new GeneralException(ErrorCode.UNAUTHORIZED);
+        }
+        if (userUtil.isAdmin()) {
+            return;
+        }
+        if (!roleUpgradeRepository.existsByEmailAndDocumentUrl(userUtil.getCurrentUserEmail(), url)) {
+            // 존재 여부를 노출하지 않도록 404로 응답
+            throw new GeneralException(ErrorCode.NOT_FOUND);
+        }
+    }
+}
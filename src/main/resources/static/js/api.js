@@ -66,6 +66,28 @@ class SimpleApiService {
         return headers;
     }
 
+    // ===== 멱등 키 (Idempotency-Key) =====
+    // 사용자 동작(action) 하나에 키 하나를 발급해 sessionStorage에 보관한다.
+    // 결과를 모르는 재시도(네트워크 오류, 5xx)에서는 같은 키를 다시 보내고, 서버 응답을 받으면 정리한다.
+    getIdempotencyKey(action) {
+        const storageKey = `idempotencyKey:${action}`;
+        let key = sessionStorage.getItem(storageKey);
+        if (!key) {
+            key = (window.crypto && typeof window.crypto.randomUUID === 'function')
+                ? window.crypto.randomUUID()
+                : `${Date.now().toString(36)}-${Math.random().toString(36).slice(2)}`;
+            sessionStorage.setItem(storageKey, key);
+        }
+        return key;
+    }
+
+    // 서버가 결과를 돌려준 동작(2xx/4xx)의 키 정리 - 다음 동작은 새 키를 쓴다
+    settleIdempotencyKey(action, status) {
+        if (status < 500) {
+            sessionStorage.removeItem(`idempotencyKey:${action}`);
+        }
+    }
+
     // GET 요청
     async get(endpoint) {
         try {
@@ -101,16 +123,25 @@ class SimpleApiService {
         }
     }
 
-    // POST 요청
-    async post(endpoint, data) {
+    // POST 요청 (options.idempotencyAction 이 있으면 Idempotency-Key 헤더를 보낸다)
+    async post(endpoint, data, options = {}) {
         try {
+            const headers = this.getHeaders();
+            if (options.idempotencyAction) {
+                headers['Idempotency-Key'] = this.getIdempotencyKey(options.idempotencyAction);
+            }
+
             const response = await fetch(`${this.baseURL}${endpoint}`, {
                 method: 'POST',
-                headers: this.getHeaders(),
+                headers,
                 body: JSON.stringify(data),
                 credentials: 'include'
             });
 
+            if (options.idempotencyAction) {
+                this.settleIdempotencyKey(options.idempotencyAction, response.status);
+            }
+
             if (response.status === 401) {
                 this.removeToken();
                 throw new Error('인증이 필요합니다.');
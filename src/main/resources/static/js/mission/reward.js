@@ -94,7 +94,7 @@
                         .post("/rewards/claim", {
                             missionSetId,
                             optionId: chosen.id,
-                        })
+                        }, { idempotencyAction: `reward-claim:${missionSetId}` })
                         .then(() => {
                             alert(`축하합니다! [${chosen.name}] 리워드 당첨 🎉`);
                             close();
@@ -19,12 +19,14 @@ class PaymentManager {
             this.disablePaymentButtons();
             this.paymentProcessed = false;
 
-            // 카카오페이 결제 준비 API 호출
+            // 카카오페이 결제 준비 API 호출 (재시도 시 같은 Idempotency-Key로 중복 결제 준비 방지)
+            const idempotencyAction = `payment-ready:${this.reservationId}`;
             const response = await fetch('/api/popup-reservations/payment/ready', {
                 method: 'POST',
                 headers: {
                     'Content-Type': 'application/json',
-                    'Authorization': `Bearer ${apiService.getStoredToken()}`
+                    'Authorization': `Bearer ${apiService.getStoredToken()}`,
+                    'Idempotency-Key': apiService.getIdempotencyKey(idempotencyAction)
                 },
                 body: JSON.stringify({
                     reservationId: this.reservationId,
@@ -32,6 +34,7 @@ class PaymentManager {
                 }),
                 credentials: 'include'
             });
+            apiService.settleIdempotencyKey(idempotencyAction, response.status);
 
             if (!response.ok) {
                 throw new Error('카카오페이 결제 준비 실패');
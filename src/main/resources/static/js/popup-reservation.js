@@ -280,16 +280,19 @@ class PopupReservationManager {
                 reservationDate: reservationDateTime
             };
 
-            // 예약 API 호출
+            // 예약 API 호출 (재시도 시 같은 Idempotency-Key로 중복 예약 방지)
+            const idempotencyAction = `reservation-create:${this.popupId}`;
             const response = await fetch(`/api/reservations/popups/${this.popupId}`, {
                 method: 'POST',
                 headers: {
                     'Content-Type': 'application/json',
-                    'Authorization': `Bearer ${apiService.getStoredToken()}`
+                    'Authorization': `Bearer ${apiService.getStoredToken()}`,
+                    'Idempotency-Key': apiService.getIdempotencyKey(idempotencyAction)
                 },
                 body: JSON.stringify(reservationData),
                 credentials: 'include'
             });
+            apiService.settleIdempotencyKey(idempotencyAction, response.status);
 
             if (!response.ok) {
                 const errorData = await response.json();
@@ -12,11 +12,16 @@ const IMG_PLACEHOLDER =
      </svg>`
     );
 
+const SEARCH_PAGE_SIZE = 20;
+
 class SpaceListManager {
     constructor() {
         this.allSpaces = [];
         this.currentSpaces = [];
         this.isSearchMode = false;
+        this.searchParams = null;
+        this.searchPage = 0;
+        this.isLoadingMore = false;
     }
 
     async initialize() {
@@ -50,6 +55,7 @@ class SpaceListManager {
         resetBtn?.addEventListener('click', () => this.resetFilters());
         clearSearchBtn?.addEventListener('click', () => this.clearSearch());
         resetSearchBtn?.addEventListener('click', () => this.clearSearch());
+        document.getElementById('searchMoreBtn')?.addEventListener('click', () => this.loadMoreSearch());
     }
 
     // 검색 실행
@@ -74,17 +80,56 @@ class SpaceListManager {
             if (minArea) searchParams.append('minArea', minArea);
             if (maxArea) searchParams.append('maxArea', maxArea);
 
-            const searchResults = await apiService.get(`/spaces/search?${searchParams.toString()}`);
-            this.currentSpaces = searchResults;
+            this.searchParams = searchParams;
+            this.searchPage = 0;
+            const page = await this.fetchSearchPage(0);
+            this.currentSpaces = page.content;
             this.isSearchMode = true;
-            this.renderSpaces(searchResults);
-            this.showSearchInfo(searchResults.length);
+            this.renderSpaces(page.content);
+            this.showSearchInfo(page.totalElements);
+            this.updateSearchMore(page);
         } catch (error) {
             console.error('검색 실패:', error);
             this.showError('검색 중 오류가 발생했습니다.');
         }
     }
 
+    // 검색 결과 다음 페이지 (서버는 페이지 단위로 응답하고 전체 건수는 totalElements로 제공)
+    async loadMoreSearch() {
+        if (!this.isSearchMode || this.isLoadingMore) return;
+        this.isLoadingMore = true;
+        try {
+            const page = await this.fetchSearchPage(this.searchPage + 1);
+            this.searchPage = page.number;
+            this.currentSpaces = this.currentSpaces.concat(page.content);
+            this.appendSpaces(page.content);
+            this.updateSearchMore(page);
+        } catch (error) {
+            console.error('검색 결과 더보기 실패:', error);
+            alert('검색 결과를 더 불러오지 못했습니다.');
+        } finally {
+            this.isLoadingMore = false;
+        }
+    }
+
+    async fetchSearchPage(page) {
+        const params = new URLSearchParams(this.searchParams);
+        params.set('page', page);
+        params.set('size', SEARCH_PAGE_SIZE);
+        const result = await apiService.get(`/spaces/search?${params.toString()}`);
+        return {
+            content: result?.content || [],
+            number: result?.number ?? page,
+            totalElements: result?.totalElements ?? 0,
+            last: result?.last ?? true
+        };
+    }
+
+    updateSearchMore(page) {
+        const moreBtn = document.getElementById('searchMoreBtn');
+        if (moreBtn) moreBtn.style.display = this.isSearchMode && !page.last ? 'block' : 'none';
+    }
+
     // 필터 초기화
     resetFilters() {
         document.getElementById('searchKeyword').value = '';
@@ -97,9 +142,11 @@ class SpaceListManager {
     clearSearch() {
         this.resetFilters();
         this.isSearchMode = false;
+        this.searchParams = null;
         this.currentSpaces = this.allSpaces;
         this.renderSpaces(this.allSpaces);
         this.hideSearchInfo();
+        this.updateSearchMore({ last: true });
     }
 
     // 검색 정보 표시
@@ -123,6 +170,7 @@ class SpaceListManager {
         document.getElementById('spaceList').style.display = 'none';
         document.getElementById('emptyState').style.display = 'none';
         document.getElementById('noSearchResult').style.display = 'none';
+        document.getElementById('searchMoreBtn')?.style.setProperty('display', 'none');
     }
 
     hideLoading() {
@@ -152,13 +200,18 @@ class SpaceListManager {
 
         spaceListEl.style.display = 'block';
         spaceListEl.innerHTML = '';
+        this.appendSpaces(spaces);
+
+        emptyStateEl.style.display = 'none';
+        noSearchResultEl.style.display = 'none';
+    }
+
+    appendSpaces(spaces) {
+        const spaceListEl = document.getElementById('spaceList');
         spaces.forEach(space => {
             const spaceCard = this.createSpaceCard(space);
             spaceListEl.appendChild(spaceCard);
         });
-
-        emptyStateEl.style.display = 'none';
-        noSearchResultEl.style.display = 'none';
     }
 
     createSpaceCard(space) {
@@ -0,0 +1,54 @@
+package com.snow.popin.domain.admin.controller;
+
+import com.snow.popin.domain.review.service.ReviewService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(
+        controllers = AdminReviewController.class,
+        excludeAutoConfiguration = SecurityAutoConfiguration.class
+)
+@DisplayName("관리자 리뷰 컨트롤러 테스트")
+class AdminReviewControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReviewService reviewService;
+
+    @MockBean(name = "jwtUtil")
+    private Object jwtUtil;
+
+    @MockBean(name = "jwtFilter")
+    private Object jwtFilter;
+
+    @Test
+    @DisplayName("리뷰 차단 요청은 리뷰 서비스의 차단(집계 갱신 포함)을 호출한다")
+    void blockReview() throws Exception {
+        // when & then
+        mockMvc.perform(put("/api/admin/reviews/{reviewId}/block", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+        then(reviewService).should().blockReview(1L);
+    }
+
+    @Test
+    @DisplayName("리뷰 차단 해제 요청은 리뷰 서비스의 차단 해제를 호출한다")
+    void unblockReview() throws Exception {
+        // when & then
+        mockMvc.perform(put("/api/admin/reviews/{reviewId}/unblock", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+        then(reviewService).should().unblockReview(1L);
+    }
+}
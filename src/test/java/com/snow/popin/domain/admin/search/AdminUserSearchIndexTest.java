@@ -0,0 +1,169 @@
+package com.snow.popin.domain.admin.search;
+
+import com.snow.popin.domain.admin.search.UserSearchDocument.SearchField;
+import com.snow.popin.domain.user.constant.Role;
+import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.domain.user.event.UserChangedEvent;
+import com.snow.popin.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("관리자 회원 검색 인덱스 테스트")
+class AdminUserSearchIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private AdminUserSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AdminUserSearchIndex(userRepository);
+        index.upsert(doc(1L, "김철수", "chulsoo@test.com", "철수", "010-1234-5678", Role.USER, 1));
+        index.upsert(doc(2L, "김영희", "younghee@test.com", "영희짱", "01098765432", Role.HOST, 2));
+        index.upsert(doc(3L, "박철민", "cm.park@example.com", "파크", "010 5555 1234", Role.USER, 3));
+    }
+
+    @Test
+    @DisplayName("한글 이름은 부분 일치로 찾고 분리된 자모 입력도 같은 이름으로 본다")
+    void search_koreanName() {
+        // given
+        String decomposed = Normalizer.normalize("철수", Normalizer.Form.NFD);
+
+        // when
+        AdminUserSearchIndex.Result kim = index.search(SearchField.NAME, "김", null, false, 0, 10);
+        AdminUserSearchIndex.Result chul = index.search(SearchField.NAME, "철", null, false, 0, 10);
+        AdminUserSearchIndex.Result nfd = index.search(SearchField.NAME, decomposed, null, false, 0, 10);
+
+        // then
+        assertThat(kim.getUserIds()).containsExactly(2L, 1L);
+        assertThat(chul.getUserIds()).containsExactly(3L, 1L);
+        assertThat(nfd.getUserIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("연락처는 숫자만 비교하고, 전체 번호는 정확히 일치하는 회원을 찾는다")
+    void search_phone() {
+        // when
+        AdminUserSearchIndex.Result partial = index.search(SearchField.PHONE, "1234", null, false, 0, 10);
+        AdminUserSearchIndex.Result full = index.search(SearchField.PHONE, "010-9876-5432", null, false, 0, 10);
+        AdminUserSearchIndex.Result noDigits = index.search(SearchField.PHONE, "abc", null, false, 0, 10);
+
+        // then
+        assertThat(partial.getUserIds()).containsExactly(3L, 1L);
+        assertThat(full.getUserIds()).containsExactly(2L);
+        assertThat(noDigits.getTotal()).isZero();
+    }
+
+    @Test
+    @DisplayName("이메일 전체는 정확히 일치, 일부는 부분 일치로 찾는다")
+    void search_email() {
+        // when
+        AdminUserSearchIndex.Result exact = index.search(SearchField.EMAIL, "ChulSoo@Test.com", null, false, 0, 10);
+        AdminUserSearchIndex.Result partial = index.search(SearchField.EMAIL, "test.com", null, false, 0, 10);
+
+        // then
+        assertThat(exact.getUserIds()).containsExactly(1L);
+        assertThat(partial.getUserIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("이메일 전체가 일치하면 해당 회원을 맨 앞에 두고 부분 일치 회원도 함께 돌려준다")
+    void search_emailExactFirstThenPartial() {
+        // given
+        index.upsert(doc(4L, "최철수", "xchulsoo@test.com", "최", "010-0000-0000", Role.USER, 4));
+
+        // when
+        AdminUserSearchIndex.Result result = index.search(SearchField.EMAIL, "chulsoo@test.com", null, false, 0, 10);
+
+        // then
+        assertThat(result.getTotal()).isEqualTo(2);
+        assertThat(result.getUserIds()).containsExactly(1L, 4L);
+    }
+
+    @Test
+    @DisplayName("역할 필터와 페이지를 적용하고 전체 건수를 함께 돌려준다")
+    void search_roleAndPaging() {
+        // when
+        AdminUserSearchIndex.Result users = index.search(SearchField.NAME, null, Role.USER, true, 1, 1);
+
+        // then
+        assertThat(users.getTotal()).isEqualTo(2);
+        assertThat(users.getUserIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("프로필 변경 이벤트로 이전 값의 색인이 교체된다")
+    void onUserChanged_reindexes() {
+        // given
+        User renamed = user(1L, "이철수", "chulsoo@test.com", "철수", "010-1234-5678", Role.USER, 1);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(renamed));
+
+        // when
+        index.onUserChanged(new UserChangedEvent(1L));
+
+        // then
+        assertThat(index.search(SearchField.NAME, "김철", null, false, 0, 10).getUserIds()).isEmpty();
+        assertThat(index.search(SearchField.NAME, "이철수", null, false, 0, 10).getUserIds()).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재구성은 DB 기준으로 다른 노드의 변경을 반영하고 삭제된 회원을 제거한다")
+    void rebuild_reconcilesWithDatabase() {
+        // given
+        User renamed = user(1L, "이철수", "chulsoo@test.com", "철수", "010-1234-5678", Role.USER, 1);
+        User joined = user(4L, "정민수", "minsoo@test.com", "민수", "010-4444-4444", Role.USER, 4);
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(renamed, joined));
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(eq(4L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // when
+        index.rebuild();
+
+        // then
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search(SearchField.NAME, "이철수", null, false, 0, 10).getUserIds()).containsExactly(1L);
+        assertThat(index.search(SearchField.NAME, "정민", null, false, 0, 10).getUserIds()).containsExactly(4L);
+        assertThat(index.search(SearchField.NAME, "김영희", null, false, 0, 10).getTotal()).isZero();
+    }
+
+    private static UserSearchDocument doc(Long id, String name, String email, String nickname, String phone,
+                                          Role role, int createdOrder) {
+        return UserSearchDocument.from(user(id, name, email, nickname, phone, role, createdOrder));
+    }
+
+    private static User user(Long id, String name, String email, String nickname, String phone,
+                             Role role, int createdOrder) {
+        User user = User.builder()
+                .email(email)
+                .password("password")
+                .name(name)
+                .nickname(nickname)
+                .phone(phone)
+                .role(role)
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        ReflectionTestUtils.setField(user, "createdAt", LocalDateTime.of(2025, 1, 1, 0, 0).plusDays(createdOrder));
+        return user;
+    }
+}
@@ -0,0 +1,55 @@
+package com.snow.popin.domain.admin.service;
+
+import com.snow.popin.global.exception.MissionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("QR 코드 서비스 테스트")
+class QrCodeServiceTest {
+
+    private QrCodeService qrCodeService;
+
+    @BeforeEach
+    void setUp() {
+        qrCodeService = new QrCodeService(16);
+        ReflectionTestUtils.setField(qrCodeService, "hostUrl", "http://localhost");
+    }
+
+    @Test
+    @DisplayName("시트 한 장 상한까지는 PNG로 렌더링한다")
+    void renderBatchSheet_withinLimit() {
+        // given
+        List<UUID> ids = ids(QrCodeService.MAX_SHEET_COUNT);
+
+        // when
+        byte[] png = qrCodeService.renderBatchSheet(ids, QrCodeService.MIN_SIZE);
+
+        // then
+        assertThat(png).startsWith(0x89, 'P', 'N', 'G');
+    }
+
+    @Test
+    @DisplayName("시트 한 장 상한을 넘으면 렌더링하지 않고 예외를 던진다")
+    void renderBatchSheet_overLimit() {
+        // given
+        List<UUID> ids = ids(QrCodeService.MAX_SHEET_COUNT + 1);
+
+        // when & then
+        assertThatThrownBy(() -> qrCodeService.renderBatchSheet(ids, QrCodeService.MIN_SIZE))
+                .isInstanceOf(MissionException.QrSheetTooLarge.class);
+    }
+
+    private static List<UUID> ids(int count) {
+        return Stream.generate(UUID::randomUUID).limit(count).collect(Collectors.toList());
+    }
+}
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Arrays;
@@ -54,6 +55,9 @@ class AuthServiceTest {
     @Mock
     private JwtTokenResolver jwtTokenResolver;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private User mockUser;
     private Category mockCategory1;
     private Category mockCategory2;
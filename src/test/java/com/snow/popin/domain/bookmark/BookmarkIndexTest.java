@@ -0,0 +1,132 @@
+package com.snow.popin.domain.bookmark;
+
+import com.snow.popin.domain.bookmark.event.BookmarkChangedEvent;
+import com.snow.popin.domain.bookmark.repository.BookMarkQueryDslRepository;
+import com.snow.popin.domain.bookmark.service.BookmarkIndex;
+import com.snow.popin.domain.bookmark.service.PopupIdBitSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("북마크 인덱스 테스트")
+class BookmarkIndexTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private BookMarkQueryDslRepository bookMarkQueryDslRepository;
+
+    private BookmarkIndex bookmarkIndex;
+
+    @BeforeEach
+    void setUp() {
+        bookmarkIndex = new BookmarkIndex(bookMarkQueryDslRepository, 2, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("비트셋은 블록 경계를 넘는 ID를 추가/삭제해도 정렬된 집합을 유지한다")
+    void bitSet_addAndRemove() {
+        // given
+        PopupIdBitSet set = PopupIdBitSet.of(List.of(3L, 64L, 1_000_000L));
+
+        // when
+        PopupIdBitSet added = set.with(65L).with(2L);
+        PopupIdBitSet removed = added.without(1_000_000L).without(3L);
+
+        // then
+        assertThat(added.toList()).containsExactly(2L, 3L, 64L, 65L, 1_000_000L);
+        assertThat(removed.toList()).containsExactly(2L, 64L, 65L);
+        assertThat(removed.contains(1_000_000L)).isFalse();
+        assertThat(set.size()).isEqualTo(3); // 원본은 변경되지 않음
+        assertThat(PopupIdBitSet.of(List.of(7L)).without(7L)).isSameAs(PopupIdBitSet.EMPTY);
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 사용자 북마크는 캐시에서 판별하고 변경 이벤트를 반영한다")
+    void index_loadsOnceAndAppliesChanges() {
+        // given
+        when(bookMarkQueryDslRepository.findPopupIdsByUserId(USER_ID)).thenReturn(List.of(10L, 20L));
+
+        // when
+        boolean before = bookmarkIndex.isBookmarked(USER_ID, 30L);
+        bookmarkIndex.onChanged(new BookmarkChangedEvent(USER_ID, 30L, true));
+        bookmarkIndex.onChanged(new BookmarkChangedEvent(USER_ID, 10L, false));
+
+        // then
+        assertThat(before).isFalse();
+        assertThat(bookmarkIndex.bookmarkedAmong(USER_ID, List.of(10L, 20L, 30L, 40L))).containsExactly(20L, 30L);
+        verify(bookMarkQueryDslRepository, times(1)).findPopupIdsByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("읽는 도중 같은 사용자 구간에 변경이 있으면 읽은 값을 캐시하지 않는다")
+    void index_skipsCachingWhenChangedDuringLoad() {
+        // given
+        when(bookMarkQueryDslRepository.findPopupIdsByUserId(USER_ID))
+                .thenAnswer(invocation -> {
+                    bookmarkIndex.onChanged(new BookmarkChangedEvent(USER_ID, 10L, true));
+                    return List.of();
+                })
+                .thenReturn(List.of(10L));
+
+        // when
+        boolean first = bookmarkIndex.isBookmarked(USER_ID, 10L);
+        boolean second = bookmarkIndex.isBookmarked(USER_ID, 10L);
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isTrue();
+        verify(bookMarkQueryDslRepository, times(2)).findPopupIdsByUserId(USER_ID);
+    }
+
+    @Test
+    @DisplayName("최대 사용자 수를 넘으면 가장 오래 사용하지 않은 사용자를 내보낸다")
+    void index_evictsLeastRecentlyUsed() {
+        // given
+        when(bookMarkQueryDslRepository.findPopupIdsByUserId(anyLong())).thenReturn(List.of(1L));
+
+        // when
+        bookmarkIndex.get(1L);
+        bookmarkIndex.get(2L);
+        bookmarkIndex.get(1L);
+        bookmarkIndex.get(3L); // 2번 사용자 제거
+        bookmarkIndex.get(1L);
+        bookmarkIndex.get(2L);
+
+        // then
+        verify(bookMarkQueryDslRepository, times(1)).findPopupIdsByUserId(1L);
+        verify(bookMarkQueryDslRepository, times(2)).findPopupIdsByUserId(2L);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 다시 읽어 다른 노드에서 바뀐 북마크를 반영한다")
+    void index_reloadsAfterTtl() throws Exception {
+        // given
+        bookmarkIndex = new BookmarkIndex(bookMarkQueryDslRepository, 2, Duration.ofMillis(20));
+        when(bookMarkQueryDslRepository.findPopupIdsByUserId(USER_ID))
+                .thenReturn(List.of(10L))
+                .thenReturn(List.of(10L, 20L)); // 다른 노드에서 20번 북마크 추가
+
+        // when
+        boolean beforeTtl = bookmarkIndex.isBookmarked(USER_ID, 20L);
+        boolean cached = bookmarkIndex.isBookmarked(USER_ID, 20L);
+        Thread.sleep(40);
+        boolean afterTtl = bookmarkIndex.isBookmarked(USER_ID, 20L);
+
+        // then
+        assertThat(beforeTtl).isFalse();
+        assertThat(cached).isFalse();
+        assertThat(afterTtl).isTrue();
+        verify(bookMarkQueryDslRepository, times(2)).findPopupIdsByUserId(USER_ID);
+    }
+}
@@ -0,0 +1,174 @@
+package com.snow.popin.domain.mission.service;
+
+import com.snow.popin.domain.mission.constant.LeaderboardType;
+import com.snow.popin.domain.mission.dto.response.LeaderboardPageDto;
+import com.snow.popin.domain.mission.dto.response.LeaderboardUpdateDto;
+import com.snow.popin.domain.mission.event.MissionSetClearedEvent;
+import com.snow.popin.domain.mission.event.MissionSetRequirementChangedEvent;
+import com.snow.popin.domain.mission.repository.UserMissionSetProgressRepository;
+import com.snow.popin.domain.mission.repository.UserMissionSetProgressRepository.ClearedRow;
+import com.snow.popin.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("미션셋 리더보드 테스트")
+class MissionLeaderboardServiceTest {
+
+    private static final UUID SET_ID = UUID.randomUUID();
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 5, 1, 10, 0);
+
+    @Mock
+    private UserMissionSetProgressRepository progressRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private MissionLeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardService = new MissionLeaderboardService(progressRepository, userRepository, messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("기동 시 달성 기록을 키셋 페이지로 읽어 달성 순/속도 순으로 정렬한다")
+    void rebuildAll_ordersByClearedAtAndDuration() {
+        // given
+        // 1번: 늦게 달성했지만 가장 빠름, 2번: 가장 먼저 달성, 3번: 첫 참여 시각 없음(속도 순위 제외)
+        when(progressRepository.findClearedAfter(eq(0L), any())).thenReturn(List.of(
+                row(1L, 1L, BASE.plusMinutes(30), BASE.plusMinutes(25)),
+                row(2L, 2L, BASE.plusMinutes(10), BASE),
+                row(3L, 3L, BASE.plusMinutes(20), null)));
+        when(progressRepository.findClearedAfter(eq(3L), any())).thenReturn(List.of());
+
+        // when
+        leaderboardService.rebuildAll();
+        LeaderboardPageDto firstClear = leaderboardService.getPage(SET_ID, LeaderboardType.FIRST_CLEAR, 0, 10);
+        LeaderboardPageDto speed = leaderboardService.getPage(SET_ID, LeaderboardType.SPEED, 0, 10);
+
+        // then
+        assertThat(userIds(firstClear)).containsExactly(2L, 3L, 1L);
+        assertThat(firstClear.getTotal()).isEqualTo(3);
+        assertThat(userIds(speed)).containsExactly(1L, 2L);
+        assertThat(speed.getEntries().get(0).getDurationSeconds()).isEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("순위 페이지는 오프셋 기준으로 잘라 전체 순위를 붙인다")
+    void getPage_slicesByRank() {
+        // given
+        List<ClearedRow> rows = List.of(
+                row(1L, 1L, BASE.plusMinutes(1), BASE),
+                row(2L, 2L, BASE.plusMinutes(2), BASE),
+                row(3L, 3L, BASE.plusMinutes(3), BASE),
+                row(4L, 4L, BASE.plusMinutes(4), BASE),
+                row(5L, 5L, BASE.plusMinutes(5), BASE));
+        when(progressRepository.findClearedByMissionSetId(SET_ID)).thenReturn(rows);
+        leaderboardService.rebuild(SET_ID);
+
+        // when
+        LeaderboardPageDto page = leaderboardService.getPage(SET_ID, LeaderboardType.FIRST_CLEAR, 1, 2);
+
+        // then
+        assertThat(userIds(page)).containsExactly(3L, 4L);
+        assertThat(page.getEntries().get(0).getRank()).isEqualTo(3);
+        assertThat(page.getTotal()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("달성 이벤트를 반영하고 순위를 구독자에게 전송한다")
+    void onCleared_addsEntryAndPublishes() {
+        // given
+        when(progressRepository.findClearedByMissionSetId(SET_ID))
+                .thenReturn(List.of(row(1L, 1L, BASE.plusMinutes(1), BASE)));
+        leaderboardService.rebuild(SET_ID);
+        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+
+        // when
+        leaderboardService.onCleared(new MissionSetClearedEvent(SET_ID, 9L, BASE.plusMinutes(2), BASE.plusMinutes(1)));
+
+        // then
+        ArgumentCaptor<LeaderboardUpdateDto> captor = ArgumentCaptor.forClass(LeaderboardUpdateDto.class);
+        verify(messagingTemplate).convertAndSend(eq(MissionLeaderboardService.topicOf(SET_ID)), captor.capture());
+        assertThat(captor.getValue().getFirstClearRank()).isEqualTo(2);
+        assertThat(captor.getValue().getSpeedRank()).isEqualTo(2);
+        assertThat(captor.getValue().getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("필요 완료 수가 바뀌면 DB 기준으로 다시 구성해 달성이 해제된 유저를 제외한다")
+    void onRequirementChanged_rebuildsFromDb() {
+        // given
+        when(progressRepository.findClearedByMissionSetId(SET_ID))
+                .thenReturn(List.of(row(1L, 1L, BASE.plusMinutes(1), BASE), row(2L, 2L, BASE.plusMinutes(2), BASE)))
+                .thenReturn(List.of(row(2L, 2L, BASE.plusMinutes(2), BASE)));
+        leaderboardService.rebuild(SET_ID);
+
+        // when
+        leaderboardService.onRequirementChanged(new MissionSetRequirementChangedEvent(SET_ID));
+
+        // then
+        assertThat(userIds(leaderboardService.getPage(SET_ID, LeaderboardType.FIRST_CLEAR, 0, 10)))
+                .containsExactly(2L);
+    }
+
+    private static List<Long> userIds(LeaderboardPageDto page) {
+        return page.getEntries().stream().map(e -> e.getUserId()).collect(Collectors.toList());
+    }
+
+    private static ClearedRow row(Long id, Long userId, LocalDateTime clearedAt, LocalDateTime startedAt) {
+        return new ClearedRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public UUID getMissionSetId() {
+                return SET_ID;
+            }
+
+            @Override
+            public String getNickname() {
+                return "user" + userId;
+            }
+
+            @Override
+            public LocalDateTime getClearedAt() {
+                return clearedAt;
+            }
+
+            @Override
+            public LocalDateTime getStartedAt() {
+                return startedAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,197 @@
+package com.snow.popin.domain.mission.service;
+
+import com.snow.popin.domain.mission.constant.UserMissionStatus;
+import com.snow.popin.domain.mission.entity.MissionSet;
+import com.snow.popin.domain.mission.entity.UserMissionSetProgress;
+import com.snow.popin.domain.mission.event.MissionSetClearedEvent;
+import com.snow.popin.domain.mission.repository.MissionSetRepository;
+import com.snow.popin.domain.mission.repository.UserMissionRepository;
+import com.snow.popin.domain.mission.repository.UserMissionRepository.CompletedCount;
+import com.snow.popin.domain.mission.repository.UserMissionSetProgressRepository;
+import com.snow.popin.global.scheduler.job.JobLeaseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("미션 진행 집계 테스트")
+class UserMissionProgressServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final UUID SET_ID = UUID.randomUUID();
+
+    @Mock
+    private UserMissionSetProgressRepository progressRepository;
+
+    @Mock
+    private UserMissionRepository userMissionRepository;
+
+    @Mock
+    private MissionSetRepository missionSetRepository;
+
+    @Mock
+    private JobLeaseService jobLeaseService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserMissionProgressService progressService;
+    private MissionSet missionSet;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        progressService = new UserMissionProgressService(progressRepository, userMissionRepository,
+                missionSetRepository, jobLeaseService, eventPublisher, transactionManager);
+
+        missionSet = MissionSet.builder().popupId(10L).requiredCount(2).build();
+        ReflectionTestUtils.setField(missionSet, "id", SET_ID);
+    }
+
+    @Test
+    @DisplayName("완료 시 진행 행을 잠그고 완료 수를 올리며 필요 수에 도달하면 달성 처리한다")
+    void recordCompletion_existingRow() {
+        // given
+        LocalDateTime startedAt = LocalDateTime.now().minusMinutes(5);
+        UserMissionSetProgress progress = UserMissionSetProgress.start(USER_ID, missionSet, 1, null, startedAt);
+        when(progressRepository.existsByUserIdAndMissionSet_Id(USER_ID, SET_ID)).thenReturn(true);
+        when(progressRepository.lockByUserIdAndMissionSetId(USER_ID, SET_ID)).thenReturn(Optional.of(progress));
+
+        // when
+        UserMissionSetProgress result = progressService.recordCompletion(USER_ID, missionSet);
+
+        // then
+        assertThat(result.getSuccessCount()).isEqualTo(2);
+        assertThat(result.isCleared()).isTrue();
+        assertThat(result.getClearedAt()).isNotNull();
+        verify(userMissionRepository, never()).countByUser_IdAndMission_MissionSet_IdAndStatus(any(), any(), any());
+        ArgumentCaptor<MissionSetClearedEvent> event = ArgumentCaptor.forClass(MissionSetClearedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getMissionSetId()).isEqualTo(SET_ID);
+        assertThat(event.getValue().getStartedAt()).isEqualTo(startedAt);
+    }
+
+    @Test
+    @DisplayName("진행 행이 없으면 기존 완료 기록 수로 만든 뒤 반영한다")
+    void recordCompletion_createsRowFromLegacyCount() {
+        // given
+        when(progressRepository.lockByUserIdAndMissionSetId(USER_ID, SET_ID))
+                .thenAnswer(invocation -> {
+                    ArgumentCaptor<UserMissionSetProgress> captor = ArgumentCaptor.forClass(UserMissionSetProgress.class);
+                    verify(progressRepository).saveAndFlush(captor.capture());
+                    return Optional.of(captor.getValue());
+                });
+        when(progressRepository.existsByUserIdAndMissionSet_Id(USER_ID, SET_ID)).thenReturn(false);
+        when(userMissionRepository.countByUser_IdAndMission_MissionSet_IdAndStatus(
+                USER_ID, SET_ID, UserMissionStatus.COMPLETED)).thenReturn(0L);
+        when(missionSetRepository.getReferenceById(SET_ID)).thenReturn(missionSet);
+
+        // when
+        UserMissionSetProgress result = progressService.recordCompletion(USER_ID, missionSet);
+
+        // then
+        assertThat(result.getSuccessCount()).isEqualTo(1);
+        assertThat(result.isCleared()).isFalse();
+        assertThat(result.getStartedAt()).isNotNull();
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("필요 완료 수가 낮아지면 달성 시각을 새로 기록하고, 다시 높아지면 달성을 해제한다")
+    void refreshCleared_followsRequiredCount() {
+        // given
+        UserMissionSetProgress progress = UserMissionSetProgress.start(USER_ID, missionSet, 1, null, null);
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        progress.refreshCleared(1, now);
+        boolean clearedAfterLower = progress.isCleared();
+        progress.refreshCleared(3, now);
+
+        // then
+        assertThat(clearedAfterLower).isTrue();
+        assertThat(progress.isCleared()).isFalse();
+        assertThat(progress.getClearedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("기존 미션 기록을 유저×미션셋 단위로 이관하고(완료 없는 참여 포함) 이미 있는 행은 건너뛴다")
+    void backfill_createsMissingRows() {
+        // given
+        UUID otherSetId = UUID.randomUUID();
+        LocalDateTime completedAt = LocalDateTime.of(2025, 3, 1, 12, 0);
+        when(userMissionRepository.findProgressCounts(any()))
+                .thenReturn(List.of(count(USER_ID, SET_ID, 2L, completedAt), count(2L, otherSetId, 1L, completedAt),
+                                count(3L, SET_ID, 0L, null)),
+                        List.of());
+        when(progressRepository.existsByUserIdAndMissionSet_Id(USER_ID, SET_ID)).thenReturn(false);
+        when(progressRepository.existsByUserIdAndMissionSet_Id(2L, otherSetId)).thenReturn(true);
+        when(progressRepository.existsByUserIdAndMissionSet_Id(3L, SET_ID)).thenReturn(false);
+        when(missionSetRepository.getReferenceById(SET_ID)).thenReturn(missionSet);
+
+        // when
+        int created = progressService.backfill();
+
+        // then
+        assertThat(created).isEqualTo(2);
+        ArgumentCaptor<UserMissionSetProgress> captor = ArgumentCaptor.forClass(UserMissionSetProgress.class);
+        verify(progressRepository, times(2)).save(captor.capture());
+        UserMissionSetProgress completed = captor.getAllValues().get(0);
+        assertThat(completed.getSuccessCount()).isEqualTo(2);
+        assertThat(completed.isCleared()).isTrue();
+        assertThat(completed.getClearedAt()).isEqualTo(completedAt);
+        UserMissionSetProgress started = captor.getAllValues().get(1);
+        assertThat(started.getUserId()).isEqualTo(3L);
+        assertThat(started.getSuccessCount()).isZero();
+        assertThat(started.isCleared()).isFalse();
+    }
+
+    private static CompletedCount count(Long userId, UUID missionSetId, Long successCount, LocalDateTime lastCompletedAt) {
+        return new CompletedCount() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public UUID getMissionSetId() {
+                return missionSetId;
+            }
+
+            @Override
+            public Long getSuccessCount() {
+                return successCount;
+            }
+
+            @Override
+            public LocalDateTime getLastCompletedAt() {
+                return lastCompletedAt;
+            }
+
+            @Override
+            public LocalDateTime getFirstStartedAt() {
+                return lastCompletedAt != null ? lastCompletedAt.minusHours(1) : LocalDateTime.of(2025, 3, 1, 9, 0);
+            }
+        };
+    }
+}
@@ -0,0 +1,149 @@
+package com.snow.popin.domain.mission.service;
+
+import com.snow.popin.domain.mission.constant.UserMissionStatus;
+import com.snow.popin.domain.mission.dto.response.SubmitAnswerResponseDto;
+import com.snow.popin.domain.mission.entity.Mission;
+import com.snow.popin.domain.mission.entity.MissionSet;
+import com.snow.popin.domain.mission.entity.UserMission;
+import com.snow.popin.domain.mission.entity.UserMissionSetProgress;
+import com.snow.popin.domain.mission.repository.MissionRepository;
+import com.snow.popin.domain.mission.repository.UserMissionRepository;
+import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.domain.user.repository.UserRepository;
+import com.snow.popin.global.exception.MissionException;
+import com.snow.popin.global.exception.UserException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("유저 미션 서비스 테스트")
+class UserMissionServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long USER_MISSION_ID = 100L;
+    private static final UUID MISSION_ID = UUID.randomUUID();
+    private static final UUID SET_ID = UUID.randomUUID();
+
+    @Mock
+    private UserMissionRepository userMissionRepository;
+
+    @Mock
+    private MissionRepository missionRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserMissionProgressService userMissionProgressService;
+
+    private UserMissionService userMissionService;
+    private MissionSet missionSet;
+    private Mission mission;
+
+    @BeforeEach
+    void setUp() {
+        userMissionService = new UserMissionService(userMissionRepository, missionRepository, userRepository,
+                userMissionProgressService);
+
+        missionSet = MissionSet.builder().popupId(10L).requiredCount(2).build();
+        ReflectionTestUtils.setField(missionSet, "id", SET_ID);
+        mission = Mission.builder().title("퀴즈").answer("정답").missionSet(missionSet).build();
+        ReflectionTestUtils.setField(mission, "id", MISSION_ID);
+    }
+
+    @Test
+    @DisplayName("같은 미션에 정답을 동시에 두 번 제출해도 완료 수는 한 번만 올린다")
+    void submitAnswer_doubleSubmit_recordsOnce() {
+        // given
+        UserMission pending = userMission();
+        UserMissionSetProgress progress = progress(1);
+        when(missionRepository.findWithMissionSetById(MISSION_ID)).thenReturn(Optional.of(mission));
+        // 두 요청 모두 완료 전 상태를 읽었고, 먼저 도착한 요청만 완료 전이에 성공
+        when(userMissionRepository.findByUser_IdAndMission_Id(USER_ID, MISSION_ID)).thenReturn(Optional.of(pending));
+        when(userMissionRepository.markCompletedIfNot(eq(USER_MISSION_ID), any(LocalDateTime.class))).thenReturn(1, 0);
+        when(userMissionProgressService.recordCompletion(USER_ID, missionSet)).thenReturn(progress);
+        when(userMissionProgressService.find(USER_ID, SET_ID)).thenReturn(Optional.of(progress));
+
+        // when
+        SubmitAnswerResponseDto first = userMissionService.submitAnswer(MISSION_ID, USER_ID, "정답");
+        SubmitAnswerResponseDto second = userMissionService.submitAnswer(MISSION_ID, USER_ID, " 정답 ");
+
+        // then
+        verify(userMissionProgressService, times(1)).recordCompletion(USER_ID, missionSet);
+        assertThat(first.getSuccessCount()).isEqualTo(1);
+        assertThat(second.getSuccessCount()).isEqualTo(1);
+        assertThat(second.isPass()).isTrue();
+        assertThat(second.getStatus()).isEqualTo(UserMissionStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("미션셋 첫 참여에서 정답이면 완료 반영과 함께 진행 행을 만든다")
+    void submitAnswer_firstAttempt_recordsProgress() {
+        // given
+        User user = mock(User.class);
+        when(missionRepository.findWithMissionSetById(MISSION_ID)).thenReturn(Optional.of(mission));
+        when(userMissionRepository.findByUser_IdAndMission_Id(USER_ID, MISSION_ID)).thenReturn(Optional.empty());
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(userMissionRepository.save(any(UserMission.class))).thenReturn(userMission());
+        when(userMissionRepository.markCompletedIfNot(eq(USER_MISSION_ID), any(LocalDateTime.class))).thenReturn(1);
+        when(userMissionProgressService.recordCompletion(USER_ID, missionSet)).thenReturn(progress(1));
+
+        // when
+        userMissionService.submitAnswer(MISSION_ID, USER_ID, "정답");
+
+        // then
+        verify(userMissionProgressService).recordCompletion(USER_ID, missionSet);
+    }
+
+    @Test
+    @DisplayName("미션셋 첫 참여에서 오답이면 진행 행을 만들지 않는다")
+    void submitAnswer_firstAttemptWrong_doesNotStartProgress() {
+        // given
+        User user = mock(User.class);
+        when(missionRepository.findWithMissionSetById(MISSION_ID)).thenReturn(Optional.of(mission));
+        when(userMissionRepository.findByUser_IdAndMission_Id(USER_ID, MISSION_ID)).thenReturn(Optional.empty());
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(userMissionRepository.save(any(UserMission.class))).thenReturn(userMission());
+
+        // when & then
+        assertThatThrownBy(() -> userMissionService.submitAnswer(MISSION_ID, USER_ID, "오답"))
+                .isInstanceOf(MissionException.InvalidAnswer.class);
+        verifyNoInteractions(userMissionProgressService);
+    }
+
+    @Test
+    @DisplayName("없는 유저의 미션 목록 조회는 UserNotFound 예외를 던진다")
+    void getMyMissionPopups_userNotFound() {
+        // given
+        when(userRepository.existsById(USER_ID)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> userMissionService.getMyMissionPopups(USER_ID))
+                .isInstanceOf(UserException.UserNotFound.class);
+        verify(userMissionProgressService, never()).findAllByUser(any());
+    }
+
+    private UserMission userMission() {
+        UserMission userMission = new UserMission(mock(User.class), mission);
+        ReflectionTestUtils.setField(userMission, "id", USER_MISSION_ID);
+        return userMission;
+    }
+
+    private UserMissionSetProgress progress(int successCount) {
+        return UserMissionSetProgress.start(USER_ID, missionSet, successCount, null, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,77 @@
+package com.snow.popin.domain.payment.controller;
+
+import com.snow.popin.domain.payment.dto.PaymentRequestDto;
+import com.snow.popin.domain.payment.dto.PaymentResponseDto;
+import com.snow.popin.domain.payment.service.PaymentService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("결제 준비 응답 상태 테스트")
+class PaymentControllerTest {
+
+    @Mock
+    private PaymentService paymentService;
+
+    @InjectMocks
+    private PaymentController paymentController;
+
+    @Test
+    @DisplayName("결제사 호출 실패는 502 로 응답해 멱등 키 결과로 저장되지 않는다")
+    void preparePayment_providerFailure_badGateway() {
+        // given
+        given(paymentService.prepareKakaoPayment(1L))
+                .willReturn(PaymentResponseDto.providerFailure("카카오페이 결제 준비 실패: Read timed out"));
+
+        // when
+        ResponseEntity<PaymentResponseDto> response = paymentController.preparePayment(request("kakao"), new MockHttpSession());
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_GATEWAY);
+        assertThat(response.getBody().getSuccess()).isFalse();
+    }
+
+    @Test
+    @DisplayName("요청 값 오류만 400 으로 응답한다")
+    void preparePayment_validationError_badRequest() {
+        // given
+        given(paymentService.prepareKakaoPayment(1L))
+                .willThrow(new IllegalArgumentException("무료 팝업은 결제가 필요하지 않습니다."));
+
+        // when
+        ResponseEntity<PaymentResponseDto> response = paymentController.preparePayment(request("kakao"), new MockHttpSession());
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getMessage()).isEqualTo("무료 팝업은 결제가 필요하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("내부 오류(DB 등)는 500 으로 응답한다")
+    void preparePayment_internalError_serverError() {
+        // given
+        given(paymentService.prepareNaverPayment(1L))
+                .willThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when
+        ResponseEntity<PaymentResponseDto> response = paymentController.preparePayment(request("naver"), new MockHttpSession());
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    private PaymentRequestDto request(String paymentMethod) {
+        return new PaymentRequestDto(1L, paymentMethod);
+    }
+}
@@ -0,0 +1,122 @@
+package com.snow.popin.domain.payment.service;
+
+import com.snow.popin.domain.payment.constant.ProviderPaymentStatus;
+import com.snow.popin.domain.popupReservation.entity.Reservation;
+import com.snow.popin.domain.popupReservation.entity.ReservationStatus;
+import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
+import com.snow.popin.global.outbox.OutboxEventRepository;
+import com.snow.popin.global.outbox.OutboxEventType;
+import com.snow.popin.global.outbox.OutboxService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("결제 대사 서비스 테스트")
+class PaymentReconciliationServiceTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PaymentReconciliationService reconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        reconciliationService = new PaymentReconciliationService(
+                reservationRepository, paymentService, outboxService, outboxEventRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("결제사가 환불 완료면 로컬 결제 상태를 REFUNDED로 보정한다")
+    void reconcile_providerRefunded_repairsLocalStatus() {
+        // given
+        Reservation reservation = cancelledReservation(1L, Reservation.PaymentStatus.REFUND_PENDING);
+        givenCandidates(reservation);
+        when(paymentService.inquireProviderStatus(reservation)).thenReturn(ProviderPaymentStatus.REFUNDED);
+        when(reservationRepository.findById(1L)).thenReturn(Optional.of(reservation));
+
+        // when
+        PaymentReconciliationService.ReconciliationResult result = reconciliationService.reconcile();
+
+        // then
+        assertThat(result.getRepaired()).isEqualTo(1);
+        assertThat(reservation.getPaymentStatus()).isEqualTo(Reservation.PaymentStatus.REFUNDED);
+    }
+
+    @Test
+    @DisplayName("결제사는 결제 상태인데 환불 요청이 없으면 아웃박스에 등록한다")
+    void reconcile_missingRefund_enqueuesOutbox() {
+        // given
+        Reservation reservation = cancelledReservation(2L, Reservation.PaymentStatus.COMPLETED);
+        givenCandidates(reservation);
+        when(paymentService.inquireProviderStatus(reservation)).thenReturn(ProviderPaymentStatus.PAID);
+        when(outboxEventRepository.findByIdempotencyKey("refund:reservation:2")).thenReturn(Optional.empty());
+        when(reservationRepository.findById(2L)).thenReturn(Optional.of(reservation));
+
+        // when
+        PaymentReconciliationService.ReconciliationResult result = reconciliationService.reconcile();
+
+        // then
+        assertThat(result.getRequeued()).isEqualTo(1);
+        assertThat(reservation.getPaymentStatus()).isEqualTo(Reservation.PaymentStatus.REFUND_PENDING);
+        verify(outboxService).enqueue(eq(OutboxEventType.PAYMENT_REFUND), eq("2"), eq("refund:reservation:2"), anyMap());
+    }
+
+    @Test
+    @DisplayName("로컬은 환불 완료인데 결제사는 결제 상태면 불일치로 집계한다")
+    void reconcile_localRefundedProviderPaid_countsMismatch() {
+        // given
+        Reservation reservation = cancelledReservation(3L, Reservation.PaymentStatus.REFUNDED);
+        givenCandidates(reservation);
+        when(paymentService.inquireProviderStatus(reservation)).thenReturn(ProviderPaymentStatus.PAID);
+
+        // when
+        PaymentReconciliationService.ReconciliationResult result = reconciliationService.reconcile();
+
+        // then
+        assertThat(result.getMismatched()).isEqualTo(1);
+        verify(outboxService, never()).enqueue(any(), any(), any(), anyMap());
+    }
+
+    private void givenCandidates(Reservation reservation) {
+        when(reservationRepository.findReconciliationCandidates(eq(ReservationStatus.CANCELLED), anyList(), any(), anyLong(), any()))
+                .thenReturn(List.of(reservation))
+                .thenReturn(List.of());
+    }
+
+    private Reservation cancelledReservation(Long id, Reservation.PaymentStatus paymentStatus) {
+        return Reservation.builder()
+                .id(id)
+                .status(ReservationStatus.CANCELLED)
+                .paymentStatus(paymentStatus)
+                .paymentMethod("KAKAO_PAY")
+                .paymentTid("T" + id)
+                .paymentAmount(10000)
+                .build();
+    }
+}
@@ -216,6 +216,7 @@ class PaymentServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getSuccess()).isFalse();
         assertThat(result.getMessage()).contains("결제 준비 실패");
+        assertThat(result.isProviderFailure()).isTrue();
 
         verify(reservationRepository).findById(reservationId);
         verify(restTemplate).exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class));
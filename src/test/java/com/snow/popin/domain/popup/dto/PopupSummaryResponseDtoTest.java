@@ -0,0 +1,55 @@
+package com.snow.popin.domain.popup.dto;
+
+import com.snow.popin.domain.popup.dto.response.PopupSummaryResponseDto;
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.entity.PopupStatus;
+import com.snow.popin.domain.popup.testdata.PopupTestDataBuilder;
+import com.snow.popin.global.image.ImageVariants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("팝업 목록 카드 DTO 테스트")
+class PopupSummaryResponseDtoTest {
+
+    private static final String ORIGINAL = "/uploads/images/ab/cd/abcd.jpg";
+
+    @Test
+    @DisplayName("대표 이미지 변형이 준비되면 카드 변형 URL과 srcset을 내려준다")
+    void from_usesCardVariant() {
+        // given
+        Popup popup = popupWithMainImage();
+        popup.updateMainImageVariants(ImageVariants.of(
+                "/uploads/variants/abcd_thumb.jpg", "/uploads/variants/abcd_card.jpg", "/uploads/variants/abcd_detail.jpg"));
+
+        // when
+        PopupSummaryResponseDto dto = PopupSummaryResponseDto.from(popup);
+
+        // then
+        assertThat(dto.getMainImageUrl()).isEqualTo("/uploads/variants/abcd_card.jpg");
+        assertThat(dto.getMainImageSrcset()).contains("/uploads/variants/abcd_thumb.jpg 200w");
+    }
+
+    @Test
+    @DisplayName("변형이 아직 없으면 원본 URL로 대체한다")
+    void from_fallsBackToOriginal() {
+        // given
+        Popup popup = popupWithMainImage();
+
+        // when
+        PopupSummaryResponseDto dto = PopupSummaryResponseDto.fromWithBrand(popup, "브랜드");
+
+        // then
+        assertThat(dto.getMainImageUrl()).isEqualTo(ORIGINAL);
+        assertThat(dto.getMainImageSrcset()).isNull();
+    }
+
+    private Popup popupWithMainImage() {
+        Popup popup = PopupTestDataBuilder.createPopup("테스트 팝업", PopupStatus.ONGOING,
+                PopupTestDataBuilder.createVenue("강남구"));
+        ReflectionTestUtils.setField(popup, "mainImageUrl", ORIGINAL);
+        return popup;
+    }
+}
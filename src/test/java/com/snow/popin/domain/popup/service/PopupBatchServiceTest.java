@@ -0,0 +1,134 @@
+package com.snow.popin.domain.popup.service;
+
+import com.snow.popin.domain.mission.repository.MissionSetRepository;
+import com.snow.popin.domain.popup.entity.PopupStatus;
+import com.snow.popin.domain.popup.event.PopupStatusChangedEvent;
+import com.snow.popin.domain.popup.repository.PopupRepository;
+import com.snow.popin.global.batch.BatchJobProgress;
+import com.snow.popin.global.batch.BatchJobProgressRepository;
+import com.snow.popin.global.batch.BatchJobStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("팝업 상태 일괄 전환 배치 테스트")
+class PopupBatchServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+
+    @Mock
+    private PopupRepository popupRepository;
+
+    @Mock
+    private MissionSetRepository missionSetRepository;
+
+    @Mock
+    private BatchJobProgressRepository progressRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PopupBatchService batchService;
+    private BatchJobProgress progress;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        batchService = new PopupBatchService(popupRepository, missionSetRepository, progressRepository,
+                eventPublisher, transactionManager);
+        ReflectionTestUtils.setField(batchService, "chunkSize", 2);
+
+        progress = BatchJobProgress.start(PopupBatchService.JOB_NAME, TODAY.minusDays(1), "ONGOING");
+        progress.complete();
+        when(progressRepository.findById(PopupBatchService.JOB_NAME)).thenReturn(Optional.of(progress));
+    }
+
+    @Test
+    @DisplayName("전환 대상을 청크로 나눠 일괄 UPDATE하고 미션셋과 이벤트를 처리한다")
+    void updatePopupStatuses_chunked() {
+        // given
+        when(popupRepository.findIdsToStart(eq(TODAY), anyLong(), any()))
+                .thenReturn(List.of(1L, 2L), List.of(5L), List.of());
+        when(popupRepository.findIdsToEnd(eq(TODAY), anyLong(), any()))
+                .thenReturn(List.of(3L), List.of());
+        when(popupRepository.bulkUpdateStatus(anyCollection(), any(), any()))
+                .thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).size());
+
+        // when
+        PopupBatchService.BatchResult result = batchService.updatePopupStatuses(TODAY);
+
+        // then
+        assertThat(result.getStarted()).isEqualTo(3);
+        assertThat(result.getEnded()).isEqualTo(1);
+        verify(popupRepository).findIdsToStart(eq(TODAY), eq(2L), any());
+        verify(missionSetRepository).bulkEnableByPopupIds(List.of(1L, 2L));
+        verify(missionSetRepository).bulkEnableByPopupIds(List.of(5L));
+        verify(missionSetRepository).bulkDisableByPopupIds(List.of(3L));
+
+        ArgumentCaptor<PopupStatusChangedEvent> events = ArgumentCaptor.forClass(PopupStatusChangedEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(PopupStatusChangedEvent::getStatus)
+                .containsExactly(PopupStatus.ONGOING, PopupStatus.ONGOING, PopupStatus.ENDED);
+
+        assertThat(progress.getStatus()).isEqualTo(BatchJobStatus.COMPLETED);
+        assertThat(progress.getRunDate()).isEqualTo(TODAY);
+        assertThat(progress.getProcessedCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("실패한 실행은 기록된 단계와 마지막 ID부터 이어서 처리한다")
+    void updatePopupStatuses_resumesAfterFailure() {
+        // given - ONGOING 단계 완료 후 ENDED 단계 id 100까지 처리하고 실패
+        progress.restart(TODAY, "ONGOING");
+        progress.nextPhase("ENDED");
+        progress.advance(100L, 10);
+        progress.fail("connection reset");
+
+        when(popupRepository.findIdsToEnd(eq(TODAY), eq(100L), any())).thenReturn(List.of());
+
+        // when
+        batchService.updatePopupStatuses(TODAY);
+
+        // then
+        verify(popupRepository, never()).findIdsToStart(any(), anyLong(), any());
+        verify(popupRepository).findIdsToEnd(eq(TODAY), eq(100L), any());
+        assertThat(progress.getStatus()).isEqualTo(BatchJobStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("청크 처리 중 오류가 나면 진행 기록을 FAILED로 남긴다")
+    void updatePopupStatuses_failureRecorded() {
+        // given
+        when(popupRepository.findIdsToStart(eq(TODAY), anyLong(), any())).thenReturn(List.of(1L));
+        when(popupRepository.bulkUpdateStatus(anyCollection(), any(), any()))
+                .thenThrow(new IllegalStateException("lock wait timeout"));
+
+        // when & then
+        assertThatThrownBy(() -> batchService.updatePopupStatuses(TODAY))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(progress.getStatus()).isEqualTo(BatchJobStatus.FAILED);
+        assertThat(progress.getLastError()).contains("lock wait timeout");
+    }
+}
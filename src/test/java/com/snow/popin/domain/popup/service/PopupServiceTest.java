@@ -9,8 +9,10 @@ import com.snow.popin.domain.popup.entity.Popup;
 import com.snow.popin.domain.popup.entity.PopupStatus;
 import com.snow.popin.domain.popup.repository.PopupQueryDslRepository;
 import com.snow.popin.domain.popup.repository.PopupRepository;
+import com.snow.popin.domain.popup.similarity.PopupContentIndex;
 import com.snow.popin.domain.recommendation.dto.AiRecommendationResponseDto;
 import com.snow.popin.domain.recommendation.service.AiRecommendationService;
+import com.snow.popin.domain.recommendation.service.PopupSimilarityService;
 import com.snow.popin.global.exception.PopupNotFoundException;
 import com.snow.popin.global.util.UserUtil;
 import org.junit.jupiter.api.DisplayName;
@@ -53,6 +55,12 @@ class PopupServiceTest {
     @Mock
     private UserUtil userUtil;
 
+    @Mock
+    private PopupSimilarityService popupSimilarityService;
+
+    @Mock
+    private PopupContentIndex popupContentIndex;
+
     @InjectMocks
     private PopupService popupService;
 
@@ -404,6 +412,31 @@ class PopupServiceTest {
         verify(popupQueryDslRepository).findSimilarPopups(eq(categoryName), eq(excludeId), any(Pageable.class));
     }
 
+    @Test
+    @DisplayName("유사한 팝업 조회 - 함께 예약된 팝업이 있으면 유사도 순서대로 진행중/예정 팝업만 반환")
+    void getSimilarPopups_공동예약_테스트() {
+        // given
+        Long popupId = 1L;
+        Popup endedPopup = mock(Popup.class);
+        when(endedPopup.getId()).thenReturn(4L);
+        when(endedPopup.getStatus()).thenReturn(PopupStatus.ENDED);
+        List<Popup> neighbors = Arrays.asList(
+                createMockPopupForSummary(2L, "유사 팝업1", PopupStatus.ONGOING),
+                createMockPopupForSummary(3L, "유사 팝업2", PopupStatus.PLANNED),
+                endedPopup
+        );
+
+        when(popupSimilarityService.neighborsOf(popupId)).thenReturn(List.of(3L, 4L, 2L));
+        when(popupQueryDslRepository.findByIdIn(List.of(3L, 4L, 2L))).thenReturn(neighbors);
+
+        // when
+        PopupListResponseDto result = popupService.getSimilarPopups("패션", popupId, 0, 4);
+
+        // then
+        assertThat(result.getPopups()).extracting(PopupSummaryResponseDto::getId).containsExactly(3L, 2L);
+        verify(popupQueryDslRepository, never()).findSimilarPopups(any(), any(), any(Pageable.class));
+    }
+
     @Test
     @DisplayName("카테고리별 추천 팝업 조회")
     void getRecommendedPopupsBySelectedCategories_테스트() {
@@ -0,0 +1,90 @@
+package com.snow.popin.domain.popup.service;
+
+import com.snow.popin.domain.mypage.host.dto.PopupHourResponseDto;
+import com.snow.popin.domain.popup.entity.PopupHours;
+import com.snow.popin.domain.popup.event.PopupHoursChangedEvent;
+import com.snow.popin.domain.popup.repository.PopupHoursRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("팝업 주간 운영 일정 테스트")
+class PopupWeeklyScheduleTest {
+
+    // 2025-03-03은 월요일 (요일 인덱스 1), 2025-03-09는 일요일 (요일 인덱스 0)
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 3);
+    private static final LocalDate TUESDAY = LocalDate.of(2025, 3, 4);
+    private static final LocalDate SUNDAY = LocalDate.of(2025, 3, 9);
+
+    @Mock
+    private PopupHoursRepository popupHoursRepository;
+
+    @Test
+    @DisplayName("운영 요일 마스크와 요일별 운영 구간을 컴파일한다")
+    void compile() {
+        // when
+        PopupWeeklySchedule schedule = PopupWeeklySchedule.compile(List.of(
+                hours(1, "14:00", "18:00"),
+                hours(1, "10:00", "12:00"),
+                hours(0, "11:00", "20:00")));
+
+        // then
+        assertThat(schedule.getOpenDayMask()).isEqualTo(0b011);
+        assertThat(schedule.isOpen(MONDAY)).isTrue();
+        assertThat(schedule.isOpen(SUNDAY)).isTrue();
+        assertThat(schedule.isOpen(TUESDAY)).isFalse();
+        assertThat(schedule.rangesOf(MONDAY)).containsExactly(
+                new LocalTime[]{LocalTime.of(10, 0), LocalTime.of(12, 0)},
+                new LocalTime[]{LocalTime.of(14, 0), LocalTime.of(18, 0)});
+        assertThat(schedule.rangesOf(TUESDAY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("종료 시각을 넘는 슬롯은 세지 않는다")
+    void slotCount() {
+        // given
+        PopupWeeklySchedule schedule = PopupWeeklySchedule.compile(List.of(
+                hours(1, "10:00", "12:00"),
+                hours(1, "14:00", "15:50")));
+
+        // when & then
+        assertThat(schedule.slotCount(MONDAY, 30)).isEqualTo(4 + 3);
+        assertThat(schedule.slotCount(TUESDAY, 30)).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시는 팝업당 한 번만 조회하고 운영 시간 변경 이벤트로 비워진다")
+    void cache_evictOnChange() {
+        // given
+        PopupScheduleCache cache = new PopupScheduleCache(popupHoursRepository, 10);
+        when(popupHoursRepository.findByPopupId(1L)).thenReturn(List.of(hours(1, "10:00", "12:00")));
+
+        // when
+        cache.get(1L);
+        cache.get(1L);
+        cache.onHoursChanged(new PopupHoursChangedEvent(1L));
+        PopupWeeklySchedule reloaded = cache.get(1L);
+
+        // then
+        assertThat(reloaded.isOpen(MONDAY)).isTrue();
+        verify(popupHoursRepository, times(2)).findByPopupId(1L);
+    }
+
+    private static PopupHours hours(int dayOfWeek, String open, String close) {
+        PopupHourResponseDto dto = new PopupHourResponseDto();
+        dto.setDayOfWeek(dayOfWeek);
+        dto.setOpenTime(open);
+        dto.setCloseTime(close);
+        return PopupHours.create(null, dto);
+    }
+}
@@ -0,0 +1,124 @@
+package com.snow.popin.domain.popup.similarity;
+
+import com.snow.popin.domain.category.entity.Category;
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.entity.PopupReport;
+import com.snow.popin.domain.popup.entity.Tag;
+import com.snow.popin.domain.popup.repository.PopupReportRepository;
+import com.snow.popin.domain.popup.repository.PopupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MinHash/LSH 콘텐츠 유사도 테스트")
+class PopupContentSimilarityTest {
+
+    @Mock
+    private PopupRepository popupRepository;
+
+    @Mock
+    private PopupReportRepository popupReportRepository;
+
+    @Test
+    @DisplayName("서명 일치율은 실제 Jaccard 유사도에 가깝다")
+    void minHash_estimatesJaccard() {
+        // given - 0~99, 50~149 → Jaccard = 50 / 150
+        MinHasher hasher = new MinHasher(128);
+        Set<String> a = IntStream.range(0, 100).mapToObj(i -> "f" + i).collect(Collectors.toSet());
+        Set<String> b = IntStream.range(50, 150).mapToObj(i -> "f" + i).collect(Collectors.toSet());
+
+        // when
+        double estimated = MinHasher.estimate(hasher.signature(a), hasher.signature(b));
+
+        // then
+        assertThat(estimated).isCloseTo(1.0 / 3, within(0.12));
+        assertThat(MinHasher.estimate(hasher.signature(a), hasher.signature(new HashSet<>(a)))).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("제목·태그·카테고리·지역이 비슷한 팝업을 찾고 관련 없는 팝업은 제외한다")
+    void popupContentIndex_similarTo() {
+        // given
+        PopupContentIndex index = new PopupContentIndex(popupRepository);
+        index.upsert(popup(1L, "산리오 캐릭터 팝업스토어", "강남구", "캐릭터", "산리오", "굿즈"));
+        index.upsert(popup(2L, "산리오 캐릭터 팝업스토어 시즌2", "강남구", "캐릭터", "산리오", "굿즈"));
+        index.upsert(popup(3L, "위스키 시음회", "마포구", "푸드", "주류", "시음"));
+
+        // when & then
+        assertThat(index.similarTo(1L, 10)).containsExactly(2L);
+        assertThat(index.similarTo(3L, 10)).isEmpty();
+        assertThat(index.similarTo(99L, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("팝업명·브랜드·주소가 거의 같은 제보를 중복 의심으로 찾는다")
+    void reportDuplicateIndex_findDuplicate() {
+        // given
+        PopupReportDuplicateIndex index = new PopupReportDuplicateIndex(popupReportRepository);
+        index.upsert(report(10L, "나이키 성수 팝업스토어", "나이키", "서울 성동구 연무장길 10"));
+
+        // when & then
+        assertThat(index.findDuplicate("나이키성수 팝업스토어 2차", "나이키", "서울 성동구 연무장길 10")).contains(10L);
+        assertThat(index.findDuplicate("아디다스 한남 팝업", "아디다스", "서울 용산구 한남대로 20")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제한 항목은 더 이상 후보로 나오지 않는다")
+    void lshIndex_remove() {
+        // given
+        LshIndex lsh = new LshIndex(PopupContentIndex.BANDS, PopupContentIndex.ROWS);
+        Set<String> features = ContentFeatures.ofReport("젠틀몬스터 하우스", "젠틀몬스터", "서울 강남구 압구정로");
+        lsh.put(1L, lsh.signature(features));
+        lsh.put(2L, lsh.signature(features));
+
+        // when
+        lsh.remove(2L);
+
+        // then
+        assertThat(lsh.size()).isEqualTo(1);
+        assertThat(lsh.similarTo(1L, 0.1, 10)).isEmpty();
+        assertThat(lsh.query(lsh.signature(features), null, 0.9, 10))
+                .extracting(LshIndex.Match::getId).containsExactly(1L);
+    }
+
+    private PopupReport report(Long id, String popupName, String brandName, String address) {
+        PopupReport report = mock(PopupReport.class);
+        when(report.getId()).thenReturn(id);
+        when(report.getPopupName()).thenReturn(popupName);
+        when(report.getBrandName()).thenReturn(brandName);
+        when(report.getAddress()).thenReturn(address);
+        return report;
+    }
+
+    private Popup popup(Long id, String title, String region, String categoryName, String... tagNames) {
+        Popup popup = mock(Popup.class);
+        Category category = mock(Category.class);
+        when(category.getName()).thenReturn(categoryName);
+        Set<Tag> tags = new LinkedHashSet<>();
+        for (String tagName : tagNames) {
+            Tag tag = mock(Tag.class);
+            when(tag.getName()).thenReturn(tagName);
+            tags.add(tag);
+        }
+        when(popup.getId()).thenReturn(id);
+        when(popup.getTitle()).thenReturn(title);
+        when(popup.getRegion()).thenReturn(region);
+        when(popup.getCategory()).thenReturn(category);
+        when(popup.getTags()).thenReturn(tags);
+        return popup;
+    }
+}
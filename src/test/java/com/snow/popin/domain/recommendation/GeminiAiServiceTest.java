@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.snow.popin.domain.recommendation.dto.GeminiResponseDto;
 import com.snow.popin.domain.recommendation.service.GeminiAiService;
 import com.snow.popin.global.config.GeminiProperties;
+import com.snow.popin.global.http.OutboundHttpClients;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,6 +39,9 @@ class GeminiAiServiceTest {
     @Mock
     private GeminiProperties.Api apiProperties;
 
+    @Mock
+    private OutboundHttpClients outboundHttpClients;
+
     private ObjectMapper objectMapper;
     private GeminiAiService geminiAiService;
 
@@ -51,7 +55,7 @@ class GeminiAiServiceTest {
         when(apiProperties.getKey()).thenReturn("test-api-key");
         when(apiProperties.getUrl()).thenReturn("https://test-api.com/generate");
 
-        geminiAiService = new GeminiAiService(geminiProperties, objectMapper);
+        geminiAiService = new GeminiAiService(geminiProperties, objectMapper, outboundHttpClients);
 
         // RestTemplate 주입 (리플렉션 사용)
         try {
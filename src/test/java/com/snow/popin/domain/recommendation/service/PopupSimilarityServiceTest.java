@@ -0,0 +1,143 @@
+package com.snow.popin.domain.recommendation.service;
+
+import com.snow.popin.domain.bookmark.event.BookmarkChangedEvent;
+import com.snow.popin.domain.bookmark.repository.BookMarkRepository;
+import com.snow.popin.domain.popupReservation.entity.ReservationStatus;
+import com.snow.popin.domain.popupReservation.event.ReservationCreatedEvent;
+import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("공동 예약 기반 유사 팝업 테스트")
+class PopupSimilarityServiceTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private BookMarkRepository bookMarkRepository;
+
+    private PopupSimilarityService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PopupSimilarityService(reservationRepository, bookMarkRepository, 2, 200);
+    }
+
+    @Test
+    @DisplayName("함께 예약한 사용자가 많은 팝업이 먼저 오고, 상위 K개까지만 보관한다")
+    void rebuild_ranksByCoReservation() {
+        // given
+        when(reservationRepository.findUserPopupPairsAfter(eq(ReservationStatus.CANCELLED), anyLong(), any()))
+                .thenReturn(List.of(
+                        reservationRow(1L, 1L, 10L), reservationRow(2L, 1L, 20L),
+                        reservationRow(3L, 2L, 10L), reservationRow(4L, 2L, 20L),
+                        reservationRow(5L, 3L, 10L), reservationRow(6L, 3L, 20L),
+                        reservationRow(7L, 4L, 10L), reservationRow(8L, 4L, 30L),
+                        reservationRow(9L, 5L, 10L), reservationRow(10L, 5L, 30L),
+                        reservationRow(11L, 6L, 10L), reservationRow(12L, 6L, 40L)))
+                .thenReturn(List.of());
+        when(bookMarkRepository.findUserPopupPairsAfter(anyLong(), any())).thenReturn(List.of());
+
+        // when
+        service.rebuild();
+
+        // then
+        assertThat(service.neighborsOf(10L)).containsExactly(20L, 30L);
+        assertThat(service.neighborsOf(20L)).containsExactly(10L);
+        assertThat(service.neighborsOf(99L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("예약은 북마크보다 강한 신호로 반영된다")
+    void reservationOutweighsBookmark() {
+        // when
+        service.onReservationCreated(new ReservationCreatedEvent(1L, 1L, 10L));
+        service.onReservationCreated(new ReservationCreatedEvent(2L, 1L, 20L));
+        service.onReservationCreated(new ReservationCreatedEvent(3L, 2L, 10L));
+        service.onBookmarkChanged(new BookmarkChangedEvent(2L, 30L, true));
+
+        // then
+        assertThat(service.neighborsOf(10L)).containsExactly(20L, 30L);
+        assertThat(service.neighborsOf(30L)).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("북마크한 팝업을 예약하면 차이만큼만 반영되어 전체 구성과 같은 점수가 된다")
+    void incrementalMatchesFullBuild() {
+        // given
+        PopupCoOccurrenceModel incremental = new PopupCoOccurrenceModel(10, 200);
+        PopupCoOccurrenceModel direct = new PopupCoOccurrenceModel(10, 200);
+
+        // when
+        incremental.refresh(incremental.add(1L, 10L, PopupSimilarityService.BOOKMARK_WEIGHT));
+        incremental.refresh(incremental.add(1L, 20L, PopupSimilarityService.RESERVATION_WEIGHT));
+        incremental.refresh(incremental.add(2L, 10L, PopupSimilarityService.RESERVATION_WEIGHT));
+        incremental.refresh(incremental.add(2L, 20L, PopupSimilarityService.BOOKMARK_WEIGHT));
+        incremental.refresh(incremental.add(1L, 10L, PopupSimilarityService.RESERVATION_WEIGHT));
+        incremental.refresh(incremental.add(1L, 10L, PopupSimilarityService.BOOKMARK_WEIGHT));
+
+        direct.add(1L, 10L, PopupSimilarityService.RESERVATION_WEIGHT);
+        direct.add(1L, 20L, PopupSimilarityService.RESERVATION_WEIGHT);
+        direct.add(2L, 10L, PopupSimilarityService.RESERVATION_WEIGHT);
+        direct.add(2L, 20L, PopupSimilarityService.BOOKMARK_WEIGHT);
+        direct.refreshAll();
+
+        // then
+        PopupCoOccurrenceModel.PopupNeighbors a = incremental.neighborsOf(10L);
+        PopupCoOccurrenceModel.PopupNeighbors b = direct.neighborsOf(10L);
+        assertThat(a.size()).isEqualTo(1);
+        assertThat(a.idAt(0)).isEqualTo(20L);
+        assertThat(a.scoreAt(0)).isCloseTo(b.scoreAt(0), within(1e-6f));
+    }
+
+    @Test
+    @DisplayName("사용자별 상호작용 상한을 넘는 팝업은 반영하지 않는다")
+    void maxItemsPerUser() {
+        // given
+        PopupCoOccurrenceModel model = new PopupCoOccurrenceModel(10, 2);
+
+        // when
+        model.add(1L, 10L, 1.0f);
+        model.add(1L, 20L, 1.0f);
+        model.add(1L, 30L, 1.0f);
+        model.refreshAll();
+
+        // then
+        assertThat(model.neighborsOf(10L).ids()).containsExactly(20L);
+        assertThat(model.neighborsOf(30L).size()).isZero();
+    }
+
+    private static ReservationRepository.UserPopupRow reservationRow(Long id, Long userId, Long popupId) {
+        return new ReservationRepository.UserPopupRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getPopupId() {
+                return popupId;
+            }
+        };
+    }
+}
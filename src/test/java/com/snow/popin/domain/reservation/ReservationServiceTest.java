@@ -7,8 +7,10 @@ import com.snow.popin.domain.mypage.host.repository.BrandRepository;
 import com.snow.popin.domain.mypage.host.repository.HostRepository;
 import com.snow.popin.domain.popup.entity.Popup;
 import com.snow.popin.domain.popup.entity.PopupHours;
-import com.snow.popin.domain.popup.repository.PopupHoursRepository;
 import com.snow.popin.domain.popup.repository.PopupRepository;
+import com.snow.popin.domain.popup.service.PopupScheduleCache;
+import com.snow.popin.domain.popup.service.PopupWeeklySchedule;
+import com.snow.popin.domain.popupReservation.dto.DateAvailabilityDto;
 import com.snow.popin.domain.popupReservation.dto.ReservationRequestDto;
 import com.snow.popin.domain.popupReservation.dto.ReservationResponseDto;
 import com.snow.popin.domain.popupReservation.dto.TimeSlotDto;
@@ -20,6 +22,8 @@ import com.snow.popin.domain.popupReservation.service.PopupReservationSettingsSe
 import com.snow.popin.domain.popupReservation.service.ReservationService;
 import com.snow.popin.domain.user.constant.Role;
 import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.global.outbox.OutboxEventType;
+import com.snow.popin.global.outbox.OutboxService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,20 +31,26 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -65,11 +75,17 @@ public class ReservationServiceTest {
     private BrandRepository brandRepository;
 
     @Mock
-    private PopupHoursRepository popupHoursRepository;
+    private PopupScheduleCache popupScheduleCache;
 
     @Mock
     private PopupReservationSettingsService settingsService;
 
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("예약 생성 성공")
     void createReservation_Success() {
@@ -87,7 +103,7 @@ public class ReservationServiceTest {
         when(popupRepository.findById(anyLong())).thenReturn(Optional.of(popup));
         when(settingsService.getSettings(anyLong())).thenReturn(settings);
         when(reservationQueryDslRepository.existsActiveReservationByPopupAndUser(any(Popup.class), any(User.class))).thenReturn(false);
-        when(popupHoursRepository.findByPopupIdAndDayOfWeek(anyLong(), any(Integer.class))).thenReturn(List.of(createTestPopupHours(popup)));
+        when(popupScheduleCache.get(anyLong())).thenReturn(PopupWeeklySchedule.compile(List.of(createTestPopupHours(popup))));
         when(reservationQueryDslRepository.sumPartySizeByPopupAndReservationDateBetween(any(Popup.class), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(0L);
 
         when(reservationRepository.save(any(Reservation.class))).thenAnswer((Answer<Reservation>) invocation -> {
@@ -169,7 +185,7 @@ public class ReservationServiceTest {
         when(popupRepository.findById(anyLong())).thenReturn(Optional.of(popup));
         when(settingsService.getSettings(anyLong())).thenReturn(settings);
         when(reservationQueryDslRepository.existsActiveReservationByPopupAndUser(any(Popup.class), any(User.class))).thenReturn(false);
-        when(popupHoursRepository.findByPopupIdAndDayOfWeek(anyLong(), any(Integer.class))).thenReturn(List.of(createTestPopupHours(popup)));
+        when(popupScheduleCache.get(anyLong())).thenReturn(PopupWeeklySchedule.compile(List.of(createTestPopupHours(popup))));
 
         // when & then
         assertThrows(ResponseStatusException.class, () -> {
@@ -235,6 +251,28 @@ public class ReservationServiceTest {
         // No exception thrown
     }
 
+    @Test
+    @DisplayName("결제된 예약 취소 시 환불은 아웃박스로 등록된다")
+    void cancelReservation_Paid_EnqueuesRefund() {
+        // given
+        User user = createTestUser(1L);
+        Popup popup = createTestPopup(true);
+
+        Reservation reservation = Reservation.create(popup, user, user.getName(), "010-1234-5678", 2, LocalDateTime.now().plusDays(2));
+        ReflectionTestUtils.setField(reservation, "id", 1L);
+        reservation.markAsPaid("KAKAO_PAY", "T1234");
+
+        when(reservationRepository.findById(anyLong())).thenReturn(Optional.of(reservation));
+        when(settingsService.getSettings(anyLong())).thenReturn(createTestSettings(popup));
+
+        // when
+        reservationService.cancelReservation(1L, user);
+
+        // then
+        assertThat(reservation.getPaymentStatus()).isEqualTo(Reservation.PaymentStatus.REFUND_PENDING);
+        verify(outboxService).enqueue(eq(OutboxEventType.PAYMENT_REFUND), eq("1"), eq("refund:reservation:1"), anyMap());
+    }
+
     @Test
     @DisplayName("방문 완료 처리 성공")
     void markAsVisited_Success() {
@@ -265,7 +303,7 @@ public class ReservationServiceTest {
 
         when(popupRepository.findById(anyLong())).thenReturn(Optional.of(popup));
         when(settingsService.getSettings(anyLong())).thenReturn(settings);
-        when(popupHoursRepository.findByPopupIdAndDayOfWeek(anyLong(), any(Integer.class))).thenReturn(List.of(createTestPopupHours(popup)));
+        when(popupScheduleCache.get(anyLong())).thenReturn(PopupWeeklySchedule.compile(List.of(createTestPopupHours(popup))));
 
         // when
         List<LocalDate> availableDates = reservationService.getAvailableDates(1L);
@@ -283,7 +321,7 @@ public class ReservationServiceTest {
 
         when(popupRepository.findById(anyLong())).thenReturn(Optional.of(popup));
         when(settingsService.getSettings(anyLong())).thenReturn(settings);
-        when(popupHoursRepository.findByPopupIdAndDayOfWeek(anyLong(), any(Integer.class))).thenReturn(List.of(createTestPopupHours(popup)));
+        when(popupScheduleCache.get(anyLong())).thenReturn(PopupWeeklySchedule.compile(List.of(createTestPopupHours(popup))));
         when(reservationQueryDslRepository.sumPartySizeByPopupAndReservationDateBetween(any(Popup.class), any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(0L);
 
         // when
@@ -293,6 +331,36 @@ public class ReservationServiceTest {
         assertThat(availableSlots).isNotEmpty();
     }
 
+    @Test
+    @DisplayName("월간 예약 현황은 날짜별 합계 한 번으로 남은 인원을 계산한다")
+    void getMonthAvailability_Success() {
+        // given
+        Popup popup = createTestPopup(true);
+        PopupReservationSettings settings = createTestSettings(popup);
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        YearMonth month = YearMonth.from(tomorrow);
+
+        when(popupRepository.findById(anyLong())).thenReturn(Optional.of(popup));
+        when(settingsService.getSettings(anyLong())).thenReturn(settings);
+        when(popupScheduleCache.get(anyLong())).thenReturn(PopupWeeklySchedule.compile(List.of(createTestPopupHours(popup))));
+        when(reservationQueryDslRepository.sumPartySizeByPopupGroupByDate(any(Popup.class), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(Map.of(tomorrow, 7L));
+
+        // when
+        List<DateAvailabilityDto> days = reservationService.getMonthAvailability(1L, month);
+
+        // then
+        assertThat(days).hasSize(month.lengthOfMonth());
+        DateAvailabilityDto target = days.get(tomorrow.getDayOfMonth() - 1);
+        assertThat(target.isOpen()).isTrue();
+        assertThat(target.isBookable()).isTrue();
+        assertThat(target.getTotalCapacity()).isEqualTo(24 * 10); // 10:00~22:00, 30분 슬롯 24개 x 정원 10
+        assertThat(target.getRemainingCapacity()).isEqualTo(24 * 10 - 7);
+        assertThat(days).filteredOn(d -> !d.getDate().getDayOfWeek().equals(tomorrow.getDayOfWeek()))
+                .allSatisfy(d -> assertThat(d.getRemainingCapacity()).isZero());
+        verify(reservationQueryDslRepository).sumPartySizeByPopupGroupByDate(popup, month.atDay(1), month.atEndOfMonth().plusDays(1));
+    }
+
     // Helper methods
     private User createTestUser(Long id) {
         User user = User.builder()
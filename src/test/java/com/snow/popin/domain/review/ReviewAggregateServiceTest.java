@@ -0,0 +1,204 @@
+package com.snow.popin.domain.review;
+
+import com.snow.popin.domain.review.dto.ReviewStatsDto;
+import com.snow.popin.domain.review.entity.PopupReviewAggregate;
+import com.snow.popin.domain.review.entity.Review;
+import com.snow.popin.domain.review.repository.PopupReviewAggregateRepository;
+import com.snow.popin.domain.review.repository.ReviewRepository;
+import com.snow.popin.domain.review.repository.ReviewRepository.RatingStats;
+import com.snow.popin.domain.review.service.ReviewAggregateService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("리뷰 집계 테스트")
+class ReviewAggregateServiceTest {
+
+    private static final Long POPUP_ID = 1L;
+
+    @Mock
+    private PopupReviewAggregateRepository aggregateRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReviewAggregateService aggregateService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+        aggregateService = new ReviewAggregateService(aggregateRepository, reviewRepository,
+                transactionManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("리뷰 작성 시 집계 행에 수/합/별점 분포를 원자적으로 더한다")
+    void onAdded_appliesDelta() {
+        // given
+        Review review = Review.of(POPUP_ID, 10L, "좋은 팝업이었습니다!!", 4);
+        when(aggregateRepository.existsById(POPUP_ID)).thenReturn(true);
+        when(aggregateRepository.applyDelta(anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), anyLong())).thenReturn(1);
+
+        // when
+        aggregateService.onAdded(review);
+
+        // then
+        verify(aggregateRepository).applyDelta(POPUP_ID, 1, 4, 0, 0, 0, 1, 0);
+        verify(aggregateRepository).touch(eq(POPUP_ID), any(LocalDateTime.class));
+        verify(aggregateRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("집계 행이 없으면 커밋된 리뷰로 만든 뒤 반영한다")
+    void onAdded_createsMissingRow() {
+        // given
+        Review review = Review.of(POPUP_ID, 10L, "좋은 팝업이었습니다!!", 5);
+        when(aggregateRepository.existsById(POPUP_ID)).thenReturn(false);
+        when(reviewRepository.findRatingStatsByPopupIds(List.of(POPUP_ID)))
+                .thenReturn(List.of(stats(POPUP_ID, 2, 7, new long[]{0, 0, 1, 1, 0})));
+        when(aggregateRepository.applyDelta(anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), anyLong())).thenReturn(1);
+
+        // when
+        aggregateService.onAdded(review);
+
+        // then
+        verify(aggregateRepository).saveAndFlush(argThat(a ->
+                a.getReviewCount() == 2 && a.getRatingSum() == 7 && a.getStar3Count() == 1));
+        verify(aggregateRepository).applyDelta(POPUP_ID, 1, 5, 0, 0, 0, 0, 1);
+    }
+
+    @Test
+    @DisplayName("평점 수정 시 이전 별점을 빼고 새 별점을 더한다")
+    void onRatingChanged_movesHistogramBucket() {
+        // given
+        when(aggregateRepository.existsById(POPUP_ID)).thenReturn(true);
+        when(aggregateRepository.applyDelta(anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), anyLong())).thenReturn(1);
+
+        // when
+        aggregateService.onRatingChanged(POPUP_ID, 3, 5);
+
+        // then
+        verify(aggregateRepository).applyDelta(POPUP_ID, -1, -3, 0, 0, -1, 0, 0);
+        verify(aggregateRepository).applyDelta(POPUP_ID, 1, 5, 0, 0, 0, 0, 1);
+    }
+
+    @Test
+    @DisplayName("여러 팝업 통계는 집계 행을 한 번에 읽고, 없는 팝업만 리뷰에서 계산한다")
+    void getStats_batchLoads() {
+        // given
+        PopupReviewAggregate aggregate = PopupReviewAggregate.empty(POPUP_ID);
+        aggregate.overwrite(4, 18, new long[]{0, 0, 0, 2, 2}, null);
+        when(aggregateRepository.findAllById(any())).thenReturn(List.of(aggregate));
+        when(reviewRepository.findRatingStatsByPopupIds(any()))
+                .thenReturn(List.of(stats(2L, 1, 3, new long[]{0, 0, 1, 0, 0})));
+
+        // when
+        Map<Long, ReviewStatsDto> result = aggregateService.getStats(List.of(POPUP_ID, 2L, 3L));
+
+        // then
+        assertThat(result.get(POPUP_ID).getAverageRating()).isEqualTo(4.5);
+        assertThat(result.get(POPUP_ID).getRatingHistogram()).containsEntry(5, 2L);
+        assertThat(result.get(2L).getTotalReviews()).isEqualTo(1L);
+        assertThat(result.get(3L).getTotalReviews()).isZero();
+    }
+
+    @Test
+    @DisplayName("검증 시 reviews 기준 값과 다른 집계를 잠근 뒤 다시 계산하고 불일치를 기록한다")
+    void verify_repairsDrift() {
+        // given
+        RatingStats actual = stats(POPUP_ID, 2, 9, new long[]{0, 0, 0, 1, 1});
+        PopupReviewAggregate drifted = PopupReviewAggregate.empty(POPUP_ID);
+        drifted.overwrite(1, 4, new long[]{0, 0, 0, 1, 0}, null);
+
+        when(reviewRepository.findRatingStatsAfter(eq(0L), any())).thenReturn(List.of(actual));
+        when(reviewRepository.findRatingStatsAfter(eq(POPUP_ID), any())).thenReturn(List.of());
+        when(aggregateRepository.findAllById(any())).thenReturn(List.of(drifted));
+        when(aggregateRepository.existsById(POPUP_ID)).thenReturn(true);
+        when(aggregateRepository.lockById(POPUP_ID)).thenReturn(Optional.of(drifted));
+        when(reviewRepository.findRatingStatsByPopupIds(List.of(POPUP_ID))).thenReturn(List.of(actual));
+        when(aggregateRepository.findOrphanedPopupIds()).thenReturn(List.of());
+
+        // when
+        ReviewAggregateService.VerifyResult result = aggregateService.verify();
+
+        // then
+        assertThat(result.getChecked()).isEqualTo(1);
+        assertThat(result.getDrifted()).isEqualTo(1);
+        assertThat(drifted.getReviewCount()).isEqualTo(2);
+        assertThat(drifted.getStar5Count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("review.aggregate.drift").count()).isEqualTo(1.0);
+    }
+
+    private static RatingStats stats(Long popupId, long count, long sum, long[] histogram) {
+        return new RatingStats() {
+            @Override
+            public Long getPopupId() {
+                return popupId;
+            }
+
+            @Override
+            public Long getReviewCount() {
+                return count;
+            }
+
+            @Override
+            public Long getRatingSum() {
+                return sum;
+            }
+
+            @Override
+            public Long getStar1() {
+                return histogram[0];
+            }
+
+            @Override
+            public Long getStar2() {
+                return histogram[1];
+            }
+
+            @Override
+            public Long getStar3() {
+                return histogram[2];
+            }
+
+            @Override
+            public Long getStar4() {
+                return histogram[3];
+            }
+
+            @Override
+            public Long getStar5() {
+                return histogram[4];
+            }
+
+            @Override
+            public LocalDateTime getLastReviewedAt() {
+                return null;
+            }
+        };
+    }
+}
@@ -7,6 +7,7 @@ import com.snow.popin.domain.popup.repository.PopupRepository;
 import com.snow.popin.domain.review.dto.*;
 import com.snow.popin.domain.review.entity.Review;
 import com.snow.popin.domain.review.repository.ReviewRepository;
+import com.snow.popin.domain.review.service.ReviewAggregateService;
 import com.snow.popin.domain.review.service.ReviewService;
 import com.snow.popin.domain.user.constant.Role;
 import com.snow.popin.domain.user.entity.User;
@@ -49,6 +50,9 @@ class ReviewServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ReviewAggregateService reviewAggregateService;
+
     @InjectMocks
     private ReviewService reviewService;
 
@@ -232,6 +236,25 @@ class ReviewServiceTest {
 
         // then
         verify(reviewRepository).delete(mockReview);
+        verify(reviewAggregateService).onRemoved(mockReview);
+    }
+
+    @Test
+    @DisplayName("리뷰 차단 시 집계에서 제외하고, 이미 차단된 리뷰는 다시 반영하지 않는다")
+    void blockReview_RemovesFromAggregateOnce() {
+        // given
+        Long reviewId = 1L;
+        Review mockReview = createTestReview(reviewId, 1L, 1L);
+
+        given(reviewRepository.findById(reviewId)).willReturn(Optional.of(mockReview));
+
+        // when
+        reviewService.blockReview(reviewId);
+        reviewService.blockReview(reviewId);
+
+        // then
+        assertThat(mockReview.isBlocked()).isTrue();
+        verify(reviewAggregateService, times(1)).onRemoved(mockReview);
     }
 
     @Test
@@ -308,9 +331,10 @@ class ReviewServiceTest {
     void getReviewStats_Success() {
         // given
         Long popupId = 1L;
-        Object[] mockStats = {4.5, 10L}; // 평균 평점 4.5, 리뷰 수 10개
+        // 평균 평점 4.5, 리뷰 수 10개
+        ReviewStatsDto mockStats = ReviewStatsDto.of(10L, 45L, new long[]{0, 0, 0, 5, 5}, null);
 
-        given(reviewRepository.findRatingStatsByPopupId(popupId)).willReturn(mockStats);
+        given(reviewAggregateService.getStats(popupId)).willReturn(mockStats);
 
         // when
         ReviewStatsDto result = reviewService.getReviewStats(popupId);
@@ -325,9 +349,9 @@ class ReviewServiceTest {
     void getReviewStats_NoReviews() {
         // given
         Long popupId = 1L;
-        Object[] mockStats = {null, 0L};
+        ReviewStatsDto mockStats = ReviewStatsDto.of(0L, 0L, new long[5], null);
 
-        given(reviewRepository.findRatingStatsByPopupId(popupId)).willReturn(mockStats);
+        given(reviewAggregateService.getStats(popupId)).willReturn(mockStats);
 
         // when
         ReviewStatsDto result = reviewService.getReviewStats(popupId);
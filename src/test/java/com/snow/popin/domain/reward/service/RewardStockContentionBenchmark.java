@@ -0,0 +1,196 @@
+package com.snow.popin.domain.reward.service;
+
+import com.snow.popin.domain.mission.entity.MissionSet;
+import com.snow.popin.domain.mission.repository.MissionSetRepository;
+import com.snow.popin.domain.reward.entity.RewardOption;
+import com.snow.popin.domain.reward.repository.RewardOptionRepository;
+import com.snow.popin.global.exception.RewardException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리워드 재고 차감 경합 비교 (샤드 1개 vs 분할 카운터)
+ * - 실제 RewardService.claim 을 H2 인메모리 DB 위에서 동시에 호출한다.
+ *   (샤드 지연 생성, 재배정, 교착 재시도, 트랜잭션 경계까지 운영 코드 그대로)
+ * - 샤드 1개는 옵션 행 하나에 발급이 몰리는 기존 구조와 같은 경합을 만든다.
+ * - 처리량과 p50/p99 지연, 초과 발급 여부를 로그로 남긴다.
+ *
+ * 기본 테스트 실행에서는 제외되며 다음과 같이 실행한다.
+ * mvn test -Dtest=RewardStockContentionBenchmark -Dbenchmark=true
+ */
+@Slf4j
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reward-benchmark;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        // REQUIRES_NEW(샤드 생성/재배정) 중에는 스레드당 커넥션 2개를 쓴다
+        "spring.datasource.hikari.maximum-pool-size=80",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "logging.level.com.snow.popin=WARN",
+        "logging.level.com.snow.popin.domain.reward.service.RewardStockContentionBenchmark=INFO",
+        "jwt.secret=benchmark-secret-key-benchmark-secret-key-0123456789",
+        "kakao.pay.admin.key=benchmark",
+        "uploadPath=target/benchmark/uploads",
+        "app.host-url=http://localhost"
+})
+@DisplayName("리워드 재고 경합 벤치마크")
+class RewardStockContentionBenchmark {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 32);
+    private static final int CLAIMS = Integer.getInteger("benchmark.claims", 2000);
+    private static final int SHARDS = Integer.getInteger("benchmark.shards", 8);
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private RewardStockService rewardStockService;
+
+    @Autowired
+    private MissionSetRepository missionSetRepository;
+
+    @Autowired
+    private RewardOptionRepository rewardOptionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 미션 세트의 팝업 FK 는 벤치마크와 무관하므로 해당 테이블만 검사 해제
+        jdbcTemplate.execute("ALTER TABLE mission_set SET REFERENTIAL_INTEGRITY FALSE");
+    }
+
+    @Test
+    @DisplayName("분할 카운터가 샤드 1개보다 처리량이 높고 초과 발급이 없다")
+    void compare() throws Exception {
+        Result single = run("single", 1);
+        Result sharded = run("sharded", SHARDS);
+
+        log.info("[RewardBenchmark] {}", single);
+        log.info("[RewardBenchmark] {}", sharded);
+
+        assertThat(single.issued).isEqualTo(CLAIMS);
+        assertThat(sharded.issued).isEqualTo(CLAIMS);
+        assertThat(sharded.throughput()).isGreaterThan(single.throughput());
+    }
+
+    private Result run(String name, int shards) throws Exception {
+        // 샤드는 첫 발급 시 현재 설정값으로 만들어짐 (옵션 저장 시 initialize 를 호출하지 않음)
+        RewardStockService target = AopTestUtils.getTargetObject(rewardStockService);
+        ReflectionTestUtils.setField(target, "shardCount", shards);
+        MissionSet missionSet = missionSetRepository.save(MissionSet.builder()
+                .popupId(1L)
+                .requiredCount(0)
+                .build());
+        RewardOption option = rewardOptionRepository.save(RewardOption.builder()
+                .missionSet(missionSet)
+                .name(name)
+                .total(CLAIMS)
+                .build());
+        UUID missionSetId = missionSet.getId();
+        Long optionId = option.getId();
+
+        // 재고보다 10% 많은 요청을 보내 초과 발급 여부 확인
+        int requests = CLAIMS + CLAIMS / 10;
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger outOfStock = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch done = new CountDownLatch(THREADS);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+
+        long started = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            pool.execute(() -> {
+                try {
+                    int i;
+                    while ((i = next.getAndIncrement()) < requests) {
+                        long userId = i + 1L;
+                        long begin = System.nanoTime();
+                        try {
+                            rewardService.claim(missionSetId, optionId, userId);
+                        } catch (RewardException.OutOfStock e) {
+                            outOfStock.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - begin;
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        boolean completed = done.await(5, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - started;
+        pool.shutdownNow();
+
+        assertThat(completed).as("[%s] 5분 안에 모든 발급 요청이 끝나야 함", name).isTrue();
+        assertThat(failures).as("[%s] 재고 소진 외 발급 실패", name).isEmpty();
+
+        int issued = rewardOptionRepository.findById(optionId).orElseThrow().getIssued();
+        Integer rewards = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_reward WHERE reward_option_id = ?", Integer.class, optionId);
+        Integer shardRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reward_stock_shard WHERE option_id = ?", Integer.class, optionId);
+        assertThat(rewards).isEqualTo(issued);
+        assertThat(shardRows).isEqualTo(shards);
+        return new Result(name, shards, issued, outOfStock.get(), elapsed, latencies);
+    }
+
+    private static class Result {
+        private final String name;
+        private final int shards;
+        private final int issued;
+        private final int outOfStock;
+        private final long elapsedNanos;
+        private final long[] latencies;
+
+        Result(String name, int shards, int issued, int outOfStock, long elapsedNanos, long[] latencies) {
+            this.name = name;
+            this.shards = shards;
+            this.issued = issued;
+            this.outOfStock = outOfStock;
+            this.elapsedNanos = elapsedNanos;
+            this.latencies = latencies.clone();
+            Arrays.sort(this.latencies);
+        }
+
+        double throughput() {
+            return issued / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        private double percentileMs(double p) {
+            return latencies[(int) Math.min(latencies.length - 1, Math.ceil(p * latencies.length) - 1)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[%s] shards=%d threads=%d issued=%d outOfStock=%d elapsed=%dms throughput=%.1f/s p50=%.2fms p99=%.2fms",
+                    name, shards, THREADS, issued, outOfStock, elapsedNanos / 1_000_000,
+                    throughput(), percentileMs(0.50), percentileMs(0.99));
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.snow.popin.domain.reward.service;
+
+import com.snow.popin.domain.reward.entity.RewardOption;
+import com.snow.popin.domain.reward.entity.RewardStockShard;
+import com.snow.popin.domain.reward.repository.RewardOptionRepository;
+import com.snow.popin.domain.reward.repository.RewardStockShardRepository;
+import com.snow.popin.domain.reward.repository.RewardStockShardRepository.ShardRemaining;
+import com.snow.popin.global.exception.RewardException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("리워드 분할 재고 테스트")
+class RewardStockServiceTest {
+
+    private static final Long OPTION_ID = 10L;
+
+    @Mock
+    private RewardStockShardRepository shardRepository;
+
+    @Mock
+    private RewardOptionRepository optionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RewardStockService stockService;
+    private RewardOption option;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        stockService = new RewardStockService(shardRepository, optionRepository, transactionManager);
+        ReflectionTestUtils.setField(stockService, "shardCount", 4);
+
+        option = RewardOption.builder().name("키링").total(10).build();
+        ReflectionTestUtils.setField(option, "id", OPTION_ID);
+    }
+
+    @Test
+    @DisplayName("남은 샤드 중 하나를 조건부 UPDATE로 차감하고 실패한 샤드는 건너뛴다")
+    void consumeOne_triesAvailableShards() {
+        // given
+        when(shardRepository.findRemainingByOptionId(OPTION_ID))
+                .thenReturn(List.of(shard(1L, 2), shard(2L, 1), shard(3L, 3), shard(4L, 0)));
+        when(shardRepository.tryConsume(anyLong())).thenReturn(0, 1);
+
+        // when
+        Long shardId = stockService.consumeOne(option);
+
+        // then
+        assertThat(shardId).isIn(1L, 2L, 3L);
+        verify(shardRepository, times(2)).tryConsume(anyLong());
+        verify(shardRepository, never()).tryConsume(4L);
+        verify(shardRepository, never()).lockByOptionId(any());
+    }
+
+    @Test
+    @DisplayName("남은 샤드가 없으면 재고 소진 예외를 던진다")
+    void consumeOne_outOfStock() {
+        // given
+        when(shardRepository.findRemainingByOptionId(OPTION_ID))
+                .thenReturn(List.of(shard(1L, 0), shard(2L, 0)));
+
+        // when & then
+        assertThatThrownBy(() -> stockService.consumeOne(option))
+                .isInstanceOf(RewardException.OutOfStock.class);
+        verify(shardRepository, never()).tryConsume(anyLong());
+    }
+
+    @Test
+    @DisplayName("샤드가 없는 기존 옵션은 이전 발급 수를 유지한 채 샤드를 만든다")
+    void consumeOne_createsShardsForLegacyOption() {
+        // given
+        ReflectionTestUtils.setField(option, "legacyIssued", 3);
+        when(shardRepository.findRemainingByOptionId(OPTION_ID))
+                .thenReturn(List.of(), List.of(shard(1L, 2), shard(2L, 2), shard(3L, 2), shard(4L, 1)));
+        when(optionRepository.lockById(OPTION_ID)).thenReturn(Optional.of(option));
+        when(shardRepository.countByOption_Id(OPTION_ID)).thenReturn(0L);
+        when(shardRepository.tryConsume(anyLong())).thenReturn(1);
+
+        // when
+        stockService.consumeOne(option);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RewardStockShard>> captor = ArgumentCaptor.forClass(List.class);
+        verify(shardRepository).saveAll(captor.capture());
+        List<RewardStockShard> created = captor.getValue();
+        assertThat(created).hasSize(4);
+        assertThat(created).extracting(RewardStockShard::getRemaining).containsExactly(2, 2, 2, 1);
+        assertThat(created.stream().mapToInt(RewardStockShard::getTotal).sum()).isEqualTo(10);
+        assertThat(created.stream().mapToInt(RewardStockShard::getIssued).sum()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("절반 이상의 샤드가 소진되면 남은 재고를 전체 샤드에 다시 배정한다")
+    void consumeOne_rebalancesWhenDrained() {
+        // given
+        RewardStockShard s1 = RewardStockShard.of(option, 0, 5, 5);
+        RewardStockShard s2 = RewardStockShard.of(option, 1, 5, 5);
+        RewardStockShard s3 = RewardStockShard.of(option, 2, 5, 5);
+        RewardStockShard s4 = RewardStockShard.of(option, 3, 10, 3);
+        when(shardRepository.findRemainingByOptionId(OPTION_ID))
+                .thenReturn(List.of(shard(1L, 0), shard(2L, 0), shard(3L, 0), shard(4L, 7)),
+                        List.of(shard(1L, 2), shard(2L, 2), shard(3L, 2), shard(4L, 1)));
+        when(shardRepository.lockByOptionId(OPTION_ID)).thenReturn(List.of(s1, s2, s3, s4));
+        when(shardRepository.tryConsume(anyLong())).thenReturn(1);
+
+        // when
+        stockService.consumeOne(option);
+
+        // then
+        assertThat(List.of(s1, s2, s3, s4)).extracting(RewardStockShard::getRemaining).containsExactly(2, 2, 2, 1);
+        assertThat(s4.getTotal()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("재배정이 락 충돌로 실패하면 건너뛰고 기존 남은 샤드에서 차감한다")
+    void consumeOne_skipsRebalanceOnLockFailure() {
+        // given
+        when(shardRepository.findRemainingByOptionId(OPTION_ID))
+                .thenReturn(List.of(shard(1L, 0), shard(2L, 0), shard(3L, 0), shard(4L, 7)));
+        when(shardRepository.lockByOptionId(OPTION_ID))
+                .thenThrow(new CannotAcquireLockException("Deadlock detected"));
+        when(shardRepository.tryConsume(4L)).thenReturn(1);
+
+        // when
+        Long shardId = stockService.consumeOne(option);
+
+        // then
+        assertThat(shardId).isEqualTo(4L);
+        verify(shardRepository).tryConsume(4L);
+    }
+
+    @Test
+    @DisplayName("총 재고 변경 시 발급 수는 유지하고 남은 재고를 고르게 나눈다")
+    void resize_keepsIssued() {
+        // given
+        RewardStockShard s1 = RewardStockShard.of(option, 0, 5, 4);
+        RewardStockShard s2 = RewardStockShard.of(option, 1, 5, 2);
+        when(shardRepository.lockByOptionId(OPTION_ID)).thenReturn(List.of(s1, s2));
+
+        // when
+        stockService.resize(option, 20);
+
+        // then
+        assertThat(s1.getTotal() + s2.getTotal()).isEqualTo(20);
+        assertThat(s1.getRemaining()).isEqualTo(7);
+        assertThat(s2.getRemaining()).isEqualTo(7);
+    }
+
+    private static ShardRemaining shard(Long id, int remaining) {
+        return new ShardRemaining() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public int getRemaining() {
+                return remaining;
+            }
+        };
+    }
+}
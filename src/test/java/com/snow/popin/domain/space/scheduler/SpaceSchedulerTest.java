@@ -0,0 +1,129 @@
+package com.snow.popin.domain.space.scheduler;
+
+import com.snow.popin.domain.space.event.SpaceHiddenEvent;
+import com.snow.popin.domain.space.repository.SpaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("만료 공간 숨김 스케줄러 테스트")
+class SpaceSchedulerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+
+    @Mock
+    private SpaceRepository spaceRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private SpaceScheduler spaceScheduler;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        spaceScheduler = new SpaceScheduler(spaceRepository, eventPublisher, transactionManager);
+        ReflectionTestUtils.setField(spaceScheduler, "chunkSize", 2);
+    }
+
+    @Test
+    @DisplayName("만료 공간을 청크로 나눠 일괄 숨김하고 청크마다 이벤트를 발행한다")
+    void hideExpiredSpaces_chunked() {
+        // given
+        when(spaceRepository.findExpiredIds(eq(TODAY), anyLong(), any()))
+                .thenReturn(List.of(1L, 2L), List.of(7L), List.of());
+        when(spaceRepository.bulkHide(anyList(), any()))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        // when
+        int hidden = spaceScheduler.hideExpiredSpaces(TODAY);
+
+        // then
+        assertThat(hidden).isEqualTo(3);
+        verify(spaceRepository).findExpiredIds(eq(TODAY), eq(0L), any());
+        verify(spaceRepository).findExpiredIds(eq(TODAY), eq(2L), any());
+        verify(spaceRepository).findExpiredIds(eq(TODAY), eq(7L), any());
+        verify(spaceRepository, times(2)).bulkHide(anyList(), any());
+
+        ArgumentCaptor<SpaceHiddenEvent> captor = ArgumentCaptor.forClass(SpaceHiddenEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues().get(0).getSpaceIds()).containsExactly(1L, 2L);
+        assertThat(captor.getAllValues().get(1).getSpaceIds()).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("만료 큐 모드에서는 정시 폴링을 건너뛴다")
+    void hideExpiredSpaces_queueMode_skipsPolling() {
+        // given
+        ReflectionTestUtils.setField(spaceScheduler, "mode", SpaceScheduler.MODE_QUEUE);
+
+        // when
+        spaceScheduler.hideExpiredSpaces();
+
+        // then
+        verifyNoInteractions(spaceRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("만료 큐는 종료일 다음 날 0시에 종료일별로 한 번만 예약한다")
+    void expiryQueue_schedulesOncePerEndDate() {
+        // given
+        SpaceExpiryQueue queue = new SpaceExpiryQueue(spaceScheduler, spaceRepository, taskScheduler);
+        doReturn(mock(ScheduledFuture.class)).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+        LocalDate endDate = TODAY.plusDays(3);
+
+        // when
+        queue.schedule(endDate);
+        queue.schedule(endDate);
+        queue.schedule(TODAY.plusDays(5));
+
+        // then
+        assertThat(queue.size()).isEqualTo(2);
+        verify(taskScheduler).schedule(any(Runnable.class), eq(queue.dueAt(endDate)));
+        assertThat(queue.dueAt(endDate)).isEqualTo(
+                TODAY.plusDays(4).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    @Test
+    @DisplayName("예약 실행 시 만료 공간을 숨기고 예약을 제거한다")
+    void expiryQueue_fire_hidesAndRemoves() {
+        // given
+        SpaceExpiryQueue queue = new SpaceExpiryQueue(spaceScheduler, spaceRepository, taskScheduler);
+        doReturn(mock(ScheduledFuture.class)).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+        queue.schedule(TODAY);
+        when(spaceRepository.findExpiredIds(any(), anyLong(), any())).thenReturn(List.of());
+
+        // when
+        queue.fire(TODAY);
+
+        // then
+        assertThat(queue.size()).isZero();
+        verify(spaceRepository).findExpiredIds(any(), eq(0L), any());
+    }
+}
@@ -0,0 +1,164 @@
+package com.snow.popin.domain.space.search;
+
+import com.snow.popin.domain.map.entity.Venue;
+import com.snow.popin.domain.space.entity.Space;
+import com.snow.popin.domain.space.event.SpaceChangedEvent;
+import com.snow.popin.domain.space.event.SpaceHiddenEvent;
+import com.snow.popin.domain.space.repository.SpaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("공간 검색 인덱스 테스트")
+class SpaceSearchIndexTest {
+
+    @Mock
+    private SpaceRepository spaceRepository;
+
+    private SpaceSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SpaceSearchIndex(spaceRepository);
+    }
+
+    @Test
+    @DisplayName("제목/설명 부분 문자열과 주소로 검색한다")
+    void search_substring() {
+        // given
+        index.upsert(doc(1L, "성수 팝업 스토어", "넓은 전시 공간", "서울 성동구 성수동", 30, 1));
+        index.upsert(doc(2L, "강남 라운지", "팝업 행사에 적합", "서울 강남구 역삼동", 50, 2));
+        index.upsert(doc(3L, "부산 창고", "창고형 공간", "부산 해운대구", 100, 3));
+
+        // when
+        SpaceSearchIndex.Result byKeyword = index.search("팝업", null, null, null, 0, 10);
+        SpaceSearchIndex.Result byLocation = index.search(null, "성동구", null, null, 0, 10);
+        SpaceSearchIndex.Result both = index.search("공간", "서울", null, null, 0, 10);
+
+        // then
+        assertThat(byKeyword.getSpaceIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(byLocation.getSpaceIds()).containsExactly(1L);
+        assertThat(both.getSpaceIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("제목 일치가 설명 일치보다 먼저 오고, 같은 점수는 최신순이다")
+    void search_ranking() {
+        // given
+        index.upsert(doc(1L, "라운지", "팝업 가능", "서울", 30, 3));
+        index.upsert(doc(2L, "팝업 라운지", "설명", "서울", 30, 1));
+        index.upsert(doc(3L, "대형 팝업홀", "설명", "서울", 30, 2));
+
+        // when
+        SpaceSearchIndex.Result result = index.search("팝업", null, null, null, 0, 10);
+
+        // then
+        assertThat(result.getSpaceIds()).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("면적 범위와 페이지를 적용한다")
+    void search_areaRangeAndPaging() {
+        // given
+        for (long id = 1; id <= 10; id++) {
+            index.upsert(doc(id, "공간 " + id, "", "서울", (int) id * 10, (int) id));
+        }
+
+        // when
+        SpaceSearchIndex.Result first = index.search(null, null, 30, 80, 0, 4);
+        SpaceSearchIndex.Result second = index.search(null, null, 30, 80, 4, 4);
+
+        // then
+        assertThat(first.getTotal()).isEqualTo(6);
+        assertThat(first.getSpaceIds()).containsExactly(8L, 7L, 6L, 5L);
+        assertThat(second.getSpaceIds()).containsExactly(4L, 3L);
+    }
+
+    @Test
+    @DisplayName("숨김/비공개 전환 시 인덱스에서 제거된다")
+    void hiddenSpaces_removed() {
+        // given
+        Space space = space(1L, "성수 팝업", "", "서울", 30, 1);
+        index.upsert(SpaceSearchDocument.from(space));
+        index.upsert(doc(2L, "성수 라운지", "", "서울", 30, 2));
+
+        space.hide();
+        when(spaceRepository.findWithVenueById(1L)).thenReturn(Optional.of(space));
+
+        // when
+        index.onChanged(new SpaceChangedEvent(1L));
+        index.onHidden(new SpaceHiddenEvent(List.of(2L)));
+
+        // then
+        assertThat(index.size()).isZero();
+        assertThat(index.search("성수", null, null, null, 0, 10).getSpaceIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정 시 이전 내용의 색인이 남지 않는다")
+    void upsert_replacesPostings() {
+        // given
+        index.upsert(doc(1L, "성수 팝업", "", "서울", 30, 1));
+
+        // when
+        index.upsert(doc(1L, "홍대 라운지", "", "서울", 30, 1));
+
+        // then
+        assertThat(index.search("성수", null, null, null, 0, 10).getSpaceIds()).isEmpty();
+        assertThat(index.search("홍대", null, null, null, 0, 10).getSpaceIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("재구성 시 다른 노드에서 등록된 공간을 추가하고 숨김/삭제된 공간을 제거한다")
+    void rebuild_reconcilesWithDatabase() {
+        // given
+        index.upsert(doc(1L, "성수 팝업", "", "서울", 30, 1));
+        index.upsert(doc(2L, "강남 라운지", "", "서울", 30, 2));
+        when(spaceRepository.findVisibleWithVenueAfter(anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(space(2L, "강남 라운지", "", "서울", 30, 2), space(3L, "홍대 창고", "", "서울", 30, 3)))
+                .thenReturn(List.of());
+
+        // when
+        index.rebuild();
+
+        // then
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("성수", null, null, null, 0, 10).getSpaceIds()).isEmpty();
+        assertThat(index.search("홍대", null, null, null, 0, 10).getSpaceIds()).containsExactly(3L);
+    }
+
+    private static SpaceSearchDocument doc(Long id, String title, String description, String address,
+                                           int areaSize, int createdOrder) {
+        return SpaceSearchDocument.from(space(id, title, description, address, areaSize, createdOrder));
+    }
+
+    private static Space space(Long id, String title, String description, String address,
+                               int areaSize, int createdOrder) {
+        Venue venue = Venue.of(title, address, null, null, null, null, false);
+        Space space = Space.builder()
+                .title(title)
+                .description(description)
+                .areaSize(areaSize)
+                .venue(venue)
+                .build();
+        ReflectionTestUtils.setField(space, "id", id);
+        ReflectionTestUtils.setField(space, "createdAt", LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(createdOrder));
+        return space;
+    }
+}
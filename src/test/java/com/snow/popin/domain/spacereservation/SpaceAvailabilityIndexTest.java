@@ -0,0 +1,149 @@
+package com.snow.popin.domain.spacereservation;
+
+import com.snow.popin.domain.spacereservation.entity.ReservationStatus;
+import com.snow.popin.domain.spacereservation.event.ReservationStatusChangedEvent;
+import com.snow.popin.domain.spacereservation.repository.SpaceReservationRepository;
+import com.snow.popin.domain.spacereservation.service.SpaceAvailabilityIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("공간 예약 현황 인덱스 테스트")
+class SpaceAvailabilityIndexTest {
+
+    private static final Long SPACE_ID = 1L;
+
+    @Mock
+    private SpaceReservationRepository reservationRepository;
+
+    private SpaceAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SpaceAvailabilityIndex(reservationRepository, 100);
+    }
+
+    @Test
+    @DisplayName("승인된 예약 기간과 겹치는지 확인한다 (시작/종료일 포함)")
+    void overlaps() {
+        // given
+        when(reservationRepository.findAcceptedRangesBySpaceId(SPACE_ID)).thenReturn(List.of(
+                range(10L, d(3, 10), d(3, 15)),
+                range(11L, d(3, 20), d(3, 25))));
+
+        // when & then
+        assertThat(index.overlaps(SPACE_ID, d(3, 15), d(3, 16))).isTrue();
+        assertThat(index.overlaps(SPACE_ID, d(3, 1), d(3, 10))).isTrue();
+        assertThat(index.overlaps(SPACE_ID, d(3, 16), d(3, 19))).isFalse();
+        assertThat(index.overlaps(SPACE_ID, d(3, 26), d(4, 1))).isFalse();
+        verify(reservationRepository, times(1)).findAcceptedRangesBySpaceId(SPACE_ID);
+    }
+
+    @Test
+    @DisplayName("맞닿은 예약은 하나의 점유 구간으로 합치고 빈 구간을 계산한다")
+    void bookedAndFree() {
+        // given
+        when(reservationRepository.findAcceptedRangesBySpaceId(SPACE_ID)).thenReturn(List.of(
+                range(10L, d(3, 5), d(3, 9)),
+                range(11L, d(3, 10), d(3, 12)),
+                range(12L, d(3, 20), d(4, 5))));
+
+        // when
+        List<LocalDate[]> booked = index.booked(SPACE_ID, d(3, 1), d(3, 31));
+        List<LocalDate[]> free = index.free(SPACE_ID, d(3, 1), d(3, 31));
+
+        // then
+        assertThat(booked).containsExactly(
+                new LocalDate[]{d(3, 5), d(3, 12)},
+                new LocalDate[]{d(3, 20), d(3, 31)});
+        assertThat(free).containsExactly(
+                new LocalDate[]{d(3, 1), d(3, 4)},
+                new LocalDate[]{d(3, 13), d(3, 19)});
+    }
+
+    @Test
+    @DisplayName("승인/취소 이벤트로 이미 읽은 공간의 예약 현황을 갱신한다")
+    void onStatusChanged() {
+        // given
+        when(reservationRepository.findAcceptedRangesBySpaceId(SPACE_ID)).thenReturn(List.of(
+                range(10L, d(3, 10), d(3, 15))));
+        assertThat(index.overlaps(SPACE_ID, d(3, 20), d(3, 21))).isFalse();
+
+        // when
+        index.onStatusChanged(new ReservationStatusChangedEvent(11L, SPACE_ID, d(3, 20), d(3, 22), ReservationStatus.ACCEPTED));
+        index.onStatusChanged(new ReservationStatusChangedEvent(10L, SPACE_ID, d(3, 10), d(3, 15), ReservationStatus.CANCELLED));
+
+        // then
+        assertThat(index.overlaps(SPACE_ID, d(3, 20), d(3, 21))).isTrue();
+        assertThat(index.overlaps(SPACE_ID, d(3, 10), d(3, 15))).isFalse();
+        verify(reservationRepository, times(1)).findAcceptedRangesBySpaceId(SPACE_ID);
+    }
+
+    @Test
+    @DisplayName("읽지 않은 공간의 이벤트는 무시하고 다음 조회 때 DB에서 읽는다")
+    void onStatusChanged_notLoaded() {
+        // given
+        when(reservationRepository.findAcceptedRangesBySpaceId(SPACE_ID)).thenReturn(List.of());
+
+        // when
+        index.onStatusChanged(new ReservationStatusChangedEvent(11L, SPACE_ID, d(3, 20), d(3, 22), ReservationStatus.ACCEPTED));
+
+        // then
+        verifyNoInteractions(reservationRepository);
+        assertThat(index.free(SPACE_ID, d(3, 1), d(3, 31))).containsExactly(new LocalDate[]{d(3, 1), d(3, 31)});
+    }
+
+    @Test
+    @DisplayName("읽는 도중 승인이 커밋되면 읽은 결과를 캐시에 넣지 않고 다음 조회 때 다시 읽는다")
+    void calendarOf_skipsCacheWhenChangedDuringLoad() {
+        // given
+        when(reservationRepository.findAcceptedRangesBySpaceId(SPACE_ID))
+                .thenAnswer(invocation -> {
+                    index.onStatusChanged(new ReservationStatusChangedEvent(11L, SPACE_ID, d(3, 20), d(3, 22), ReservationStatus.ACCEPTED));
+                    return List.of();
+                })
+                .thenReturn(List.of(range(11L, d(3, 20), d(3, 22))));
+
+        // when
+        List<LocalDate[]> stale = index.booked(SPACE_ID, d(3, 1), d(3, 31));
+        List<LocalDate[]> reloaded = index.booked(SPACE_ID, d(3, 1), d(3, 31));
+
+        // then
+        assertThat(stale).isEmpty();
+        assertThat(reloaded).containsExactly(new LocalDate[]{d(3, 20), d(3, 22)});
+        verify(reservationRepository, times(2)).findAcceptedRangesBySpaceId(SPACE_ID);
+    }
+
+    private static LocalDate d(int month, int day) {
+        return LocalDate.of(2025, month, day);
+    }
+
+    private static SpaceReservationRepository.AcceptedRange range(Long id, LocalDate start, LocalDate end) {
+        return new SpaceReservationRepository.AcceptedRange() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDate getStartDate() {
+                return start;
+            }
+
+            @Override
+            public LocalDate getEndDate() {
+                return end;
+            }
+        };
+    }
+}
@@ -0,0 +1,148 @@
+package com.snow.popin.global.controller;
+
+import com.snow.popin.domain.roleupgrade.repository.RoleUpgradeRepository;
+import com.snow.popin.global.exception.GeneralException;
+import com.snow.popin.global.storage.UploadFileService;
+import com.snow.popin.global.util.UserUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("업로드 파일 서빙 테스트")
+@ExtendWith(MockitoExtension.class)
+class UploadControllerTest {
+
+    private static final String HASH = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @TempDir
+    Path uploadDir;
+
+    @Mock
+    private RoleUpgradeRepository roleUpgradeRepository;
+
+    @Mock
+    private UserUtil userUtil;
+
+    private UploadController uploadController;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        UploadFileService uploadFileService = new UploadFileService(roleUpgradeRepository, userUtil);
+        ReflectionTestUtils.setField(uploadFileService, "uploadPath", uploadDir.toString());
+        uploadController = new UploadController(uploadFileService);
+
+        Path shard = Files.createDirectories(uploadDir.resolve("blobs/2c/f2"));
+        Files.writeString(shard.resolve(HASH + ".png"), "0123456789");
+    }
+
+    @Test
+    @DisplayName("해시 파일명은 강한 ETag와 immutable 캐시로 응답한다")
+    void serve_immutableBlob() throws IOException {
+        MockHttpServletResponse response = serve(get());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("ETag")).isEqualTo("\"" + HASH + "\"");
+        assertThat(response.getHeader("Cache-Control")).contains("immutable");
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+        assertThat(response.getContentType()).isEqualTo("image/png");
+    }
+
+    @Test
+    @DisplayName("ETag가 일치하면 304를 응답한다")
+    void serve_notModified() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader("If-None-Match", "\"" + HASH + "\"");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단일 Range 요청은 206과 부분 내용으로 응답한다")
+    void serve_range() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader("Range", "bytes=2-5");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 Range는 416으로 응답한다")
+    void serve_unsatisfiableRange() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader("Range", "bytes=20-30");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */10");
+    }
+
+    @Test
+    @DisplayName("sendfile을 지원하면 본문을 직접 쓰지 않고 커넥터에 위임한다")
+    void serve_sendfile() throws IOException {
+        MockHttpServletRequest request = get();
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("업로드 경로를 벗어나는 요청은 거부한다")
+    void serve_pathTraversal() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads/..%2F..%2Fetc%2Fpasswd");
+
+        assertThatThrownBy(() -> serve(request)).isInstanceOf(GeneralException.class);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 역할 승격 문서는 조회할 수 없다")
+    void serve_documentOfOtherUser() throws IOException {
+        Files.createDirectories(uploadDir.resolve("documents"));
+        Files.writeString(uploadDir.resolve("documents/license.pdf"), "pdf");
+        given(userUtil.isAuthenticated()).willReturn(true);
+        given(userUtil.isAdmin()).willReturn(false);
+        given(userUtil.getCurrentUserEmail()).willReturn("other@example.com");
+        given(roleUpgradeRepository.existsByEmailAndDocumentUrl("other@example.com", "/uploads/documents/license.pdf"))
+                .willReturn(false);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads/documents/license.pdf");
+
+        assertThatThrownBy(() -> serve(request)).isInstanceOf(GeneralException.class);
+    }
+
+    private MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/uploads/blobs/2c/f2/" + HASH + ".png");
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        uploadController.serve(request, response);
+        return response;
+    }
+}
@@ -0,0 +1,106 @@
+package com.snow.popin.global.datagen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("합성 데이터 분포 테스트")
+class SyntheticDistributionsTest {
+
+    @Test
+    @DisplayName("같은 seed 면 같은 방문 시각 순서가 만들어진다")
+    void visitTime_deterministic() {
+        // given
+        LocalDate start = LocalDate.of(2025, 3, 1);
+        LocalDate end = LocalDate.of(2025, 3, 31);
+
+        // when
+        List<LocalDateTime> first = sampleVisits(new SplittableRandom(7L), start, end, 100);
+        List<LocalDateTime> second = sampleVisits(new SplittableRandom(7L), start, end, 100);
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(first).allSatisfy(visit -> {
+            assertThat(visit.toLocalDate()).isBetween(start, end);
+            assertThat(visit.getHour()).isBetween(10, 21);
+            assertThat(visit.getMinute()).isIn(0, 30);
+        });
+    }
+
+    @Test
+    @DisplayName("방문은 주말과 오후 시간대에 몰린다")
+    void visitTime_weekendAndAfternoonPeak() {
+        // given - 2025-03-03(월) ~ 2025-03-09(일) 한 주
+        SplittableRandom random = new SplittableRandom(42L);
+        LocalDate monday = LocalDate.of(2025, 3, 3);
+        int[] byDay = new int[7];
+        int[] byHour = new int[24];
+
+        // when
+        for (LocalDateTime visit : sampleVisits(random, monday, monday.plusDays(6), 70_000)) {
+            byDay[visit.getDayOfWeek().getValue() - 1]++;
+            byHour[visit.getHour()]++;
+        }
+
+        // then - 토/일 하루 방문이 평일 하루의 2배 이상, 14시가 10시/21시보다 많음
+        int weekdayAverage = (byDay[0] + byDay[1] + byDay[2] + byDay[3] + byDay[4]) / 5;
+        assertThat(byDay[DayOfWeek.SATURDAY.getValue() - 1]).isGreaterThan(2 * weekdayAverage);
+        assertThat(byDay[DayOfWeek.SUNDAY.getValue() - 1]).isGreaterThan(2 * weekdayAverage);
+        assertThat(byHour[14]).isGreaterThan(2 * byHour[10]).isGreaterThan(4 * byHour[21]);
+    }
+
+    @Test
+    @DisplayName("Zipf 표본은 앞 순위일수록 자주 뽑힌다")
+    void zipf_skewsTowardTopRanks() {
+        // given
+        SyntheticDistributions.Zipf zipf = new SyntheticDistributions.Zipf(1000, 1.0);
+        SplittableRandom random = new SplittableRandom(1L);
+        int[] counts = new int[1000];
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            counts[zipf.sample(random)]++;
+        }
+
+        // then - 1순위 ≈ 2순위의 2배, 상위 10개가 전체의 약 39%
+        int top10 = 0;
+        for (int rank = 0; rank < 10; rank++) {
+            top10 += counts[rank];
+        }
+        assertThat(counts[0]).isBetween((int) (1.7 * counts[1]), (int) (2.3 * counts[1]));
+        assertThat(top10).isBetween(35_000, 43_000);
+    }
+
+    @Test
+    @DisplayName("지역 좌표는 중심에서 약 1.5km 안에 흩뿌려진다")
+    void regionCoordinate_jitterWithinRadius() {
+        // given
+        SplittableRandom random = new SplittableRandom(3L);
+
+        // when & then
+        for (int i = 0; i < 1000; i++) {
+            RegionCoordinate region = RegionCoordinate.sample(random);
+            assertThat(region.jitterLatitude(random)).isCloseTo(region.getLatitude(),
+                    within(0.0136));
+            assertThat(region.jitterLongitude(random)).isCloseTo(region.getLongitude(),
+                    within(0.0136 / Math.cos(Math.toRadians(region.getLatitude()))));
+        }
+    }
+
+    private List<LocalDateTime> sampleVisits(SplittableRandom random, LocalDate start, LocalDate end, int count) {
+        List<LocalDateTime> visits = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            visits.add(SyntheticDistributions.visitTime(random, start, end));
+        }
+        return visits;
+    }
+}
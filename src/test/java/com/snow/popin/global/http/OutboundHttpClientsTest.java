@@ -0,0 +1,112 @@
+package com.snow.popin.global.http;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("외부 API HTTP 클라이언트 테스트")
+class OutboundHttpClientsTest {
+
+    private StubHttpServer stub;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboundHttpClients clients;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new StubHttpServer();
+        meterRegistry = new SimpleMeterRegistry();
+
+        OutboundHttpProperties properties = new OutboundHttpProperties();
+        OutboundHttpProperties.Provider provider = OutboundHttpProperties.Provider.of(List.of("localhost"), 300);
+        provider.setRetryBackoffMs(1);
+        properties.getProviders().put("stub", provider);
+
+        clients = new OutboundHttpClients(properties, meterRegistry);
+        restTemplate = clients.restTemplate("stub");
+    }
+
+    @AfterEach
+    void tearDown() {
+        clients.close();
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("멱등 요청은 503 응답 후 재시도하여 성공한다")
+    void idempotentRequest_retriesOnServiceUnavailable() {
+        // given
+        stub.respond("/items", 503, "").respond("/items", 200, "{\"ok\":true}");
+
+        // when
+        Map body = restTemplate.getForObject(stub.url("/items"), Map.class);
+
+        // then
+        assertThat(body.get("ok")).isEqualTo(true);
+        assertThat(stub.hits("/items")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("POST 요청은 5xx 응답에도 재시도하지 않는다")
+    void postRequest_notRetriedOnServerError() {
+        // given
+        stub.respond("/v1/payment/approve", 503, "");
+
+        // when & then
+        assertThatThrownBy(() -> restTemplate.postForObject(stub.url("/v1/payment/approve"), Map.of(), Map.class))
+                .isInstanceOf(HttpServerErrorException.class);
+        assertThat(stub.hits("/v1/payment/approve")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("읽기 타임아웃 초과 시 POST는 한 번만 호출되고 예외가 발생한다")
+    void postRequest_readTimeout() {
+        // given
+        stub.respond("/slow", 200, "{}", 1000);
+
+        // when & then
+        assertThatThrownBy(() -> restTemplate.postForObject(stub.url("/slow"), Map.of(), Map.class))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(stub.hits("/slow")).isEqualTo(1);
+        assertThat(meterRegistry.counter(OutboundMetricsInterceptor.ERRORS,
+                "provider", "stub", "endpoint", "/slow", "exception", "SocketTimeoutException").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("제공자/엔드포인트별 지연 시간이 기록된다")
+    void recordsLatencyPerProviderEndpoint() {
+        // given
+        stub.respond("/v1/payment/ready", 200, "{}");
+
+        // when
+        restTemplate.postForObject(stub.url("/v1/payment/ready"), Map.of(), Map.class);
+        restTemplate.postForObject(stub.url("/v1/payment/ready"), Map.of(), Map.class);
+
+        // then
+        Timer timer = meterRegistry.find(OutboundMetricsInterceptor.TIMER)
+                .tags("provider", "stub", "endpoint", "/v1/payment/ready", "outcome", "SUCCESS")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("설정에 없는 호스트는 default 제공자로 분류된다")
+    void unknownHost_usesDefaultProvider() {
+        assertThat(clients.providerOf("example.com")).isEqualTo(OutboundHttpClients.DEFAULT_PROVIDER);
+        assertThat(clients.providerOf("kapi.kakao.com")).isEqualTo("kakao-pay");
+    }
+}
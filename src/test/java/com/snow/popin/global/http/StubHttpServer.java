@@ -0,0 +1,100 @@
+package com.snow.popin.global.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 API 테스트용 스텁 서버 (JDK 내장 HttpServer)
+ * 경로별로 응답(상태코드, 본문, 지연)을 순서대로 쌓아두고, 마지막 응답은 이후 요청에도 반복한다.
+ */
+public class StubHttpServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Map<String, Deque<StubResponse>> responses = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+
+    public StubHttpServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    public StubHttpServer respond(String path, int status, String body) {
+        return respond(path, status, body, 0);
+    }
+
+    public StubHttpServer respond(String path, int status, String body, long delayMs) {
+        responses.computeIfAbsent(path, key -> new ConcurrentLinkedDeque<>())
+                .add(new StubResponse(status, body, delayMs));
+        return this;
+    }
+
+    public int hits(String path) {
+        AtomicInteger count = hits.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        hits.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+
+        Deque<StubResponse> queue = responses.get(path);
+        StubResponse response = queue == null ? new StubResponse(404, "", 0)
+                : queue.size() > 1 ? queue.poll() : queue.peek();
+
+        if (response.delayMs > 0) {
+            try {
+                Thread.sleep(response.delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        byte[] bytes = response.body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        try {
+            exchange.sendResponseHeaders(response.status, bytes.length == 0 ? -1 : bytes.length);
+            if (bytes.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            }
+        } catch (IOException ignored) {
+            // 클라이언트가 타임아웃으로 먼저 끊은 경우
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static class StubResponse {
+        final int status;
+        final String body;
+        final long delayMs;
+
+        StubResponse(int status, String body, long delayMs) {
+            this.status = status;
+            this.body = body;
+            this.delayMs = delayMs;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.snow.popin.global.idempotency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("Idempotency-Key 인터셉터 테스트")
+class IdempotencyInterceptorTest {
+
+    private final TestController controller = new TestController();
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addInterceptors(new IdempotencyInterceptor(new IdempotencyStore()))
+                .addFilters(new IdempotencyFilter())
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user@test.com", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("같은 키로 재요청하면 처리 없이 첫 응답을 재전송한다")
+    void sameKey_replaysFirstResponse() throws Exception {
+        // when
+        mockMvc.perform(post("/api/test/claim").header(IdempotencyInterceptor.HEADER, "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(1));
+
+        mockMvc.perform(post("/api/test/claim").header(IdempotencyInterceptor.HEADER, "abc"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyInterceptor.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.count").value(1));
+
+        // then
+        assertThat(controller.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키가 다르거나 헤더가 없으면 매번 처리한다")
+    void differentOrMissingKey_executesEachTime() throws Exception {
+        mockMvc.perform(post("/api/test/claim").header(IdempotencyInterceptor.HEADER, "k1"));
+        mockMvc.perform(post("/api/test/claim").header(IdempotencyInterceptor.HEADER, "k2"));
+        mockMvc.perform(post("/api/test/claim"));
+
+        assertThat(controller.calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다른 사용자가 같은 키를 써도 서로의 응답을 받지 않는다")
+    void keyIsScopedPerUser() throws Exception {
+        mockMvc.perform(post("/api/test/claim").header(IdempotencyInterceptor.HEADER, "shared"));
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("other@test.com", null, List.of()));
+        mockMvc.perform(post("/api/test/claim").header(IdempotencyInterceptor.HEADER, "shared"))
+                .andExpect(jsonPath("$.count").value(2));
+    }
+
+    @RestController
+    static class TestController {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Idempotent
+        @PostMapping("/api/test/claim")
+        public ResponseEntity<Map<String, Object>> claim() {
+            return ResponseEntity.ok(Map.of("count", calls.incrementAndGet()));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.snow.popin.global.idempotency;
+
+import com.snow.popin.global.exception.GeneralException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("멱등 키 저장소 테스트")
+class IdempotencyStoreTest {
+
+    private final IdempotencyStore store = new IdempotencyStore();
+
+    @Test
+    @DisplayName("동시에 들어온 같은 키 요청은 한 번만 처리되고 같은 결과를 받는다")
+    void execute_concurrentDuplicates_coalesced() throws Exception {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(pool.submit(() -> store.execute("user:key-1", () -> {
+                executions.incrementAndGet();
+                await(release);
+                return "reservation-1";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("reservation-1");
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("처리 중 예외가 나면 결과를 저장하지 않고 다음 요청이 다시 처리한다")
+    void execute_failure_notCached() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        assertThatThrownBy(() -> store.execute("user:key-2", () -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException("재고 부족");
+        })).isInstanceOf(IllegalStateException.class);
+        String second = store.execute("user:key-2", () -> {
+            executions.incrementAndGet();
+            return "ok";
+        });
+
+        // then
+        assertThat(second).isEqualTo("ok");
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 요청에 재사용하면 거부한다")
+    void acquire_differentFingerprint_rejected() {
+        // given
+        assertThat(store.acquire("user:key-3", "POST /api/rewards/claim")).isNull();
+        store.complete("user:key-3", CachedResponse.of(200, "application/json", "{}".getBytes()));
+
+        // when & then
+        assertThatThrownBy(() -> store.acquire("user:key-3", "POST /api/popup-reservations/popups/1"))
+                .isInstanceOf(GeneralException.class);
+    }
+
+    @Test
+    @DisplayName("큰 응답 본문은 압축 저장되고 원래 내용으로 복원된다")
+    void cachedResponse_compressesLargeBody() {
+        // given
+        byte[] body = "{\"message\":\"예약이 완료되었습니다.\"}".repeat(100).getBytes();
+
+        // when
+        CachedResponse cached = CachedResponse.of(200, "application/json", body);
+
+        // then
+        assertThat(cached.isCompressed()).isTrue();
+        assertThat(cached.getBody().length).isLessThan(body.length);
+        assertThat(cached.bodyBytes()).isEqualTo(body);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.snow.popin.global.image;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("이미지 변형 생성 테스트")
+class ImageVariantServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private ImageVariantService imageVariantService;
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        imageVariantService = new ImageVariantService(new SyncTaskExecutor(), eventPublisher);
+        ReflectionTestUtils.setField(imageVariantService, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(imageVariantService, "jpegQuality", 0.8f);
+    }
+
+    @Test
+    @DisplayName("PNG 원본으로부터 썸네일/카드/상세 JPEG 변형을 생성한다")
+    void generate_createsAllVariants() throws IOException {
+        // given
+        Path original = writePng(uploadDir.resolve("abc.png"), 2000, 1000);
+
+        // when
+        ImageVariants variants = imageVariantService.generate(original);
+
+        // then
+        assertThat(variants.isReady()).isTrue();
+        assertThat(variants.getThumbnailUrl()).isEqualTo("/uploads/variants/abc_thumb.jpg");
+
+        BufferedImage card = ImageIO.read(uploadDir.resolve("variants/abc_card.jpg").toFile());
+        assertThat(card.getWidth()).isEqualTo(480);
+        assertThat(card.getHeight()).isEqualTo(240);
+        assertThat(variants.toSrcset()).contains("abc_detail.jpg 1080w");
+    }
+
+    @Test
+    @DisplayName("블롭 원본의 변형은 원본과 같이 해시 앞자리로 샤딩된 경로에 저장한다")
+    void generate_shardsBlobVariants() throws IOException {
+        // given
+        String hash = "ab12" + "0".repeat(60);
+        Path original = writePng(uploadDir.resolve(hash + ".png"), 300, 300);
+
+        // when
+        ImageVariants variants = imageVariantService.generate(original);
+
+        // then
+        assertThat(variants.getThumbnailUrl()).isEqualTo("/uploads/variants/ab/12/" + hash + "_thumb.jpg");
+        assertThat(uploadDir.resolve("variants/ab/12/" + hash + "_card.jpg")).exists();
+        assertThat(imageVariantService.findExisting("/uploads/blobs/ab/12/" + hash + ".png").isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("원본보다 큰 변형은 확대하지 않는다")
+    void generate_doesNotUpscale() throws IOException {
+        Path original = writePng(uploadDir.resolve("small.png"), 100, 50);
+
+        imageVariantService.generate(original);
+
+        BufferedImage detail = ImageIO.read(uploadDir.resolve("variants/small_detail.jpg").toFile());
+        assertThat(detail.getWidth()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("비동기 생성 완료 시 이벤트를 발행하고 이후 조회에서 변형을 찾는다")
+    void generateAsync_publishesEvent() throws IOException {
+        Path original = writePng(uploadDir.resolve("evt.png"), 600, 600);
+        assertThat(imageVariantService.findExisting("/uploads/evt.png").isReady()).isFalse();
+
+        imageVariantService.generateAsync(original, "/uploads/evt.png");
+
+        verify(eventPublisher).publishEvent(any(ImageVariantsGeneratedEvent.class));
+        assertThat(imageVariantService.findExisting("/uploads/evt.png").isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("바이트 내용으로 이미지 포맷을 판별한다")
+    void detectFormat() throws IOException {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB), "png", png);
+
+        assertThat(ImageInspector.detectFormat(new ByteArrayInputStream(png.toByteArray()))).contains("png");
+        assertThat(ImageInspector.detectFormat(new ByteArrayInputStream(
+                "<html>not an image</html>".getBytes(StandardCharsets.UTF_8)))).isEmpty();
+        assertThat(ImageInspector.detectFormat(new ByteArrayInputStream(
+                "RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.US_ASCII)))).contains("webp");
+    }
+
+    private Path writePng(Path path, int width, int height) throws IOException {
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", path.toFile());
+        assertThat(Files.exists(path)).isTrue();
+        return path;
+    }
+}
@@ -0,0 +1,107 @@
+package com.snow.popin.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("아웃박스 디스패처 테스트")
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private OutboxHandler handler;
+
+    private OutboxDispatcher dispatcher;
+    private OutboxEvent event;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(handler.type()).thenReturn(OutboxEventType.PAYMENT_REFUND);
+
+        dispatcher = new OutboxDispatcher(outboxEventRepository, new ObjectMapper(),
+                new SyncTaskExecutor(), transactionManager, List.of(handler));
+
+        event = OutboxEvent.create(OutboxEventType.PAYMENT_REFUND, "1", "refund:reservation:1", "{\"reservationId\":1}");
+    }
+
+    @Test
+    @DisplayName("점유에 성공하면 처리기를 호출하고 완료 처리한다")
+    void process_success_completesEvent() throws Exception {
+        // given
+        when(outboxEventRepository.findDueIds(any(LocalDateTime.class), any())).thenReturn(List.of(10L));
+        when(outboxEventRepository.claim(eq(10L), any(), any())).thenReturn(1);
+        when(outboxEventRepository.findById(10L)).thenReturn(Optional.of(event));
+
+        // when
+        dispatcher.poll();
+
+        // then
+        verify(handler).handle(eq(event), any());
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.COMPLETED);
+        assertThat(event.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("다른 워커가 이미 점유한 이벤트는 처리하지 않는다")
+    void process_notClaimed_skipsHandler() throws Exception {
+        // given
+        when(outboxEventRepository.claim(eq(10L), any(), any())).thenReturn(0);
+
+        // when
+        dispatcher.process(10L);
+
+        // then
+        verify(handler, never()).handle(any(), any());
+        verify(outboxEventRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("처리 실패 시 백오프 후 재시도하도록 PENDING으로 되돌린다")
+    void process_failure_schedulesRetry() throws Exception {
+        // given
+        when(outboxEventRepository.claim(eq(10L), any(), any())).thenReturn(1);
+        when(outboxEventRepository.findById(10L)).thenReturn(Optional.of(event));
+        doThrow(new IllegalStateException("환불 처리 실패")).when(handler).handle(any(), any());
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        dispatcher.process(10L);
+
+        // then
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(event.getNextAttemptAt()).isAfter(before);
+        assertThat(event.getLastError()).contains("환불 처리 실패");
+    }
+
+    @Test
+    @DisplayName("백오프는 시도 횟수에 따라 증가하고 최대값을 넘지 않는다")
+    void backoff_isBoundedExponential() {
+        assertThat(dispatcher.backoffSeconds(1)).isBetween(2L, 5L);
+        assertThat(dispatcher.backoffSeconds(4)).isBetween(20L, 40L);
+        assertThat(dispatcher.backoffSeconds(30)).isBetween(900L, 1800L);
+    }
+}
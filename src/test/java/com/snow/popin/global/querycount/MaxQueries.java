@@ -0,0 +1,30 @@
+package com.snow.popin.global.querycount;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문에서 실행되는 SQL 수 상한 (클래스에 붙이면 모든 테스트에 적용, 메서드가 우선)
+ * - @BeforeEach 준비 쿼리는 세지 않는다.
+ * - 테스트 스레드에서 실행된 SQL 만 센다. (MockMvc 는 같은 스레드, RANDOM_PORT 요청은 세지 않음)
+ * - DataSource 가 QueryCountDataSourcePostProcessor 로 감싸져 있어야 한다.
+ *   (@SpringBootTest 는 자동, @DataJpaTest 는 @Import(QueryCountDataSourcePostProcessor.class) 필요)
+ *
+ * 예) @MaxQueries(3) void getMyReservations_noNPlusOne() { ... }
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@ExtendWith(MaxQueriesExtension.class)
+public @interface MaxQueries {
+
+    /**
+     * 허용하는 최대 SQL 실행 수
+     */
+    int value();
+}
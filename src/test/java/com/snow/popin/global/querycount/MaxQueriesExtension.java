@@ -0,0 +1,59 @@
+package com.snow.popin.global.querycount;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.Optional;
+
+/**
+ * 테스트 메서드 본문의 SQL 실행 수를 세고 @MaxQueries 예산을 넘으면 실패시킨다.
+ * 실패 메시지에는 많이 실행된 문장과 처음 실행된 호출 위치가 포함된다.
+ */
+@Slf4j
+public class MaxQueriesExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(MaxQueriesExtension.class);
+    private static final String SCOPE = "scope";
+    private static final int REPORTED_STATEMENTS = 5;
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(SCOPE, QueryCountContext.begin(context.getDisplayName()));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryCountScope scope = context.getStore(NAMESPACE).remove(SCOPE, QueryCountScope.class);
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+        log.info("[QueryCount] {} - SQL {}회", scope.getName(), scope.total());
+
+        // 테스트 자체가 실패했으면 원래 실패를 가리지 않음
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        budget(context).ifPresent(budget -> verify(scope, budget));
+    }
+
+    static void verify(QueryCountScope scope, int budget) {
+        if (scope.total() > budget) {
+            throw new AssertionFailedError(String.format("[%s] SQL 실행 %d회 - 허용 %d회 초과%s",
+                    scope.getName(), scope.total(), budget, scope.describe(scope.top(REPORTED_STATEMENTS))),
+                    budget, scope.total());
+        }
+    }
+
+    private static Optional<Integer> budget(ExtensionContext context) {
+        Optional<MaxQueries> annotation = AnnotationSupport.findAnnotation(context.getTestMethod(), MaxQueries.class);
+        if (annotation.isEmpty()) {
+            annotation = AnnotationSupport.findAnnotation(context.getTestClass(), MaxQueries.class);
+        }
+        return annotation.map(MaxQueries::value);
+    }
+}
@@ -0,0 +1,208 @@
+package com.snow.popin.global.querycount;
+
+import com.snow.popin.domain.auth.constant.AuthProvider;
+import com.snow.popin.domain.chat.controller.ChatApiController;
+import com.snow.popin.domain.chat.entity.ChatMessage;
+import com.snow.popin.domain.chat.repository.ChatMessageRepository;
+import com.snow.popin.domain.map.entity.Venue;
+import com.snow.popin.domain.map.repository.MapRepository;
+import com.snow.popin.domain.mypage.host.entity.Brand;
+import com.snow.popin.domain.mypage.host.repository.BrandRepository;
+import com.snow.popin.domain.popup.entity.Popup;
+import com.snow.popin.domain.popup.entity.PopupStatus;
+import com.snow.popin.domain.popup.repository.PopupRepository;
+import com.snow.popin.domain.popupReservation.dto.ReservationResponseDto;
+import com.snow.popin.domain.popupReservation.entity.Reservation;
+import com.snow.popin.domain.popupReservation.repository.ReservationRepository;
+import com.snow.popin.domain.popupReservation.service.ReservationService;
+import com.snow.popin.domain.recommendation.dto.AiRecommendationResponseDto;
+import com.snow.popin.domain.recommendation.service.AiRecommendationService;
+import com.snow.popin.domain.recommendation.service.GeminiAiService;
+import com.snow.popin.domain.space.entity.Space;
+import com.snow.popin.domain.space.repository.SpaceRepository;
+import com.snow.popin.domain.spacereservation.entity.ReservationStatus;
+import com.snow.popin.domain.spacereservation.entity.SpaceReservation;
+import com.snow.popin.domain.spacereservation.repository.SpaceReservationRepository;
+import com.snow.popin.domain.user.constant.Role;
+import com.snow.popin.domain.user.constant.UserStatus;
+import com.snow.popin.domain.user.entity.User;
+import com.snow.popin.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * N+1 이 있던 조회의 SQL 수 상한
+ * - 데이터는 @BeforeEach 에서 별도 트랜잭션으로 저장하므로 본문 조회 시 연관 엔티티가 영속성 컨텍스트에 없다.
+ * - 항목 수를 늘려도 SQL 수가 그대로인지 확인하도록 연관 엔티티를 항목마다 다르게 만든다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "logging.level.com.snow.popin=WARN",
+        "jwt.secret=query-budget-secret-key-query-budget-secret-key-0123456789",
+        "kakao.pay.admin.key=query-budget",
+        "uploadPath=target/query-budget/uploads",
+        "app.host-url=http://localhost"
+})
+@DisplayName("조회 SQL 수 상한 테스트")
+class QueryBudgetTest {
+
+    private static final int ITEMS = 5;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ChatApiController chatApiController;
+
+    @Autowired
+    private AiRecommendationService aiRecommendationService;
+
+    @MockBean
+    private GeminiAiService geminiAiService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MapRepository mapRepository;
+
+    @Autowired
+    private PopupRepository popupRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private SpaceRepository spaceRepository;
+
+    @Autowired
+    private SpaceReservationRepository spaceReservationRepository;
+
+    private User user;
+    private List<Popup> popups;
+    private Long chatReservationId;
+
+    @BeforeEach
+    void setUp() {
+        user = saveUser();
+        popups = new ArrayList<>();
+        List<Brand> brands = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            Venue venue = mapRepository.save(Venue.createForTest("지역" + i));
+            Brand brand = brandRepository.save(Brand.builder().name("브랜드" + i).build());
+            brands.add(brand);
+            Popup popup = Popup.createForTest("팝업" + i, PopupStatus.ONGOING, venue);
+            ReflectionTestUtils.setField(popup, "brandId", brand.getId());
+            popups.add(popupRepository.save(popup));
+            reservationRepository.save(Reservation.create(popup, user, "예약자", "010-0000-0000", 1,
+                    LocalDateTime.now().plusDays(i + 1)));
+        }
+        chatReservationId = saveChatMessages(popups.get(0), brands.get(0));
+    }
+
+    @Test
+    @MaxQueries(1)
+    @DisplayName("내 예약 목록은 팝업/장소를 예약마다 조회하지 않는다")
+    void getMyReservations() {
+        // when
+        List<ReservationResponseDto> result = reservationService.getMyReservations(user);
+
+        // then
+        assertThat(result).hasSize(ITEMS);
+        assertThat(result).extracting(ReservationResponseDto::getVenueName).doesNotContainNull();
+    }
+
+    @Test
+    @MaxQueries(1)
+    @DisplayName("채팅 메시지 목록은 보낸 사람을 메시지마다 조회하지 않는다")
+    void getMessages() {
+        // when
+        List<Map<String, Object>> result = chatApiController.getMessages(chatReservationId).getBody();
+
+        // then
+        assertThat(result).hasSize(ITEMS);
+        assertThat(result).extracting(m -> m.get("senderId")).doesNotContainNull();
+    }
+
+    @Test
+    @MaxQueries(6)
+    @DisplayName("AI 추천은 예약 이력의 브랜드명과 팝업 장소를 항목마다 조회하지 않는다")
+    void getPersonalizedRecommendations() {
+        // given
+        String ids = popups.stream().map(p -> String.valueOf(p.getId())).collect(Collectors.joining(","));
+        when(geminiAiService.generateText(anyString()))
+                .thenReturn("추천 팝업 ID: [" + ids + "]\n추천 이유: 최근 예약한 팝업과 비슷한 브랜드의 팝업입니다.");
+
+        // when
+        AiRecommendationResponseDto result = aiRecommendationService.getPersonalizedRecommendations(user.getId(), 4);
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+    }
+
+    private User saveUser() {
+        return userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@popin.test")
+                .password("password")
+                .name("사용자")
+                .authProvider(AuthProvider.LOCAL)
+                .role(Role.USER)
+                .status(UserStatus.ACTIVE)
+                .build());
+    }
+
+    /**
+     * 보낸 사람이 모두 다른 메시지를 저장하고 공간 예약 ID 를 반환
+     */
+    private Long saveChatMessages(Popup popup, Brand brand) {
+        Space space = spaceRepository.save(Space.builder()
+                .owner(user)
+                .title("공간")
+                .address("서울")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(30))
+                .build());
+        SpaceReservation reservation = spaceReservationRepository.save(SpaceReservation.builder()
+                .space(space)
+                .host(user)
+                .popup(popup)
+                .brand(brand)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(7))
+                .status(ReservationStatus.PENDING)
+                .build());
+        for (int i = 0; i < ITEMS; i++) {
+            chatMessageRepository.save(ChatMessage.builder()
+                    .reservation(reservation)
+                    .sender(saveUser())
+                    .content("안녕하세요")
+                    .build());
+        }
+        return reservation.getId();
+    }
+}
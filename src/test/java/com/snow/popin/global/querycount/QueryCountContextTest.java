@@ -0,0 +1,112 @@
+package com.snow.popin.global.querycount;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SQL 실행 수 집계 테스트")
+class QueryCountContextTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:querycount;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(QueryCountDataSourcePostProcessor.wrap(dataSource, "test"));
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS brand (id BIGINT PRIMARY KEY, name VARCHAR(50))");
+        jdbcTemplate.update("DELETE FROM brand");
+        for (long id = 1; id <= 5; id++) {
+            jdbcTemplate.update("INSERT INTO brand (id, name) VALUES (?, ?)", id, "브랜드" + id);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 문장이 반복되면 N+1 의심으로 횟수와 호출 위치가 잡힌다")
+    void repeatedStatement_reportedWithCallSite() {
+        // given
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM brand ORDER BY id", Long.class);
+
+        // when
+        QueryCountScope scope;
+        try (QueryCountScope opened = QueryCountContext.begin("brands")) {
+            scope = opened;
+            jdbcTemplate.queryForList("SELECT id FROM brand ORDER BY id", Long.class);
+            ids.forEach(this::findName);
+        }
+
+        // then
+        assertThat(scope.total()).isEqualTo(6);
+        List<QueryCountScope.Statement> repeated = scope.repeated(3);
+        assertThat(repeated).hasSize(1);
+        assertThat(repeated.get(0).getCount()).isEqualTo(5);
+        assertThat(repeated.get(0).getSql()).isEqualTo("SELECT name FROM brand WHERE id = ?");
+        assertThat(repeated.get(0).getCallSite().get(0)).startsWith("QueryCountContextTest.findName:");
+        assertThat(scope.describe(repeated)).contains("5회", "← QueryCountContextTest.findName:");
+    }
+
+    @Test
+    @DisplayName("구간 밖 SQL 은 세지 않고 겹친 구간에는 모두 기록된다")
+    void nestedScopes_recordToAllOpenScopes() {
+        // given
+        findName(1L);
+        assertThat(QueryCountContext.isActive()).isFalse();
+
+        // when
+        QueryCountScope outer = QueryCountContext.begin("test");
+        findName(1L);
+        QueryCountScope inner = QueryCountContext.begin("request");
+        findName(2L);
+        inner.close();
+        findName(3L);
+        outer.close();
+
+        // then
+        assertThat(inner.total()).isEqualTo(1);
+        assertThat(outer.total()).isEqualTo(3);
+        assertThat(QueryCountContext.isActive()).isFalse();
+    }
+
+    @Test
+    @MaxQueries(2)
+    @DisplayName("@MaxQueries 예산 안이면 통과한다")
+    void maxQueries_withinBudget() {
+        // when
+        String first = findName(1L);
+        String second = findName(2L);
+
+        // then
+        assertThat(first).isEqualTo("브랜드1");
+        assertThat(second).isEqualTo("브랜드2");
+    }
+
+    @Test
+    @DisplayName("예산을 넘기면 많이 실행된 문장과 함께 실패한다")
+    void maxQueries_overBudget() {
+        // given
+        QueryCountScope scope = QueryCountContext.begin("getBrandNames");
+        for (long id = 1; id <= 4; id++) {
+            findName(id);
+        }
+        scope.close();
+
+        // when & then
+        assertThatThrownBy(() -> MaxQueriesExtension.verify(scope, 3))
+                .isInstanceOf(AssertionFailedError.class)
+                .hasMessageContaining("SQL 실행 4회 - 허용 3회 초과")
+                .hasMessageContaining("4회  SELECT name FROM brand WHERE id = ?")
+                .hasMessageContaining("← QueryCountContextTest.findName:");
+    }
+
+    private String findName(Long id) {
+        return jdbcTemplate.queryForObject("SELECT name FROM brand WHERE id = ?", String.class, id);
+    }
+}
@@ -0,0 +1,227 @@
+package com.snow.popin.global.scheduler.job;
+
+import com.snow.popin.global.exception.GeneralException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("예약 작업 실행기 테스트")
+class ManagedJobSchedulerTest {
+
+    private static final String JOB = "test-job";
+
+    @Mock
+    private JobLeaseService leaseService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ManagedJobScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("실행권을 얻으면 전용 스레드에서 작업을 실행하고 실행 시간을 기록한 뒤 실행권을 반납한다")
+    void trigger_runsOnDedicatedThread() throws Exception {
+        // given
+        AtomicReference<String> threadName = new AtomicReference<>();
+        scheduler = schedulerWith(() -> threadName.set(Thread.currentThread().getName()));
+        when(leaseService.tryAcquire(eq(JOB), any())).thenReturn(true);
+
+        // when
+        boolean started = scheduler.trigger(JOB);
+        awaitIdle();
+
+        // then
+        assertThat(started).isTrue();
+        assertThat(threadName.get()).startsWith("job-" + JOB + "-");
+        JobStatusResponse status = scheduler.getJob(JOB);
+        assertThat(status.getLastResult()).isEqualTo(JobRunResult.SUCCESS);
+        assertThat(status.getRunCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("scheduler.job.duration").tag("job", JOB).tag("result", "SUCCESS")
+                .timer().count()).isEqualTo(1);
+        verify(leaseService).release(eq(JOB), any(), eq(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    @DisplayName("이전 실행이 진행 중이면 이번 실행은 건너뛴다")
+    void trigger_skipsWhileRunning() throws Exception {
+        // given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        scheduler = schedulerWith(() -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        when(leaseService.tryAcquire(eq(JOB), any())).thenReturn(true);
+
+        // when
+        boolean first = scheduler.trigger(JOB);
+        entered.await(5, TimeUnit.SECONDS);
+        boolean second = scheduler.trigger(JOB);
+        release.countDown();
+        awaitIdle();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(meterRegistry.get("scheduler.job.skipped").tag("reason", "SKIPPED_RUNNING")
+                .counter().count()).isEqualTo(1.0);
+        verify(leaseService, times(1)).tryAcquire(eq(JOB), any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 실행권을 가지고 있으면 작업을 실행하지 않는다")
+    void trigger_notLeader_skips() throws Exception {
+        // given
+        Runnable task = mock(Runnable.class);
+        scheduler = schedulerWith(task);
+        when(leaseService.tryAcquire(eq(JOB), any())).thenReturn(false);
+
+        // when
+        scheduler.trigger(JOB);
+        awaitIdle();
+
+        // then
+        verify(task, never()).run();
+        verify(leaseService, never()).release(any(), any(), any());
+        assertThat(scheduler.getJob(JOB).getLastResult()).isEqualTo(JobRunResult.SKIPPED_NOT_LEADER);
+    }
+
+    @Test
+    @DisplayName("작업이 실패해도 실패를 기록하고 실행권을 반납한다")
+    void trigger_failure_recordedAndReleased() throws Exception {
+        // given
+        scheduler = schedulerWith(() -> {
+            throw new IllegalStateException("boom");
+        });
+        when(leaseService.tryAcquire(eq(JOB), any())).thenReturn(true);
+
+        // when
+        scheduler.trigger(JOB);
+        awaitIdle();
+
+        // then
+        JobStatusResponse status = scheduler.getJob(JOB);
+        assertThat(status.getLastResult()).isEqualTo(JobRunResult.FAILED);
+        assertThat(status.getLastError()).isEqualTo("boom");
+        verify(leaseService).release(eq(JOB), any(), any());
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 작업은 실행할 수 없다")
+    void trigger_unknownJob() {
+        // given
+        scheduler = schedulerWith(() -> { });
+
+        // when & then
+        assertThatThrownBy(() -> scheduler.trigger("unknown"))
+                .isInstanceOf(GeneralException.class);
+    }
+
+    @Test
+    @DisplayName("interval 작업은 노드마다 실행권 없이 전용 스레드에서 주기 실행된다")
+    void intervalJob_runsWithoutLease() throws Exception {
+        // given
+        CountDownLatch ran = new CountDownLatch(2);
+        JobDefinition definition = JobDefinition.builder()
+                .name(JOB)
+                .interval(Duration.ofMillis(20))
+                .leaderOnly(false)
+                .task(ran::countDown)
+                .build();
+        scheduler = new ManagedJobScheduler(List.of(definition), leaseService, meterRegistry);
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.initialize();
+        ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+        registrar.setTaskScheduler(taskScheduler);
+
+        // when
+        scheduler.configureTasks(registrar);
+        registrar.afterPropertiesSet();
+        boolean completed = ran.await(5, TimeUnit.SECONDS);
+        registrar.destroy();
+        taskScheduler.shutdown();
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(scheduler.getJob(JOB).getCron()).isEqualTo("every 20ms");
+        verifyNoInteractions(leaseService);
+    }
+
+    @Test
+    @DisplayName("기동 조건이 참인 작업만 기동 직후 실행권을 얻어 한 번 실행한다")
+    void runStartupJobs_runsWhenConditionHolds() throws Exception {
+        // given
+        CountDownLatch ran = new CountDownLatch(1);
+        JobDefinition startup = JobDefinition.builder()
+                .name(JOB)
+                .cron("0 0 * * * *")
+                .task(ran::countDown)
+                .runOnStartupIf(() -> true)
+                .build();
+        JobDefinition skipped = JobDefinition.builder()
+                .name("other-job")
+                .cron("0 0 * * * *")
+                .task(() -> {
+                    throw new IllegalStateException("실행되면 안 됨");
+                })
+                .runOnStartupIf(() -> false)
+                .build();
+        scheduler = new ManagedJobScheduler(List.of(startup, skipped), leaseService, meterRegistry);
+        when(leaseService.tryAcquire(eq(JOB), any())).thenReturn(true);
+
+        // when
+        scheduler.runStartupJobs();
+        boolean completed = ran.await(5, TimeUnit.SECONDS);
+        awaitIdle();
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(scheduler.getJob(JOB).getRunCount()).isEqualTo(1);
+        assertThat(scheduler.getJob("other-job").getRunCount()).isZero();
+        verify(leaseService, never()).tryAcquire(eq("other-job"), any());
+    }
+
+    private ManagedJobScheduler schedulerWith(Runnable task) {
+        JobDefinition definition = JobDefinition.builder()
+                .name(JOB)
+                .cron("0 0 * * * *")
+                .task(task)
+                .build();
+        return new ManagedJobScheduler(List.of(definition), leaseService, meterRegistry);
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while ((scheduler.getJob(JOB).isRunning() || scheduler.getJob(JOB).getLastResult() == null)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.snow.popin.global.storage;
+
+import com.snow.popin.global.image.ImageVariantService;
+import com.snow.popin.global.image.ImageVariants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("업로드 파일 블롭 이전 테스트")
+class BlobMigrationServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    @Mock
+    private BlobRefRepository blobRefRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ImageVariantService imageVariantService;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private EntityManager em;
+
+    private BlobMigrationService migrationService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(imageVariantService.findExisting(anyString())).thenReturn(ImageVariants.empty());
+        FileSystemBlobStore blobStore = new FileSystemBlobStore(blobRefRepository, event -> { }, transactionManager);
+        ReflectionTestUtils.setField(blobStore, "uploadPath", uploadDir.toString());
+
+        migrationService = new BlobMigrationService(blobStore, blobRefRepository, imageVariantService, transactionManager);
+        ReflectionTestUtils.setField(migrationService, "uploadPath", uploadDir.toString());
+        ReflectionTestUtils.setField(migrationService, "em", em);
+    }
+
+    @Test
+    @DisplayName("원본을 남겨 두고 다시 실행해도 이미 바뀐 행의 참조 수를 다시 더하지 않는다")
+    void migrate_rerunDoesNotAddReferences() throws IOException {
+        // given - 첫 실행에서는 대표 이미지 컬럼 1행이 바뀌고, 다시 실행하면 바뀌는 행이 없음
+        Files.writeString(uploadDir.resolve("legacy.txt"), "legacy");
+        given(blobRefRepository.increment(anyString(), anyLong())).willReturn(0, 1, 1);
+        given(em.createQuery(anyString()).setParameter(anyString(), any()).setParameter(anyString(), any()).executeUpdate())
+                .willReturn(1, 0);
+
+        // when
+        BlobMigrationService.MigrationResult first = migrationService.migrate(false);
+        BlobMigrationService.MigrationResult second = migrationService.migrate(false);
+
+        // then
+        assertThat(first.getRewrittenRows()).isEqualTo(1);
+        assertThat(second.getRewrittenRows()).isZero();
+        assertThat(second.getDeduplicated()).isEqualTo(1);
+        verify(blobRefRepository).increment(anyString(), eq(1L));
+    }
+
+    @Test
+    @DisplayName("참조하는 행이 없는 파일은 참조 수 0으로 등록만 한다")
+    void migrate_unreferencedFileGetsNoReference() throws IOException {
+        // given
+        Files.writeString(uploadDir.resolve("orphan.txt"), "orphan");
+        given(blobRefRepository.increment(anyString(), anyLong())).willReturn(0);
+        given(em.createQuery(anyString()).setParameter(anyString(), any()).setParameter(anyString(), any()).executeUpdate())
+                .willReturn(0);
+
+        // when
+        migrationService.migrate(false);
+
+        // then
+        verify(blobRefRepository).save(argThat(ref -> ref.getRefCount() == 0));
+        verify(blobRefRepository, never()).increment(anyString(), longThat(delta -> delta > 0));
+    }
+}
@@ -0,0 +1,161 @@
+package com.snow.popin.global.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("블롭 저장소 테스트")
+@ExtendWith(MockitoExtension.class)
+class FileSystemBlobStoreTest {
+
+    @TempDir
+    Path uploadDir;
+
+    @Mock
+    private BlobRefRepository blobRefRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FileSystemBlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        blobStore = new FileSystemBlobStore(blobRefRepository, eventPublisher, transactionManager);
+        ReflectionTestUtils.setField(blobStore, "uploadPath", uploadDir.toString());
+    }
+
+    @Test
+    @DisplayName("내용 해시 앞자리로 샤딩된 경로에 저장한다")
+    void store_shardsByHash() throws IOException {
+        // given
+        given(blobRefRepository.increment(anyString(), anyLong())).willReturn(0);
+
+        // when
+        StoredBlob blob = store("hello", ".PNG");
+
+        // then - sha256("hello") = 2cf24dba...
+        assertThat(blob.getHash()).startsWith("2cf24dba");
+        assertThat(blob.getUrl()).isEqualTo("/uploads/blobs/2c/f2/" + blob.getHash() + ".png");
+        assertThat(Files.readString(blob.getPath())).isEqualTo("hello");
+        assertThat(blob.isDeduplicated()).isFalse();
+        verify(blobRefRepository).save(any(BlobRef.class));
+    }
+
+    @Test
+    @DisplayName("같은 내용은 한 번만 저장하고 참조 수만 증가한다")
+    void store_deduplicates() throws IOException {
+        given(blobRefRepository.increment(anyString(), anyLong())).willReturn(0, 1);
+
+        StoredBlob first = store("same", ".jpg");
+        StoredBlob second = store("same", ".jpg");
+
+        assertThat(second.getUrl()).isEqualTo(first.getUrl());
+        assertThat(second.isDeduplicated()).isTrue();
+        verify(blobRefRepository, times(1)).save(any(BlobRef.class));
+        // 임시 파일이 남지 않음
+        assertThat(Files.list(uploadDir.resolve(".staging")).count()).isZero();
+    }
+
+    @Test
+    @DisplayName("참조 없이 저장하면 참조 수 0으로 등록하고, acquire에서 참조를 더한다")
+    void storeUnreferenced_thenAcquire() throws IOException {
+        // given
+        given(blobRefRepository.increment(anyString(), anyLong())).willReturn(0, 1);
+
+        // when
+        StoredBlob blob = blobStore.storeUnreferenced(
+                new ByteArrayInputStream("later".getBytes(StandardCharsets.UTF_8)), ".png", BlobNamespace.IMAGES);
+        boolean acquired = blobStore.acquire(blob.getUrl());
+
+        // then
+        ArgumentCaptor<BlobRef> saved = ArgumentCaptor.forClass(BlobRef.class);
+        verify(blobRefRepository).save(saved.capture());
+        assertThat(saved.getValue().getRefCount()).isZero();
+        assertThat(acquired).isTrue();
+        verify(blobRefRepository).increment(blob.getUrl(), 1);
+    }
+
+    @Test
+    @DisplayName("블롭 저장소 이전 경로나 외부 URL은 참조를 잡지 않는다")
+    void acquire_ignoresNonBlobUrl() {
+        assertThat(blobStore.acquire("/uploads/0b9f3c1e-legacy.png")).isFalse();
+        assertThat(blobStore.acquire("https://example.com/a.png")).isFalse();
+        verify(blobRefRepository, never()).increment(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("마지막 참조가 반납되면 파일을 삭제한다")
+    void release_deletesWhenUnreferenced() throws IOException {
+        given(blobRefRepository.increment(anyString(), anyLong())).willReturn(0);
+        StoredBlob blob = store("bye", ".gif");
+
+        given(blobRefRepository.decrement(blob.getUrl())).willReturn(1);
+        given(blobRefRepository.findById(blob.getUrl()))
+                .willReturn(Optional.of(new BlobRef(blob.getUrl(), blob.getHash(), 3, 0)));
+        given(blobRefRepository.deleteIfUnreferenced(blob.getUrl())).willReturn(1);
+
+        boolean released = blobStore.release(blob.getUrl());
+
+        assertThat(released).isTrue();
+        assertThat(Files.exists(blob.getPath())).isFalse();
+        verify(eventPublisher).publishEvent(any(BlobDeletedEvent.class));
+    }
+
+    @Test
+    @DisplayName("다른 참조가 남아 있으면 파일을 유지한다")
+    void release_keepsSharedBlob() throws IOException {
+        given(blobRefRepository.increment(anyString(), anyLong())).willReturn(0);
+        StoredBlob blob = store("shared", ".png");
+
+        given(blobRefRepository.decrement(blob.getUrl())).willReturn(1);
+        given(blobRefRepository.findById(blob.getUrl()))
+                .willReturn(Optional.of(new BlobRef(blob.getUrl(), blob.getHash(), 6, 1)));
+
+        assertThat(blobStore.release(blob.getUrl())).isFalse();
+        assertThat(Files.exists(blob.getPath())).isTrue();
+        verify(blobRefRepository, never()).deleteIfUnreferenced(eq(blob.getUrl()));
+    }
+
+    @Test
+    @DisplayName("블롭 저장소 이전의 평면 경로는 반납 대상이 아니다")
+    void release_ignoresLegacyUrl() {
+        assertThat(blobStore.release("/uploads/0b9f3c1e-legacy.png")).isFalse();
+        verify(blobRefRepository, never()).decrement(anyString());
+    }
+
+    private StoredBlob store(String content, String ext) throws IOException {
+        return blobStore.store(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), ext, BlobNamespace.IMAGES);
+    }
+}
@@ -0,0 +1,106 @@
+package com.snow.popin.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 개방형(open-model) 부하의 시간별 도착률 (초당 요청 수)
+ * - 구간마다 시작/끝 도착률을 두고 그 사이는 선형으로 변한다 (같으면 일정 도착률, 다르면 램프)
+ * - 응답 속도와 무관하게 이 도착률대로 요청을 보내므로 서버가 느려져도 부하가 줄지 않는다.
+ */
+final class ArrivalProfile {
+
+    private final List<Phase> phases;
+
+    private ArrivalProfile(List<Phase> phases) {
+        this.phases = Collections.unmodifiableList(phases);
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    double totalSeconds() {
+        double total = 0;
+        for (Phase phase : phases) {
+            total += phase.seconds;
+        }
+        return total;
+    }
+
+    double maxRate() {
+        double max = 0;
+        for (Phase phase : phases) {
+            max = Math.max(max, Math.max(phase.fromRate, phase.toRate));
+        }
+        return max;
+    }
+
+    /**
+     * 시작 후 elapsedSeconds 시점의 도착률
+     */
+    double rateAt(double elapsedSeconds) {
+        double start = 0;
+        for (Phase phase : phases) {
+            if (elapsedSeconds < start + phase.seconds) {
+                double progress = (elapsedSeconds - start) / phase.seconds;
+                return phase.fromRate + (phase.toRate - phase.fromRate) * progress;
+            }
+            start += phase.seconds;
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Phase phase : phases) {
+            if (sb.length() > 0) {
+                sb.append(" → ");
+            }
+            sb.append(String.format("%.0fs@%.0f", phase.seconds, phase.fromRate));
+            if (phase.fromRate != phase.toRate) {
+                sb.append(String.format("~%.0f", phase.toRate));
+            }
+            sb.append("rps");
+        }
+        return sb.toString();
+    }
+
+    static final class Builder {
+
+        private final List<Phase> phases = new ArrayList<>();
+
+        Builder constant(double ratePerSecond, double seconds) {
+            return ramp(ratePerSecond, ratePerSecond, seconds);
+        }
+
+        Builder ramp(double fromRate, double toRate, double seconds) {
+            if (seconds <= 0 || fromRate < 0 || toRate < 0) {
+                throw new IllegalArgumentException("구간 길이는 양수, 도착률은 0 이상이어야 합니다.");
+            }
+            phases.add(new Phase(seconds, fromRate, toRate));
+            return this;
+        }
+
+        ArrivalProfile build() {
+            if (phases.isEmpty()) {
+                throw new IllegalStateException("구간이 하나 이상 필요합니다.");
+            }
+            return new ArrivalProfile(new ArrayList<>(phases));
+        }
+    }
+
+    private static final class Phase {
+        private final double seconds;
+        private final double fromRate;
+        private final double toRate;
+
+        private Phase(double seconds, double fromRate, double toRate) {
+            this.seconds = seconds;
+            this.fromRate = fromRate;
+            this.toRate = toRate;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.snow.popin.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연 시간(HDR 히스토그램)과 결과 집계
+ * - 지연 시간은 "보냈어야 할 시각"부터 재므로 서버 지연으로 발송이 밀린 시간까지 포함된다 (coordinated omission 보정)
+ * - 2xx 는 성공, 4xx 는 업무상 거절(매진/중복 예약 등), 5xx·연결 실패·타임아웃·발송 포기는 오류로 센다.
+ */
+final class EndpointStats {
+
+    // 1µs ~ 60s, 유효숫자 3자리
+    private static final long HIGHEST_TRACKABLE_MICROS = 60_000_000L;
+
+    private final String name;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram histogram = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void record(long latencyNanos, int status) {
+        recorder.recordValue(Math.min(Math.max(1, latencyNanos / 1000), HIGHEST_TRACKABLE_MICROS));
+        if (status >= 200 && status < 300) {
+            ok.increment();
+        } else if (status >= 400 && status < 500) {
+            rejected.increment();
+        } else {
+            errors.increment();
+        }
+        outcomes.computeIfAbsent(String.valueOf(status), k -> new LongAdder()).increment();
+    }
+
+    void recordFailure(long latencyNanos, String reason) {
+        recorder.recordValue(Math.min(Math.max(1, latencyNanos / 1000), HIGHEST_TRACKABLE_MICROS));
+        errors.increment();
+        outcomes.computeIfAbsent(reason, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * 지금까지 기록을 누적 히스토그램으로 모아 결과를 만든다.
+     */
+    synchronized LoadReport.EndpointResult snapshot(double elapsedSeconds) {
+        histogram.add(recorder.getIntervalHistogram());
+        Map<String, Long> outcomeCounts = new TreeMap<>();
+        outcomes.forEach((key, count) -> outcomeCounts.put(key, count.sum()));
+        return LoadReport.EndpointResult.of(name, histogram.copy(), ok.sum(), rejected.sum(), errors.sum(),
+                outcomeCounts, elapsedSeconds);
+    }
+}
@@ -0,0 +1,139 @@
+package com.snow.popin.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 부하 테스트 한 번의 결과
+ * - 실행마다 {시나리오}-{시각}.json 으로 저장하고 {시나리오}-latest.json 을 갱신해 다음 실행의 비교 기준으로 쓴다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class LoadReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final String scenario;
+    private final String profile;
+    private final long seed;
+    private final String startedAt;
+    private final double elapsedSeconds;
+    private final long dispatched;
+    private final long dropped;
+    private final List<EndpointResult> endpoints;
+
+    static LoadReport of(String scenario, ArrivalProfile profile, long seed, LocalDateTime startedAt,
+                         double elapsedSeconds, long dispatched, long dropped, List<EndpointResult> endpoints) {
+        return new LoadReport(scenario, profile.toString(), seed, startedAt.toString(), elapsedSeconds,
+                dispatched, dropped, endpoints);
+    }
+
+    long totalRequests() {
+        return endpoints.stream().mapToLong(EndpointResult::getCount).sum();
+    }
+
+    double errorRate() {
+        long total = totalRequests();
+        long errors = endpoints.stream().mapToLong(EndpointResult::getErrors).sum();
+        return total == 0 ? 0 : (double) errors / total;
+    }
+
+    /**
+     * 직전 기준(latest)을 읽은 뒤 이번 결과를 시각별 파일과 새 기준으로 저장
+     *
+     * @return 저장 전에 있던 기준 (없으면 empty)
+     */
+    Optional<JsonNode> saveAsBaseline(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path latest = directory.resolve(scenario + "-latest.json");
+        Optional<JsonNode> previous = Files.exists(latest)
+                ? Optional.of(MAPPER.readTree(latest.toFile()))
+                : Optional.empty();
+
+        Path run = directory.resolve(scenario + "-" + LocalDateTime.parse(startedAt).format(FILE_TIME) + ".json");
+        MAPPER.writeValue(run.toFile(), this);
+        Files.copy(run, latest, StandardCopyOption.REPLACE_EXISTING);
+        return previous;
+    }
+
+    String format(Optional<JsonNode> baseline) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%n[LoadTest] scenario=%s profile=%s seed=%d elapsed=%.1fs dispatched=%d dropped=%d%n",
+                scenario, profile, seed, elapsedSeconds, dispatched, dropped));
+        sb.append(String.format("%-18s %8s %8s %7s %7s %9s %9s %9s %9s %9s %s%n",
+                "endpoint", "count", "rps", "rej%", "err%", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)",
+                baseline.isPresent() ? "Δp99 / Δrps (vs latest)" : ""));
+        for (EndpointResult result : endpoints) {
+            sb.append(String.format("%-18s %8d %8.1f %7.2f %7.2f %9.1f %9.1f %9.1f %9.1f %9.1f %s%n",
+                    result.name, result.count, result.throughput, percent(result.rejected, result.count),
+                    percent(result.errors, result.count), result.p50Ms, result.p90Ms, result.p99Ms, result.p999Ms,
+                    result.maxMs, baseline.map(node -> delta(node, result)).orElse("")));
+        }
+        return sb.toString();
+    }
+
+    private static String delta(JsonNode baseline, EndpointResult result) {
+        for (JsonNode endpoint : baseline.path("endpoints")) {
+            if (result.name.equals(endpoint.path("name").asText())) {
+                double p99 = endpoint.path("p99Ms").asDouble();
+                double rps = endpoint.path("throughput").asDouble();
+                return String.format("%+.1f%% / %+.1f%%", change(p99, result.p99Ms), change(rps, result.throughput));
+            }
+        }
+        return "(new)";
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+
+    private static double percent(long part, long total) {
+        return total == 0 ? 0 : part * 100.0 / total;
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    static final class EndpointResult {
+        private final String name;
+        private final long count;
+        private final long ok;
+        private final long rejected;
+        private final long errors;
+        private final double throughput;
+        private final double p50Ms;
+        private final double p90Ms;
+        private final double p99Ms;
+        private final double p999Ms;
+        private final double maxMs;
+        private final Map<String, Long> outcomes;
+
+        static EndpointResult of(String name, Histogram micros, long ok, long rejected, long errors,
+                                 Map<String, Long> outcomes, double elapsedSeconds) {
+            long count = ok + rejected + errors;
+            return new EndpointResult(name, count, ok, rejected, errors,
+                    elapsedSeconds > 0 ? count / elapsedSeconds : 0,
+                    millis(micros, 50), millis(micros, 90), millis(micros, 99), millis(micros, 99.9),
+                    micros.getTotalCount() == 0 ? 0 : micros.getMaxValue() / 1000.0, outcomes);
+        }
+
+        private static double millis(Histogram micros, double percentile) {
+            return micros.getTotalCount() == 0 ? 0 : micros.getValueAtPercentile(percentile) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.snow.popin.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 부하 시나리오 스크립트
+ * - 도착률 곡선(기준 도착률/시간에 비례)과 엔드포인트 비중을 함께 정의
+ *
+ * steady      : 기준 도착률로 일정하게 (일상 트래픽)
+ * ramp        : 기준의 1/5 에서 3배까지 선형 증가 (포화 지점 찾기)
+ * ticket-drop : 평소 트래픽 중 예약 오픈 순간 10배 급증 후 복귀 (상세/슬롯/예약 집중)
+ */
+@Getter
+@RequiredArgsConstructor
+enum LoadScenario {
+
+    STEADY("steady", Map.of(
+            Endpoints.FEED, 30, Endpoints.SEARCH, 15, Endpoints.MAP_BOUNDS, 15, Endpoints.POPUP_DETAIL, 25,
+            Endpoints.SLOTS, 8, Endpoints.RESERVE, 4, Endpoints.CHAT, 3)) {
+        @Override
+        ArrivalProfile profile(double rate, double seconds) {
+            return ArrivalProfile.builder().constant(rate, seconds).build();
+        }
+    },
+
+    RAMP("ramp", STEADY.weights) {
+        @Override
+        ArrivalProfile profile(double rate, double seconds) {
+            return ArrivalProfile.builder().ramp(rate / 5, rate * 3, seconds).build();
+        }
+    },
+
+    TICKET_DROP("ticket-drop", Map.of(
+            Endpoints.FEED, 10, Endpoints.SEARCH, 5, Endpoints.MAP_BOUNDS, 5, Endpoints.POPUP_DETAIL, 30,
+            Endpoints.SLOTS, 25, Endpoints.RESERVE, 22, Endpoints.CHAT, 3)) {
+        @Override
+        ArrivalProfile profile(double rate, double seconds) {
+            // 평소 1/3 → 2초 만에 10배 → 유지 1/3 → 평소 복귀 1/3 (급증 구간 길이는 전체에서 램프 시간을 뺀 값)
+            double third = seconds / 3;
+            return ArrivalProfile.builder()
+                    .constant(rate, third)
+                    .ramp(rate, rate * 10, 2)
+                    .constant(rate * 10, Math.max(1, third - 2))
+                    .constant(rate, third)
+                    .build();
+        }
+    };
+
+    private final String name;
+    private final Map<String, Integer> weights;
+
+    abstract ArrivalProfile profile(double rate, double seconds);
+
+    static LoadScenario from(String name) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.name.equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 시나리오: " + name
+                        + " (steady, ramp, ticket-drop 중 선택)"));
+    }
+
+    static final class Endpoints {
+        static final String FEED = "feed";
+        static final String SEARCH = "search";
+        static final String MAP_BOUNDS = "map-bounds";
+        static final String POPUP_DETAIL = "popup-detail";
+        static final String SLOTS = "slots";
+        static final String RESERVE = "reserve";
+        static final String CHAT = "chat-stomp";
+
+        private Endpoints() {
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.snow.popin.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.snow.popin.global.datagen.RegionCoordinate;
+import com.snow.popin.global.jwt.JwtUtil;
+import com.snow.popin.loadtest.LoadScenario.Endpoints;
+import com.snow.popin.loadtest.OpenModelRunner.WeightedEndpoint;
+import com.snow.popin.loadtest.StompChatClient.ChatRoom;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HTTP/STOMP 부하 테스트 하네스
+ * - 앱을 임의 포트로 띄우고(H2 메모리 DB + datagen 프로필로 합성 데이터 적재) 실제 엔드포인트에 개방형 부하를 건다.
+ * - 엔드포인트별 HDR 지연 백분위/처리량/거절·오류율을 출력하고 target/loadtest 에 기준으로 저장해 직전 실행과 비교한다.
+ *
+ * 기본 빌드에서는 건너뛰며 loadtest 프로파일로 실행한다.
+ *   ./mvnw -Ploadtest test -Dloadtest.scenario=ticket-drop -Dloadtest.rate=30 -Dloadtest.duration=60
+ */
+@Slf4j
+@Tag("loadtest")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "logging.level.com.snow.popin=WARN",
+        "jwt.secret=loadtest-secret-key-loadtest-secret-key-0123456789",
+        "kakao.pay.admin.key=loadtest",
+        "uploadPath=target/loadtest/uploads",
+        "app.host-url=http://localhost",
+        "datagen.users=5000",
+        "datagen.popups=500",
+        "datagen.reservations=20000",
+        "datagen.reviews=4000",
+        "datagen.bookmarks=10000",
+        "datagen.user-missions=3000",
+        "datagen.chat-messages=3000"
+})
+@ActiveProfiles("datagen")
+@DisplayName("HTTP/STOMP 부하 테스트")
+class LoadTestHarnessTest {
+
+    private static final List<String> ENDPOINT_ORDER = List.of(Endpoints.FEED, Endpoints.SEARCH, Endpoints.MAP_BOUNDS,
+            Endpoints.POPUP_DETAIL, Endpoints.SLOTS, Endpoints.RESERVE, Endpoints.CHAT);
+    private static final List<String> SEARCH_TERMS = List.of("팝업", "굿즈", "캐릭터", "뷰티", "디저트", "전시", "아트", "향수");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final double BOUNDS_HALF_SPAN = 0.02;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private ExecutorService httpExecutor;
+    private HttpClient httpClient;
+    private StompChatClient chatClient;
+
+    private List<Long> popupIds;
+    private List<String> tokens;
+    private List<Long> tokenUserIds;
+    private List<ReservableSlot> reservableSlots;
+    private LocalDate reservationDate;
+    private final AtomicInteger nextReserver = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        httpExecutor = Executors.newFixedThreadPool(16);
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(httpExecutor)
+                .build();
+
+        popupIds = jdbcTemplate.queryForList(
+                "SELECT id FROM popups WHERE status IN ('ONGOING', 'PLANNED') ORDER BY id", Long.class);
+        tokens = new ArrayList<>();
+        tokenUserIds = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, email, name FROM user WHERE role = 'USER' ORDER BY id LIMIT 3000", rs -> {
+            tokenUserIds.add(rs.getLong("id"));
+            tokens.add(jwtUtil.createToken(rs.getLong("id"), rs.getString("email"), rs.getString("name"), "USER"));
+        });
+        reservationDate = LocalDate.now().plusDays(1);
+        reservableSlots = loadReservableSlots();
+
+        List<ChatRoom> rooms = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, host_id FROM space_reservation WHERE status IN ('PENDING', 'ACCEPTED') "
+                + "ORDER BY id LIMIT 50", rs -> {
+            rooms.add(new ChatRoom(rs.getLong("id"), rs.getLong("host_id")));
+        });
+        if (!rooms.isEmpty()) {
+            chatClient = new StompChatClient(rooms, REQUEST_TIMEOUT);
+            chatClient.connect("ws://localhost:" + port + "/ws/websocket", 4);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (chatClient != null) {
+            chatClient.close();
+        }
+        httpExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("시나리오 부하를 걸고 엔드포인트별 지연/오류율을 기준으로 저장한다")
+    void runScenario() throws Exception {
+        // given
+        LoadScenario scenario = LoadScenario.from(System.getProperty("loadtest.scenario", "steady"));
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "20"));
+        double seconds = Double.parseDouble(System.getProperty("loadtest.duration", "30"));
+        double warmupSeconds = Double.parseDouble(System.getProperty("loadtest.warmup", "5"));
+        long seed = Long.parseLong(System.getProperty("loadtest.seed", "42"));
+        int maxInFlight = Integer.parseInt(System.getProperty("loadtest.max-in-flight", "256"));
+        double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+        Path baselineDir = Path.of(System.getProperty("loadtest.baseline-dir", "target/loadtest"));
+        List<WeightedEndpoint> endpoints = endpoints(scenario);
+
+        // JIT/커넥션 풀 예열 (결과 버림)
+        if (warmupSeconds > 0) {
+            new OpenModelRunner(ArrivalProfile.builder().constant(rate / 2, warmupSeconds).build(),
+                    endpoints, seed - 1, maxInFlight, REQUEST_TIMEOUT).run("warmup");
+        }
+
+        // when
+        LoadReport report = new OpenModelRunner(scenario.profile(rate, seconds), endpoints, seed, maxInFlight,
+                REQUEST_TIMEOUT).run(scenario.getName());
+        Optional<JsonNode> baseline = report.saveAsBaseline(baselineDir);
+        log.warn(report.format(baseline));
+
+        // then
+        assertThat(report.totalRequests()).isPositive();
+        assertThat(report.errorRate()).isLessThanOrEqualTo(maxErrorRate);
+    }
+
+    private List<WeightedEndpoint> endpoints(LoadScenario scenario) {
+        Map<String, OpenModelRunner.LoadCall> calls = Map.of(
+                Endpoints.FEED, random -> get("/api/popups?page=" + random.nextInt(3) + "&size=20", null),
+                Endpoints.SEARCH, random -> get("/api/search/popups?query="
+                        + URLEncoder.encode(pick(SEARCH_TERMS, random), StandardCharsets.UTF_8) + "&page=0&size=20", null),
+                Endpoints.MAP_BOUNDS, this::mapBounds,
+                Endpoints.POPUP_DETAIL, random -> get("/api/popups/" + pick(popupIds, random), null),
+                Endpoints.SLOTS, this::slots,
+                Endpoints.RESERVE, this::reserve,
+                Endpoints.CHAT, random -> chatClient.send(random));
+
+        List<WeightedEndpoint> endpoints = new ArrayList<>();
+        for (String name : ENDPOINT_ORDER) {
+            Integer weight = scenario.getWeights().get(name);
+            if (weight == null || weight == 0 || !available(name)) {
+                continue;
+            }
+            endpoints.add(new WeightedEndpoint(name, weight, calls.get(name)));
+        }
+        return endpoints;
+    }
+
+    private boolean available(String endpoint) {
+        switch (endpoint) {
+            case Endpoints.POPUP_DETAIL:
+                return !popupIds.isEmpty();
+            case Endpoints.SLOTS:
+            case Endpoints.RESERVE:
+                return !reservableSlots.isEmpty() && !tokens.isEmpty();
+            case Endpoints.CHAT:
+                return chatClient != null;
+            default:
+                return true;
+        }
+    }
+
+    private CompletableFuture<Integer> mapBounds(SplittableRandom random) {
+        RegionCoordinate region = RegionCoordinate.sample(random);
+        double lat = region.jitterLatitude(random);
+        double lng = region.jitterLongitude(random);
+        return get(String.format("/api/map/popups/bounds?southWestLat=%.5f&southWestLng=%.5f"
+                        + "&northEastLat=%.5f&northEastLng=%.5f",
+                lat - BOUNDS_HALF_SPAN, lng - BOUNDS_HALF_SPAN, lat + BOUNDS_HALF_SPAN, lng + BOUNDS_HALF_SPAN), null);
+    }
+
+    private CompletableFuture<Integer> slots(SplittableRandom random) {
+        ReservableSlot slot = pick(reservableSlots, random);
+        return get("/api/reservations/popups/" + slot.popupId + "/available-slots?date=" + reservationDate,
+                pick(tokens, random));
+    }
+
+    // 예약은 사용자를 차례로 바꿔 가며 보내 중복 예약 거절을 줄이고, 슬롯이 차면 400(거절)으로 집계된다
+    private CompletableFuture<Integer> reserve(SplittableRandom random) {
+        ReservableSlot slot = pick(reservableSlots, random);
+        int user = Math.floorMod(nextReserver.getAndIncrement(), tokens.size());
+        long userId = tokenUserIds.get(user);
+        LocalTime time = pick(slot.startTimes, random);
+        String body = String.format("{\"name\":\"부하테스트\",\"phone\":\"010-%04d-%04d\",\"partySize\":%d,"
+                        + "\"reservationDate\":\"%s\"}",
+                (userId / 10000) % 10000, userId % 10000, 1 + random.nextInt(2),
+                LocalDateTime.of(reservationDate, time));
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/reservations/popups/" + slot.popupId))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + tokens.get(user))
+                .header("Content-Type", "application/json")
+                .header("Idempotency-Key", UUID.randomUUID().toString())
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).thenApply(HttpResponse::statusCode);
+    }
+
+    private CompletableFuture<Integer> get(String pathAndQuery, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(pathAndQuery)).timeout(REQUEST_TIMEOUT).GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return httpClient.sendAsync(builder.build(), HttpResponse.BodyHandlers.discarding())
+                .thenApply(HttpResponse::statusCode);
+    }
+
+    /**
+     * 내일 예약 가능한 슬롯이 있는 진행 중 팝업 (슬롯 목록 API 로 확인)
+     */
+    private List<ReservableSlot> loadReservableSlots() throws Exception {
+        List<Long> candidates = jdbcTemplate.queryForList("SELECT id FROM popups WHERE status = 'ONGOING' "
+                + "AND reservation_available = TRUE AND end_date > ? ORDER BY id LIMIT 30", Long.class, reservationDate);
+        List<ReservableSlot> result = new ArrayList<>();
+        if (tokens.isEmpty()) {
+            return result;
+        }
+        for (Long popupId : candidates) {
+            HttpRequest request = HttpRequest.newBuilder(
+                            uri("/api/reservations/popups/" + popupId + "/available-slots?date=" + reservationDate))
+                    .header("Authorization", "Bearer " + tokens.get(0))
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                continue;
+            }
+            List<LocalTime> startTimes = new ArrayList<>();
+            for (JsonNode slot : objectMapper.readTree(response.body())) {
+                if (slot.path("available").asBoolean()) {
+                    startTimes.add(LocalTime.parse(slot.path("startTime").asText()));
+                }
+            }
+            if (!startTimes.isEmpty()) {
+                result.add(new ReservableSlot(popupId, startTimes));
+            }
+        }
+        return result;
+    }
+
+    private URI uri(String pathAndQuery) {
+        return URI.create("http://localhost:" + port + pathAndQuery);
+    }
+
+    private static <T> T pick(List<T> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static final class ReservableSlot {
+        private final Long popupId;
+        private final List<LocalTime> startTimes;
+
+        private ReservableSlot(Long popupId, List<LocalTime> startTimes) {
+            this.popupId = popupId;
+            this.startTimes = startTimes;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.snow.popin.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 개방형(open-model) 부하 발생기
+ * - 도착 시각을 비균질 포아송 과정(thinning)으로 미리 정해 그 시각에 요청을 비동기로 보낸다.
+ * - 응답을 기다리지 않으므로 서버가 느려져도 도착률이 유지되고, 동시 요청이 상한을 넘으면 발송을 포기하고 오류로 센다.
+ * - 도착 간격/엔드포인트 선택/요청 파라미터는 모두 seed 에서 파생한 난수를 쓰므로 같은 seed 면 같은 요청열이 나간다.
+ */
+final class OpenModelRunner {
+
+    private final ArrivalProfile profile;
+    private final List<WeightedEndpoint> endpoints;
+    private final long seed;
+    private final int maxInFlight;
+    private final Duration drainTimeout;
+
+    OpenModelRunner(ArrivalProfile profile, List<WeightedEndpoint> endpoints, long seed, int maxInFlight,
+                    Duration drainTimeout) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("엔드포인트가 하나 이상 필요합니다.");
+        }
+        this.profile = profile;
+        this.endpoints = List.copyOf(endpoints);
+        this.seed = seed;
+        this.maxInFlight = maxInFlight;
+        this.drainTimeout = drainTimeout;
+    }
+
+    LoadReport run(String scenario) throws InterruptedException {
+        SplittableRandom arrivals = new SplittableRandom(seed);
+        SplittableRandom parameters = new SplittableRandom(seed + 1);
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        endpoints.forEach(endpoint -> stats.put(endpoint.getName(), new EndpointStats(endpoint.getName())));
+        int totalWeight = endpoints.stream().mapToInt(WeightedEndpoint::getWeight).sum();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        double totalSeconds = profile.totalSeconds();
+        double maxRate = profile.maxRate();
+        long start = System.nanoTime();
+        long dispatched = 0;
+        long dropped = 0;
+        double elapsed = 0;
+
+        while (maxRate > 0) {
+            elapsed += -Math.log(1 - arrivals.nextDouble()) / maxRate;
+            if (elapsed >= totalSeconds) {
+                break;
+            }
+            // 최대 도착률로 후보를 뽑고 현재 도착률 비율만큼만 채택 (thinning)
+            if (arrivals.nextDouble() * maxRate > profile.rateAt(elapsed)) {
+                continue;
+            }
+            long intended = start + (long) (elapsed * 1_000_000_000L);
+            sleepUntil(intended);
+
+            WeightedEndpoint endpoint = pick(parameters, totalWeight);
+            EndpointStats endpointStats = stats.get(endpoint.getName());
+            if (!inFlight.tryAcquire()) {
+                endpointStats.recordFailure(System.nanoTime() - intended, "dropped");
+                dropped++;
+                continue;
+            }
+            dispatched++;
+
+            CompletableFuture<Integer> response;
+            try {
+                response = endpoint.getCall().invoke(parameters);
+            } catch (RuntimeException e) {
+                response = CompletableFuture.failedFuture(e);
+            }
+            response.whenComplete((status, error) -> {
+                long latency = System.nanoTime() - intended;
+                if (error != null) {
+                    endpointStats.recordFailure(latency, reason(error));
+                } else {
+                    endpointStats.record(latency, status);
+                }
+                inFlight.release();
+            });
+        }
+
+        // 남은 응답을 기다린 뒤 집계
+        if (inFlight.tryAcquire(maxInFlight, drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            inFlight.release(maxInFlight);
+        }
+        List<LoadReport.EndpointResult> results = new ArrayList<>();
+        for (EndpointStats endpointStats : stats.values()) {
+            results.add(endpointStats.snapshot(totalSeconds));
+        }
+        return LoadReport.of(scenario, profile, seed, startedAt, totalSeconds, dispatched, dropped, results);
+    }
+
+    private WeightedEndpoint pick(SplittableRandom random, int totalWeight) {
+        int target = random.nextInt(totalWeight);
+        for (WeightedEndpoint endpoint : endpoints) {
+            target -= endpoint.getWeight();
+            if (target < 0) {
+                return endpoint;
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+
+    private static void sleepUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static String reason(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof HttpTimeoutException || cause instanceof TimeoutException) {
+            return "timeout";
+        }
+        return cause.getClass().getSimpleName();
+    }
+
+    /**
+     * 요청 하나를 비동기로 보내고 상태 코드로 완료되는 호출
+     * 파라미터 선택은 발송 스레드에서 넘겨받은 난수로만 한다.
+     */
+    @FunctionalInterface
+    interface LoadCall {
+        CompletableFuture<Integer> invoke(SplittableRandom random);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static final class WeightedEndpoint {
+        private final String name;
+        private final int weight;
+        private final LoadCall call;
+    }
+}
@@ -0,0 +1,135 @@
+package com.snow.popin.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 STOMP 왕복 측정 클라이언트
+ * - 대관 채팅방(/topic/reservation/{id})을 구독해 두고 /app/chat.send 로 보낸 메시지가 브로드캐스트로 돌아오기까지를 잰다.
+ * - 메시지 본문에 고유 값을 넣어 자기 메시지를 구분하고, 서버가 오류 응답을 브로드캐스트하면 500 으로 완료한다.
+ * - 발송은 부하 발생기의 발송 스레드에서만 일어나므로 세션별 전송이 겹치지 않는다.
+ */
+final class StompChatClient implements AutoCloseable {
+
+    private final WebSocketStompClient stompClient;
+    private final List<StompSession> sessions = new ArrayList<>();
+    private final List<ChatRoom> rooms;
+    private final Duration timeout;
+    private final Map<String, CompletableFuture<Integer>> pending = new ConcurrentHashMap<>();
+    private final Map<Long, Queue<String>> pendingByRoom = new ConcurrentHashMap<>();
+
+    StompChatClient(List<ChatRoom> rooms, Duration timeout) {
+        this.rooms = List.copyOf(rooms);
+        this.timeout = timeout;
+        this.stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        this.stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+    }
+
+    /**
+     * 세션 여러 개를 열고 채팅방을 나눠 구독 (SockJS 엔드포인트의 원시 WebSocket 경로 사용)
+     */
+    void connect(String url, int sessionCount) throws Exception {
+        for (int i = 0; i < sessionCount; i++) {
+            sessions.add(stompClient.connect(url, new StompSessionHandlerAdapter() {
+            }).get(10, TimeUnit.SECONDS));
+        }
+        for (int i = 0; i < rooms.size(); i++) {
+            ChatRoom room = rooms.get(i);
+            pendingByRoom.put(room.getReservationId(), new ConcurrentLinkedQueue<>());
+            sessionOf(i).subscribe("/topic/reservation/" + room.getReservationId(), new RoomHandler(room));
+        }
+        // 구독 등록이 브로커에 반영될 시간
+        Thread.sleep(500);
+    }
+
+    CompletableFuture<Integer> send(SplittableRandom random) {
+        int index = random.nextInt(rooms.size());
+        ChatRoom room = rooms.get(index);
+        String nonce = UUID.randomUUID().toString();
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        pending.put(nonce, future);
+        pendingByRoom.get(room.getReservationId()).add(nonce);
+        future.whenComplete((status, error) -> {
+            pending.remove(nonce);
+            pendingByRoom.get(room.getReservationId()).remove(nonce);
+        });
+
+        sessionOf(index).send("/app/chat.send", Map.of(
+                "reservationId", room.getReservationId(),
+                "senderId", room.getSenderId(),
+                "content", "부하 테스트 " + nonce));
+        return future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private StompSession sessionOf(int roomIndex) {
+        return sessions.get(roomIndex % sessions.size());
+    }
+
+    @Override
+    public void close() {
+        sessions.forEach(session -> {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        });
+        stompClient.stop();
+    }
+
+    @RequiredArgsConstructor
+    private final class RoomHandler implements StompFrameHandler {
+
+        private final ChatRoom room;
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return Map.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            Map<?, ?> message = (Map<?, ?>) payload;
+            if (message.containsKey("error")) {
+                String oldest = pendingByRoom.get(room.getReservationId()).poll();
+                CompletableFuture<Integer> future = oldest != null ? pending.get(oldest) : null;
+                if (future != null) {
+                    future.complete(500);
+                }
+                return;
+            }
+            Object content = message.get("content");
+            if (content instanceof String && ((String) content).startsWith("부하 테스트 ")) {
+                CompletableFuture<Integer> future = pending.get(((String) content).substring("부하 테스트 ".length()));
+                if (future != null) {
+                    future.complete(200);
+                }
+            }
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static final class ChatRoom {
+        private final Long reservationId;
+        private final Long senderId;
+    }
+}